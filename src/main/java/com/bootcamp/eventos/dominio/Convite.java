@@ -1,50 +1,213 @@
 package com.bootcamp.eventos.dominio;
 
+import com.bootcamp.eventos.dominio.enums.ReservaResposta;
+import com.bootcamp.eventos.tempo.FonteTempo;
+
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Classe representando um convite para um evento.
  * Contém informações sobre o token, expiração e estado da resposta.
+ *
+ * O estado da resposta é uma única referência imutável, trocada por
+ * compare-and-set: leituras nunca veem um convite aceito sem participante
+ * e, das transições concorrentes para aceito ou recusado, apenas a
+ * primeira vale. Antes de tocar no evento, quem processa uma resposta
+ * reserva o convite com {@link #iniciarResposta()}; submissões repetidas
+ * aguardam, por tempo limitado, o fim dessa resposta em vez de disputarem
+ * a vaga.
+ *
+ * Quem tem a reserva primeiro decide a resposta ({@link #decidirAceite},
+ * {@link #decidirRecusa}, {@link #decidirRecusaPorLotacao()}), grava-a e só
+ * depois de durável a torna definitiva com {@link #concluirResposta()}:
+ * antes disso o convite não aparece como respondido e nenhuma outra
+ * transição o altera.
  */
 public class Convite {
+
+  /** Motivo de recusa das respostas recusadas por lotação. */
+  public static final String MOTIVO_LOTACAO = "Evento lotado";
+
+  private static final int PENDENTE = 0;
+  private static final int EM_RESPOSTA = 1;
+  private static final int ACEITE_DECIDIDO = 2;
+  private static final int RECUSA_DECIDIDA = 3;
+  private static final int ACEITO = 4;
+  private static final int RECUSADO = 5;
+  private static final int DECIDIDO_PARA_DEFINITIVO = ACEITO - ACEITE_DECIDIDO;
+
+  private static final Estado ESTADO_PENDENTE = new Estado(PENDENTE, null, null, false);
+  private static final Estado ESTADO_EM_RESPOSTA = new Estado(EM_RESPOSTA, null, null, false);
+  // Recusa por lotação sem alocação, mesmo com o evento esgotado
+  private static final Estado ESTADO_LOTACAO_DECIDIDA = new Estado(RECUSA_DECIDIDA, null, MOTIVO_LOTACAO, true);
+  private static final Estado ESTADO_RECUSADO_LOTACAO = new Estado(RECUSADO, null, MOTIVO_LOTACAO, true);
+
+  private static final int ESPERAS_ATIVAS = 64;
+  private static final long ESPERA_NANOS = 20_000;
+  private static final long ESPERA_MAXIMA_NANOS = TimeUnit.SECONDS.toNanos(1);
+
   private final Evento evento;
   private final String token;
   private final LocalDateTime dataExpiracao;
-  private boolean respondido;
-  private boolean aceito;
-  private Participante participante;
-  private String motivoRecusa;
+  private final long expiracaoEpochMillis;
+  private final AtomicReference<Estado> estado = new AtomicReference<>(ESTADO_PENDENTE);
 
   public Convite(Evento evento, String token, LocalDateTime dataExpiracao) {
     this.evento = evento;
     this.token = token;
     this.dataExpiracao = dataExpiracao;
-    this.respondido = false;
-    this.aceito = false;
+    // Convite sem data de expiração é tratado como expirado
+    this.expiracaoEpochMillis = dataExpiracao == null
+        ? Long.MIN_VALUE
+        : FonteTempo.paraEpochMillis(dataExpiracao);
   }
 
   public boolean foiRespondido() {
-    return respondido;
+    return estado.get().fase() >= ACEITO;
   }
 
   public boolean foiAceito() {
-    return respondido && aceito;
+    return estado.get().fase() == ACEITO;
   }
 
   public boolean foiRecusado() {
-    return respondido && !aceito;
+    return estado.get().fase() == RECUSADO;
+  }
+
+  /**
+   * Verifica se a resposta já foi decidida, definitiva ou ainda aguardando
+   * {@link #concluirResposta()}.
+   */
+  public boolean temRespostaDecidida() {
+    return estado.get().fase() >= ACEITE_DECIDIDO;
+  }
+
+  /**
+   * Verifica se a resposta decidida é a recusa por lotação. Não depende do
+   * motivo, que numa recusa comum é informado pelo convidado.
+   */
+  public boolean foiRecusadoPorLotacao() {
+    return estado.get().porLotacao();
+  }
+
+  /**
+   * Reserva o convite para processar uma resposta, aguardando até 1 s se
+   * outra resposta estiver em andamento.
+   */
+  public ReservaResposta iniciarResposta() {
+    return iniciarResposta(ESPERA_MAXIMA_NANOS);
+  }
+
+  /**
+   * Reserva o convite para processar uma resposta. Se outra resposta
+   * estiver em andamento, aguarda que ela termine por até
+   * {@code esperaMaximaNanos}.
+   *
+   * @return OBTIDA, JA_RESPONDIDO ou EM_ANDAMENTO (a outra resposta não
+   *         terminou dentro da espera)
+   */
+  public ReservaResposta iniciarResposta(long esperaMaximaNanos) {
+    long prazo = 0;
+    for (int esperas = 0; ; esperas++) {
+      Estado atual = estado.get();
+      if (atual.fase() >= ACEITO) {
+        return ReservaResposta.JA_RESPONDIDO;
+      }
+      if (atual == ESTADO_PENDENTE && estado.compareAndSet(ESTADO_PENDENTE, ESTADO_EM_RESPOSTA)) {
+        return ReservaResposta.OBTIDA;
+      }
+      if (esperas < ESPERAS_ATIVAS) {
+        Thread.onSpinWait();
+        continue;
+      }
+
+      long agora = System.nanoTime();
+      if (esperas == ESPERAS_ATIVAS) {
+        prazo = agora + esperaMaximaNanos;
+      } else if (agora - prazo >= 0) {
+        return ReservaResposta.EM_ANDAMENTO;
+      }
+      LockSupport.parkNanos(ESPERA_NANOS);
+    }
+  }
+
+  /**
+   * Devolve o convite a pendente quando a resposta iniciada terminou sem
+   * resposta definitiva (ex.: entrou na lista de espera, ou a gravação
+   * falhou antes de {@link #concluirResposta()}). Não faz nada se o convite
+   * já foi respondido.
+   */
+  public void liberarResposta() {
+    Estado atual = estado.get();
+    if (atual.fase() > PENDENTE && atual.fase() < ACEITO) {
+      estado.compareAndSet(atual, ESTADO_PENDENTE);
+    }
   }
 
-  public void marcarComoAceito(Participante participante) {
-    this.respondido = true;
-    this.aceito = true;
-    this.participante = participante;
+  /**
+   * Decide aceitar o convite reservado por quem chama.
+   *
+   * @return false, sem alterar nada, se o convite foi respondido por outra
+   *         via depois da reserva
+   */
+  public boolean decidirAceite(Participante participante) {
+    return estado.get() == ESTADO_EM_RESPOSTA
+        && estado.compareAndSet(ESTADO_EM_RESPOSTA, new Estado(ACEITE_DECIDIDO, participante, null, false));
   }
 
-  public void marcarComoRecusado(String motivo) {
-    this.respondido = true;
-    this.aceito = false;
-    this.motivoRecusa = motivo;
+  /**
+   * @see #decidirAceite(Participante)
+   */
+  public boolean decidirRecusa(String motivo) {
+    return estado.get() == ESTADO_EM_RESPOSTA
+        && estado.compareAndSet(ESTADO_EM_RESPOSTA, new Estado(RECUSA_DECIDIDA, null, motivo, false));
+  }
+
+  /**
+   * @see #decidirAceite(Participante)
+   */
+  public boolean decidirRecusaPorLotacao() {
+    return estado.compareAndSet(ESTADO_EM_RESPOSTA, ESTADO_LOTACAO_DECIDIDA);
+  }
+
+  /**
+   * Torna definitiva a resposta decidida. Não faz nada se não houver
+   * resposta decidida.
+   */
+  public void concluirResposta() {
+    Estado atual = estado.get();
+    if (atual.fase() == ACEITE_DECIDIDO || atual.fase() == RECUSA_DECIDIDA) {
+      estado.compareAndSet(atual, atual == ESTADO_LOTACAO_DECIDIDA
+          ? ESTADO_RECUSADO_LOTACAO
+          : new Estado(atual.fase() + DECIDIDO_PARA_DEFINITIVO, atual.participante(), atual.motivoRecusa(), false));
+    }
+  }
+
+  /**
+   * Aceita o convite pendente diretamente, sem reserva (recuperação de
+   * estado).
+   *
+   * @return false, sem alterar nada, se o convite não está pendente
+   */
+  public boolean marcarComoAceito(Participante participante) {
+    return responder(new Estado(ACEITO, participante, null, false));
+  }
+
+  /**
+   * @see #marcarComoAceito(Participante)
+   */
+  public boolean marcarComoRecusado(String motivo) {
+    return responder(new Estado(RECUSADO, null, motivo, false));
+  }
+
+  /**
+   * @see #marcarComoAceito(Participante)
+   */
+  public boolean marcarComoRecusadoPorLotacao() {
+    return responder(ESTADO_RECUSADO_LOTACAO);
   }
 
   public Evento getEvento() {
@@ -59,11 +222,30 @@ public class Convite {
     return dataExpiracao;
   }
 
+  /**
+   * Retorna a data de expiração como epoch em milissegundos, para
+   * comparações sem alocação.
+   */
+  public long getExpiracaoEpochMillis() {
+    return expiracaoEpochMillis;
+  }
+
+  /**
+   * Participante da resposta aceita; como {@link #getMotivoRecusa()},
+   * reflete também a resposta decidida e ainda não definitiva.
+   */
   public Participante getParticipante() {
-    return participante;
+    return estado.get().participante();
   }
 
   public String getMotivoRecusa() {
-    return motivoRecusa;
+    return estado.get().motivoRecusa();
+  }
+
+  private boolean responder(Estado resposta) {
+    return estado.compareAndSet(ESTADO_PENDENTE, resposta);
+  }
+
+  private record Estado(int fase, Participante participante, String motivoRecusa, boolean porLotacao) {
   }
 }
@@ -1,43 +1,273 @@
 package com.bootcamp.eventos.dominio;
 
+import com.bootcamp.eventos.dominio.enums.CampoEvento;
+import com.bootcamp.eventos.dominio.enums.ResultadoConfirmacao;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
 import com.bootcamp.eventos.exception.EventoLotadoException;
+import com.bootcamp.eventos.tempo.FonteTempo;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Classe principal representando um evento.
  * Gerencia participantes, validações de data e limites.
  * Campos não são final pois o evento pode ser editado posteriormente.
+ *
+ * A reserva de vagas é lock-free: um contador atômico de vagas ocupadas é
+ * incrementado via compare-and-set apenas enquanto estiver abaixo do limite,
+ * garantindo que confirmações concorrentes nunca ultrapassem
+ * {@code limiteParticipantes}. Os participantes ficam em uma
+ * {@link ListaParticipantes}, indexada pelo nome, que rejeita confirmações
+ * duplicadas.
+ *
+ * O StatusPercentual é mantido incrementalmente a cada mudança de ocupação
+ * ou de limite; a leitura é O(1) e ouvintes são notificados apenas quando o
+ * evento cruza uma faixa. Edições de nome, data e limite são avisadas aos
+ * {@link OuvinteAlteracaoEvento} registrados, e confirmações diretas e
+ * cancelamentos aos {@link OuvinteParticipacaoEvento}.
+ *
+ * A versão de edição ({@link #getVersaoEdicao()}) muda apenas com o que
+ * decide a permissão de edição: a data e a passagem entre nenhum e algum
+ * confirmado.
  */
 public class Evento {
-  private String nome;
-  private Integer limiteParticipantes; // null = sem limite
-  private LocalDateTime data;
-  private final List<Participante> participantes;
+  private final String id;
+  private volatile String nome;
+  private volatile Integer limiteParticipantes; // null = sem limite
+  private volatile LocalDateTime data;
+  private volatile long dataEpochMillis;
+  private final FonteTempo fonteTempo;
+  private final AtomicInteger vagasOcupadas;
+  private final AtomicInteger versaoEdicao;
+  private final ListaParticipantes participantes;
+  private volatile FaixasStatus faixasStatus;
+  private final AtomicReference<StatusPercentual> statusPercentual;
+  private final List<OuvinteStatusEvento> ouvintesStatus;
+  private final List<OuvinteAlteracaoEvento> ouvintesAlteracao;
+  private final List<OuvinteParticipacaoEvento> ouvintesParticipacao;
 
   public Evento(String nome, Integer limiteParticipantes, LocalDateTime data) {
-    validarData(data);
+    this(nome, limiteParticipantes, data, FonteTempo.SISTEMA);
+  }
+
+  /**
+   * @param fonteTempo Fonte do instante atual usada para validar a data
+   */
+  public Evento(String nome, Integer limiteParticipantes, LocalDateTime data, FonteTempo fonteTempo) {
+    this(novoId(), nome, limiteParticipantes, data, fonteTempo, true);
+  }
+
+  private Evento(
+      String id,
+      String nome,
+      Integer limiteParticipantes,
+      LocalDateTime data,
+      FonteTempo fonteTempo,
+      boolean validar) {
+    this.id = id;
+    this.fonteTempo = fonteTempo;
+    this.dataEpochMillis = validar ? validarData(data) : FonteTempo.paraEpochMillis(data);
     this.nome = nome;
     this.limiteParticipantes = limiteParticipantes;
     this.data = data;
-    this.participantes = new ArrayList<>();
+    this.vagasOcupadas = new AtomicInteger();
+    this.versaoEdicao = new AtomicInteger();
+    this.participantes = new ListaParticipantes();
+    this.faixasStatus = FaixasStatus.para(limiteParticipantes);
+    this.statusPercentual = new AtomicReference<>(faixasStatus.classificar(0));
+    this.ouvintesStatus = new CopyOnWriteArrayList<>();
+    this.ouvintesAlteracao = new CopyOnWriteArrayList<>();
+    this.ouvintesParticipacao = new CopyOnWriteArrayList<>();
+  }
+
+  /**
+   * Recria um evento persistido (journal ou snapshot) com o seu id original.
+   * A data não é validada: eventos já realizados também são recuperados.
+   */
+  public static Evento restaurar(String id, String nome, Integer limiteParticipantes, LocalDateTime data) {
+    if (id == null || data == null) {
+      throw new IllegalArgumentException("Id e data do evento restaurado não podem ser nulos");
+    }
+    return new Evento(id, nome, limiteParticipantes, data, FonteTempo.SISTEMA, false);
   }
 
   /**
-   * Confirma a participação de um participante no evento.
+   * Registra um participante persistido (journal ou snapshot) sem checar o
+   * limite: a confirmação já foi aceita quando ocorreu, e um limite reduzido
+   * depois não a desfaz.
+   *
+   * @throws IllegalStateException se já houver participante com o mesmo nome
+   */
+  public void restaurarParticipante(Participante participante) {
+    if (!participantes.reservarNome(participante.nome())) {
+      throw new IllegalStateException("Participante restaurado em duplicidade: " + participante.nome());
+    }
+    if (vagasOcupadas.getAndIncrement() == 0) {
+      versaoEdicao.incrementAndGet();
+    }
+    participantes.adicionar(participante);
+    atualizarStatus();
+  }
+
+  /**
+   * Confirma a participação de um participante no evento, sem convite.
+   * A confirmação é avisada aos {@link OuvinteParticipacaoEvento}.
    * 
    * @param participante Participante a ser confirmado
-   * @return true se confirmado com sucesso
+   * @return true se confirmado com sucesso, false se já havia participante
+   *         confirmado com o mesmo nome
    * @throws EventoLotadoException se evento já atingiu o limite
    */
   public boolean confirmarParticipante(Participante participante) {
-    if (temLimite() && estaLotado()) {
-      throw new EventoLotadoException("Evento já atingiu o número máximo de participantes");
+    ResultadoConfirmacao resultado = tentarConfirmarParticipante(participante);
+    if (resultado == ResultadoConfirmacao.LOTADO) {
+      throw EventoLotadoException.INSTANCIA;
+    }
+    if (resultado == ResultadoConfirmacao.DUPLICADO) {
+      return false;
+    }
+
+    for (OuvinteParticipacaoEvento ouvinte : ouvintesParticipacao) {
+      ouvinte.aoConfirmar(this, participante);
+    }
+    return true;
+  }
+
+  /**
+   * Tenta confirmar um participante sem lançar exceção quando o evento está
+   * lotado. Seguro para chamadas concorrentes: o nome e a vaga são
+   * reservados atomicamente antes do participante ser registrado.
+   *
+   * @param participante Participante a ser confirmado
+   * @return CONFIRMADO, LOTADO ou DUPLICADO (nome já confirmado)
+   */
+  public ResultadoConfirmacao tentarConfirmarParticipante(Participante participante) {
+    // Atalho sem alocação para evento esgotado
+    if (estaLotado()) {
+      return participantes.contemNome(participante.nome())
+          ? ResultadoConfirmacao.DUPLICADO
+          : ResultadoConfirmacao.LOTADO;
+    }
+    if (!participantes.reservarNome(participante.nome())) {
+      return ResultadoConfirmacao.DUPLICADO;
+    }
+    if (!reservarVaga()) {
+      participantes.liberarNome(participante.nome());
+      return ResultadoConfirmacao.LOTADO;
+    }
+
+    participantes.adicionar(participante);
+    atualizarStatus();
+    return ResultadoConfirmacao.CONFIRMADO;
+  }
+
+  /**
+   * Reserva em uma única operação atômica até {@code quantidade} vagas.
+   * Usado pelo processamento em lote para checar a capacidade uma única vez
+   * por evento. Vagas não utilizadas devem ser devolvidas com
+   * {@link #liberarVagas(int)}.
+   *
+   * @param quantidade Quantidade de vagas desejadas
+   * @return Quantidade de vagas efetivamente reservadas (0 a quantidade)
+   */
+  public int reservarVagas(int quantidade) {
+    if (quantidade <= 0) {
+      return 0;
     }
 
-    participantes.add(participante);
+    while (true) {
+      int ocupadas = vagasOcupadas.get();
+      Integer limite = limiteParticipantes;
+      int concedidas = limite == null
+          ? quantidade
+          : Math.max(0, Math.min(quantidade, limite - ocupadas));
+      if (concedidas == 0) {
+        return 0;
+      }
+      if (vagasOcupadas.compareAndSet(ocupadas, ocupadas + concedidas)) {
+        if (ocupadas == 0) {
+          versaoEdicao.incrementAndGet();
+        }
+        atualizarStatus();
+        return concedidas;
+      }
+    }
+  }
+
+  /**
+   * Registra um participante em uma vaga previamente obtida via
+   * {@link #reservarVagas(int)}, sem nova checagem de capacidade.
+   *
+   * @return false se já havia participante com o mesmo nome; nesse caso a
+   *         vaga continua reservada e deve ser devolvida pelo chamador
+   */
+  public boolean confirmarComReserva(Participante participante) {
+    if (!participantes.reservarNome(participante.nome())) {
+      return false;
+    }
+
+    participantes.adicionar(participante);
+    return true;
+  }
+
+  /**
+   * Devolve vagas reservadas que não chegaram a ser utilizadas.
+   */
+  public void liberarVagas(int quantidade) {
+    if (quantidade > 0) {
+      if (vagasOcupadas.addAndGet(-quantidade) == 0) {
+        versaoEdicao.incrementAndGet();
+      }
+      atualizarStatus();
+    }
+  }
+
+  /**
+   * Cancela a participação de um participante confirmado, liberando a vaga.
+   * O cancelamento é avisado aos {@link OuvinteParticipacaoEvento}.
+   *
+   * @param nome Nome do participante
+   * @return true se havia participante confirmado com esse nome
+   */
+  public boolean cancelarParticipacao(String nome) {
+    if (!removerParticipante(nome)) {
+      return false;
+    }
+
+    for (OuvinteParticipacaoEvento ouvinte : ouvintesParticipacao) {
+      ouvinte.aoCancelar(this, nome);
+    }
+    return true;
+  }
+
+  /**
+   * Desfaz uma confirmação por convite cuja resposta não chegou a ser
+   * registrada (nem será), liberando a vaga sem avisar os
+   * {@link OuvinteParticipacaoEvento}: para quem registra, a confirmação
+   * nunca existiu.
+   *
+   * @return true se havia participante confirmado com esse nome
+   */
+  public boolean desfazerConfirmacao(String nome) {
+    return removerParticipante(nome);
+  }
+
+  private boolean removerParticipante(String nome) {
+    if (!participantes.remover(nome)) {
+      return false;
+    }
+
+    if (vagasOcupadas.decrementAndGet() == 0) {
+      versaoEdicao.incrementAndGet();
+    }
+    atualizarStatus();
     return true;
   }
 
@@ -59,14 +289,36 @@ public class Evento {
    * Verifica se o evento está lotado (atingiu o limite).
    */
   public boolean estaLotado() {
-    return temLimite() && participantes.size() >= limiteParticipantes;
+    Integer limite = limiteParticipantes;
+    return limite != null && vagasOcupadas.get() >= limite;
   }
 
   /**
    * Retorna o número de participantes confirmados.
    */
   public int getNumeroConfirmados() {
-    return participantes.size();
+    return vagasOcupadas.get();
+  }
+
+  /**
+   * Verifica em O(1) se há participante confirmado com o nome informado.
+   */
+  public boolean estaConfirmado(String nome) {
+    return participantes.contemNome(nome);
+  }
+
+  /**
+   * Retorna uma cópia dos participantes confirmados, na ordem de confirmação.
+   */
+  public List<Participante> getParticipantes() {
+    return participantes.copiar();
+  }
+
+  /**
+   * Percorre os participantes confirmados sem copiar a lista.
+   */
+  public void paraCadaParticipante(Consumer<Participante> acao) {
+    participantes.paraCada(acao);
   }
 
   /**
@@ -75,20 +327,103 @@ public class Evento {
    * @return Percentual de 0 a 100, ou 0 se não há limite
    */
   public int calcularPercentualConfirmados() {
-    if (!temLimite()) {
+    Integer limite = limiteParticipantes;
+    if (limite == null) {
       return 0;
     }
 
-    return (participantes.size() * 100) / limiteParticipantes;
+    return (vagasOcupadas.get() * 100) / limite;
+  }
+
+  /**
+   * Retorna o status percentual atual, mantido incrementalmente (O(1)).
+   */
+  public StatusPercentual getStatusPercentual() {
+    return statusPercentual.get();
+  }
+
+  /**
+   * Registra um ouvinte notificado quando o evento muda de faixa de status.
+   */
+  public void adicionarOuvinteStatus(OuvinteStatusEvento ouvinte) {
+    ouvintesStatus.add(ouvinte);
+  }
+
+  public void removerOuvinteStatus(OuvinteStatusEvento ouvinte) {
+    ouvintesStatus.remove(ouvinte);
+  }
+
+  /**
+   * Registra um ouvinte notificado a cada edição de nome, data ou limite.
+   */
+  public void adicionarOuvinteAlteracao(OuvinteAlteracaoEvento ouvinte) {
+    ouvintesAlteracao.add(ouvinte);
+  }
+
+  public void removerOuvinteAlteracao(OuvinteAlteracaoEvento ouvinte) {
+    ouvintesAlteracao.remove(ouvinte);
+  }
+
+  /**
+   * Registra um ouvinte notificado a cada confirmação direta e a cada
+   * cancelamento de participação.
+   */
+  public void adicionarOuvinteParticipacao(OuvinteParticipacaoEvento ouvinte) {
+    ouvintesParticipacao.add(ouvinte);
+  }
+
+  public void removerOuvinteParticipacao(OuvinteParticipacaoEvento ouvinte) {
+    ouvintesParticipacao.remove(ouvinte);
+  }
+
+  /**
+   * Identificador do evento (UUID), estável entre reinícios quando o evento
+   * é recuperado de journal ou snapshot.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Versão das condições que decidem a permissão de edição. É incrementada
+   * depois de cada mudança de data e de cada passagem entre nenhum e algum
+   * confirmado; lida antes do estado, identifica decisões desatualizadas.
+   */
+  public int getVersaoEdicao() {
+    return versaoEdicao.get();
   }
 
   public LocalDateTime getData() {
     return data;
   }
 
+  /**
+   * Retorna a data do evento como epoch em milissegundos, para comparações
+   * sem alocação.
+   */
+  public long getDataEpochMillis() {
+    return dataEpochMillis;
+  }
+
   public void setData(LocalDateTime data) {
-    validarData(data);
+    long epochMillis = validarData(data);
     this.data = data;
+    this.dataEpochMillis = epochMillis;
+    versaoEdicao.incrementAndGet();
+    notificarAlteracao(CampoEvento.DATA);
+  }
+
+  /**
+   * Aplica uma data persistida sem validá-la (recuperação de estado).
+   */
+  public void restaurarData(LocalDateTime data) {
+    if (data == null) {
+      throw new IllegalArgumentException("A data do evento não pode ser nula");
+    }
+    this.data = data;
+    this.dataEpochMillis = FonteTempo.paraEpochMillis(data);
+    versaoEdicao.incrementAndGet();
+    notificarAlteracao(CampoEvento.DATA);
   }
 
   public String getNome() {
@@ -97,6 +432,7 @@ public class Evento {
 
   public void setNome(String nome) {
     this.nome = nome;
+    notificarAlteracao(CampoEvento.NOME);
   }
 
   public Integer getLimiteParticipantes() {
@@ -105,17 +441,85 @@ public class Evento {
 
   public void setLimiteParticipantes(Integer limiteParticipantes) {
     this.limiteParticipantes = limiteParticipantes;
+    this.faixasStatus = FaixasStatus.para(limiteParticipantes);
+    atualizarStatus();
+    notificarAlteracao(CampoEvento.LIMITE_PARTICIPANTES);
+  }
+
+  /**
+   * Reserva uma vaga via compare-and-set, sem lock global.
+   * Nunca incrementa o contador além do limite vigente.
+   */
+  private boolean reservarVaga() {
+    while (true) {
+      int ocupadas = vagasOcupadas.get();
+      Integer limite = limiteParticipantes;
+      if (limite != null && ocupadas >= limite) {
+        return false;
+      }
+      if (vagasOcupadas.compareAndSet(ocupadas, ocupadas + 1)) {
+        if (ocupadas == 0) {
+          versaoEdicao.incrementAndGet();
+        }
+        return true;
+      }
+    }
   }
 
-  private void validarData(LocalDateTime data) {
+  /**
+   * Reclassifica o evento após mudança de ocupação ou de limite.
+   * Cada thread que altera o estado chama este método depois da alteração,
+   * então o status converge mesmo com atualizações concorrentes; apenas a
+   * thread cujo compare-and-set efetiva a troca de faixa notifica.
+   */
+  private void atualizarStatus() {
+    while (true) {
+      StatusPercentual anterior = statusPercentual.get();
+      StatusPercentual atual = faixasStatus.classificar(vagasOcupadas.get());
+      if (anterior == atual) {
+        return;
+      }
+      if (statusPercentual.compareAndSet(anterior, atual)) {
+        for (OuvinteStatusEvento ouvinte : ouvintesStatus) {
+          ouvinte.aoMudarStatus(this, anterior, atual);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * UUID aleatório (versão 4) gerado com ThreadLocalRandom, sem a contenção
+   * do SecureRandom de {@link UUID#randomUUID()}.
+   */
+  private static String novoId() {
+    ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+    long maisSignificativos = (aleatorio.nextLong() & ~0xF000L) | 0x4000L;
+    long menosSignificativos = (aleatorio.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+    return new UUID(maisSignificativos, menosSignificativos).toString();
+  }
+
+  private void notificarAlteracao(CampoEvento campo) {
+    for (OuvinteAlteracaoEvento ouvinte : ouvintesAlteracao) {
+      ouvinte.aoAlterar(this, campo);
+    }
+  }
+
+  /**
+   * Valida a data e a retorna convertida para epoch em milissegundos.
+   * Datas no mesmo segundo do instante atual são aceitas.
+   */
+  private long validarData(LocalDateTime data) {
     if (data == null) {
       throw new IllegalArgumentException("A data do evento não pode ser nula");
     }
 
-    LocalDateTime agora = LocalDateTime.now();
-    // Aceita data igual ou futura
-    if (data.isBefore(agora) && !data.withNano(0).equals(agora.withNano(0))) {
+    long dataMillis = FonteTempo.paraEpochMillis(data);
+    long agoraMillis = fonteTempo.agoraEpochMillis();
+    // Aceita data igual (mesmo segundo) ou futura
+    if (Math.floorDiv(dataMillis, 1000) < Math.floorDiv(agoraMillis, 1000)) {
       throw new IllegalArgumentException("A data do evento não pode ser no passado");
     }
+    return dataMillis;
   }
 }
@@ -0,0 +1,60 @@
+package com.bootcamp.eventos.dominio;
+
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+
+/**
+ * Limiares de StatusPercentual pré-calculados para um limite de
+ * participantes. Converte as faixas percentuais (100%, 80%, 50%, 1%) em
+ * quantidades mínimas de confirmados, de modo que classificar um evento
+ * seja apenas comparar inteiros, sem divisão.
+ *
+ * Equivale a classificar por {@code (confirmados * 100) / limite}.
+ */
+final class FaixasStatus {
+
+  static final FaixasStatus SEM_LIMITE = new FaixasStatus(null);
+
+  private final Integer limite;
+  private final long minimoLotado;
+  private final long minimoQuaseLotado;
+  private final long minimoBoaAdesao;
+  private final long minimoComConfirmacoes;
+
+  private FaixasStatus(Integer limite) {
+    this.limite = limite;
+    long l = limite == null ? 0 : limite;
+    this.minimoLotado = l;
+    this.minimoQuaseLotado = minimoParaPercentual(l, 80);
+    this.minimoBoaAdesao = minimoParaPercentual(l, 50);
+    this.minimoComConfirmacoes = minimoParaPercentual(l, 1);
+  }
+
+  static FaixasStatus para(Integer limite) {
+    return limite == null ? SEM_LIMITE : new FaixasStatus(limite);
+  }
+
+  StatusPercentual classificar(int confirmados) {
+    if (limite == null) {
+      return StatusPercentual.SEM_LIMITE;
+    }
+    if (confirmados >= minimoLotado) {
+      return StatusPercentual.LOTADO;
+    } else if (confirmados >= minimoQuaseLotado) {
+      return StatusPercentual.QUASE_LOTADO;
+    } else if (confirmados >= minimoBoaAdesao) {
+      return StatusPercentual.BOA_ADESAO;
+    } else if (confirmados >= minimoComConfirmacoes) {
+      return StatusPercentual.ABERTO_COM_CONFIRMACOES;
+    } else {
+      return StatusPercentual.ABERTO_SEM_CONFIRMACOES;
+    }
+  }
+
+  /**
+   * Menor n tal que (n * 100) / limite >= percentual, isto é,
+   * teto(percentual * limite / 100).
+   */
+  private static long minimoParaPercentual(long limite, int percentual) {
+    return Math.floorDiv(percentual * limite + 99, 100);
+  }
+}
@@ -0,0 +1,138 @@
+package com.bootcamp.eventos.dominio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lista de participantes confirmados de um evento.
+ *
+ * Combina um índice hash pelo nome do participante (pertinência O(1) e
+ * rejeição atômica de duplicados via {@code putIfAbsent}) com armazenamento
+ * append-only em blocos de tamanho fixo: crescer aloca apenas um bloco
+ * novo, nunca copia os participantes já registrados. Cancelamentos apenas
+ * esvaziam a posição do participante, que é ignorada na iteração.
+ */
+final class ListaParticipantes {
+
+  private static final int BITS_BLOCO = 10;
+  private static final int TAMANHO_BLOCO = 1 << BITS_BLOCO; // 1024
+  private static final int MASCARA_BLOCO = TAMANHO_BLOCO - 1;
+
+  private static final int RESERVADO = -1;
+
+  /** Nome -> posição no armazenamento (RESERVADO enquanto não registrado) */
+  private final Map<String, Integer> posicoes = new ConcurrentHashMap<>();
+  private final AtomicInteger proximaPosicao = new AtomicInteger();
+  private volatile AtomicReferenceArray<Participante>[] blocos = novoDiretorio(4);
+
+  /**
+   * Reserva o nome do participante no índice.
+   *
+   * @return false se já havia participante com esse nome
+   */
+  boolean reservarNome(String nome) {
+    return posicoes.putIfAbsent(nome, RESERVADO) == null;
+  }
+
+  /**
+   * Desfaz uma reserva de nome cujo participante não chegou a ser
+   * registrado (ex.: evento lotado).
+   */
+  void liberarNome(String nome) {
+    posicoes.remove(nome, RESERVADO);
+  }
+
+  boolean contemNome(String nome) {
+    return nome != null && posicoes.containsKey(nome);
+  }
+
+  /**
+   * Registra um participante cujo nome já foi reservado.
+   */
+  void adicionar(Participante participante) {
+    int posicao = proximaPosicao.getAndIncrement();
+    bloco(posicao >>> BITS_BLOCO).set(posicao & MASCARA_BLOCO, participante);
+    posicoes.put(participante.nome(), posicao);
+  }
+
+  /**
+   * Remove um participante registrado.
+   *
+   * @return false se não havia participante registrado com esse nome
+   */
+  boolean remover(String nome) {
+    Integer posicao = nome == null ? null : posicoes.get(nome);
+    if (posicao == null || posicao == RESERVADO || !posicoes.remove(nome, posicao)) {
+      return false;
+    }
+
+    bloco(posicao >>> BITS_BLOCO).set(posicao & MASCARA_BLOCO, null);
+    return true;
+  }
+
+  /**
+   * Percorre os participantes na ordem de registro, sem cópia.
+   */
+  void paraCada(Consumer<Participante> acao) {
+    int limite = proximaPosicao.get();
+    AtomicReferenceArray<Participante>[] diretorio = blocos;
+    for (int posicao = 0; posicao < limite; posicao++) {
+      int indiceBloco = posicao >>> BITS_BLOCO;
+      if (indiceBloco >= diretorio.length || diretorio[indiceBloco] == null) {
+        diretorio = blocos;
+        if (indiceBloco >= diretorio.length || diretorio[indiceBloco] == null) {
+          // Bloco ainda sendo alocado por outra thread: pula para o próximo
+          posicao = ((indiceBloco + 1) << BITS_BLOCO) - 1;
+          continue;
+        }
+      }
+      // Posição reservada por uma escrita ainda em andamento aparece como null
+      Participante participante = diretorio[indiceBloco].get(posicao & MASCARA_BLOCO);
+      if (participante != null) {
+        acao.accept(participante);
+      }
+    }
+  }
+
+  List<Participante> copiar() {
+    List<Participante> copia = new ArrayList<>(proximaPosicao.get());
+    paraCada(copia::add);
+    return copia;
+  }
+
+  /**
+   * Retorna o bloco, alocando-o se necessário. Apenas o diretório (um
+   * ponteiro por bloco) é copiado ao crescer, e isso ocorre sob lock uma
+   * vez a cada {@value #TAMANHO_BLOCO} registros.
+   */
+  private AtomicReferenceArray<Participante> bloco(int indiceBloco) {
+    AtomicReferenceArray<Participante>[] diretorio = blocos;
+    if (indiceBloco < diretorio.length && diretorio[indiceBloco] != null) {
+      return diretorio[indiceBloco];
+    }
+
+    synchronized (this) {
+      diretorio = blocos;
+      if (indiceBloco >= diretorio.length) {
+        AtomicReferenceArray<Participante>[] maior = novoDiretorio(Math.max(diretorio.length * 2, indiceBloco + 1));
+        System.arraycopy(diretorio, 0, maior, 0, diretorio.length);
+        diretorio = maior;
+      }
+      if (diretorio[indiceBloco] == null) {
+        diretorio[indiceBloco] = new AtomicReferenceArray<>(TAMANHO_BLOCO);
+      }
+      blocos = diretorio; // publicação volatile
+      return diretorio[indiceBloco];
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static AtomicReferenceArray<Participante>[] novoDiretorio(int tamanho) {
+    return (AtomicReferenceArray<Participante>[]) new AtomicReferenceArray<?>[tamanho];
+  }
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.eventos.dominio;
+
+import com.bootcamp.eventos.dominio.enums.CampoEvento;
+
+/**
+ * Interface para ser notificado quando um campo editável do evento é
+ * alterado (nome, data ou limite de participantes).
+ *
+ * A notificação ocorre na thread que fez a alteração, depois que o novo
+ * valor já está visível no evento; implementações devem ser rápidas e não
+ * lançar exceções.
+ */
+@FunctionalInterface
+public interface OuvinteAlteracaoEvento {
+
+  void aoAlterar(Evento evento, CampoEvento campo);
+}
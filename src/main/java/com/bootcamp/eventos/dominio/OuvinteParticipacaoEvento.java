@@ -0,0 +1,20 @@
+package com.bootcamp.eventos.dominio;
+
+/**
+ * Interface para ser notificado das confirmações feitas diretamente no
+ * evento ({@link Evento#confirmarParticipante(Participante)}) e dos
+ * cancelamentos de participação.
+ *
+ * Confirmações que respondem um convite não são avisadas: elas são
+ * registradas junto com a resposta do convite. Confirmações desfeitas antes
+ * de registradas ({@link Evento#desfazerConfirmacao(String)}) também não.
+ *
+ * A notificação ocorre na thread que fez a alteração, depois que ela já
+ * está visível no evento; implementações devem ser rápidas.
+ */
+public interface OuvinteParticipacaoEvento {
+
+  void aoConfirmar(Evento evento, Participante participante);
+
+  void aoCancelar(Evento evento, String nome);
+}
@@ -0,0 +1,17 @@
+package com.bootcamp.eventos.dominio;
+
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+
+/**
+ * Interface para ser notificado quando um evento muda de faixa de
+ * StatusPercentual (ex.: BOA_ADESAO para QUASE_LOTADO).
+ *
+ * A notificação ocorre na thread que provocou a mudança (confirmação,
+ * liberação de vagas ou alteração do limite); implementações devem ser
+ * rápidas e não lançar exceções.
+ */
+@FunctionalInterface
+public interface OuvinteStatusEvento {
+
+  void aoMudarStatus(Evento evento, StatusPercentual anterior, StatusPercentual atual);
+}
@@ -0,0 +1,10 @@
+package com.bootcamp.eventos.dominio.enums;
+
+/**
+ * Enum representando os campos editáveis de um evento.
+ */
+public enum CampoEvento {
+  NOME,
+  DATA,
+  LIMITE_PARTICIPANTES
+}
@@ -0,0 +1,16 @@
+package com.bootcamp.eventos.dominio.enums;
+
+/**
+ * Enum representando o resultado da reserva de um convite para processar
+ * uma resposta.
+ */
+public enum ReservaResposta {
+  /** Convite reservado para quem chamou */
+  OBTIDA,
+
+  /** Convite já tem resposta definitiva */
+  JA_RESPONDIDO,
+
+  /** Outra resposta continuou em andamento durante toda a espera */
+  EM_ANDAMENTO
+}
@@ -0,0 +1,16 @@
+package com.bootcamp.eventos.dominio.enums;
+
+/**
+ * Enum representando o resultado de uma tentativa de confirmação de
+ * participante em um evento.
+ */
+public enum ResultadoConfirmacao {
+  /** Participante confirmado e vaga ocupada */
+  CONFIRMADO,
+
+  /** Evento sem vagas disponíveis */
+  LOTADO,
+
+  /** Já existe participante confirmado com o mesmo nome */
+  DUPLICADO
+}
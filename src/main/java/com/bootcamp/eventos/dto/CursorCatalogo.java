@@ -0,0 +1,11 @@
+package com.bootcamp.eventos.dto;
+
+/**
+ * Record representando a posição no catálogo de eventos a partir da qual a
+ * próxima página começa.
+ * 
+ * @param dataEpochMillis Data do último evento da página (epoch millis)
+ * @param sequencia       Desempate entre eventos na mesma data
+ */
+public record CursorCatalogo(long dataEpochMillis, long sequencia) {
+}
@@ -0,0 +1,18 @@
+package com.bootcamp.eventos.dto;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+
+import java.util.Map;
+
+/**
+ * Record representando o estado reconstruído a partir do diário ou de um
+ * snapshot.
+ * 
+ * @param eventos   Eventos restaurados, indexados pelo id
+ * @param convites  Convites restaurados, indexados pelo token
+ * @param registros Quantidade de registros íntegros reproduzidos (diário) ou
+ *                  de eventos e convites carregados (snapshot)
+ */
+public record EstadoRestaurado(Map<String, Evento> eventos, Map<String, Convite> convites, long registros) {
+}
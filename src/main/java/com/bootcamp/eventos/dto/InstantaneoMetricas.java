@@ -0,0 +1,21 @@
+package com.bootcamp.eventos.dto;
+
+import com.bootcamp.eventos.metricas.Desfecho;
+
+import java.util.Map;
+
+/**
+ * Record representando uma leitura das métricas de respostas a convites.
+ * 
+ * @param validacoes      Contagem por desfecho de ValidadorConvite.validar
+ * @param processamentos  Contagem por desfecho de
+ *                        ProcessadorResposta.processarResposta(s)
+ * @param latenciaValidacao     Latência amostrada de validar
+ * @param latenciaProcessamento Latência amostrada de processarResposta
+ */
+public record InstantaneoMetricas(
+    Map<Desfecho, Long> validacoes,
+    Map<Desfecho, Long> processamentos,
+    ResumoLatencia latenciaValidacao,
+    ResumoLatencia latenciaProcessamento) {
+}
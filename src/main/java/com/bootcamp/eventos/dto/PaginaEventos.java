@@ -0,0 +1,14 @@
+package com.bootcamp.eventos.dto;
+
+import com.bootcamp.eventos.dominio.Evento;
+
+import java.util.List;
+
+/**
+ * Record representando uma página de eventos do catálogo.
+ * 
+ * @param eventos Eventos da página, em ordem de data
+ * @param proxima Cursor da próxima página, ou null se esta for a última
+ */
+public record PaginaEventos(List<Evento> eventos, CursorCatalogo proxima) {
+}
@@ -4,10 +4,25 @@ import com.bootcamp.eventos.dominio.enums.TipoPermissao;
 
 /**
  * Record representando permissão de edição de um evento.
- * 
+ *
+ * As permissões possíveis do ServicoEvento são fixas e compartilhadas pelas
+ * constantes abaixo, então a verificação não aloca.
+ *
  * @param tipo          Tipo da permissão (COMPLETA, LIMITADA, BLOQUEADA,
  *                      NEGADA)
  * @param justificativa Justificativa da permissão concedida ou negada
  */
 public record PermissaoEdicao(TipoPermissao tipo, String justificativa) {
+
+  public static final PermissaoEdicao COMPLETA =
+      new PermissaoEdicao(TipoPermissao.COMPLETA, "Edição completa permitida");
+
+  public static final PermissaoEdicao LIMITADA = new PermissaoEdicao(
+      TipoPermissao.LIMITADA, "Evento com confirmados permite apenas edições limitadas");
+
+  public static final PermissaoEdicao BLOQUEADA =
+      new PermissaoEdicao(TipoPermissao.BLOQUEADA, "Eventos passados não podem ser editados");
+
+  public static final PermissaoEdicao NEGADA =
+      new PermissaoEdicao(TipoPermissao.NEGADA, "Apenas organizadores podem editar eventos");
 }
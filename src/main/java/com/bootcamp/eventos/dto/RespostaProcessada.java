@@ -0,0 +1,16 @@
+package com.bootcamp.eventos.dto;
+
+/**
+ * Record representando o resultado de uma resposta processada junto com a
+ * indicação de que foi esta chamada que confirmou o convite.
+ *
+ * Uma submissão repetida recebe o mesmo resultado da original; só a
+ * chamada que fez a confirmação deve disparar efeitos como o email.
+ *
+ * @param resultado              Resultado do processamento
+ * @param confirmadaNestaChamada true se esta chamada tornou o aceite
+ *                               definitivo; false para repetições, recusas,
+ *                               promoções da lista de espera e falhas
+ */
+public record RespostaProcessada(ResultadoProcessamento resultado, boolean confirmadaNestaChamada) {
+}
@@ -2,9 +2,46 @@ package com.bootcamp.eventos.dto;
 
 /**
  * Record representando o resultado do processamento de uma resposta ao convite.
+ *
+ * Os resultados possíveis do ProcessadorResposta são fixos e compartilhados
+ * pelas constantes abaixo, então processar uma resposta não aloca o
+ * resultado.
  * 
  * @param sucesso  true se a resposta foi processada com sucesso
  * @param mensagem Mensagem descrevendo o resultado
  */
 public record ResultadoProcessamento(boolean sucesso, String mensagem) {
+
+  public static final ResultadoProcessamento CONFIRMADO =
+      new ResultadoProcessamento(true, "Participação confirmada com sucesso");
+
+  public static final ResultadoProcessamento RECUSA_REGISTRADA =
+      new ResultadoProcessamento(true, "Recusa registrada");
+
+  public static final ResultadoProcessamento JA_RESPONDIDO =
+      new ResultadoProcessamento(false, "Convite já foi respondido anteriormente");
+
+  public static final ResultadoProcessamento PARTICIPANTE_DUPLICADO =
+      new ResultadoProcessamento(false, "Participante já confirmado neste evento");
+
+  public static final ResultadoProcessamento EVENTO_LOTADO =
+      new ResultadoProcessamento(false, "Evento já está lotado");
+
+  public static final ResultadoProcessamento EM_LISTA_ESPERA =
+      new ResultadoProcessamento(true, "Evento lotado: convite adicionado à lista de espera");
+
+  public static final ResultadoProcessamento JA_EM_LISTA_ESPERA =
+      new ResultadoProcessamento(false, "Convite já está na lista de espera");
+
+  public static final ResultadoProcessamento TOKEN_INVALIDO =
+      new ResultadoProcessamento(false, "Token de convite inválido");
+
+  public static final ResultadoProcessamento TOKEN_EXPIRADO =
+      new ResultadoProcessamento(false, "O token do convite expirou");
+
+  public static final ResultadoProcessamento RESPOSTA_EM_ANDAMENTO =
+      new ResultadoProcessamento(false, "Outra resposta a este convite está em processamento: tente novamente");
+
+  public static final ResultadoProcessamento LIMITE_EXCEDIDO =
+      new ResultadoProcessamento(false, "Muitas tentativas: aguarde antes de responder novamente");
 }
@@ -2,9 +2,23 @@ package com.bootcamp.eventos.dto;
 
 /**
  * Record representando o resultado de uma validação de convite.
+ *
+ * Os resultados possíveis do ValidadorConvite são fixos e compartilhados
+ * pelas constantes abaixo, então validar não aloca.
  * 
  * @param valido       true se o convite passou em todas as validações
  * @param mensagemErro Mensagem descrevendo o erro, ou null se válido
  */
 public record ResultadoValidacao(boolean valido, String mensagemErro) {
+
+  public static final ResultadoValidacao VALIDO = new ResultadoValidacao(true, null);
+
+  public static final ResultadoValidacao TOKEN_INVALIDO =
+      new ResultadoValidacao(false, "Token de convite inválido");
+
+  public static final ResultadoValidacao TOKEN_EXPIRADO =
+      new ResultadoValidacao(false, "O token do convite expirou");
+
+  public static final ResultadoValidacao EVENTO_LOTADO =
+      new ResultadoValidacao(false, "Evento já atingiu o número máximo de participantes");
 }
@@ -0,0 +1,15 @@
+package com.bootcamp.eventos.dto;
+
+/**
+ * Record representando os percentis de latência de uma operação.
+ * Os percentis são o limite superior do intervalo do histograma (erro
+ * relativo de até 12,5%).
+ * 
+ * @param amostras    Quantidade de chamadas medidas
+ * @param p50Nanos    Mediana, em nanossegundos
+ * @param p99Nanos    Percentil 99, em nanossegundos
+ * @param p999Nanos   Percentil 99,9, em nanossegundos
+ * @param maximoNanos Maior latência medida, em nanossegundos
+ */
+public record ResumoLatencia(long amostras, long p50Nanos, long p99Nanos, long p999Nanos, long maximoNanos) {
+}
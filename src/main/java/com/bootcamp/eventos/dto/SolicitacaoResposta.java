@@ -0,0 +1,13 @@
+package com.bootcamp.eventos.dto;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+
+/**
+ * Record representando uma resposta pendente de processamento em lote.
+ * 
+ * @param convite  Convite sendo respondido
+ * @param resposta Resposta enviada pelo convidado
+ */
+public record SolicitacaoResposta(Convite convite, RespostaConvite resposta) {
+}
@@ -3,9 +3,19 @@ package com.bootcamp.eventos.exception;
 /**
  * Exception lançada quando se tenta confirmar um participante em um evento
  * que já atingiu o número máximo de participantes.
+ *
+ * Lotação é um resultado esperado de negócio, não uma falha: a exceção não
+ * captura stack trace nem aceita exceções suprimidas, o que permite lançar
+ * sempre a mesma instância ({@link #INSTANCIA}) sem custo de alocação.
  */
 public class EventoLotadoException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final EventoLotadoException INSTANCIA =
+      new EventoLotadoException("Evento já atingiu o número máximo de participantes");
+
   public EventoLotadoException(String mensagem) {
-    super(mensagem);
+    super(mensagem, null, false, false);
   }
 }
@@ -0,0 +1,25 @@
+package com.bootcamp.eventos.metricas;
+
+/**
+ * Desfechos contabilizados pelas métricas de validação e de processamento
+ * de respostas.
+ */
+public enum Desfecho {
+  // Validação
+  VALIDO,
+  TOKEN_INVALIDO,
+  TOKEN_EXPIRADO,
+
+  // Validação e processamento
+  EVENTO_LOTADO,
+
+  // Processamento
+  CONFIRMADO,
+  RECUSADO,
+  JA_RESPONDIDO,
+  PARTICIPANTE_DUPLICADO,
+  EM_LISTA_ESPERA,
+  JA_EM_LISTA_ESPERA,
+  RESPOSTA_EM_ANDAMENTO,
+  LIMITE_EXCEDIDO
+}
@@ -0,0 +1,98 @@
+package com.bootcamp.eventos.metricas;
+
+import com.bootcamp.eventos.dto.ResumoLatencia;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências em nanossegundos com intervalos log-lineares.
+ *
+ * Cada potência de 2 é dividida em {@value #SUBINTERVALOS} subintervalos
+ * iguais, então o limite superior reportado fica a no máximo 12,5% do
+ * valor real, de 1 ns até ~292 anos, com tamanho fixo. Cada intervalo é um
+ * {@link LongAdder}: registros concorrentes não disputam a mesma linha de
+ * cache.
+ */
+public class HistogramaLatencia {
+
+  private static final int BITS_SUBINTERVALO = 3;
+  private static final int SUBINTERVALOS = 1 << BITS_SUBINTERVALO; // 8
+  private static final int INTERVALOS = (64 - BITS_SUBINTERVALO + 1) * SUBINTERVALOS;
+
+  private final LongAdder[] contagens = new LongAdder[INTERVALOS];
+  private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+  public HistogramaLatencia() {
+    for (int i = 0; i < INTERVALOS; i++) {
+      contagens[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Registra uma latência. Valores negativos contam como 0.
+   */
+  public void registrar(long nanos) {
+    long valor = Math.max(0, nanos);
+    contagens[intervalo(valor)].increment();
+    maximo.accumulate(valor);
+  }
+
+  /**
+   * Calcula os percentis a partir de uma leitura dos intervalos. Com
+   * registros concorrentes, a leitura não é atômica, mas cada contagem é
+   * exata no momento em que é lida.
+   */
+  public ResumoLatencia resumir() {
+    long[] copia = new long[INTERVALOS];
+    long total = 0;
+    for (int i = 0; i < INTERVALOS; i++) {
+      copia[i] = contagens[i].sum();
+      total += copia[i];
+    }
+
+    long maior = maximo.get();
+    return new ResumoLatencia(
+        total,
+        percentil(copia, total, 0.50, maior),
+        percentil(copia, total, 0.99, maior),
+        percentil(copia, total, 0.999, maior),
+        maior);
+  }
+
+  private static long percentil(long[] contagens, long total, double fracao, long maior) {
+    if (total == 0) {
+      return 0;
+    }
+
+    long alvo = Math.max(1, (long) Math.ceil(fracao * total));
+    long acumulado = 0;
+    for (int i = 0; i < contagens.length; i++) {
+      acumulado += contagens[i];
+      if (acumulado >= alvo) {
+        return Math.min(limiteSuperior(i), maior);
+      }
+    }
+    return maior;
+  }
+
+  static int intervalo(long valor) {
+    if (valor < SUBINTERVALOS) {
+      return (int) valor;
+    }
+    int expoente = 63 - Long.numberOfLeadingZeros(valor);
+    int sub = (int) (valor >>> (expoente - BITS_SUBINTERVALO)) & (SUBINTERVALOS - 1);
+    return (expoente - BITS_SUBINTERVALO + 1) * SUBINTERVALOS + sub;
+  }
+
+  static long limiteSuperior(int intervalo) {
+    if (intervalo < SUBINTERVALOS) {
+      return intervalo;
+    }
+    int expoente = intervalo / SUBINTERVALOS + BITS_SUBINTERVALO - 1;
+    long sub = intervalo % SUBINTERVALOS;
+    long largura = 1L << (expoente - BITS_SUBINTERVALO);
+    long inferior = (SUBINTERVALOS + sub) * largura;
+    return inferior + largura - 1;
+  }
+}
@@ -0,0 +1,218 @@
+package com.bootcamp.eventos.metricas;
+
+import com.bootcamp.eventos.dto.InstantaneoMetricas;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.ResultadoValidacao;
+import com.bootcamp.eventos.dto.ResumoLatencia;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de ValidadorConvite e ProcessadorResposta, baratas o bastante
+ * para ficarem sempre ligadas.
+ *
+ * Cada desfecho tem um contador {@link LongAdder} por operação. A latência
+ * é amostrada: apenas 1 a cada {@code intervaloAmostragem} chamadas lê o
+ * relógio e entra no {@link HistogramaLatencia}, o que mantém o custo do
+ * relógio fora da maioria das chamadas sem distorcer os percentis.
+ *
+ * Os processamentos são contados em toda chamada. As validações levam
+ * poucas dezenas de nanossegundos, e até o incremento de um contador pesa
+ * nelas: só as chamadas da amostra são contadas, cada uma valendo
+ * {@code intervaloAmostragem}. Os totais de validação são, portanto,
+ * estimativas (exatos com intervalo 1).
+ *
+ * {@link #instantaneo()} e {@link #exportarTexto()} podem ser consultados a
+ * qualquer momento por um coletor local.
+ */
+public class MetricasResposta {
+
+  /** Valor de início para chamadas fora da amostra. */
+  public static final long NAO_AMOSTRADO = Long.MIN_VALUE;
+
+  private static final Desfecho[] DESFECHOS = Desfecho.values();
+
+  private final int intervaloAmostragem;
+  private final int mascaraAmostragem;
+  private final LongAdder[] validacoes = novosContadores();
+  private final LongAdder[] processamentos = novosContadores();
+  private final HistogramaLatencia latenciaValidacao = new HistogramaLatencia();
+  private final HistogramaLatencia latenciaProcessamento = new HistogramaLatencia();
+
+  public MetricasResposta() {
+    this(64);
+  }
+
+  /**
+   * @param intervaloAmostragem Mede a latência de 1 a cada N chamadas (N
+   *                            potência de 2; 1 mede todas)
+   */
+  public MetricasResposta(int intervaloAmostragem) {
+    if (intervaloAmostragem <= 0 || Integer.bitCount(intervaloAmostragem) != 1) {
+      throw new IllegalArgumentException("Intervalo de amostragem deve ser potência de 2");
+    }
+    this.intervaloAmostragem = intervaloAmostragem;
+    this.mascaraAmostragem = intervaloAmostragem - 1;
+  }
+
+  /**
+   * Marca o início de uma chamada.
+   *
+   * @return Instante em nanossegundos, ou {@link #NAO_AMOSTRADO} se esta
+   *         chamada não terá a latência medida
+   */
+  public long iniciar() {
+    if ((ThreadLocalRandom.current().nextInt() & mascaraAmostragem) != 0) {
+      return NAO_AMOSTRADO;
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Registra uma validação. Fora da amostra não faz nada: a contagem é
+   * estimada a partir das chamadas amostradas.
+   */
+  public void registrarValidacao(ResultadoValidacao resultado, long inicio) {
+    if (inicio == NAO_AMOSTRADO) {
+      return;
+    }
+    latenciaValidacao.registrar(System.nanoTime() - inicio);
+    validacoes[desfecho(resultado).ordinal()].add(intervaloAmostragem);
+  }
+
+  public void registrarProcessamento(ResultadoProcessamento resultado, long inicio) {
+    Desfecho desfecho = desfecho(resultado);
+    if (desfecho != null) {
+      processamentos[desfecho.ordinal()].increment();
+    }
+    if (inicio != NAO_AMOSTRADO) {
+      latenciaProcessamento.registrar(System.nanoTime() - inicio);
+    }
+  }
+
+  /**
+   * Lê todos os contadores e histogramas. Cada contagem é exata no momento
+   * em que é lida; o conjunto não é uma fotografia atômica.
+   */
+  public InstantaneoMetricas instantaneo() {
+    return new InstantaneoMetricas(
+        ler(validacoes),
+        ler(processamentos),
+        latenciaValidacao.resumir(),
+        latenciaProcessamento.resumir());
+  }
+
+  /**
+   * Exporta o instantâneo em texto, uma métrica por linha, no formato de
+   * exposição do Prometheus: cada família precedida da sua linha
+   * {@code # TYPE}, e as latências como summary com o rótulo
+   * {@code quantile}.
+   */
+  public String exportarTexto() {
+    InstantaneoMetricas instantaneo = instantaneo();
+    StringBuilder texto = new StringBuilder(1024);
+    contadores(texto, "convite_validacoes_total", instantaneo.validacoes());
+    contadores(texto, "convite_respostas_total", instantaneo.processamentos());
+    latencia(texto, "convite_validacao_latencia_nanos", instantaneo.latenciaValidacao());
+    latencia(texto, "convite_resposta_latencia_nanos", instantaneo.latenciaProcessamento());
+    return texto.toString();
+  }
+
+  private static Desfecho desfecho(ResultadoValidacao resultado) {
+    if (resultado == ResultadoValidacao.VALIDO) {
+      return Desfecho.VALIDO;
+    }
+    if (resultado == ResultadoValidacao.TOKEN_INVALIDO) {
+      return Desfecho.TOKEN_INVALIDO;
+    }
+    if (resultado == ResultadoValidacao.TOKEN_EXPIRADO) {
+      return Desfecho.TOKEN_EXPIRADO;
+    }
+    return Desfecho.EVENTO_LOTADO;
+  }
+
+  /**
+   * Os resultados são constantes compartilhadas, então a identificação é
+   * por referência.
+   */
+  private static Desfecho desfecho(ResultadoProcessamento resultado) {
+    if (resultado == ResultadoProcessamento.CONFIRMADO) {
+      return Desfecho.CONFIRMADO;
+    }
+    if (resultado == ResultadoProcessamento.RECUSA_REGISTRADA) {
+      return Desfecho.RECUSADO;
+    }
+    if (resultado == ResultadoProcessamento.JA_RESPONDIDO) {
+      return Desfecho.JA_RESPONDIDO;
+    }
+    if (resultado == ResultadoProcessamento.EVENTO_LOTADO) {
+      return Desfecho.EVENTO_LOTADO;
+    }
+    if (resultado == ResultadoProcessamento.PARTICIPANTE_DUPLICADO) {
+      return Desfecho.PARTICIPANTE_DUPLICADO;
+    }
+    if (resultado == ResultadoProcessamento.EM_LISTA_ESPERA) {
+      return Desfecho.EM_LISTA_ESPERA;
+    }
+    if (resultado == ResultadoProcessamento.JA_EM_LISTA_ESPERA) {
+      return Desfecho.JA_EM_LISTA_ESPERA;
+    }
+    if (resultado == ResultadoProcessamento.RESPOSTA_EM_ANDAMENTO) {
+      return Desfecho.RESPOSTA_EM_ANDAMENTO;
+    }
+    if (resultado == ResultadoProcessamento.LIMITE_EXCEDIDO) {
+      return Desfecho.LIMITE_EXCEDIDO;
+    }
+    return null;
+  }
+
+  private static Map<Desfecho, Long> ler(LongAdder[] contadores) {
+    Map<Desfecho, Long> totais = new EnumMap<>(Desfecho.class);
+    for (Desfecho desfecho : DESFECHOS) {
+      long total = contadores[desfecho.ordinal()].sum();
+      if (total > 0) {
+        totais.put(desfecho, total);
+      }
+    }
+    return Collections.unmodifiableMap(totais);
+  }
+
+  private static void contadores(StringBuilder texto, String nome, Map<Desfecho, Long> totais) {
+    if (totais.isEmpty()) {
+      return;
+    }
+    tipo(texto, nome, "counter");
+    totais.forEach((desfecho, total) -> linha(texto, nome + "{desfecho=\"" + desfecho + "\"}", total));
+  }
+
+  private static void latencia(StringBuilder texto, String nome, ResumoLatencia resumo) {
+    tipo(texto, nome, "summary");
+    linha(texto, nome + "{quantile=\"0.5\"}", resumo.p50Nanos());
+    linha(texto, nome + "{quantile=\"0.99\"}", resumo.p99Nanos());
+    linha(texto, nome + "{quantile=\"0.999\"}", resumo.p999Nanos());
+    tipo(texto, nome + "_max", "gauge");
+    linha(texto, nome + "_max", resumo.maximoNanos());
+    tipo(texto, nome + "_amostras", "counter");
+    linha(texto, nome + "_amostras", resumo.amostras());
+  }
+
+  private static void tipo(StringBuilder texto, String nome, String tipo) {
+    texto.append("# TYPE ").append(nome).append(' ').append(tipo).append('\n');
+  }
+
+  private static void linha(StringBuilder texto, String nome, long valor) {
+    texto.append(nome).append(' ').append(valor).append('\n');
+  }
+
+  private static LongAdder[] novosContadores() {
+    LongAdder[] contadores = new LongAdder[DESFECHOS.length];
+    for (int i = 0; i < contadores.length; i++) {
+      contadores[i] = new LongAdder();
+    }
+    return contadores;
+  }
+}
@@ -0,0 +1,733 @@
+package com.bootcamp.eventos.persistencia;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.OuvinteAlteracaoEvento;
+import com.bootcamp.eventos.dominio.OuvinteParticipacaoEvento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dto.EstadoRestaurado;
+import com.bootcamp.eventos.tempo.FonteTempo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Diário (journal) append-only das respostas a convites, para recuperação
+ * após reinício.
+ *
+ * Os registros são gravados em segmentos {@code diario-NNNNNNNN.log} de
+ * tamanho fixo, mapeados em memória. Cada registro tem o formato
+ * {@code [int tamanho][int crc32c][byte tipo][campos]}; um tamanho 0 marca o
+ * fim dos dados do segmento. Cada abertura começa um segmento novo, então um
+ * registro incompleto deixado por uma queda fica sempre no fim de um
+ * segmento e é descartado na reprodução pela verificação do CRC.
+ *
+ * O registro é codificado fora do lock em um buffer de um pool pequeno de
+ * codificadores reaproveitados (virtual threads não aproveitariam um
+ * ThreadLocal). A gravação copia o registro já codificado para o
+ * mapeamento sob um lock curto e devolve a sua posição. A durabilidade é
+ * separada: quem precisa dela chama {@link #aguardarDurabilidade(long)}, e
+ * uma única thread sincroniza em disco tudo o que foi gravado até o momento
+ * (commit em grupo), liberando de uma vez todas as threads que aguardavam
+ * posições cobertas por essa sincronização.
+ *
+ * {@link #reproduzir(Path)} lê os segmentos em ordem e reconstrói eventos e
+ * convites.
+ */
+public class Diario implements AutoCloseable {
+
+  public static final int TAMANHO_SEGMENTO_PADRAO = 64 * 1024 * 1024;
+
+  /**
+   * Mensagem da falha depois da gravação e antes da confirmação de
+   * durabilidade: o registro pode ou não sobreviver a uma queda.
+   */
+  public static final String RESULTADO_INCERTO = "Resposta gravada sem confirmação de durabilidade";
+
+  private static final int CABECALHO = 8; // tamanho + crc
+  private static final Pattern NOME_SEGMENTO = Pattern.compile("diario-(\\d{8})\\.log");
+
+  private final Path diretorio;
+  private final int tamanhoSegmento;
+  private final OuvinteAlteracaoEvento ouvinteEdicao = (evento, campo) -> registrarEvento(evento);
+  private final OuvinteParticipacaoEvento ouvinteParticipacao = new OuvinteParticipacaoEvento() {
+    @Override
+    public void aoConfirmar(Evento evento, Participante participante) {
+      registrarConfirmacao(evento, participante);
+    }
+
+    @Override
+    public void aoCancelar(Evento evento, String nome) {
+      registrarCancelamento(evento, nome);
+    }
+  };
+  // Codificadores livres; vazio = em uso ou ainda não criado
+  private final AtomicReferenceArray<Codificador> codificadores;
+  private final int mascaraCodificadores;
+
+  // Protegidos por escrita
+  private final ReentrantLock escrita = new ReentrantLock();
+  private final List<MappedByteBuffer> segmentosCompletos = new ArrayList<>();
+  private MappedByteBuffer segmento;
+  private int numeroSegmento;
+  private long baseSegmento;
+  private long posicaoEscrita;
+  private volatile boolean ativo = true;
+  private volatile long registros;
+
+  // Protegidos por monitor
+  private final Object monitor = new Object();
+  private long posicaoPedida;
+  private volatile long posicaoDuravel;
+  private volatile long sincronizacoes;
+  private boolean fechado;
+
+  // Usados apenas pela thread que sincroniza
+  private MappedByteBuffer ultimoSincronizado;
+  private int fimSincronizado;
+
+  private final Thread sincronizador;
+
+  public Diario(Path diretorio) {
+    this(diretorio, TAMANHO_SEGMENTO_PADRAO);
+  }
+
+  /**
+   * @param diretorio       Diretório dos segmentos (criado se não existir)
+   * @param tamanhoSegmento Tamanho, em bytes, de cada segmento
+   */
+  public Diario(Path diretorio, int tamanhoSegmento) {
+    if (diretorio == null) {
+      throw new IllegalArgumentException("Diretório do diário não pode ser nulo");
+    }
+    if (tamanhoSegmento < 1024) {
+      throw new IllegalArgumentException("Tamanho do segmento deve ser de pelo menos 1024 bytes");
+    }
+
+    this.diretorio = diretorio;
+    this.tamanhoSegmento = tamanhoSegmento;
+    int tamanhoPool = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2;
+    this.codificadores = new AtomicReferenceArray<>(tamanhoPool);
+    this.mascaraCodificadores = tamanhoPool - 1;
+    try {
+      Files.createDirectories(diretorio);
+      List<Path> existentes = listarSegmentos(diretorio);
+      this.numeroSegmento = existentes.isEmpty()
+          ? 0
+          : numeroDoSegmento(existentes.get(existentes.size() - 1)) + 1;
+      this.segmento = mapearSegmento(numeroSegmento);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Falha ao abrir o diário em " + diretorio, e);
+    }
+
+    this.sincronizador = Thread.ofPlatform()
+        .name("diario-sincronizador")
+        .daemon(true)
+        .start(this::executarSincronizacao);
+  }
+
+  /**
+   * Grava o estado atual do evento (criação ou edição).
+   *
+   * @return Posição do registro, para {@link #aguardarDurabilidade(long)}
+   */
+  public long registrarEvento(Evento evento) {
+    Integer limite = evento.getLimiteParticipantes();
+    return anexar(obterCodificador()
+        .iniciar(TipoRegistro.EVENTO)
+        .texto(evento.getId())
+        .texto(evento.getNome())
+        .inteiro(limite == null ? -1 : limite)
+        .longo(evento.getDataEpochMillis()));
+  }
+
+  /**
+   * Grava o evento e passa a gravar automaticamente as suas edições de
+   * nome, data e limite, as confirmações feitas diretamente no evento e os
+   * cancelamentos de participação. Como as edições, esses registros não
+   * aguardam a durabilidade.
+   */
+  public long acompanhar(Evento evento) {
+    evento.adicionarOuvinteAlteracao(ouvinteEdicao);
+    evento.adicionarOuvinteParticipacao(ouvinteParticipacao);
+    return registrarEvento(evento);
+  }
+
+  /**
+   * Grava a emissão de um convite. O evento deve ter sido gravado antes.
+   */
+  public long registrarConvite(Convite convite) {
+    return anexar(obterCodificador()
+        .iniciar(TipoRegistro.CONVITE)
+        .texto(convite.getToken())
+        .texto(convite.getEvento().getId())
+        .longo(convite.getExpiracaoEpochMillis()));
+  }
+
+  /**
+   * Grava a resposta de um convite aceito ou recusado, ou com a resposta
+   * decidida e ainda não definitiva. A aceitação implica a confirmação do
+   * participante no evento; a recusa por lotação é gravada sem o motivo.
+   */
+  public long registrarResposta(Convite convite) {
+    if (!convite.temRespostaDecidida()) {
+      throw new IllegalArgumentException("Convite ainda não foi respondido");
+    }
+
+    Participante participante = convite.getParticipante();
+    if (participante != null) {
+      return anexar(obterCodificador()
+          .iniciar(TipoRegistro.CONVITE_ACEITO)
+          .texto(convite.getToken())
+          .texto(participante.nome())
+          .texto(participante.observacao()));
+    }
+    if (convite.foiRecusadoPorLotacao()) {
+      return anexar(obterCodificador()
+          .iniciar(TipoRegistro.CONVITE_RECUSADO_LOTACAO)
+          .texto(convite.getToken()));
+    }
+    return anexar(obterCodificador()
+        .iniciar(TipoRegistro.CONVITE_RECUSADO)
+        .texto(convite.getToken())
+        .texto(convite.getMotivoRecusa()));
+  }
+
+  /**
+   * Grava uma confirmação feita diretamente no evento, sem convite
+   * (automática para eventos acompanhados).
+   */
+  public long registrarConfirmacao(Evento evento, Participante participante) {
+    return anexar(obterCodificador()
+        .iniciar(TipoRegistro.PARTICIPANTE_CONFIRMADO)
+        .texto(evento.getId())
+        .texto(participante.nome())
+        .texto(participante.observacao()));
+  }
+
+  /**
+   * Grava o cancelamento da participação de um confirmado (automático para
+   * eventos acompanhados).
+   */
+  public long registrarCancelamento(Evento evento, String nome) {
+    return anexar(obterCodificador()
+        .iniciar(TipoRegistro.PARTICIPANTE_CANCELADO)
+        .texto(evento.getId())
+        .texto(nome));
+  }
+
+  /**
+   * Bloqueia até que tudo o que foi gravado até {@code posicao} esteja em
+   * disco. Chamadas concorrentes são atendidas pela mesma sincronização.
+   */
+  public void aguardarDurabilidade(long posicao) {
+    if (posicaoDuravel >= posicao) {
+      return;
+    }
+
+    synchronized (monitor) {
+      if (posicao > posicaoPedida) {
+        posicaoPedida = posicao;
+        monitor.notifyAll();
+      }
+      while (posicaoDuravel < posicao) {
+        if (fechado) {
+          throw new IllegalStateException("Diário fechado");
+        }
+        try {
+          monitor.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Espera pela durabilidade interrompida", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Retorna quantos registros foram gravados desde a abertura.
+   */
+  public long getRegistros() {
+    return registros;
+  }
+
+  /**
+   * Retorna quantas sincronizações em disco foram feitas desde a abertura.
+   */
+  public long getSincronizacoes() {
+    return sincronizacoes;
+  }
+
+  /**
+   * Sincroniza o que falta e encerra a thread de sincronização. Gravações
+   * posteriores lançam IllegalStateException.
+   */
+  @Override
+  public void close() {
+    escrita.lock();
+    try {
+      if (!ativo) {
+        return;
+      }
+      ativo = false;
+    } finally {
+      escrita.unlock();
+    }
+
+    synchronized (monitor) {
+      monitor.notifyAll();
+    }
+    // A sincronização final não é abandonada: quem aguarda durabilidade só
+    // é liberado por ela. A interrupção é restaurada ao final.
+    boolean interrompido = false;
+    while (true) {
+      try {
+        sincronizador.join();
+        break;
+      } catch (InterruptedException e) {
+        interrompido = true;
+      }
+    }
+
+    long alvo = sincronizar();
+    synchronized (monitor) {
+      posicaoDuravel = alvo;
+      fechado = true;
+      monitor.notifyAll();
+    }
+    if (interrompido) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Reconstrói eventos e convites a partir dos segmentos do diretório. A
+   * leitura de cada segmento para no primeiro registro incompleto ou
+   * corrompido.
+   */
+  public static EstadoRestaurado reproduzir(Path diretorio) {
+    Reproducao reproducao = new Reproducao();
+    try {
+      if (Files.isDirectory(diretorio)) {
+        for (Path arquivo : listarSegmentos(diretorio)) {
+          try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            reproducao.lerSegmento(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Falha ao reproduzir o diário em " + diretorio, e);
+    }
+
+    reproducao.restaurarParticipantes();
+    return new EstadoRestaurado(
+        Collections.unmodifiableMap(reproducao.eventos),
+        Collections.unmodifiableMap(reproducao.convites),
+        reproducao.registros);
+  }
+
+  private long anexar(Codificador codificador) {
+    try {
+      ByteBuffer registro = codificador.finalizar();
+      int tamanho = registro.remaining();
+      if (tamanho > tamanhoSegmento) {
+        throw new IllegalArgumentException("Registro maior que o segmento do diário");
+      }
+
+      escrita.lock();
+      try {
+        if (!ativo) {
+          throw new IllegalStateException("Diário fechado");
+        }
+        if (segmento.remaining() < tamanho) {
+          trocarSegmento();
+        }
+        segmento.put(registro);
+        posicaoEscrita = baseSegmento + segmento.position();
+        registros++;
+        return posicaoEscrita;
+      } finally {
+        escrita.unlock();
+      }
+    } finally {
+      devolverCodificador(codificador);
+    }
+  }
+
+  /**
+   * Retira um codificador livre do pool, começando pela posição da thread
+   * para espalhar threads distintas; cria um novo se todos estiverem em uso.
+   * Um codificador que falhe antes de {@link #anexar} (texto longo demais)
+   * não volta ao pool e é substituído depois.
+   */
+  private Codificador obterCodificador() {
+    int inicio = (int) Thread.currentThread().threadId();
+    for (int i = 0; i <= mascaraCodificadores; i++) {
+      Codificador codificador = codificadores.getAndSet((inicio + i) & mascaraCodificadores, null);
+      if (codificador != null) {
+        return codificador;
+      }
+    }
+    return new Codificador();
+  }
+
+  /**
+   * Devolve o codificador a uma posição vazia; com o pool cheio, ele é
+   * descartado.
+   */
+  private void devolverCodificador(Codificador codificador) {
+    int inicio = (int) Thread.currentThread().threadId();
+    for (int i = 0; i <= mascaraCodificadores; i++) {
+      if (codificadores.compareAndSet((inicio + i) & mascaraCodificadores, null, codificador)) {
+        return;
+      }
+    }
+  }
+
+  private void trocarSegmento() {
+    try {
+      MappedByteBuffer novo = mapearSegmento(numeroSegmento + 1);
+      segmentosCompletos.add(segmento);
+      segmento = novo;
+      numeroSegmento++;
+      baseSegmento += tamanhoSegmento;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Falha ao criar segmento do diário", e);
+    }
+  }
+
+  private MappedByteBuffer mapearSegmento(int numero) throws IOException {
+    Path arquivo = diretorio.resolve(String.format("diario-%08d.log", numero));
+    try (FileChannel canal = FileChannel.open(arquivo,
+        StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoSegmento);
+    }
+  }
+
+  private void executarSincronizacao() {
+    while (true) {
+      synchronized (monitor) {
+        while (ativo && posicaoPedida <= posicaoDuravel) {
+          try {
+            monitor.wait();
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+        if (!ativo) {
+          return;
+        }
+      }
+
+      long alvo = sincronizar();
+      synchronized (monitor) {
+        posicaoDuravel = alvo;
+        monitor.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Força em disco os segmentos completos pendentes e o trecho novo do
+   * segmento atual.
+   *
+   * @return Posição até a qual os dados estão duráveis
+   */
+  private long sincronizar() {
+    List<MappedByteBuffer> completos;
+    MappedByteBuffer atual;
+    long alvo;
+    int fim;
+    escrita.lock();
+    try {
+      completos = segmentosCompletos.isEmpty() ? List.of() : new ArrayList<>(segmentosCompletos);
+      segmentosCompletos.clear();
+      atual = segmento;
+      alvo = posicaoEscrita;
+      fim = segmento.position();
+    } finally {
+      escrita.unlock();
+    }
+
+    for (MappedByteBuffer completo : completos) {
+      completo.force();
+    }
+    if (atual != ultimoSincronizado) {
+      ultimoSincronizado = atual;
+      fimSincronizado = 0;
+    }
+    if (fim > fimSincronizado) {
+      atual.force(fimSincronizado, fim - fimSincronizado);
+      fimSincronizado = fim;
+    }
+    sincronizacoes++;
+    return alvo;
+  }
+
+  private static List<Path> listarSegmentos(Path diretorio) throws IOException {
+    try (Stream<Path> arquivos = Files.list(diretorio)) {
+      return arquivos
+          .filter(arquivo -> NOME_SEGMENTO.matcher(arquivo.getFileName().toString()).matches())
+          .sorted()
+          .toList();
+    }
+  }
+
+  private static int numeroDoSegmento(Path arquivo) {
+    Matcher matcher = NOME_SEGMENTO.matcher(arquivo.getFileName().toString());
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Arquivo não é um segmento do diário: " + arquivo);
+    }
+    return Integer.parseInt(matcher.group(1));
+  }
+
+  /**
+   * Buffer de codificação reaproveitado por thread: o registro é montado e
+   * tem o CRC calculado fora do lock de escrita.
+   */
+  private static final class Codificador {
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    Codificador iniciar(TipoRegistro tipo) {
+      buffer.clear();
+      buffer.position(CABECALHO);
+      buffer.put(tipo.getCodigo());
+      return this;
+    }
+
+    Codificador texto(String valor) {
+      if (valor == null) {
+        garantir(Short.BYTES);
+        buffer.putShort((short) -1);
+        return this;
+      }
+
+      // Caminho sem alocação para textos ASCII (tokens, ids e a maioria dos nomes)
+      int comprimento = valor.length();
+      if (comprimento <= Short.MAX_VALUE) {
+        garantir(Short.BYTES + comprimento);
+        int inicio = buffer.position();
+        buffer.putShort((short) comprimento);
+        int i = 0;
+        while (i < comprimento && valor.charAt(i) < 0x80) {
+          buffer.put((byte) valor.charAt(i++));
+        }
+        if (i == comprimento) {
+          return this;
+        }
+        buffer.position(inicio);
+      }
+
+      byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+      if (bytes.length > Short.MAX_VALUE) {
+        throw new IllegalArgumentException("Texto muito longo para o diário");
+      }
+      garantir(Short.BYTES + bytes.length);
+      buffer.putShort((short) bytes.length);
+      buffer.put(bytes);
+      return this;
+    }
+
+    Codificador inteiro(int valor) {
+      garantir(Integer.BYTES);
+      buffer.putInt(valor);
+      return this;
+    }
+
+    Codificador longo(long valor) {
+      garantir(Long.BYTES);
+      buffer.putLong(valor);
+      return this;
+    }
+
+    ByteBuffer finalizar() {
+      int tamanho = buffer.position() - CABECALHO;
+      crc.reset();
+      crc.update(buffer.array(), CABECALHO, tamanho);
+      buffer.putInt(0, tamanho);
+      buffer.putInt(Integer.BYTES, (int) crc.getValue());
+      return buffer.flip();
+    }
+
+    private void garantir(int bytes) {
+      if (buffer.remaining() < bytes) {
+        ByteBuffer maior = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        maior.put(buffer);
+        buffer = maior;
+      }
+    }
+  }
+
+  /**
+   * Aplica os registros em ordem, reconstruindo o estado.
+   */
+  private static final class Reproducao {
+    final Map<String, Evento> eventos = new HashMap<>();
+    final Map<String, Convite> convites = new HashMap<>();
+    // evento -> nome -> confirmações menos cancelamentos, na ordem da primeira
+    final Map<String, Map<String, Confirmacoes>> confirmacoes = new LinkedHashMap<>();
+    final CRC32C crc = new CRC32C();
+    byte[] bytesTexto = new byte[256];
+    long registros;
+
+    void lerSegmento(ByteBuffer dados) {
+      int posicao = 0;
+      int limite = dados.capacity();
+      while (posicao + CABECALHO <= limite) {
+        int tamanho = dados.getInt(posicao);
+        if (tamanho <= 0 || tamanho > limite - posicao - CABECALHO) {
+          return; // fim dos dados ou cabeçalho incompleto
+        }
+
+        int inicio = posicao + CABECALHO;
+        crc.reset();
+        crc.update(dados.limit(inicio + tamanho).position(inicio));
+        dados.limit(limite);
+        if ((int) crc.getValue() != dados.getInt(posicao + Integer.BYTES)) {
+          return; // registro incompleto: queda durante a gravação
+        }
+
+        dados.position(inicio);
+        aplicar(dados);
+        registros++;
+        posicao = inicio + tamanho;
+      }
+    }
+
+    private void aplicar(ByteBuffer dados) {
+      TipoRegistro tipo = TipoRegistro.deCodigo(dados.get());
+      switch (tipo) {
+        case EVENTO -> aplicarEvento(texto(dados), texto(dados), dados.getInt(), dados.getLong());
+        case CONVITE -> {
+          String token = texto(dados);
+          Evento evento = evento(texto(dados));
+          long expiracao = dados.getLong();
+          convites.put(token, new Convite(evento, token,
+              expiracao == Long.MIN_VALUE ? null : FonteTempo.deEpochMillis(expiracao)));
+        }
+        case CONVITE_ACEITO -> {
+          Convite convite = convite(texto(dados));
+          Participante participante = new Participante(texto(dados), texto(dados));
+          confirmar(convite.getEvento(), participante);
+          convite.marcarComoAceito(participante);
+        }
+        case CONVITE_RECUSADO -> {
+          Convite convite = convite(texto(dados));
+          convite.marcarComoRecusado(texto(dados));
+        }
+        case CONVITE_RECUSADO_LOTACAO -> convite(texto(dados)).marcarComoRecusadoPorLotacao();
+        case PARTICIPANTE_CONFIRMADO -> {
+          Evento evento = evento(texto(dados));
+          confirmar(evento, new Participante(texto(dados), texto(dados)));
+        }
+        case PARTICIPANTE_CANCELADO -> saldo(evento(texto(dados)), texto(dados)).saldo--;
+      }
+    }
+
+    private void aplicarEvento(String id, String nome, int limite, long dataEpochMillis) {
+      Integer limiteParticipantes = limite < 0 ? null : limite;
+      LocalDateTime data = FonteTempo.deEpochMillis(dataEpochMillis);
+      Evento evento = eventos.get(id);
+      if (evento == null) {
+        eventos.put(id, Evento.restaurar(id, nome, limiteParticipantes, data));
+        return;
+      }
+
+      // Edição posterior: aplica apenas os campos que mudaram
+      if (!Objects.equals(nome, evento.getNome())) {
+        evento.setNome(nome);
+      }
+      if (!Objects.equals(limiteParticipantes, evento.getLimiteParticipantes())) {
+        evento.setLimiteParticipantes(limiteParticipantes);
+      }
+      if (dataEpochMillis != evento.getDataEpochMillis()) {
+        evento.restaurarData(data);
+      }
+    }
+
+    private void confirmar(Evento evento, Participante participante) {
+      Confirmacoes confirmacoes = saldo(evento, participante.nome());
+      confirmacoes.participante = participante;
+      confirmacoes.saldo++;
+    }
+
+    private Confirmacoes saldo(Evento evento, String nome) {
+      return confirmacoes.computeIfAbsent(evento.getId(), id -> new LinkedHashMap<>())
+          .computeIfAbsent(nome, n -> new Confirmacoes());
+    }
+
+    /**
+     * Registra nos eventos os nomes com mais confirmações que cancelamentos.
+     * A ordem do diário não é a ordem em que as vagas foram ocupadas (um
+     * cancelamento pode ser gravado depois da confirmação que ocupou a sua
+     * vaga, e o limite pode ter sido reduzido depois), então as confirmações
+     * não passam pela checagem de capacidade.
+     */
+    void restaurarParticipantes() {
+      confirmacoes.forEach((id, porNome) -> {
+        Evento evento = eventos.get(id);
+        for (Confirmacoes confirmacoes : porNome.values()) {
+          if (confirmacoes.saldo > 0) {
+            evento.restaurarParticipante(confirmacoes.participante);
+          }
+        }
+      });
+    }
+
+    private Evento evento(String id) {
+      Evento evento = eventos.get(id);
+      if (evento == null) {
+        throw new IllegalStateException("Diário referencia evento desconhecido: " + id);
+      }
+      return evento;
+    }
+
+    private Convite convite(String token) {
+      Convite convite = convites.get(token);
+      if (convite == null) {
+        throw new IllegalStateException("Diário referencia convite desconhecido: " + token);
+      }
+      return convite;
+    }
+
+    private String texto(ByteBuffer dados) {
+      short tamanho = dados.getShort();
+      if (tamanho < 0) {
+        return null;
+      }
+      if (tamanho > bytesTexto.length) {
+        bytesTexto = new byte[Short.MAX_VALUE];
+      }
+      dados.get(bytesTexto, 0, tamanho);
+      return new String(bytesTexto, 0, tamanho, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static final class Confirmacoes {
+    Participante participante; // a confirmação mais recente do nome
+    int saldo;
+  }
+}
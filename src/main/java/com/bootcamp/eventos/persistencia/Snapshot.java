@@ -0,0 +1,512 @@
+package com.bootcamp.eventos.persistencia;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dto.EstadoRestaurado;
+import com.bootcamp.eventos.tempo.FonteTempo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot binário compacto de eventos, participantes e convites.
+ *
+ * Formato ({@code v} = inteiro sem sinal de tamanho variável, LEB128):
+ * <pre>
+ * int  MAGICO, short VERSAO
+ * v    quantidade de eventos
+ *      evento: texto id, texto nome, v limite (0 = sem limite, n + 1),
+ *              long data (epoch ms), participantes (texto nome, texto
+ *              observação)... terminados por texto nulo
+ * v    quantidade de convites
+ *      convite: texto token, v índice do evento, long expiração (epoch ms),
+ *               byte estado, [texto nome, texto observação | texto motivo]
+ *               (estado 3, recusa por lotação, não grava o motivo)
+ * int  CRC32C de tudo o que vem antes
+ * </pre>
+ *
+ * Textos usam dicionário incremental: {@code v 0} é nulo, {@code v 1} é um
+ * texto novo ({@code v tamanho} + UTF-8) que entra no dicionário,
+ * {@code v 2} é um texto que não se repete (ids e tokens) e fica fora do
+ * dicionário, e {@code v n + 3} referencia o n-ésimo texto do dicionário.
+ * Nomes, observações e motivos repetidos ocupam poucos bytes e a gravação é
+ * feita em uma única passada, então o snapshot pode ser tirado com o
+ * sistema em execução (cada objeto é lido no estado em que estiver naquele
+ * momento).
+ *
+ * Cada convite é gravado com a resposta decidida, mesmo que ainda aguarde a
+ * durabilidade no diário: o participante de um aceite decidido já está no
+ * evento. As respostas são lidas antes dos participantes, então um aceite
+ * gravado tem o participante no evento, exceto se cancelado nesse meio
+ * tempo; um participante confirmado depois da leitura aparece no evento
+ * com o convite ainda pendente.
+ *
+ * A gravação vai para um arquivo temporário que substitui o destino de forma
+ * atômica, e o diretório é sincronizado depois da troca. A carga lê o arquivo por um {@link FileChannel} em um buffer
+ * direto de tamanho fixo e cria diretamente os objetos de domínio, sem
+ * representação intermediária.
+ */
+public final class Snapshot {
+
+  private static final int MAGICO = 0x45565350; // "EVSP"
+  private static final short VERSAO = 1;
+  private static final int TAMANHO_BUFFER = 1 << 20;
+
+  private static final int TEXTO_NULO = 0;
+  private static final int TEXTO_NOVO = 1;
+  private static final int TEXTO_UNICO = 2;
+  private static final int PRIMEIRA_REFERENCIA = 3;
+
+  private static final byte PENDENTE = 0;
+  private static final byte ACEITO = 1;
+  private static final byte RECUSADO = 2;
+  private static final byte RECUSADO_LOTACAO = 3;
+
+  private Snapshot() {
+  }
+
+  /**
+   * Grava o snapshot. Todo convite deve pertencer a um dos eventos.
+   *
+   * @return Tamanho do arquivo gravado, em bytes
+   */
+  public static long gravar(Path arquivo, Collection<Evento> eventos, Collection<Convite> convites) {
+    if (arquivo == null || eventos == null || convites == null) {
+      throw new IllegalArgumentException("Arquivo, eventos e convites não podem ser nulos");
+    }
+
+    // Respostas lidas antes dos participantes: um aceite decidido já tem o
+    // participante no evento, e só um cancelamento posterior o tira de lá
+    Convite[] lista = convites.toArray(new Convite[0]);
+    byte[] estados = new byte[lista.length];
+    Object[] respostas = new Object[lista.length]; // participante ou motivo
+    for (int i = 0; i < lista.length; i++) {
+      capturarResposta(lista[i], i, estados, respostas);
+    }
+
+    Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+    try (FileChannel canal = FileChannel.open(temporario,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      Escritor escritor = new Escritor(canal);
+      escritor.inteiro(MAGICO);
+      escritor.curto(VERSAO);
+
+      Map<Evento, Integer> indices = new IdentityHashMap<>(eventos.size());
+      escritor.variavel(eventos.size());
+      for (Evento evento : eventos) {
+        indices.put(evento, indices.size());
+        Integer limite = evento.getLimiteParticipantes();
+        escritor.textoUnico(evento.getId());
+        escritor.texto(evento.getNome());
+        escritor.variavel(limite == null ? 0 : limite + 1L);
+        escritor.longo(evento.getDataEpochMillis());
+        evento.paraCadaParticipante(participante -> {
+          escritor.texto(participante.nome());
+          escritor.texto(participante.observacao());
+        });
+        escritor.texto(null);
+      }
+
+      escritor.variavel(lista.length);
+      for (int i = 0; i < lista.length; i++) {
+        Convite convite = lista[i];
+        Integer indice = indices.get(convite.getEvento());
+        if (indice == null) {
+          throw new IllegalArgumentException("Convite " + convite.getToken() + " referencia evento fora do snapshot");
+        }
+        escritor.textoUnico(convite.getToken());
+        escritor.variavel(indice);
+        escritor.longo(convite.getExpiracaoEpochMillis());
+        escritor.byteUnico(estados[i]);
+        if (estados[i] == ACEITO) {
+          Participante participante = (Participante) respostas[i];
+          escritor.texto(participante.nome());
+          escritor.texto(participante.observacao());
+        } else if (estados[i] == RECUSADO) {
+          escritor.texto((String) respostas[i]);
+        }
+      }
+
+      escritor.finalizar();
+      canal.force(true);
+      long tamanho = canal.size();
+      Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      sincronizarDiretorio(arquivo);
+      return tamanho;
+    } catch (IOException e) {
+      apagar(temporario);
+      throw new UncheckedIOException("Falha ao gravar o snapshot em " + arquivo, e);
+    } catch (RuntimeException e) {
+      apagar(temporario);
+      throw e;
+    }
+  }
+
+  /**
+   * Carrega um snapshot gravado por {@link #gravar(Path, Collection, Collection)}.
+   *
+   * @throws IllegalStateException se o arquivo estiver truncado, corrompido
+   *                               ou em formato desconhecido
+   */
+  public static EstadoRestaurado carregar(Path arquivo) {
+    try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+      Leitor leitor = new Leitor(canal);
+      if (leitor.inteiro() != MAGICO || leitor.curto() != VERSAO) {
+        throw new IllegalStateException("Arquivo não é um snapshot suportado: " + arquivo);
+      }
+
+      int quantidadeEventos = leitor.quantidade();
+      Evento[] eventos = new Evento[quantidadeEventos];
+      Map<String, Evento> eventosPorId = new HashMap<>(capacidade(quantidadeEventos));
+      for (int i = 0; i < quantidadeEventos; i++) {
+        String id = leitor.texto();
+        String nome = leitor.texto();
+        long limite = leitor.variavel();
+        long data = leitor.longo();
+        Evento evento = Evento.restaurar(id, nome, limite == 0 ? null : (int) (limite - 1),
+            FonteTempo.deEpochMillis(data));
+
+        // Sem checagem de capacidade: um limite reduzido depois das
+        // confirmações não pode descartar participantes gravados
+        String participante;
+        while ((participante = leitor.texto()) != null) {
+          if (evento.estaConfirmado(participante)) {
+            throw new IllegalStateException("Snapshot corrompido: participante duplicado em " + id);
+          }
+          evento.restaurarParticipante(new Participante(participante, leitor.texto()));
+        }
+        eventos[i] = evento;
+        eventosPorId.put(id, evento);
+      }
+
+      int quantidadeConvites = leitor.quantidade();
+      Map<String, Convite> convitesPorToken = new HashMap<>(capacidade(quantidadeConvites));
+      for (int i = 0; i < quantidadeConvites; i++) {
+        String token = leitor.texto();
+        int indice = leitor.quantidade();
+        if (indice >= quantidadeEventos) {
+          throw new IllegalStateException("Snapshot corrompido: evento inexistente");
+        }
+        long expiracao = leitor.longo();
+        Convite convite = new Convite(eventos[indice], token,
+            expiracao == Long.MIN_VALUE ? null : FonteTempo.deEpochMillis(expiracao));
+
+        byte estado = leitor.byteUnico();
+        if (estado == ACEITO) {
+          convite.marcarComoAceito(new Participante(leitor.texto(), leitor.texto()));
+        } else if (estado == RECUSADO) {
+          convite.marcarComoRecusado(leitor.texto());
+        } else if (estado == RECUSADO_LOTACAO) {
+          convite.marcarComoRecusadoPorLotacao();
+        }
+        convitesPorToken.put(token, convite);
+      }
+
+      leitor.verificarCrc();
+      return new EstadoRestaurado(
+          Collections.unmodifiableMap(eventosPorId),
+          Collections.unmodifiableMap(convitesPorToken),
+          quantidadeEventos + (long) quantidadeConvites);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Falha ao carregar o snapshot de " + arquivo, e);
+    }
+  }
+
+  /**
+   * Estado gravado para o convite, a partir da resposta decidida (definitiva
+   * ou ainda aguardando a durabilidade no diário). O participante e o
+   * motivo vêm de leituras únicas do estado imutável do convite.
+   */
+  private static void capturarResposta(Convite convite, int i, byte[] estados, Object[] respostas) {
+    Participante participante = convite.getParticipante();
+    if (participante != null) {
+      estados[i] = ACEITO;
+      respostas[i] = participante;
+    } else if (!convite.temRespostaDecidida()) {
+      estados[i] = PENDENTE;
+    } else if (convite.foiRecusadoPorLotacao()) {
+      estados[i] = RECUSADO_LOTACAO;
+    } else {
+      estados[i] = RECUSADO;
+      respostas[i] = convite.getMotivoRecusa();
+    }
+  }
+
+  /**
+   * Sincroniza o diretório do snapshot, para que a troca do arquivo feita
+   * pelo rename também sobreviva a uma queda.
+   */
+  private static void sincronizarDiretorio(Path arquivo) throws IOException {
+    Path diretorio = arquivo.toAbsolutePath().getParent();
+    try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+      canal.force(true);
+    }
+  }
+
+  private static void apagar(Path temporario) {
+    try {
+      Files.deleteIfExists(temporario);
+    } catch (IOException e) {
+      // Mantém a falha original; o temporário é sobrescrito na próxima gravação
+    }
+  }
+
+  private static int capacidade(int elementos) {
+    return (int) Math.min(Integer.MAX_VALUE, elementos * 4L / 3 + 1);
+  }
+
+  /**
+   * Escrita bufferizada com dicionário de textos e CRC acumulado.
+   */
+  private static final class Escritor {
+    private final FileChannel canal;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+    private final CRC32C crc = new CRC32C();
+    private final Map<String, Integer> dicionario = new HashMap<>();
+
+    Escritor(FileChannel canal) {
+      this.canal = canal;
+    }
+
+    void texto(String valor) {
+      if (valor == null) {
+        variavel(TEXTO_NULO);
+        return;
+      }
+
+      Integer indice = dicionario.putIfAbsent(valor, dicionario.size());
+      if (indice != null) {
+        variavel(indice + (long) PRIMEIRA_REFERENCIA);
+        return;
+      }
+      literal(TEXTO_NOVO, valor);
+    }
+
+    /**
+     * Texto que não se repete no snapshot: gravado por extenso, sem o custo
+     * de uma entrada no dicionário.
+     */
+    void textoUnico(String valor) {
+      if (valor == null) {
+        variavel(TEXTO_NULO);
+        return;
+      }
+      literal(TEXTO_UNICO, valor);
+    }
+
+    private void literal(int codigo, String valor) {
+      byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+      variavel(codigo);
+      variavel(bytes.length);
+      if (bytes.length <= buffer.remaining()) {
+        buffer.put(bytes);
+        return;
+      }
+      esvaziar();
+      if (bytes.length <= buffer.capacity()) {
+        buffer.put(bytes);
+      } else {
+        ByteBuffer grande = ByteBuffer.wrap(bytes);
+        crc.update(grande.duplicate());
+        escreverTudo(grande);
+      }
+    }
+
+    void variavel(long valor) {
+      garantir(10);
+      while ((valor & ~0x7FL) != 0) {
+        buffer.put((byte) ((valor & 0x7F) | 0x80));
+        valor >>>= 7;
+      }
+      buffer.put((byte) valor);
+    }
+
+    void longo(long valor) {
+      garantir(Long.BYTES);
+      buffer.putLong(valor);
+    }
+
+    void inteiro(int valor) {
+      garantir(Integer.BYTES);
+      buffer.putInt(valor);
+    }
+
+    void curto(short valor) {
+      garantir(Short.BYTES);
+      buffer.putShort(valor);
+    }
+
+    void byteUnico(byte valor) {
+      garantir(1);
+      buffer.put(valor);
+    }
+
+    void finalizar() {
+      esvaziar();
+      buffer.putInt((int) crc.getValue());
+      buffer.flip();
+      escreverTudo(buffer);
+    }
+
+    private void garantir(int bytes) {
+      if (buffer.remaining() < bytes) {
+        esvaziar();
+      }
+    }
+
+    private void esvaziar() {
+      buffer.flip();
+      crc.update(buffer.duplicate());
+      escreverTudo(buffer);
+      buffer.clear();
+    }
+
+    private void escreverTudo(ByteBuffer dados) {
+      try {
+        while (dados.hasRemaining()) {
+          canal.write(dados);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Leitura sequencial do canal por um buffer direto reaproveitado. O CRC
+   * é acumulado sobre os bytes à medida que são consumidos.
+   */
+  private static final class Leitor {
+    private final FileChannel canal;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).limit(0);
+    private final CRC32C crc = new CRC32C();
+    private String[] dicionario = new String[1024];
+    private int textos;
+    private byte[] bytesTexto = new byte[256];
+    private int inicioCrc;
+
+    Leitor(FileChannel canal) {
+      this.canal = canal;
+    }
+
+    String texto() throws IOException {
+      long codigo = variavel();
+      if (codigo == TEXTO_NULO) {
+        return null;
+      }
+      if (codigo >= PRIMEIRA_REFERENCIA) {
+        if (codigo - PRIMEIRA_REFERENCIA >= textos) {
+          throw new IllegalStateException("Snapshot corrompido: texto inexistente no dicionário");
+        }
+        return dicionario[(int) (codigo - PRIMEIRA_REFERENCIA)];
+      }
+
+      int tamanho = quantidade();
+      if (tamanho > bytesTexto.length) {
+        bytesTexto = new byte[Math.max(tamanho, bytesTexto.length * 2)];
+      }
+      int lidos = 0;
+      while (lidos < tamanho) {
+        garantir(1);
+        int parte = Math.min(tamanho - lidos, buffer.remaining());
+        buffer.get(bytesTexto, lidos, parte);
+        lidos += parte;
+      }
+
+      String valor = new String(bytesTexto, 0, tamanho, StandardCharsets.UTF_8);
+      if (codigo == TEXTO_UNICO) {
+        return valor;
+      }
+      if (textos == dicionario.length) {
+        dicionario = Arrays.copyOf(dicionario, textos * 2);
+      }
+      dicionario[textos++] = valor;
+      return valor;
+    }
+
+    long variavel() throws IOException {
+      long valor = 0;
+      for (int deslocamento = 0; deslocamento < 64; deslocamento += 7) {
+        garantir(1);
+        byte atual = buffer.get();
+        valor |= (long) (atual & 0x7F) << deslocamento;
+        if (atual >= 0) {
+          return valor;
+        }
+      }
+      throw new IllegalStateException("Snapshot corrompido: inteiro variável inválido");
+    }
+
+    int quantidade() throws IOException {
+      long valor = variavel();
+      if (valor > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Snapshot corrompido: quantidade inválida");
+      }
+      return (int) valor;
+    }
+
+    long longo() throws IOException {
+      garantir(Long.BYTES);
+      return buffer.getLong();
+    }
+
+    int inteiro() throws IOException {
+      garantir(Integer.BYTES);
+      return buffer.getInt();
+    }
+
+    short curto() throws IOException {
+      garantir(Short.BYTES);
+      return buffer.getShort();
+    }
+
+    byte byteUnico() throws IOException {
+      garantir(1);
+      return buffer.get();
+    }
+
+    void verificarCrc() throws IOException {
+      acumularCrc();
+      int esperado = (int) crc.getValue();
+      if (inteiro() != esperado) {
+        throw new IllegalStateException("Snapshot corrompido: CRC não confere");
+      }
+    }
+
+    private void garantir(int bytes) throws IOException {
+      if (buffer.remaining() >= bytes) {
+        return;
+      }
+
+      acumularCrc();
+      buffer.compact();
+      while (buffer.position() < bytes) {
+        if (canal.read(buffer) < 0) {
+          throw new IllegalStateException("Snapshot truncado");
+        }
+      }
+      buffer.flip();
+      inicioCrc = 0;
+    }
+
+    private void acumularCrc() {
+      crc.update(buffer.duplicate().limit(buffer.position()).position(inicioCrc));
+      inicioCrc = buffer.position();
+    }
+  }
+}
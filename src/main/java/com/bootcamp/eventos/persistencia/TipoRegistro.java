@@ -0,0 +1,40 @@
+package com.bootcamp.eventos.persistencia;
+
+/**
+ * Tipos de registro gravados no {@link Diario}. O código é o primeiro byte
+ * do conteúdo de cada registro e não deve mudar entre versões.
+ */
+enum TipoRegistro {
+  EVENTO(1),
+  CONVITE(2),
+  CONVITE_ACEITO(3),
+  CONVITE_RECUSADO(4),
+  PARTICIPANTE_CONFIRMADO(5),
+  PARTICIPANTE_CANCELADO(6),
+  CONVITE_RECUSADO_LOTACAO(7);
+
+  private static final TipoRegistro[] POR_CODIGO = new TipoRegistro[8];
+
+  static {
+    for (TipoRegistro tipo : values()) {
+      POR_CODIGO[tipo.codigo] = tipo;
+    }
+  }
+
+  private final byte codigo;
+
+  TipoRegistro(int codigo) {
+    this.codigo = (byte) codigo;
+  }
+
+  byte getCodigo() {
+    return codigo;
+  }
+
+  static TipoRegistro deCodigo(byte codigo) {
+    if (codigo <= 0 || codigo >= POR_CODIGO.length) {
+      throw new IllegalStateException("Tipo de registro desconhecido: " + codigo);
+    }
+    return POR_CODIGO[codigo];
+  }
+}
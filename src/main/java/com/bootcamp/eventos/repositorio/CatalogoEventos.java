@@ -0,0 +1,247 @@
+package com.bootcamp.eventos.repositorio;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.OuvinteAlteracaoEvento;
+import com.bootcamp.eventos.dominio.enums.CampoEvento;
+import com.bootcamp.eventos.dto.CursorCatalogo;
+import com.bootcamp.eventos.dto.PaginaEventos;
+import com.bootcamp.eventos.tempo.FonteTempo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catálogo de eventos indexado pela data do evento.
+ *
+ * O índice é um {@link ConcurrentSkipListMap} ordenado por (data em epoch
+ * millis, sequência de inserção); a sequência desempata eventos no mesmo
+ * instante. Buscas por intervalo, paginação por cursor e "próximos N"
+ * posicionam no índice em O(log n) e percorrem apenas os eventos
+ * retornados.
+ *
+ * O catálogo se registra como {@link OuvinteAlteracaoEvento} em cada evento
+ * e move a entrada no índice quando {@link Evento#setData} altera a data:
+ * a nova entrada entra antes de a antiga sair. Leituras não bloqueiam, e
+ * uma busca concorrente com a mudança pode ver o evento na posição antiga
+ * ou na nova; se a varredura passar pelas duas, o evento é retornado uma
+ * única vez. Se a varredura cruzar a mudança no sentido contrário, o
+ * evento pode não ser retornado por aquela busca.
+ *
+ * Entre páginas não há essa garantia: um evento cuja data muda para depois
+ * do cursor volta a aparecer em uma página seguinte.
+ */
+public class CatalogoEventos {
+
+  private final NavigableMap<Chave, Evento> indice = new ConcurrentSkipListMap<>();
+  private final Map<Evento, Chave> chaves = new ConcurrentHashMap<>();
+  private final AtomicLong sequencia = new AtomicLong();
+  // Mudanças de data iniciadas e concluídas: se diferem durante uma
+  // varredura, há evento que pode estar nas duas posições
+  private final AtomicLong movimentosIniciados = new AtomicLong();
+  private final AtomicLong movimentosConcluidos = new AtomicLong();
+  private final OuvinteAlteracaoEvento ouvinte = this::aoAlterar;
+
+  /**
+   * Adiciona o evento ao catálogo.
+   *
+   * @return false se o evento já estava no catálogo
+   */
+  public boolean adicionar(Evento evento) {
+    if (evento == null) {
+      throw new IllegalArgumentException("Evento não pode ser nulo");
+    }
+
+    boolean[] adicionado = { false };
+    chaves.computeIfAbsent(evento, e -> {
+      // Ouvinte registrado antes de ler a data: uma mudança concorrente
+      // aguarda este compute e reposiciona o evento em seguida
+      e.adicionarOuvinteAlteracao(ouvinte);
+      Chave chave = new Chave(e.getDataEpochMillis(), sequencia.incrementAndGet());
+      indice.put(chave, e);
+      adicionado[0] = true;
+      return chave;
+    });
+    return adicionado[0];
+  }
+
+  /**
+   * Remove o evento do catálogo.
+   *
+   * @return false se o evento não estava no catálogo
+   */
+  public boolean remover(Evento evento) {
+    Chave chave = evento == null ? null : chaves.remove(evento);
+    if (chave == null) {
+      return false;
+    }
+
+    indice.remove(chave);
+    evento.removerOuvinteAlteracao(ouvinte);
+    return true;
+  }
+
+  /**
+   * Retorna os eventos com data em [inicio, fim), em ordem de data.
+   */
+  public List<Evento> buscarEntre(LocalDateTime inicio, LocalDateTime fim) {
+    List<Evento> eventos = new ArrayList<>();
+    coletar(intervalo(inicio, fim).entrySet().iterator(), Integer.MAX_VALUE, eventos);
+    return eventos;
+  }
+
+  /**
+   * Retorna os eventos que acontecem no dia informado.
+   */
+  public List<Evento> buscarDoDia(LocalDate dia) {
+    return buscarEntre(dia.atStartOfDay(), dia.plusDays(1).atStartOfDay());
+  }
+
+  /**
+   * Retorna os próximos {@code quantidade} eventos a partir de {@code inicio}
+   * (inclusive), em ordem de data.
+   */
+  public List<Evento> buscarProximos(LocalDateTime inicio, int quantidade) {
+    validarQuantidade(quantidade);
+    List<Evento> eventos = new ArrayList<>(Math.min(quantidade, 64));
+    coletar(indice.tailMap(Chave.inicio(FonteTempo.paraEpochMillis(inicio)), true).entrySet().iterator(),
+        quantidade, eventos);
+    return eventos;
+  }
+
+  /**
+   * Retorna uma página de eventos com data em [inicio, fim).
+   *
+   * @param apos Cursor devolvido pela página anterior, ou null para a
+   *             primeira página
+   * @return Página com até {@code tamanho} eventos e o cursor da próxima
+   *         página (null se não houver mais eventos)
+   */
+  public PaginaEventos buscarPagina(LocalDateTime inicio, LocalDateTime fim, CursorCatalogo apos, int tamanho) {
+    validarQuantidade(tamanho);
+    NavigableMap<Chave, Evento> faixa = intervalo(inicio, fim);
+    if (apos != null) {
+      faixa = faixa.tailMap(new Chave(apos.dataEpochMillis(), apos.sequencia()), false);
+    }
+
+    List<Evento> eventos = new ArrayList<>(Math.min(tamanho, 64));
+    Iterator<Map.Entry<Chave, Evento>> entradas = faixa.entrySet().iterator();
+    Chave ultima = coletar(entradas, tamanho, eventos);
+
+    CursorCatalogo proximo = ultima != null && entradas.hasNext()
+        ? new CursorCatalogo(ultima.epochMillis(), ultima.sequencia())
+        : null;
+    return new PaginaEventos(eventos, proximo);
+  }
+
+  /**
+   * Verifica se o evento está no catálogo.
+   */
+  public boolean contem(Evento evento) {
+    return evento != null && chaves.containsKey(evento);
+  }
+
+  /**
+   * Retorna a quantidade de eventos no catálogo.
+   */
+  public int tamanho() {
+    return chaves.size();
+  }
+
+  /**
+   * Reposiciona o evento no índice quando a data muda. Feito dentro do
+   * compute da chave do evento: alterações concorrentes do mesmo evento são
+   * serializadas e a última sempre lê a data vigente.
+   */
+  private void aoAlterar(Evento evento, CampoEvento campo) {
+    if (campo != CampoEvento.DATA) {
+      return;
+    }
+
+    chaves.computeIfPresent(evento, (e, antiga) -> {
+      long epochMillis = e.getDataEpochMillis();
+      if (antiga.epochMillis() == epochMillis) {
+        return antiga;
+      }
+
+      movimentosIniciados.incrementAndGet();
+      Chave nova = new Chave(epochMillis, sequencia.incrementAndGet());
+      indice.put(nova, e);
+      indice.remove(antiga);
+      movimentosConcluidos.incrementAndGet();
+      return nova;
+    });
+  }
+
+  private NavigableMap<Chave, Evento> intervalo(LocalDateTime inicio, LocalDateTime fim) {
+    if (inicio == null || fim == null) {
+      throw new IllegalArgumentException("Início e fim do intervalo não podem ser nulos");
+    }
+
+    long inicioMillis = FonteTempo.paraEpochMillis(inicio);
+    long fimMillis = FonteTempo.paraEpochMillis(fim);
+    if (fimMillis <= inicioMillis) {
+      return Collections.emptyNavigableMap();
+    }
+    return indice.subMap(Chave.inicio(inicioMillis), true, Chave.inicio(fimMillis), false);
+  }
+
+  /**
+   * Percorre as entradas até reunir {@code limite} eventos. Um evento que
+   * muda de data durante a varredura pode estar nas duas posições; a partir
+   * da primeira mudança vista (em curso no início ou iniciada depois), os
+   * eventos já reunidos são lembrados e os repetidos, descartados.
+   *
+   * @return Chave da última entrada percorrida, ou null se nenhuma
+   */
+  private Chave coletar(Iterator<Map.Entry<Chave, Evento>> entradas, int limite, List<Evento> eventos) {
+    long concluidosInicio = movimentosConcluidos.get();
+    Set<Evento> vistos = null;
+    Chave ultima = null;
+    while (eventos.size() < limite && entradas.hasNext()) {
+      Map.Entry<Chave, Evento> entrada = entradas.next();
+      ultima = entrada.getKey();
+      if (vistos == null && movimentosIniciados.get() != concluidosInicio) {
+        vistos = Collections.newSetFromMap(new IdentityHashMap<>());
+        vistos.addAll(eventos);
+      }
+      if (vistos == null || vistos.add(entrada.getValue())) {
+        eventos.add(entrada.getValue());
+      }
+    }
+    return ultima;
+  }
+
+  private static void validarQuantidade(int quantidade) {
+    if (quantidade <= 0) {
+      throw new IllegalArgumentException("Quantidade deve ser positiva");
+    }
+  }
+
+  /**
+   * Chave do índice: data do evento desempatada pela ordem de inserção.
+   */
+  private record Chave(long epochMillis, long sequencia) implements Comparable<Chave> {
+
+    /** Menor chave possível no instante informado. */
+    static Chave inicio(long epochMillis) {
+      return new Chave(epochMillis, Long.MIN_VALUE);
+    }
+
+    @Override
+    public int compareTo(Chave outra) {
+      int comparacao = Long.compare(epochMillis, outra.epochMillis);
+      return comparacao != 0 ? comparacao : Long.compare(sequencia, outra.sequencia);
+    }
+  }
+}
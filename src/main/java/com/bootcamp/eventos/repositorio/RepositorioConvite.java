@@ -0,0 +1,276 @@
+package com.bootcamp.eventos.repositorio;
+
+import com.bootcamp.eventos.dominio.Convite;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Repositório de convites indexado pelo token.
+ *
+ * Em vez de um {@code HashMap<String, Convite>} (um nó de 32 bytes por
+ * entrada), usa um índice de endereçamento aberto com sondagem linear sobre
+ * arrays primitivos:
+ * <ul>
+ * <li>{@code tabela}: slots {@code int} com o id da entrada (0 = vazio,
+ * -1 = removido);</li>
+ * <li>{@code hashes}, {@code convites}: colunas por entrada.</li>
+ * </ul>
+ * O token não é copiado: a chave é o hash mais a referência ao convite, e a
+ * igualdade é conferida com {@code convite.getToken()}, que o convite já
+ * mantém. Um convite ocupa cerca de 8 bytes de colunas mais 4 a 8 bytes de
+ * tabela, conforme a carga.
+ *
+ * Leituras usam leitura otimista de {@link StampedLock} e não bloqueiam;
+ * escritas são serializadas. Entradas removidas são compactadas quando a
+ * tabela é reconstruída.
+ */
+public class RepositorioConvite {
+
+  private static final int VAZIO = 0;
+  private static final int REMOVIDO = -1;
+  private static final float FATOR_CARGA = 0.6f;
+
+  private final StampedLock lock = new StampedLock();
+
+  private int[] tabela;
+  private int[] hashes;
+  private Convite[] convites;
+
+  private int proximaEntrada = 1; // id 0 é reservado para slot vazio
+  private int ocupados; // slots não vazios (inclui removidos)
+  private int vivos;
+
+  public RepositorioConvite() {
+    this(1024);
+  }
+
+  /**
+   * @param capacidadeEsperada Quantidade de convites esperada, para evitar
+   *                           reconstruções durante a carga inicial
+   */
+  public RepositorioConvite(int capacidadeEsperada) {
+    int slots = Integer.highestOneBit(Math.max(16, (int) (capacidadeEsperada / FATOR_CARGA)) - 1) << 1;
+    this.tabela = new int[slots];
+    int entradas = Math.max(16, capacidadeEsperada + 1);
+    this.hashes = new int[entradas];
+    this.convites = new Convite[entradas];
+  }
+
+  /**
+   * Salva (ou substitui) o convite sob o seu token.
+   *
+   * @throws IllegalArgumentException se o convite ou o token for nulo
+   */
+  public void salvar(Convite convite) {
+    String token = validarToken(convite);
+    int hash = espalhar(token.hashCode());
+
+    long stamp = lock.writeLock();
+    try {
+      int slot = localizar(token, hash, tabela, hashes, convites);
+      if (slot >= 0) {
+        convites[tabela[slot]] = convite;
+        return;
+      }
+
+      if (ocupados + 1 > tabela.length * FATOR_CARGA) {
+        reconstruir();
+      }
+      inserir(hash, convite);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Busca um convite pelo token em tempo O(1) esperado, sem alocar.
+   */
+  public Optional<Convite> buscarPorToken(String token) {
+    if (token == null) {
+      return Optional.empty();
+    }
+    int hash = espalhar(token.hashCode());
+
+    long stamp = lock.tryOptimisticRead();
+    Convite encontrado = buscarOtimista(token, hash);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        encontrado = buscarOtimista(token, hash);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    return Optional.ofNullable(encontrado);
+  }
+
+  /**
+   * Remove o convite associado ao token.
+   *
+   * @return true se havia um convite com esse token
+   */
+  public boolean remover(String token) {
+    if (token == null) {
+      return false;
+    }
+    return remover(token, null);
+  }
+
+  /**
+   * Remove o convite apenas se ele ainda for o armazenado sob o seu token
+   * (não remove um convite mais novo salvo com o mesmo token).
+   *
+   * @return true se o convite foi removido
+   */
+  public boolean remover(Convite convite) {
+    if (convite == null || convite.getToken() == null) {
+      return false;
+    }
+    return remover(convite.getToken(), convite);
+  }
+
+  private boolean remover(String token, Convite esperado) {
+    int hash = espalhar(token.hashCode());
+
+    long stamp = lock.writeLock();
+    try {
+      int slot = localizar(token, hash, tabela, hashes, convites);
+      if (slot < 0 || (esperado != null && convites[tabela[slot]] != esperado)) {
+        return false;
+      }
+      convites[tabela[slot]] = null;
+      tabela[slot] = REMOVIDO;
+      vivos--;
+      return true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Retorna a quantidade de convites armazenados.
+   */
+  public int tamanho() {
+    long stamp = lock.readLock();
+    try {
+      return vivos;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  // ==================== Índice ====================
+
+  /**
+   * Busca tolerante a escritas concorrentes: lê as referências dos arrays
+   * uma única vez e confere limites, pois o resultado só é usado se o stamp
+   * otimista ainda for válido.
+   */
+  private Convite buscarOtimista(String token, int hash) {
+    int[] tabelaAtual = tabela;
+    int[] hashesAtuais = hashes;
+    Convite[] convitesAtuais = convites;
+
+    int slot = localizar(token, hash, tabelaAtual, hashesAtuais, convitesAtuais);
+    if (slot < 0) {
+      return null;
+    }
+    int entrada = tabelaAtual[slot];
+    return entrada > 0 && entrada < convitesAtuais.length ? convitesAtuais[entrada] : null;
+  }
+
+  private static int localizar(String token, int hash, int[] tabela, int[] hashes, Convite[] convites) {
+    int mascara = tabela.length - 1;
+    for (int slot = hash & mascara, sondagens = 0; sondagens < tabela.length; slot = (slot + 1) & mascara, sondagens++) {
+      int entrada = tabela[slot];
+      if (entrada == VAZIO) {
+        return -1;
+      }
+      if (entrada > 0
+          && entrada < hashes.length
+          && entrada < convites.length
+          && hashes[entrada] == hash
+          && tokenIgual(token, convites[entrada])) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Compara com o token do convite da entrada; nula apenas numa leitura
+   * otimista que cruzou uma escrita, descartada depois pelo stamp.
+   */
+  private static boolean tokenIgual(String token, Convite convite) {
+    return convite != null && token.equals(convite.getToken());
+  }
+
+  private void inserir(int hash, Convite convite) {
+    if (proximaEntrada == hashes.length) {
+      int novoTamanho = hashes.length + (hashes.length >> 1);
+      hashes = Arrays.copyOf(hashes, novoTamanho);
+      convites = Arrays.copyOf(convites, novoTamanho);
+    }
+
+    int entrada = proximaEntrada++;
+    hashes[entrada] = hash;
+    convites[entrada] = convite;
+
+    int mascara = tabela.length - 1;
+    int slot = hash & mascara;
+    while (tabela[slot] > 0) {
+      slot = (slot + 1) & mascara;
+    }
+    if (tabela[slot] == VAZIO) {
+      ocupados++;
+    }
+    tabela[slot] = entrada;
+    vivos++;
+  }
+
+  /**
+   * Reconstrói índice e colunas, descartando entradas removidas. Dobra a
+   * tabela apenas se os convites vivos justificarem.
+   */
+  private void reconstruir() {
+    int[] tabelaAntiga = tabela;
+    int[] hashesAntigos = hashes;
+    Convite[] convitesAntigos = convites;
+    int limiteAntigo = proximaEntrada;
+
+    int slots = tabelaAntiga.length;
+    while (vivos + 1 > slots * FATOR_CARGA / 2) {
+      slots <<= 1;
+    }
+
+    tabela = new int[slots];
+    hashes = new int[Math.max(16, vivos + (vivos >> 1) + 1)];
+    convites = new Convite[hashes.length];
+    proximaEntrada = 1;
+    ocupados = 0;
+    vivos = 0;
+
+    for (int entrada = 1; entrada < limiteAntigo; entrada++) {
+      Convite convite = convitesAntigos[entrada];
+      if (convite != null) {
+        inserir(hashesAntigos[entrada], convite);
+      }
+    }
+  }
+
+  // ==================== Auxiliares ====================
+
+  private static String validarToken(Convite convite) {
+    if (convite == null || convite.getToken() == null) {
+      throw new IllegalArgumentException("Convite e token não podem ser nulos");
+    }
+    return convite.getToken();
+  }
+
+  private static int espalhar(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,286 @@
+package com.bootcamp.eventos.seguranca;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.tempo.FonteTempo;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Emite e verifica tokens de convite assinados, que se validam sem consulta
+ * a repositório.
+ *
+ * O token é o Base64 URL (sem padding) de:
+ * <pre>
+ * [versão: 1 byte][expiração: long epoch ms][nonce: 8 bytes][tamanho do id: 1 byte][id do evento: ASCII][HMAC: 16 bytes]
+ * </pre>
+ * O HMAC-SHA256 (RFC 2104), truncado em 128 bits, cobre todos os bytes
+ * anteriores. O nonce aleatório torna único o token de cada convite, mesmo
+ * para convites do mesmo evento com a mesma expiração.
+ *
+ * A verificação não aloca: o {@link MessageDigest} SHA-256 e os buffers
+ * vêm de um pool pequeno de estados reaproveitados (virtual threads não
+ * aproveitariam um ThreadLocal), o token é decodificado caractere a
+ * caractere e o HMAC é calculado sobre as chaves internas e externas já
+ * preparadas. A comparação do HMAC leva tempo constante.
+ */
+public class AssinadorToken {
+
+  /** Retorno de {@link #verificar} para token ilegítimo. */
+  public static final long INVALIDO = Long.MIN_VALUE;
+
+  private static final byte VERSAO = 2;
+  private static final int TAMANHO_MINIMO_CHAVE = 32;
+  private static final int BLOCO_SHA256 = 64;
+  private static final int TAMANHO_HMAC = 16;
+  private static final int TAMANHO_NONCE = 8;
+  private static final int CABECALHO = 1 + Long.BYTES + TAMANHO_NONCE + 1;
+  private static final int TAMANHO_MAXIMO_ID = 255;
+  private static final int TAMANHO_MAXIMO = CABECALHO + TAMANHO_MAXIMO_ID + TAMANHO_HMAC;
+  private static final int CARACTERES_MINIMOS = caracteres(CABECALHO + TAMANHO_HMAC);
+  private static final int CARACTERES_MAXIMOS = caracteres(TAMANHO_MAXIMO);
+  private static final byte[] BASE64_URL = base64Url();
+
+  private final byte[] chaveInterna;
+  private final byte[] chaveExterna;
+  private final SecureRandom aleatorio = new SecureRandom();
+  // Estados livres; vazio = em uso ou ainda não criado
+  private final AtomicReferenceArray<Estado> estados;
+  private final int mascaraEstados;
+
+  /**
+   * @param chave Segredo compartilhado com pelo menos 32 bytes
+   */
+  public AssinadorToken(byte[] chave) {
+    if (chave == null || chave.length < TAMANHO_MINIMO_CHAVE) {
+      throw new IllegalArgumentException("Chave deve ter pelo menos 32 bytes");
+    }
+
+    byte[] bloco = Arrays.copyOf(
+        chave.length > BLOCO_SHA256 ? novoSha256().digest(chave) : chave, BLOCO_SHA256);
+    this.chaveInterna = new byte[BLOCO_SHA256];
+    this.chaveExterna = new byte[BLOCO_SHA256];
+    for (int i = 0; i < BLOCO_SHA256; i++) {
+      chaveInterna[i] = (byte) (bloco[i] ^ 0x36);
+      chaveExterna[i] = (byte) (bloco[i] ^ 0x5c);
+    }
+
+    int tamanhoPool = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2;
+    this.estados = new AtomicReferenceArray<>(tamanhoPool);
+    this.mascaraEstados = tamanhoPool - 1;
+  }
+
+  /**
+   * Emite um token para o evento, válido até a expiração informada.
+   *
+   * @param expiracao Data de expiração gravada no token
+   * @throws IllegalArgumentException se o id do evento não for ASCII ou
+   *                                  passar de 255 caracteres
+   */
+  public String emitir(Evento evento, LocalDateTime expiracao) {
+    if (evento == null || expiracao == null) {
+      throw new IllegalArgumentException("Evento e expiração não podem ser nulos");
+    }
+    String id = evento.getId();
+    if (id.length() > TAMANHO_MAXIMO_ID || !id.chars().allMatch(c -> c < 0x80)) {
+      throw new IllegalArgumentException("Id do evento deve ser ASCII com até 255 caracteres");
+    }
+
+    ByteBuffer token = ByteBuffer.allocate(CABECALHO + id.length() + TAMANHO_HMAC);
+    token.put(VERSAO);
+    token.putLong(FonteTempo.paraEpochMillis(expiracao));
+    byte[] nonce = new byte[TAMANHO_NONCE];
+    aleatorio.nextBytes(nonce);
+    token.put(nonce);
+    token.put((byte) id.length());
+    for (int i = 0; i < id.length(); i++) {
+      token.put((byte) id.charAt(i));
+    }
+
+    Estado estado = obterEstado();
+    try {
+      assinar(estado, token.array(), token.position());
+      token.put(estado.hmac, 0, TAMANHO_HMAC);
+    } finally {
+      devolverEstado(estado);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+  }
+
+  /**
+   * Verifica a assinatura do token e se ele foi emitido para o evento.
+   *
+   * @return Expiração do token em epoch ms, ou {@link #INVALIDO}
+   */
+  public long verificar(String token, Evento evento) {
+    if (token == null || evento == null
+        || token.length() < CARACTERES_MINIMOS || token.length() > CARACTERES_MAXIMOS) {
+      return INVALIDO;
+    }
+
+    Estado estado = obterEstado();
+    try {
+      return verificar(estado, token, evento);
+    } finally {
+      devolverEstado(estado);
+    }
+  }
+
+  private long verificar(Estado estado, String token, Evento evento) {
+    byte[] bytes = estado.token;
+    int tamanho = decodificar(token, bytes);
+    if (tamanho < 0 || bytes[0] != VERSAO) {
+      return INVALIDO;
+    }
+    int tamanhoId = bytes[CABECALHO - 1] & 0xFF;
+    int assinados = CABECALHO + tamanhoId;
+    if (tamanho != assinados + TAMANHO_HMAC) {
+      return INVALIDO;
+    }
+
+    assinar(estado, bytes, assinados);
+    int diferenca = 0;
+    for (int i = 0; i < TAMANHO_HMAC; i++) {
+      diferenca |= estado.hmac[i] ^ bytes[assinados + i];
+    }
+    if (diferenca != 0 || !mesmoId(evento.getId(), bytes, tamanhoId)) {
+      return INVALIDO;
+    }
+    return lerLong(bytes, 1);
+  }
+
+  /**
+   * Retira um estado livre do pool, começando pela posição da thread para
+   * espalhar threads distintas; cria um novo se todos estiverem em uso.
+   */
+  private Estado obterEstado() {
+    int inicio = (int) Thread.currentThread().threadId();
+    for (int i = 0; i <= mascaraEstados; i++) {
+      Estado estado = estados.getAndSet((inicio + i) & mascaraEstados, null);
+      if (estado != null) {
+        return estado;
+      }
+    }
+    return new Estado();
+  }
+
+  /**
+   * Devolve o estado a uma posição vazia; com o pool cheio, ele é
+   * descartado.
+   */
+  private void devolverEstado(Estado estado) {
+    int inicio = (int) Thread.currentThread().threadId();
+    for (int i = 0; i <= mascaraEstados; i++) {
+      if (estados.compareAndSet((inicio + i) & mascaraEstados, null, estado)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * HMAC(K, m) = H((K ^ opad) || H((K ^ ipad) || m)), escrito em
+   * {@code estado.hmac}.
+   */
+  private void assinar(Estado estado, byte[] mensagem, int tamanho) {
+    MessageDigest sha256 = estado.sha256;
+    try {
+      sha256.update(chaveInterna);
+      sha256.update(mensagem, 0, tamanho);
+      sha256.digest(estado.hmac, 0, estado.hmac.length);
+      sha256.update(chaveExterna);
+      sha256.update(estado.hmac);
+      sha256.digest(estado.hmac, 0, estado.hmac.length);
+    } catch (DigestException e) {
+      throw new IllegalStateException("Falha ao calcular HMAC", e);
+    }
+  }
+
+  private static boolean mesmoId(String id, byte[] bytes, int tamanhoId) {
+    if (id.length() != tamanhoId) {
+      return false;
+    }
+    for (int i = 0; i < tamanhoId; i++) {
+      if (id.charAt(i) != bytes[CABECALHO + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Decodifica Base64 URL sem padding em {@code destino}.
+   *
+   * @return Quantidade de bytes, ou -1 se houver caractere inválido
+   */
+  private static int decodificar(String texto, byte[] destino) {
+    int comprimento = texto.length();
+    if (comprimento % 4 == 1) {
+      return -1;
+    }
+
+    int escritos = 0;
+    int acumulado = 0;
+    int bits = 0;
+    for (int i = 0; i < comprimento; i++) {
+      char c = texto.charAt(i);
+      int valor = c < BASE64_URL.length ? BASE64_URL[c] : -1;
+      if (valor < 0) {
+        return -1;
+      }
+      acumulado = (acumulado << 6) | valor;
+      bits += 6;
+      if (bits >= 8) {
+        bits -= 8;
+        destino[escritos++] = (byte) (acumulado >> bits);
+      }
+    }
+    // Bits de sobra devem ser zero para haver uma única codificação por token
+    return (acumulado & ((1 << bits) - 1)) == 0 ? escritos : -1;
+  }
+
+  private static long lerLong(byte[] bytes, int inicio) {
+    long valor = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      valor = (valor << 8) | (bytes[inicio + i] & 0xFF);
+    }
+    return valor;
+  }
+
+  private static int caracteres(int bytes) {
+    return (bytes * 8 + 5) / 6;
+  }
+
+  private static byte[] base64Url() {
+    byte[] tabela = new byte[128];
+    Arrays.fill(tabela, (byte) -1);
+    String alfabeto = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alfabeto.length(); i++) {
+      tabela[alfabeto.charAt(i)] = (byte) i;
+    }
+    return tabela;
+  }
+
+  private static MessageDigest novoSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 indisponível", e);
+    }
+  }
+
+  /**
+   * Digest e buffers de uma verificação ou emissão, reaproveitados pelo pool.
+   */
+  private static final class Estado {
+    final MessageDigest sha256 = novoSha256();
+    final byte[] token = new byte[TAMANHO_MAXIMO];
+    final byte[] hmac = new byte[32];
+  }
+}
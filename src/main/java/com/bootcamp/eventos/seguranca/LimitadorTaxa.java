@@ -0,0 +1,214 @@
+package com.bootcamp.eventos.seguranca;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de taxa por chave (token de convite, origem da requisição) com um
+ * balde de fichas para cada chave, sem locks e com memória limitada.
+ *
+ * Cada balde comporta {@code capacidade} fichas, repostas continuamente ao
+ * longo de {@code periodo}; cada requisição admitida consome uma. O balde
+ * é guardado como um único long, o instante em que volta a ficar cheio, e
+ * atualizado por compare-and-set. Os instantes vêm de um relógio monotônico
+ * ({@link System#nanoTime()}): um ajuste do relógio do sistema não esvazia
+ * nem enche os baldes.
+ *
+ * Os baldes ficam em uma tabela de tamanho fixo dividida em conjuntos de
+ * {@value #VIAS} posições, escolhidos pelo hash da chave. Chaves de
+ * conjuntos diferentes nunca disputam a mesma posição. Uma chave nova ocupa
+ * uma posição vazia ou a de um balde ocioso (já cheio de novo, portanto
+ * igual a um balde novo); se o conjunto inteiro estiver em uso, substitui o
+ * balde mais próximo de encher. Assim a tabela nunca passa de
+ * {@code maxChaves} e as chaves mais limitadas são as últimas a sair, mesmo
+ * com milhões de chaves distintas.
+ */
+public class LimitadorTaxa {
+
+  private static final int VIAS = 4;
+  private static final int MAX_CHAVES = 1 << 30;
+
+  private final long intervaloNanos;
+  private final long rajadaNanos;
+  private final LongSupplier relogioNanos;
+  private final AtomicReferenceArray<Balde> baldes;
+  private final int mascaraConjuntos;
+  private final LongAdder despejos = new LongAdder();
+
+  public LimitadorTaxa(int capacidade, Duration periodo, int maxChaves) {
+    this(capacidade, periodo, maxChaves, System::nanoTime);
+  }
+
+  /**
+   * @param capacidade Requisições admitidas em rajada por chave
+   * @param periodo    Tempo para repor todas as fichas de um balde vazio
+   * @param maxChaves    Máximo de chaves acompanhadas (arredondado para
+   *                     potência de 2, até 2^30)
+   * @param relogioNanos Relógio monotônico em nanossegundos usado na
+   *                     reposição das fichas
+   */
+  public LimitadorTaxa(int capacidade, Duration periodo, int maxChaves, LongSupplier relogioNanos) {
+    if (periodo == null || relogioNanos == null) {
+      throw new IllegalArgumentException("Período e relógio não podem ser nulos");
+    }
+    if (capacidade <= 0 || maxChaves <= 0 || periodo.toNanos() / capacidade <= 0) {
+      throw new IllegalArgumentException("Capacidade, período e máximo de chaves devem ser positivos");
+    }
+    if (maxChaves > MAX_CHAVES) {
+      throw new IllegalArgumentException("Máximo de chaves não pode passar de 2^30");
+    }
+
+    this.intervaloNanos = periodo.toNanos() / capacidade;
+    this.rajadaNanos = intervaloNanos * capacidade;
+    this.relogioNanos = relogioNanos;
+    int posicoes = Math.max(VIAS, Integer.highestOneBit(maxChaves - 1) << 1);
+    this.baldes = new AtomicReferenceArray<>(posicoes);
+    this.mascaraConjuntos = posicoes / VIAS - 1;
+  }
+
+  /**
+   * Consome uma ficha do balde da chave.
+   *
+   * @return true se a requisição pode seguir; false se a chave esgotou as
+   *         fichas e deve aguardar a reposição
+   */
+  public boolean admitir(String chave) {
+    if (chave == null) {
+      throw new IllegalArgumentException("Chave não pode ser nula");
+    }
+
+    long agora = relogioNanos.getAsLong();
+    int hash = espalhar(chave.hashCode());
+    int inicio = (hash & mascaraConjuntos) * VIAS;
+
+    while (true) {
+      int livre = -1;
+      Balde anteriorLivre = null;
+      int vitima = -1;
+      Balde anteriorVitima = null;
+      long cheioVitima = Long.MAX_VALUE;
+
+      for (int posicao = inicio; posicao < inicio + VIAS; posicao++) {
+        Balde balde = baldes.get(posicao);
+        if (balde == null) {
+          if (livre < 0) {
+            livre = posicao;
+          }
+          continue;
+        }
+        if (balde.hash == hash && balde.chave.equals(chave)) {
+          return balde.consumir(agora, intervaloNanos, rajadaNanos);
+        }
+
+        long cheioEm = balde.cheioEm.get();
+        if (cheioEm <= agora) {
+          if (livre < 0) {
+            livre = posicao;
+            anteriorLivre = balde;
+          }
+        } else if (cheioEm < cheioVitima) {
+          vitima = posicao;
+          anteriorVitima = balde;
+          cheioVitima = cheioEm;
+        }
+      }
+
+      // Chave nova: o balde já nasce com a ficha desta requisição consumida
+      Balde novo = new Balde(chave, hash, agora + intervaloNanos);
+      if (livre >= 0) {
+        if (baldes.compareAndSet(livre, anteriorLivre, novo)) {
+          return confirmarInsercao(inicio, livre, novo, agora);
+        }
+      } else if (baldes.compareAndSet(vitima, anteriorVitima, novo)) {
+        despejos.increment();
+        return confirmarInsercao(inicio, vitima, novo, agora);
+      }
+      // Outra thread ocupou a posição (talvez com a mesma chave): procura de novo
+    }
+  }
+
+  /**
+   * Duas threads que procuram a mesma chave nova ao mesmo tempo podem
+   * inseri-la em posições diferentes do conjunto (cada uma escolheu a sua
+   * antes de ver a inserção da outra), o que dobraria a rajada da chave.
+   * Depois de inserir, o conjunto é percorrido de novo: vale o balde na
+   * menor posição e o outro é removido. Das duas inserções, ao menos a
+   * segunda verificação enxerga a outra.
+   */
+  private boolean confirmarInsercao(int inicio, int posicao, Balde novo, long agora) {
+    for (int outra = inicio; outra < inicio + VIAS; outra++) {
+      Balde balde = baldes.get(outra);
+      if (outra == posicao || balde == null || balde.hash != novo.hash || !balde.chave.equals(novo.chave)) {
+        continue;
+      }
+      if (outra < posicao) {
+        // A ficha desta requisição passa a ser cobrada do balde que fica
+        baldes.compareAndSet(posicao, novo, null);
+        return balde.consumir(agora, intervaloNanos, rajadaNanos);
+      }
+      baldes.compareAndSet(outra, balde, null);
+    }
+    return true;
+  }
+
+  /**
+   * Chaves acompanhadas no momento, incluindo as ociosas ainda não
+   * substituídas. Percorre a tabela inteira.
+   */
+  public int getChaves() {
+    int chaves = 0;
+    for (int i = 0; i < baldes.length(); i++) {
+      if (baldes.get(i) != null) {
+        chaves++;
+      }
+    }
+    return chaves;
+  }
+
+  /**
+   * Baldes em uso substituídos por falta de espaço. Cada despejo devolve à
+   * chave removida uma rajada completa; um valor alto indica que
+   * {@code maxChaves} é pequeno para o tráfego.
+   */
+  public long getDespejos() {
+    return despejos.sum();
+  }
+
+  private static int espalhar(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private static final class Balde {
+    final String chave;
+    final int hash;
+    /** Instante, no relógio monotônico, em que o balde volta a ficar cheio. */
+    final AtomicLong cheioEm;
+
+    Balde(String chave, int hash, long cheioEm) {
+      this.chave = chave;
+      this.hash = hash;
+      this.cheioEm = new AtomicLong(cheioEm);
+    }
+
+    /**
+     * Fichas faltando = (cheioEm - agora) / intervalo. A requisição é
+     * admitida se, depois de consumir a sua, ainda couber na capacidade.
+     */
+    boolean consumir(long agora, long intervaloNanos, long rajadaNanos) {
+      while (true) {
+        long atual = cheioEm.get();
+        long proximo = Math.max(atual, agora) + intervaloNanos;
+        if (proximo - agora > rajadaNanos) {
+          return false;
+        }
+        if (cheioEm.compareAndSet(atual, proximo)) {
+          return true;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.bootcamp.eventos.servico;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dto.PermissaoEdicao;
+
+import java.util.Objects;
+
+/**
+ * Cache de tamanho fixo das decisões de permissão de edição por usuário e
+ * evento.
+ *
+ * Cada entrada guarda a versão de edição do evento lida antes da decisão e
+ * o instante até o qual a decisão vale (a data do evento, enquanto ele é
+ * futuro). A entrada deixa de ser usada quando a versão muda (primeira
+ * confirmação, saída do último confirmado ou edição da data) ou quando a
+ * data do evento passa.
+ *
+ * As entradas ficam em um array endereçado pelo hash da chave (mapeamento
+ * direto): uma chave nova no mesmo slot substitui a anterior, então o cache
+ * nunca passa da capacidade. Entradas são imutáveis; leituras concorrentes
+ * veem a entrada antiga ou a nova, ambas consistentes.
+ */
+final class CachePermissoes {
+
+  private final Entrada[] entradas;
+  private final int mascara;
+
+  CachePermissoes(int capacidade) {
+    if (capacidade <= 0) {
+      throw new IllegalArgumentException("Capacidade do cache deve ser positiva");
+    }
+    int slots = Math.max(1, Integer.highestOneBit(capacidade - 1) << 1);
+    this.entradas = new Entrada[slots];
+    this.mascara = slots - 1;
+  }
+
+  /**
+   * @return Decisão guardada, ou null se não houver uma ainda válida
+   */
+  PermissaoEdicao buscar(String usuarioId, Evento evento, int versao, long agoraEpochMillis) {
+    Entrada entrada = entradas[slot(usuarioId, evento)];
+    if (entrada == null
+        || entrada.evento != evento
+        || entrada.versao != versao
+        || agoraEpochMillis >= entrada.validoAteEpochMillis
+        || !Objects.equals(entrada.usuarioId, usuarioId)) {
+      return null;
+    }
+    return entrada.permissao;
+  }
+
+  void guardar(
+      String usuarioId,
+      Evento evento,
+      int versao,
+      long validoAteEpochMillis,
+      PermissaoEdicao permissao) {
+    entradas[slot(usuarioId, evento)] =
+        new Entrada(usuarioId, evento, versao, validoAteEpochMillis, permissao);
+  }
+
+  private int slot(String usuarioId, Evento evento) {
+    int hash = Objects.hashCode(usuarioId) * 31 + evento.getId().hashCode();
+    return (hash ^ (hash >>> 16)) & mascara;
+  }
+
+  private record Entrada(
+      String usuarioId,
+      Evento evento,
+      int versao,
+      long validoAteEpochMillis,
+      PermissaoEdicao permissao) {
+  }
+}
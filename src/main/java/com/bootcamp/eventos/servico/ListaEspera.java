@@ -0,0 +1,380 @@
+package com.bootcamp.eventos.servico;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.OuvinteStatusEvento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.enums.ReservaResposta;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+import com.bootcamp.eventos.persistencia.Diario;
+import com.bootcamp.eventos.servico.email.ServicoEmail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lista de espera por evento, com promoção automática quando há vagas.
+ *
+ * Cada evento tem uma fila FIFO lock-free de convites aceitos enquanto o
+ * evento estava lotado. Quando o evento deixa de estar lotado (cancelamento,
+ * aumento do limite ou remoção do limite) a fila é promovida em lote: as
+ * vagas são reservadas com uma única operação atômica e os primeiros da fila
+ * são confirmados nelas. Os emails de confirmação dos promovidos são enviados
+ * juntos, ao final de cada lote.
+ *
+ * A promoção e os emails rodam em um {@link Executor} (por padrão uma
+ * virtual thread por promoção), nunca na thread que liberou a vaga: o
+ * cancelamento, a alteração do limite ou a resposta que disparou a
+ * promoção não esperam a sincronização do diário nem o envio dos emails.
+ * Apenas uma tarefa promove cada evento por vez; as demais apenas
+ * sinalizam e a que está promovendo reavalia a fila antes de sair, então
+ * nenhuma vaga liberada é perdida. {@link #aguardarPromocoes(Duration)}
+ * espera as promoções em andamento.
+ *
+ * Com um {@link Diario} configurado, as respostas dadas na promoção são
+ * gravadas e o lote aguarda uma única sincronização antes de torná-las
+ * definitivas e de enviar os emails: como no {@link ProcessadorResposta},
+ * um convite só aparece como aceito depois de durável.
+ *
+ * A fila de um evento e o seu ouvinte de status só existem enquanto houver
+ * alguém aguardando: a fila esvaziada pela promoção é descartada, e
+ * {@link #descartar(Evento)} descarta a de um evento removido. O destinatário
+ * dos emails é o nome do participante (ver {@link ServicoEmail}).
+ */
+public class ListaEspera {
+
+  private static final ThreadFactory VIRTUAL = Thread.ofVirtual().name("lista-espera").factory();
+
+  private final ServicoEmail servicoEmail;
+  private final Diario diario; // null = sem persistência
+  private final Executor executor;
+  private final Map<Evento, Fila> filas = new ConcurrentHashMap<>();
+  private final AtomicInteger promocoesPendentes = new AtomicInteger();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition promocoesConcluidas = lock.newCondition();
+
+  public ListaEspera(ServicoEmail servicoEmail) {
+    this(servicoEmail, null);
+  }
+
+  public ListaEspera(ServicoEmail servicoEmail, Diario diario) {
+    this(servicoEmail, diario, tarefa -> VIRTUAL.newThread(tarefa).start());
+  }
+
+  /**
+   * @param executor Executa as promoções e os emails dos promovidos
+   */
+  public ListaEspera(ServicoEmail servicoEmail, Diario diario, Executor executor) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor não pode ser nulo");
+    }
+    this.servicoEmail = servicoEmail;
+    this.diario = diario;
+    this.executor = executor;
+  }
+
+  /**
+   * Coloca o convite na lista de espera do seu evento. Se o evento já tiver
+   * vaga, a promoção é agendada imediatamente.
+   *
+   * @return false se o convite já estava na lista de espera
+   */
+  public boolean inscrever(Convite convite, Participante participante) {
+    if (convite == null || participante == null) {
+      throw new IllegalArgumentException("Convite e participante não podem ser nulos");
+    }
+
+    Evento evento = convite.getEvento();
+    AtomicBoolean inscrito = new AtomicBoolean();
+    // Sob o lock da chave: não concorre com o descarte de uma fila vazia
+    filas.compute(evento, (e, atual) -> {
+      Fila fila = atual != null ? atual : criarFila(e);
+      if (fila.convites.add(convite)) {
+        fila.inscricoes.offer(new Inscricao(convite, participante));
+        fila.tamanho.incrementAndGet();
+        inscrito.set(true);
+      }
+      return fila;
+    });
+    if (!inscrito.get()) {
+      return false;
+    }
+
+    // A vaga pode ter sido liberada entre a checagem de lotação e a inscrição
+    agendarPromocao(evento);
+    return true;
+  }
+
+  /**
+   * Aguarda as promoções agendadas até agora e as que elas dispararem.
+   *
+   * @return false se o tempo limite expirou antes disso
+   */
+  public boolean aguardarPromocoes(Duration tempoLimite) throws InterruptedException {
+    long restanteNanos = tempoLimite.toNanos();
+    lock.lock();
+    try {
+      while (promocoesPendentes.get() > 0) {
+        if (restanteNanos <= 0) {
+          return false;
+        }
+        restanteNanos = promocoesConcluidas.awaitNanos(restanteNanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Promove os primeiros da fila para as vagas disponíveis no evento, na
+   * thread que chama. Agendado automaticamente no executor quando o evento
+   * deixa de estar lotado.
+   */
+  public void promover(Evento evento) {
+    Fila fila = filas.get(evento);
+    if (fila == null) {
+      return;
+    }
+
+    while (fila.tamanho.get() > 0 && !evento.estaLotado()) {
+      if (!fila.promovendo.compareAndSet(false, true)) {
+        return;
+      }
+
+      List<Inscricao> promovidos;
+      try {
+        promovidos = promoverLote(evento, fila);
+      } finally {
+        fila.promovendo.set(false);
+      }
+      notificarPromovidos(evento, promovidos);
+    }
+    descartarSeVazia(evento, fila);
+  }
+
+  /**
+   * Descarta a lista de espera do evento (ex.: evento removido do
+   * catálogo), sem responder os convites que aguardavam.
+   *
+   * @return Quantos convites aguardavam vaga
+   */
+  public int descartar(Evento evento) {
+    Fila fila = filas.remove(evento);
+    if (fila == null) {
+      return 0;
+    }
+    evento.removerOuvinteStatus(fila.ouvinte);
+    return fila.tamanho.get();
+  }
+
+  /**
+   * Retorna quantos convites aguardam vaga no evento.
+   */
+  public int getTamanho(Evento evento) {
+    Fila fila = filas.get(evento);
+    return fila == null ? 0 : fila.tamanho.get();
+  }
+
+  /**
+   * Verifica se o convite está aguardando vaga.
+   */
+  public boolean estaNaFila(Convite convite) {
+    Fila fila = filas.get(convite.getEvento());
+    return fila != null && fila.convites.contains(convite);
+  }
+
+  /**
+   * Retorna quantos eventos têm alguém aguardando vaga.
+   */
+  public int getQuantidadeFilas() {
+    return filas.size();
+  }
+
+  private Fila criarFila(Evento evento) {
+    Fila fila = new Fila((e, anterior, atual) -> {
+      if (anterior == StatusPercentual.LOTADO && atual != StatusPercentual.LOTADO) {
+        agendarPromocao(e);
+      }
+    });
+    evento.adicionarOuvinteStatus(fila.ouvinte);
+    return fila;
+  }
+
+  private void agendarPromocao(Evento evento) {
+    promocoesPendentes.incrementAndGet();
+    try {
+      executor.execute(() -> {
+        try {
+          promover(evento);
+        } finally {
+          concluirPromocao();
+        }
+      });
+    } catch (RuntimeException e) {
+      concluirPromocao();
+      throw e;
+    }
+  }
+
+  private void concluirPromocao() {
+    if (promocoesPendentes.decrementAndGet() == 0) {
+      lock.lock();
+      try {
+        promocoesConcluidas.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Remove a fila e o ouvinte quando ninguém mais aguarda. Inscrições
+   * concorrentes usam o mesmo lock da chave, então nenhuma se perde.
+   */
+  private void descartarSeVazia(Evento evento, Fila fila) {
+    if (fila.tamanho.get() > 0) {
+      return;
+    }
+    filas.computeIfPresent(evento, (e, atual) -> {
+      if (atual != fila || atual.tamanho.get() > 0) {
+        return atual;
+      }
+      e.removerOuvinteStatus(atual.ouvinte);
+      return null;
+    });
+  }
+
+  /**
+   * Reserva de uma vez as vagas para a fila inteira e responde os primeiros
+   * da fila nelas, nos mesmos passos do {@link ProcessadorResposta}: cada
+   * convite é reservado e tem a resposta decidida e gravada, o lote aguarda
+   * uma única sincronização e só então as respostas se tornam definitivas.
+   * Se a gravação falhar, a decisão ainda não gravada é desfeita (vaga
+   * devolvida e convite de volta a pendente); as já gravadas se tornam
+   * definitivas e a falha é relatada como resultado incerto. Vagas que
+   * sobram (nomes já confirmados) são devolvidas; um convite com outra
+   * resposta em andamento além da espera volta ao fim da fila.
+   */
+  private List<Inscricao> promoverLote(Evento evento, Fila fila) {
+    int vagas = evento.reservarVagas(fila.tamanho.get());
+    List<Inscricao> promovidos = new ArrayList<>(vagas);
+    List<Convite> decididos = new ArrayList<>(vagas);
+    List<Inscricao> adiadas = new ArrayList<>();
+    long posicaoDiario = 0;
+    boolean duravel = false;
+
+    try {
+      try {
+        Inscricao inscricao;
+        while (vagas > 0 && (inscricao = fila.inscricoes.poll()) != null) {
+          Convite convite = inscricao.convite();
+          ReservaResposta reserva = convite.iniciarResposta();
+          if (reserva == ReservaResposta.EM_ANDAMENTO) {
+            adiadas.add(inscricao);
+            continue;
+          }
+          fila.tamanho.decrementAndGet();
+          fila.convites.remove(convite);
+          if (reserva == ReservaResposta.JA_RESPONDIDO) {
+            continue;
+          }
+
+          if (evento.confirmarComReserva(inscricao.participante())) {
+            vagas--;
+            convite.decidirAceite(inscricao.participante());
+            promovidos.add(inscricao);
+          } else {
+            convite.decidirRecusa("Participante já confirmado neste evento");
+          }
+          posicaoDiario = registrar(evento, convite, posicaoDiario);
+          decididos.add(convite);
+        }
+      } finally {
+        evento.liberarVagas(vagas);
+        fila.inscricoes.addAll(adiadas);
+      }
+
+      if (posicaoDiario > 0) {
+        diario.aguardarDurabilidade(posicaoDiario);
+      }
+      duravel = true;
+    } catch (RuntimeException e) {
+      if (diario != null && !decididos.isEmpty()) {
+        throw new IllegalStateException(Diario.RESULTADO_INCERTO, e);
+      }
+      throw e;
+    } finally {
+      // Respostas já gravadas não são desfeitas: a recuperação as reproduziria
+      for (Convite convite : decididos) {
+        if (duravel || diario != null) {
+          convite.concluirResposta();
+        } else {
+          desfazerDecisao(evento, convite);
+        }
+      }
+    }
+    return promovidos;
+  }
+
+  /**
+   * Desfaz uma resposta decidida que não chegou ao diário: devolve a vaga
+   * do aceite e o convite a pendente.
+   */
+  private static void desfazerDecisao(Evento evento, Convite convite) {
+    Participante participante = convite.getParticipante();
+    if (participante != null) {
+      evento.desfazerConfirmacao(participante.nome());
+    }
+    convite.liberarResposta();
+  }
+
+  /**
+   * Grava a resposta decidida; se a gravação falhar, nada foi escrito e a
+   * decisão é desfeita.
+   */
+  private long registrar(Evento evento, Convite convite, long posicaoAnterior) {
+    if (diario == null) {
+      return posicaoAnterior;
+    }
+    try {
+      return diario.registrarResposta(convite);
+    } catch (RuntimeException e) {
+      desfazerDecisao(evento, convite);
+      throw e;
+    }
+  }
+
+  private void notificarPromovidos(Evento evento, List<Inscricao> promovidos) {
+    for (Inscricao inscricao : promovidos) {
+      servicoEmail.enviarConfirmacao(inscricao.participante().nome(), evento);
+    }
+  }
+
+  private record Inscricao(Convite convite, Participante participante) {
+  }
+
+  private static final class Fila {
+    final Queue<Inscricao> inscricoes = new ConcurrentLinkedQueue<>();
+    final Set<Convite> convites = ConcurrentHashMap.newKeySet();
+    final AtomicInteger tamanho = new AtomicInteger();
+    final AtomicBoolean promovendo = new AtomicBoolean();
+    final OuvinteStatusEvento ouvinte;
+
+    Fila(OuvinteStatusEvento ouvinte) {
+      this.ouvinte = ouvinte;
+    }
+  }
+}
@@ -4,51 +4,596 @@ import com.bootcamp.eventos.dominio.Convite;
 import com.bootcamp.eventos.dominio.Evento;
 import com.bootcamp.eventos.dominio.Participante;
 import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dominio.enums.ReservaResposta;
+import com.bootcamp.eventos.dominio.enums.ResultadoConfirmacao;
+import com.bootcamp.eventos.dto.RespostaProcessada;
 import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.metricas.MetricasResposta;
+import com.bootcamp.eventos.persistencia.Diario;
+import com.bootcamp.eventos.seguranca.LimitadorTaxa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Processador de respostas a convites.
  * Implementado com foco em 100% branch coverage.
+ *
+ * Com uma {@link ListaEspera} configurada, aceitações em evento lotado
+ * entram na lista de espera em vez de serem recusadas.
+ *
+ * Com um {@link Diario} configurado, cada resposta registrada é gravada e
+ * só é reportada depois de durável. No lote, uma única sincronização
+ * cobre todas as respostas.
+ *
+ * Com {@link MetricasResposta} configuradas, conta o desfecho de cada
+ * resposta e amostra a latência de processarResposta.
+ *
+ * Cada resposta reserva o convite ({@link Convite#iniciarResposta()}) antes
+ * de tocar no evento. Uma submissão repetida (mesma decisão e, na
+ * aceitação, mesmo nome) recebe o resultado da original sem tocar no
+ * evento; uma resposta diferente da registrada recebe JA_RESPONDIDO, e
+ * uma que não obtém a reserva dentro da espera recebe
+ * RESPOSTA_EM_ANDAMENTO. A resposta só se torna definitiva no convite
+ * depois de durável no diário.
+ *
+ * Com {@link LimitadorTaxa} por token e/ou por origem, as requisições
+ * externas passam antes pela admissão ({@link #admitir}, ou a sobrecarga
+ * de processarResposta com a origem): esgotadas as fichas da origem ou do
+ * token, recebem LIMITE_EXCEDIDO sem validação e sem tocar no convite. A
+ * entrada interna (processarResposta sem origem, o lote e o
+ * {@code FluxoRespostas}) não é limitada.
  */
 public class ProcessadorResposta {
 
+  // CONFIRMADO de quem fez a confirmação, distinto da repetição; nunca sai
+  // desta classe (ver processarRespostaComTransicao)
+  private static final ResultadoProcessamento CONFIRMADO_NESTA_CHAMADA =
+      new ResultadoProcessamento(true, ResultadoProcessamento.CONFIRMADO.mensagem());
+
+  private final ListaEspera listaEspera; // null = sem lista de espera
+  private final Diario diario; // null = sem persistência
+  private final MetricasResposta metricas; // null = sem métricas
+  private final LimitadorTaxa limitePorToken; // null = sem limite por token
+  private final LimitadorTaxa limitePorOrigem; // null = sem limite por origem
+
+  public ProcessadorResposta() {
+    this(null);
+  }
+
+  public ProcessadorResposta(ListaEspera listaEspera) {
+    this(listaEspera, null);
+  }
+
+  public ProcessadorResposta(ListaEspera listaEspera, Diario diario) {
+    this(listaEspera, diario, null);
+  }
+
+  public ProcessadorResposta(ListaEspera listaEspera, Diario diario, MetricasResposta metricas) {
+    this(listaEspera, diario, metricas, null, null);
+  }
+
+  public ProcessadorResposta(
+      ListaEspera listaEspera,
+      Diario diario,
+      MetricasResposta metricas,
+      LimitadorTaxa limitePorToken,
+      LimitadorTaxa limitePorOrigem) {
+    this.listaEspera = listaEspera;
+    this.diario = diario;
+    this.metricas = metricas;
+    this.limitePorToken = limitePorToken;
+    this.limitePorOrigem = limitePorOrigem;
+  }
+
+  /**
+   * Processa uma resposta de entrada interna, sem passar pela admissão
+   * (como {@link #processarRespostas} e o {@code FluxoRespostas}). Também é
+   * o passo final de quem já chamou {@link #admitir} no ponto de entrada.
+   */
   public ResultadoProcessamento processarResposta(
       Convite convite,
       RespostaConvite resposta) {
+    ResultadoProcessamento resultado = processarMedindo(convite, resposta);
+    return resultado == CONFIRMADO_NESTA_CHAMADA ? ResultadoProcessamento.CONFIRMADO : resultado;
+  }
+
+  /**
+   * Como {@link #processarResposta(Convite, RespostaConvite)}, informando
+   * também se foi esta chamada que confirmou o convite. Submissões
+   * simultâneas idênticas recebem todas CONFIRMADO, mas só uma delas é a
+   * confirmação: é ela que deve enviar o email.
+   */
+  public RespostaProcessada processarRespostaComTransicao(
+      Convite convite,
+      RespostaConvite resposta) {
+    ResultadoProcessamento resultado = processarMedindo(convite, resposta);
+    return resultado == CONFIRMADO_NESTA_CHAMADA
+        ? new RespostaProcessada(ResultadoProcessamento.CONFIRMADO, true)
+        : new RespostaProcessada(resultado, false);
+  }
+
+  /**
+   * Processa uma resposta externa, que passa antes pela admissão.
+   *
+   * @param origem Chave da origem da requisição (ex.: endereço IP) para o
+   *               limite por origem, ou null para não limitá-la
+   */
+  public ResultadoProcessamento processarResposta(
+      Convite convite,
+      RespostaConvite resposta,
+      String origem) {
+    String token = convite == null ? null : convite.getToken();
+    return admitir(token, origem)
+        ? processarResposta(convite, resposta)
+        : ResultadoProcessamento.LIMITE_EXCEDIDO;
+  }
+
+  /**
+   * Admissão de uma requisição externa, a ser chamada no ponto de entrada
+   * antes de qualquer trabalho com o token, inclusive a busca e a
+   * validação do convite. Cada chamada consome uma ficha da origem e do
+   * token; a recusa é contada nas métricas como LIMITE_EXCEDIDO.
+   *
+   * A origem é checada primeiro: uma origem bloqueada não consome as fichas
+   * dos tokens que tenta.
+   *
+   * @param token  Token do convite, ou null para não limitá-lo
+   * @param origem Chave da origem da requisição, ou null para não limitá-la
+   * @return true se a requisição pode seguir
+   */
+  public boolean admitir(String token, String origem) {
+    boolean admitida = (limitePorOrigem == null || origem == null || limitePorOrigem.admitir(origem))
+        && (limitePorToken == null || token == null || limitePorToken.admitir(token));
+    if (!admitida && metricas != null) {
+      metricas.registrarProcessamento(ResultadoProcessamento.LIMITE_EXCEDIDO, MetricasResposta.NAO_AMOSTRADO);
+    }
+    return admitida;
+  }
+
+  private ResultadoProcessamento processarMedindo(Convite convite, RespostaConvite resposta) {
+    if (metricas == null) {
+      return processar(convite, resposta);
+    }
+
+    long inicio = metricas.iniciar();
+    ResultadoProcessamento resultado = processar(convite, resposta);
+    metricas.registrarProcessamento(
+        resultado == CONFIRMADO_NESTA_CHAMADA ? ResultadoProcessamento.CONFIRMADO : resultado, inicio);
+    return resultado;
+  }
+
+  private ResultadoProcessamento processar(Convite convite, RespostaConvite resposta) {
     // Validação de entrada
     if (convite == null || resposta == null) {
       throw new IllegalArgumentException("Convite e resposta não podem ser nulos");
     }
 
-    // Verifica se convite já foi respondido
-    if (convite.foiRespondido()) {
-      return new ResultadoProcessamento(false, "Convite já foi respondido anteriormente");
+    // Reserva o convite; se já foi respondido, trata como repetição
+    ReservaResposta reserva = convite.iniciarResposta();
+    if (reserva == ReservaResposta.JA_RESPONDIDO) {
+      return resultadoJaRespondido(convite, resposta);
+    }
+    if (reserva == ReservaResposta.EM_ANDAMENTO) {
+      return ResultadoProcessamento.RESPOSTA_EM_ANDAMENTO;
+    }
+    try {
+      return processarReservado(convite, resposta);
+    } finally {
+      // Sem resposta definitiva (lista de espera, nome duplicado, falha)
+      convite.liberarResposta();
     }
+  }
 
+  private ResultadoProcessamento processarReservado(Convite convite, RespostaConvite resposta) {
     // Processa aceitação
     if (resposta.aceitou()) {
       Evento evento = convite.getEvento();
 
       // Verifica se ainda há vagas
       if (evento.temLimite() && evento.estaLotado()) {
-        convite.marcarComoRecusado("Evento lotado");
-        return new ResultadoProcessamento(false, "Evento já está lotado");
+        return tratarLotacaoDuravel(convite, resposta);
       }
 
-      // Confirma participação
+      // Confirma participação (a vaga é reservada atomicamente pelo evento)
       Participante participante = new Participante(
           resposta.nome(),
           resposta.getObservacao());
 
-      evento.adicionarParticipante(participante);
-      convite.marcarComoAceito(participante);
+      ResultadoConfirmacao confirmacao = evento.tentarConfirmarParticipante(participante);
+      if (confirmacao == ResultadoConfirmacao.LOTADO) {
+        return tratarLotacaoDuravel(convite, resposta);
+      }
+      if (confirmacao == ResultadoConfirmacao.DUPLICADO) {
+        return ResultadoProcessamento.PARTICIPANTE_DUPLICADO;
+      }
+      if (!convite.decidirAceite(participante)) {
+        // Respondido por outra via durante o processamento
+        evento.desfazerConfirmacao(participante.nome());
+        return resultadoJaRespondido(convite, resposta);
+      }
 
-      return new ResultadoProcessamento(true, "Participação confirmada com sucesso");
+      return tornarDuravel(convite, CONFIRMADO_NESTA_CHAMADA);
     }
     // Processa recusa
     else {
-      convite.marcarComoRecusado(resposta.getMotivoRecusa());
-      return new ResultadoProcessamento(true, "Recusa registrada");
+      if (!convite.decidirRecusa(resposta.getMotivoRecusa())) {
+        return resultadoJaRespondido(convite, resposta);
+      }
+      return tornarDuravel(convite, ResultadoProcessamento.RECUSA_REGISTRADA);
+    }
+  }
+
+  /**
+   * Processa um lote de respostas de uma só vez.
+   *
+   * As respostas são agrupadas por evento; grupos de eventos distintos são
+   * independentes e processados em paralelo em virtual threads. Dentro de um
+   * grupo as respostas seguem a ordem de entrada e a capacidade do evento é
+   * reservada uma única vez para todas as aceitações do grupo. Convites
+   * repetidos e nomes repetidos ou já confirmados não reservam vaga, e uma
+   * vaga reservada que deixa de ter uso é devolvida assim que isso se sabe.
+   * As respostas do lote se tornam definitivas juntas, depois de uma única
+   * sincronização do diário.
+   *
+   * @param solicitacoes Respostas a processar
+   * @return Um resultado por solicitação, na mesma ordem da entrada
+   */
+  public List<ResultadoProcessamento> processarRespostas(List<SolicitacaoResposta> solicitacoes) {
+    return processarLote(solicitacoes, true);
+  }
+
+  /**
+   * Como {@link #processarRespostas}, com os grupos processados em sequência
+   * na thread chamadora: para quem é o único escritor dos eventos do lote
+   * (ver {@code MotorRespostas}).
+   */
+  public List<ResultadoProcessamento> processarRespostasNaThread(List<SolicitacaoResposta> solicitacoes) {
+    return processarLote(solicitacoes, false);
+  }
+
+  private List<ResultadoProcessamento> processarLote(List<SolicitacaoResposta> solicitacoes, boolean paralelo) {
+    if (solicitacoes == null) {
+      throw new IllegalArgumentException("Lista de respostas não pode ser nula");
+    }
+
+    Map<Evento, List<Integer>> indicesPorEvento = new IdentityHashMap<>();
+    for (int i = 0; i < solicitacoes.size(); i++) {
+      SolicitacaoResposta solicitacao = solicitacoes.get(i);
+      if (solicitacao == null || solicitacao.convite() == null || solicitacao.resposta() == null) {
+        throw new IllegalArgumentException("Convite e resposta não podem ser nulos");
+      }
+      indicesPorEvento
+          .computeIfAbsent(solicitacao.convite().getEvento(), evento -> new ArrayList<>())
+          .add(i);
+    }
+
+    ResultadoProcessamento[] resultados = new ResultadoProcessamento[solicitacoes.size()];
+    List<GrupoDecidido> grupos = new ArrayList<>(indicesPorEvento.size());
+
+    if (!paralelo || indicesPorEvento.size() <= 1) {
+      indicesPorEvento.forEach((evento, indices) -> grupos.add(decidirGrupo(evento, indices, solicitacoes, resultados)));
+    } else {
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        List<Future<GrupoDecidido>> futuros = new ArrayList<>(indicesPorEvento.size());
+        indicesPorEvento.forEach((evento, indices) -> futuros.add(
+            executor.submit(() -> decidirGrupo(evento, indices, solicitacoes, resultados))));
+
+        for (Future<GrupoDecidido> futuro : futuros) {
+          grupos.add(aguardar(futuro));
+        }
+      }
+    }
+    tornarDuraveis(grupos);
+
+    if (metricas != null) {
+      for (ResultadoProcessamento resultado : resultados) {
+        metricas.registrarProcessamento(resultado, MetricasResposta.NAO_AMOSTRADO);
+      }
     }
+    return Arrays.asList(resultados);
+  }
+
+  /**
+   * Decide e grava, em ordem, todas as respostas de um mesmo evento; a
+   * espera pela durabilidade fica para {@link #tornarDuraveis}. Cada grupo
+   * escreve apenas nas posições de {@code resultados} que lhe pertencem,
+   * portanto grupos distintos não competem entre si. Uma falha interrompe
+   * o grupo e segue junto com o que já foi decidido.
+   */
+  private GrupoDecidido decidirGrupo(
+      Evento evento,
+      List<Integer> indices,
+      List<SolicitacaoResposta> solicitacoes,
+      ResultadoProcessamento[] resultados) {
+    // Checagem de capacidade única para o grupo: conta cada convite e cada
+    // nome uma única vez, sem os já respondidos ou já confirmados
+    boolean[] candidato = new boolean[indices.size()];
+    Set<Convite> convitesContados = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<String> nomesContados = new HashSet<>();
+    int candidatos = 0;
+    for (int i = 0; i < indices.size(); i++) {
+      SolicitacaoResposta solicitacao = solicitacoes.get(indices.get(i));
+      RespostaConvite resposta = solicitacao.resposta();
+      if (resposta.aceitou()
+          && !solicitacao.convite().foiRespondido()
+          && !evento.estaConfirmado(resposta.nome())
+          && convitesContados.add(solicitacao.convite())
+          && nomesContados.add(resposta.nome())) {
+        candidato[i] = true;
+        candidatos++;
+      }
+    }
+    int vagasReservadas = evento.reservarVagas(candidatos);
+    int candidatosRestantes = candidatos;
+    long posicaoDiario = 0;
+    // Convites com resposta decidida e gravada pelo grupo, concluídos após a durabilidade
+    Set<Convite> decididos = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    try {
+      try {
+        for (int i = 0; i < indices.size(); i++) {
+          int indice = indices.get(i);
+          Convite convite = solicitacoes.get(indice).convite();
+          RespostaConvite resposta = solicitacoes.get(indice).resposta();
+
+          ReservaResposta reserva = decididos.contains(convite)
+              ? ReservaResposta.JA_RESPONDIDO
+              : convite.iniciarResposta();
+          if (reserva == ReservaResposta.OBTIDA) {
+            try {
+              if (!resposta.aceitou()) {
+                resultados[indice] = convite.decidirRecusa(resposta.getMotivoRecusa())
+                    ? ResultadoProcessamento.RECUSA_REGISTRADA
+                    : resultadoJaRespondido(convite, resposta);
+              } else if (evento.estaConfirmado(resposta.nome())) {
+                resultados[indice] = ResultadoProcessamento.PARTICIPANTE_DUPLICADO;
+              } else if (vagasReservadas == 0) {
+                resultados[indice] = tratarLotacao(convite, resposta);
+              } else {
+                Participante participante = new Participante(resposta.nome(), resposta.getObservacao());
+                if (evento.confirmarComReserva(participante)) {
+                  vagasReservadas--;
+                  if (convite.decidirAceite(participante)) {
+                    resultados[indice] = ResultadoProcessamento.CONFIRMADO;
+                  } else {
+                    evento.desfazerConfirmacao(participante.nome());
+                    resultados[indice] = resultadoJaRespondido(convite, resposta);
+                  }
+                } else {
+                  resultados[indice] = ResultadoProcessamento.PARTICIPANTE_DUPLICADO;
+                }
+              }
+
+              // Decidida aqui e ainda não definitiva: grava e conclui depois
+              if (convite.temRespostaDecidida() && !convite.foiRespondido()) {
+                posicaoDiario = registrar(evento, convite, posicaoDiario);
+                decididos.add(convite);
+              }
+            } finally {
+              if (!decididos.contains(convite)) {
+                convite.liberarResposta();
+              }
+            }
+          } else if (reserva == ReservaResposta.JA_RESPONDIDO) {
+            resultados[indice] = resultadoJaRespondido(convite, resposta);
+          } else {
+            resultados[indice] = ResultadoProcessamento.RESPOSTA_EM_ANDAMENTO;
+          }
+
+          // Devolve de imediato as vagas que nenhum candidato restante pode usar
+          // (convite respondido por fora ou nome confirmado durante o lote), para
+          // que respostas concorrentes não vejam o evento falsamente lotado
+          if (candidato[i]) {
+            candidatosRestantes--;
+            if (vagasReservadas > candidatosRestantes) {
+              evento.liberarVagas(vagasReservadas - candidatosRestantes);
+              vagasReservadas = candidatosRestantes;
+            }
+          }
+        }
+      } finally {
+        // Devolve reservas restantes em caso de falha inesperada
+        evento.liberarVagas(vagasReservadas);
+      }
+    } catch (RuntimeException e) {
+      return new GrupoDecidido(evento, decididos, posicaoDiario, e);
+    }
+    return new GrupoDecidido(evento, decididos, posicaoDiario, null);
+  }
+
+  /**
+   * Uma única espera pela durabilidade para todos os grupos do lote; só
+   * então as respostas se tornam definitivas. Respostas já gravadas não são
+   * desfeitas (ver tornarDuravel): se algo falhou, elas se tornam
+   * definitivas e o resultado é relatado como incerto. Sem diário, apenas
+   * as decisões do grupo que falhou são desfeitas.
+   */
+  private void tornarDuraveis(List<GrupoDecidido> grupos) {
+    RuntimeException falha = null;
+    long posicaoDiario = 0;
+    boolean gravados = false;
+    for (GrupoDecidido grupo : grupos) {
+      if (grupo.falha() != null) {
+        if (falha == null) {
+          falha = grupo.falha();
+        } else {
+          falha.addSuppressed(grupo.falha());
+        }
+      }
+      posicaoDiario = Math.max(posicaoDiario, grupo.posicaoDiario());
+      gravados |= diario != null && !grupo.decididos().isEmpty();
+    }
+
+    if (falha == null && posicaoDiario > 0) {
+      try {
+        diario.aguardarDurabilidade(posicaoDiario);
+      } catch (RuntimeException e) {
+        falha = e;
+      }
+    }
+
+    for (GrupoDecidido grupo : grupos) {
+      for (Convite convite : grupo.decididos()) {
+        if (diario != null || grupo.falha() == null) {
+          convite.concluirResposta();
+        } else {
+          desfazerDecisao(grupo.evento(), convite);
+        }
+      }
+    }
+    if (falha != null) {
+      throw gravados ? new IllegalStateException(Diario.RESULTADO_INCERTO, falha) : falha;
+    }
+  }
+
+  /**
+   * Desfaz uma resposta decidida que não chegou ao diário: devolve a vaga
+   * do aceite e o convite a pendente.
+   */
+  private static void desfazerDecisao(Evento evento, Convite convite) {
+    Participante participante = convite.getParticipante();
+    if (participante != null && !convite.foiRespondido()) {
+      evento.desfazerConfirmacao(participante.nome());
+    }
+    convite.liberarResposta();
+  }
+
+  private static GrupoDecidido aguardar(Future<GrupoDecidido> grupo) {
+    try {
+      return grupo.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Processamento em lote interrompido", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException causa) {
+        throw causa;
+      }
+      throw new IllegalStateException("Falha no processamento em lote", e.getCause());
+    }
+  }
+
+  /**
+   * Evento lotado: coloca o convite na lista de espera, se configurada, ou
+   * o recusa por lotação.
+   */
+  private ResultadoProcessamento tratarLotacao(Convite convite, RespostaConvite resposta) {
+    if (listaEspera == null) {
+      return recusarPorLotacao(convite);
+    }
+
+    Participante participante = new Participante(resposta.nome(), resposta.getObservacao());
+    // Mesmo com vaga liberada durante a inscrição, a promoção só responde o
+    // convite depois que esta resposta libera a reserva
+    if (!listaEspera.inscrever(convite, participante)) {
+      return ResultadoProcessamento.JA_EM_LISTA_ESPERA;
+    }
+    return ResultadoProcessamento.EM_LISTA_ESPERA;
+  }
+
+  /**
+   * Grava a resposta decidida no diário, se configurado, aguarda a
+   * durabilidade e só então a torna definitiva no convite.
+   *
+   * Se a gravação falhar, nada foi escrito e a decisão é desfeita. Depois
+   * de gravada a resposta não é mais desfeita: a recuperação reproduziria
+   * o registro e divergiria da memória. Se a sincronização falhar, a
+   * resposta se torna definitiva e o resultado é relatado como incerto.
+   */
+  private ResultadoProcessamento tornarDuravel(Convite convite, ResultadoProcessamento resultado) {
+    if (diario != null) {
+      long posicao;
+      try {
+        posicao = diario.registrarResposta(convite);
+      } catch (RuntimeException e) {
+        desfazerDecisao(convite.getEvento(), convite);
+        throw e;
+      }
+      try {
+        diario.aguardarDurabilidade(posicao);
+      } catch (RuntimeException e) {
+        convite.concluirResposta();
+        throw new IllegalStateException(Diario.RESULTADO_INCERTO, e);
+      }
+    }
+    convite.concluirResposta();
+    return resultado;
+  }
+
+  /**
+   * Trata a lotação no processamento individual. Apenas a recusa por
+   * lotação é gravada aqui: inscrições na lista de espera não são respostas
+   * e a promoção é gravada pela própria lista de espera.
+   */
+  private ResultadoProcessamento tratarLotacaoDuravel(Convite convite, RespostaConvite resposta) {
+    ResultadoProcessamento resultado = tratarLotacao(convite, resposta);
+    return resultado == ResultadoProcessamento.EVENTO_LOTADO
+        ? tornarDuravel(convite, resultado)
+        : resultado;
+  }
+
+  /**
+   * Grava a resposta decidida; se a gravação falhar, nada foi escrito e a
+   * decisão é desfeita.
+   */
+  private long registrar(Evento evento, Convite convite, long posicaoAnterior) {
+    if (diario == null) {
+      return posicaoAnterior;
+    }
+    try {
+      return diario.registrarResposta(convite);
+    } catch (RuntimeException e) {
+      desfazerDecisao(evento, convite);
+      throw e;
+    }
+  }
+
+  private ResultadoProcessamento recusarPorLotacao(Convite convite) {
+    convite.decidirRecusaPorLotacao();
+    return ResultadoProcessamento.EVENTO_LOTADO;
+  }
+
+  /**
+   * Resultado para convite já respondido (ou com resposta decidida no
+   * mesmo lote): a repetição da resposta registrada recebe o resultado
+   * original; qualquer outra, JA_RESPONDIDO.
+   */
+  private static ResultadoProcessamento resultadoJaRespondido(Convite convite, RespostaConvite resposta) {
+    Participante participante = convite.getParticipante();
+    if (participante != null) {
+      return resposta.aceitou() && participante.nome().equals(resposta.nome())
+          ? ResultadoProcessamento.CONFIRMADO
+          : ResultadoProcessamento.JA_RESPONDIDO;
+    }
+
+    boolean recusadoPorLotacao = convite.foiRecusadoPorLotacao();
+    if (resposta.aceitou() && recusadoPorLotacao) {
+      return ResultadoProcessamento.EVENTO_LOTADO;
+    }
+    if (!resposta.aceitou() && !recusadoPorLotacao) {
+      return ResultadoProcessamento.RECUSA_REGISTRADA;
+    }
+    return ResultadoProcessamento.JA_RESPONDIDO;
+  }
+
+  /**
+   * Respostas decididas e gravadas por um grupo, aguardando a durabilidade.
+   */
+  private record GrupoDecidido(
+      Evento evento,
+      Set<Convite> decididos,
+      long posicaoDiario,
+      RuntimeException falha) {
   }
 }
@@ -2,17 +2,50 @@ package com.bootcamp.eventos.servico;
 
 import com.bootcamp.eventos.dominio.Evento;
 import com.bootcamp.eventos.dominio.Usuario;
-import com.bootcamp.eventos.dominio.enums.TipoPermissao;
 import com.bootcamp.eventos.dto.PermissaoEdicao;
+import com.bootcamp.eventos.tempo.FonteTempo;
 
-import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Serviço de gerenciamento de eventos.
  * Gerencia operações e permissões relacionadas a eventos.
+ *
+ * {@link #verificarPermissoes(Usuario, Collection)} atende telas que
+ * verificam muitos eventos de uma vez: lê o relógio uma única vez e reutiliza
+ * decisões de um {@link CachePermissoes} enquanto a versão de edição do
+ * evento não muda e a data do evento não passa.
  */
 public class ServicoEvento {
 
+  private static final int CAPACIDADE_CACHE_PADRAO = 4096;
+
+  private final FonteTempo fonteTempo;
+  private final CachePermissoes cache;
+
+  public ServicoEvento() {
+    this(FonteTempo.SISTEMA);
+  }
+
+  /**
+   * @param fonteTempo Fonte do instante atual usada para saber se o evento
+   *                   já ocorreu
+   */
+  public ServicoEvento(FonteTempo fonteTempo) {
+    this(fonteTempo, CAPACIDADE_CACHE_PADRAO);
+  }
+
+  /**
+   * @param capacidadeCache Máximo de decisões (usuário, evento) guardadas
+   *                        para verificarPermissoes
+   */
+  public ServicoEvento(FonteTempo fonteTempo, int capacidadeCache) {
+    this.fonteTempo = fonteTempo;
+    this.cache = new CachePermissoes(capacidadeCache);
+  }
+
   /**
    * Verifica a permissão de edição de um usuário para um evento.
    * 
@@ -24,30 +57,67 @@ public class ServicoEvento {
   public PermissaoEdicao verificarPermissaoEdicao(Usuario usuario, Evento evento) {
     // Regra: Não organizador não pode editar
     if (!usuario.isOrganizador()) {
-      return new PermissaoEdicao(
-          TipoPermissao.NEGADA,
-          "Apenas organizadores podem editar eventos");
+      return PermissaoEdicao.NEGADA;
+    }
+
+    return decidir(
+        evento.getDataEpochMillis(),
+        evento.getNumeroConfirmados(),
+        fonteTempo.agoraEpochMillis());
+  }
+
+  /**
+   * Verifica a permissão de edição de um usuário para vários eventos, com o
+   * mesmo resultado de {@link #verificarPermissaoEdicao(Usuario, Evento)}
+   * para cada um.
+   *
+   * @return Permissões na ordem de iteração de {@code eventos}
+   */
+  public List<PermissaoEdicao> verificarPermissoes(Usuario usuario, Collection<Evento> eventos) {
+    if (usuario == null || eventos == null) {
+      throw new IllegalArgumentException("Usuário e eventos não podem ser nulos");
+    }
+
+    PermissaoEdicao[] permissoes = new PermissaoEdicao[eventos.size()];
+    if (!usuario.isOrganizador()) {
+      Arrays.fill(permissoes, PermissaoEdicao.NEGADA);
+      return Arrays.asList(permissoes);
+    }
+
+    long agora = fonteTempo.agoraEpochMillis();
+    int i = 0;
+    for (Evento evento : eventos) {
+      // A versão é lida antes do estado: uma mudança concorrente invalida a entrada
+      int versao = evento.getVersaoEdicao();
+      PermissaoEdicao permissao = cache.buscar(usuario.id(), evento, versao, agora);
+      if (permissao == null) {
+        long data = evento.getDataEpochMillis();
+        permissao = decidir(data, evento.getNumeroConfirmados(), agora);
+        // Decisão de evento futuro vale até a data; a de evento passado, até a data mudar
+        cache.guardar(usuario.id(), evento, versao, data > agora ? data : Long.MAX_VALUE, permissao);
+      }
+      permissoes[i++] = permissao;
     }
+    return Arrays.asList(permissoes);
+  }
 
+  /**
+   * Regras para organizadores.
+   */
+  private static PermissaoEdicao decidir(long dataEpochMillis, int confirmados, long agoraEpochMillis) {
     // Regra: Evento passado não pode ser editado
-    boolean eventoFuturo = evento.getData().isAfter(LocalDateTime.now());
+    boolean eventoFuturo = dataEpochMillis > agoraEpochMillis;
     if (!eventoFuturo) {
-      return new PermissaoEdicao(
-          TipoPermissao.BLOQUEADA,
-          "Eventos passados não podem ser editados");
+      return PermissaoEdicao.BLOQUEADA;
     }
 
     // Regra: Evento com confirmados tem edição limitada
-    boolean temConfirmados = evento.getNumeroConfirmados() > 0;
+    boolean temConfirmados = confirmados > 0;
     if (temConfirmados) {
-      return new PermissaoEdicao(
-          TipoPermissao.LIMITADA,
-          "Evento com confirmados permite apenas edições limitadas");
+      return PermissaoEdicao.LIMITADA;
     }
 
     // Edição completa: organizador, evento futuro, sem confirmados
-    return new PermissaoEdicao(
-        TipoPermissao.COMPLETA,
-        "Edição completa permitida");
+    return PermissaoEdicao.COMPLETA;
   }
 }
@@ -3,17 +3,53 @@ package com.bootcamp.eventos.servico;
 import com.bootcamp.eventos.dominio.Convite;
 import com.bootcamp.eventos.dominio.Evento;
 import com.bootcamp.eventos.dto.ResultadoValidacao;
-
-import java.time.LocalDateTime;
+import com.bootcamp.eventos.metricas.MetricasResposta;
+import com.bootcamp.eventos.seguranca.AssinadorToken;
+import com.bootcamp.eventos.tempo.FonteTempo;
 
 /**
  * Validador de convites seguindo Decision Table.
  * Valida múltiplas condições: token, expiração, vagas.
+ *
+ * Com {@link MetricasResposta} configuradas, amostra o desfecho e a
+ * latência das validações; as chamadas fora da amostra não tocam nas
+ * métricas.
+ *
+ * Com um {@link AssinadorToken}, o token só é válido se a assinatura
+ * conferir e ele tiver sido emitido para o evento do convite; a expiração
+ * checada é a gravada no próprio token.
  */
 public class ValidadorConvite {
 
   private static final String TOKEN_VALIDO_PREFIX = "TOKEN_VALIDO";
 
+  private final FonteTempo fonteTempo;
+  private final MetricasResposta metricas; // null = sem métricas
+  private final AssinadorToken assinador; // null = token validado pelo prefixo
+
+  public ValidadorConvite() {
+    this(FonteTempo.SISTEMA);
+  }
+
+  /**
+   * @param fonteTempo Fonte do instante atual usada na checagem de expiração;
+   *                   um {@link com.bootcamp.eventos.tempo.RelogioGrosso}
+   *                   evita a leitura do relógio do sistema a cada validação
+   */
+  public ValidadorConvite(FonteTempo fonteTempo) {
+    this(fonteTempo, null);
+  }
+
+  public ValidadorConvite(FonteTempo fonteTempo, MetricasResposta metricas) {
+    this(fonteTempo, metricas, null);
+  }
+
+  public ValidadorConvite(FonteTempo fonteTempo, MetricasResposta metricas, AssinadorToken assinador) {
+    this.fonteTempo = fonteTempo;
+    this.metricas = metricas;
+    this.assinador = assinador;
+  }
+
   /**
    * Valida um convite segundo as regras de negócio.
    * 
@@ -24,31 +60,54 @@ public class ValidadorConvite {
    * - Tem vagas disponíveis?
    */
   public ResultadoValidacao validar(Convite convite) {
+    if (metricas == null) {
+      return aplicarRegras(convite);
+    }
+
+    long inicio = metricas.iniciar();
+    if (inicio == MetricasResposta.NAO_AMOSTRADO) {
+      return aplicarRegras(convite);
+    }
+    ResultadoValidacao resultado = aplicarRegras(convite);
+    metricas.registrarValidacao(resultado, inicio);
+    return resultado;
+  }
+
+  private ResultadoValidacao aplicarRegras(Convite convite) {
     // Validação 1: Token válido
-    if (!tokenValido(convite.getToken())) {
-      return new ResultadoValidacao(false, "Token de convite inválido");
+    long expiracaoEpochMillis;
+    if (assinador == null) {
+      if (!tokenValido(convite.getToken())) {
+        return ResultadoValidacao.TOKEN_INVALIDO;
+      }
+      expiracaoEpochMillis = convite.getExpiracaoEpochMillis();
+    } else {
+      expiracaoEpochMillis = assinador.verificar(convite.getToken(), convite.getEvento());
+      if (expiracaoEpochMillis == AssinadorToken.INVALIDO) {
+        return ResultadoValidacao.TOKEN_INVALIDO;
+      }
     }
 
     // Validação 2: Token não expirado
-    if (tokenExpirado(convite.getDataExpiracao())) {
-      return new ResultadoValidacao(false, "O token do convite expirou");
+    if (tokenExpirado(expiracaoEpochMillis)) {
+      return ResultadoValidacao.TOKEN_EXPIRADO;
     }
 
     // Validação 3: Evento tem vagas (se tiver limite)
     Evento evento = convite.getEvento();
     if (evento.temLimite() && evento.estaLotado()) {
-      return new ResultadoValidacao(false, "Evento já atingiu o número máximo de participantes");
+      return ResultadoValidacao.EVENTO_LOTADO;
     }
 
     // Todas as validações passaram
-    return new ResultadoValidacao(true, null);
+    return ResultadoValidacao.VALIDO;
   }
 
   private boolean tokenValido(String token) {
     return token != null && token.startsWith(TOKEN_VALIDO_PREFIX);
   }
 
-  private boolean tokenExpirado(LocalDateTime dataExpiracao) {
-    return dataExpiracao.isBefore(LocalDateTime.now());
+  private boolean tokenExpirado(long expiracaoEpochMillis) {
+    return expiracaoEpochMillis < fonteTempo.agoraEpochMillis();
   }
 }
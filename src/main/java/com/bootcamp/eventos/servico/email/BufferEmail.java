@@ -0,0 +1,157 @@
+package com.bootcamp.eventos.servico.email;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Buffer reutilizável com uma sequência de mensagens renderizadas em UTF-8.
+ *
+ * As mensagens ficam contíguas em um único array de bytes; o buffer guarda
+ * apenas onde cada uma termina. {@link #limpar()} descarta as mensagens
+ * mantendo a capacidade já alocada, de modo que lotes seguintes de tamanho
+ * parecido não alocam nada.
+ *
+ * Não é thread-safe: cada thread deve usar o seu próprio buffer.
+ */
+public final class BufferEmail {
+
+  private byte[] bytes;
+  private int tamanho;
+  private int[] fins;
+  private int quantidade;
+
+  public BufferEmail() {
+    this(4096);
+  }
+
+  /**
+   * @param capacidadeInicial Bytes alocados antes da primeira mensagem
+   */
+  public BufferEmail(int capacidadeInicial) {
+    this.bytes = new byte[Math.max(64, capacidadeInicial)];
+    this.fins = new int[16];
+  }
+
+  public int getQuantidade() {
+    return quantidade;
+  }
+
+  /**
+   * Total de bytes das mensagens concluídas e da mensagem em construção.
+   */
+  public int getTamanhoBytes() {
+    return tamanho;
+  }
+
+  public int getCapacidadeBytes() {
+    return bytes.length;
+  }
+
+  /**
+   * Visão somente leitura da mensagem, sem copiar os bytes. Fica inválida
+   * depois de {@link #limpar()}.
+   */
+  public ByteBuffer mensagem(int indice) {
+    return ByteBuffer.wrap(bytes, inicio(indice), fins[indice] - inicio(indice)).slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Decodifica a mensagem (útil para testes e diagnóstico).
+   */
+  public String textoMensagem(int indice) {
+    return new String(bytes, inicio(indice), fins[indice] - inicio(indice), StandardCharsets.UTF_8);
+  }
+
+  public void limpar() {
+    tamanho = 0;
+    quantidade = 0;
+  }
+
+  /**
+   * Conclui a mensagem em construção: tudo o que foi escrito desde a
+   * mensagem anterior.
+   */
+  void concluirMensagem() {
+    if (quantidade == fins.length) {
+      fins = Arrays.copyOf(fins, quantidade * 2);
+    }
+    fins[quantidade++] = tamanho;
+  }
+
+  /**
+   * Posição de escrita atual, para reaproveitar depois um trecho já
+   * renderizado com {@link #copiar(int, int)}.
+   */
+  int posicao() {
+    return tamanho;
+  }
+
+  void escrever(byte[] origem) {
+    garantirCapacidade(origem.length);
+    System.arraycopy(origem, 0, bytes, tamanho, origem.length);
+    tamanho += origem.length;
+  }
+
+  /**
+   * Copia um trecho já escrito neste buffer para o final.
+   */
+  void copiar(int inicio, int fim) {
+    int comprimento = fim - inicio;
+    garantirCapacidade(comprimento);
+    System.arraycopy(bytes, inicio, bytes, tamanho, comprimento);
+    tamanho += comprimento;
+  }
+
+  /**
+   * Codifica o texto em UTF-8 diretamente no buffer, sem criar arrays
+   * intermediários. Texto nulo sai como "null" e surrogates sem par como
+   * '?', como em {@code String.getBytes}.
+   */
+  void escreverTexto(CharSequence texto) {
+    if (texto == null) {
+      texto = "null";
+    }
+    int comprimento = texto.length();
+    garantirCapacidade(comprimento * 3);
+
+    byte[] b = bytes;
+    int p = tamanho;
+    for (int i = 0; i < comprimento; i++) {
+      char c = texto.charAt(i);
+      if (c < 0x80) {
+        b[p++] = (byte) c;
+      } else if (c < 0x800) {
+        b[p++] = (byte) (0xC0 | (c >> 6));
+        b[p++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i + 1 < comprimento
+          && Character.isLowSurrogate(texto.charAt(i + 1))) {
+        int codigo = Character.toCodePoint(c, texto.charAt(++i));
+        b[p++] = (byte) (0xF0 | (codigo >> 18));
+        b[p++] = (byte) (0x80 | ((codigo >> 12) & 0x3F));
+        b[p++] = (byte) (0x80 | ((codigo >> 6) & 0x3F));
+        b[p++] = (byte) (0x80 | (codigo & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        b[p++] = '?';
+      } else {
+        b[p++] = (byte) (0xE0 | (c >> 12));
+        b[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        b[p++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+    tamanho = p;
+  }
+
+  private int inicio(int indice) {
+    if (indice < 0 || indice >= quantidade) {
+      throw new IndexOutOfBoundsException("Mensagem inexistente: " + indice);
+    }
+    return indice == 0 ? 0 : fins[indice - 1];
+  }
+
+  private void garantirCapacidade(int adicionais) {
+    if (tamanho + adicionais > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, tamanho + adicionais));
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.bootcamp.eventos.servico.email;
+
+/**
+ * Record representando uma mensagem de email pendente de entrega.
+ * Guarda apenas o necessário para renderizar o email, capturado no momento
+ * do envio (o nome do evento pode mudar depois).
+ *
+ * @param tipo         Tipo do email (convite, confirmação ou alteração)
+ * @param destinatario Endereço do destinatário
+ * @param nomeEvento   Nome do evento no momento do envio
+ */
+public record MensagemEmail(TipoEmail tipo, String destinatario, String nomeEvento) {
+
+  public String assunto() {
+    return tipo.getAssunto();
+  }
+
+  public String corpo() {
+    return tipo.getModeloCompilado().formatar(nomeEvento);
+  }
+}
@@ -0,0 +1,113 @@
+package com.bootcamp.eventos.servico.email;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Modelo de email compilado uma única vez.
+ *
+ * Aceita o mesmo subconjunto de especificadores usado pelos modelos de
+ * {@link TipoEmail}: {@code %s} (argumento posicional) e {@code %%}. A
+ * compilação separa o modelo em trechos literais, já codificados em UTF-8,
+ * intercalados com os argumentos; renderizar apenas copia os trechos e
+ * codifica os argumentos, sem reinterpretar o modelo como
+ * {@code String.format} faz a cada chamada.
+ *
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+public final class ModeloEmail {
+
+  private final String[] textos;
+  private final byte[][] literais;
+
+  private ModeloEmail(List<String> textos) {
+    this.textos = textos.toArray(String[]::new);
+    this.literais = new byte[this.textos.length][];
+    for (int i = 0; i < this.textos.length; i++) {
+      literais[i] = this.textos[i].getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * @throws IllegalArgumentException se o modelo for nulo ou usar
+   *                                  especificador diferente de %s e %%
+   */
+  public static ModeloEmail compilar(String modelo) {
+    if (modelo == null) {
+      throw new IllegalArgumentException("Modelo não pode ser nulo");
+    }
+
+    List<String> textos = new ArrayList<>();
+    StringBuilder atual = new StringBuilder();
+    for (int i = 0; i < modelo.length(); i++) {
+      char c = modelo.charAt(i);
+      if (c != '%') {
+        atual.append(c);
+        continue;
+      }
+
+      char especificador = i + 1 < modelo.length() ? modelo.charAt(++i) : ' ';
+      if (especificador == '%') {
+        atual.append('%');
+      } else if (especificador == 's') {
+        textos.add(atual.toString());
+        atual.setLength(0);
+      } else {
+        throw new IllegalArgumentException("Especificador não suportado no modelo: " + modelo);
+      }
+    }
+    textos.add(atual.toString());
+    return new ModeloEmail(textos);
+  }
+
+  public int getQuantidadeArgumentos() {
+    return textos.length - 1;
+  }
+
+  /**
+   * Renderiza o modelo como texto. Argumentos nulos saem como "null", como
+   * em {@code String.format}.
+   */
+  public String formatar(Object... argumentos) {
+    verificarArgumentos(argumentos);
+    StringBuilder texto = new StringBuilder(textos[0]);
+    for (int i = 0; i < argumentos.length; i++) {
+      texto.append(argumentos[i]).append(textos[i + 1]);
+    }
+    return texto.toString();
+  }
+
+  /**
+   * Renderiza o modelo em UTF-8 no final da mensagem em construção do
+   * buffer.
+   */
+  public void renderizar(BufferEmail destino, CharSequence argumento) {
+    if (textos.length != 2) {
+      throw new IllegalArgumentException(
+          "Modelo espera " + getQuantidadeArgumentos() + " argumentos, recebeu 1");
+    }
+    destino.escrever(literais[0]);
+    destino.escreverTexto(argumento);
+    destino.escrever(literais[1]);
+  }
+
+  /**
+   * Versão com vários argumentos de {@link #renderizar(BufferEmail, CharSequence)}.
+   */
+  public void renderizar(BufferEmail destino, CharSequence... argumentos) {
+    verificarArgumentos(argumentos);
+    destino.escrever(literais[0]);
+    for (int i = 0; i < argumentos.length; i++) {
+      destino.escreverTexto(argumentos[i]);
+      destino.escrever(literais[i + 1]);
+    }
+  }
+
+  private void verificarArgumentos(Object[] argumentos) {
+    if (argumentos == null || argumentos.length != textos.length - 1) {
+      throw new IllegalArgumentException("Modelo espera " + getQuantidadeArgumentos() + " argumentos, recebeu "
+          + (argumentos == null ? 0 : argumentos.length));
+    }
+  }
+}
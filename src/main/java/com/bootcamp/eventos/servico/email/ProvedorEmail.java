@@ -0,0 +1,15 @@
+package com.bootcamp.eventos.servico.email;
+
+import java.util.List;
+
+/**
+ * Interface para o provedor que efetivamente entrega os emails.
+ * Recebe lotes para que uma única chamada remota cubra várias mensagens.
+ */
+public interface ProvedorEmail {
+
+  /**
+   * Entrega um lote de mensagens.
+   */
+  void enviarLote(List<MensagemEmail> lote);
+}
@@ -0,0 +1,58 @@
+package com.bootcamp.eventos.servico.email;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provedor de email local que simula a latência de um provedor real.
+ * Não entrega nada: apenas espera a latência configurada e contabiliza os
+ * lotes e mensagens recebidos, permitindo medir a vazão do envio.
+ */
+public class ProvedorEmailSimulado implements ProvedorEmail {
+
+  private final Duration latenciaPorLote;
+  private final Duration latenciaPorMensagem;
+  private final LongAdder lotesEnviados = new LongAdder();
+  private final LongAdder mensagensEnviadas = new LongAdder();
+
+  /**
+   * @param latenciaPorLote     Custo fixo de cada chamada ao provedor
+   * @param latenciaPorMensagem Custo adicional de cada mensagem do lote
+   */
+  public ProvedorEmailSimulado(Duration latenciaPorLote, Duration latenciaPorMensagem) {
+    this.latenciaPorLote = latenciaPorLote;
+    this.latenciaPorMensagem = latenciaPorMensagem;
+  }
+
+  /**
+   * Cria um provedor sem latência.
+   */
+  public ProvedorEmailSimulado() {
+    this(Duration.ZERO, Duration.ZERO);
+  }
+
+  @Override
+  public void enviarLote(List<MensagemEmail> lote) {
+    long latenciaNanos = latenciaPorLote.toNanos() + latenciaPorMensagem.toNanos() * lote.size();
+    if (latenciaNanos > 0) {
+      try {
+        Thread.sleep(Duration.ofNanos(latenciaNanos));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Envio interrompido", e);
+      }
+    }
+
+    lotesEnviados.increment();
+    mensagensEnviadas.add(lote.size());
+  }
+
+  public long getLotesEnviados() {
+    return lotesEnviados.sum();
+  }
+
+  public long getMensagensEnviadas() {
+    return mensagensEnviadas.sum();
+  }
+}
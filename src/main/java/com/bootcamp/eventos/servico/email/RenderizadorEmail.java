@@ -0,0 +1,110 @@
+package com.bootcamp.eventos.servico.email;
+
+import com.bootcamp.eventos.dominio.Evento;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Renderiza emails prontos para envio em um {@link BufferEmail}.
+ *
+ * Cada mensagem é texto UTF-8 com linhas terminadas em CRLF:
+ * <pre>
+ * Para: {destinatario}
+ * Assunto: {assunto do tipo}
+ *
+ * {corpo do modelo compilado}
+ * </pre>
+ * Em {@link #renderizarLote} tudo o que vem depois do destinatário é
+ * igual para todas as mensagens: é renderizado uma vez e copiado byte a
+ * byte nas seguintes, então o custo por destinatário é codificar o
+ * endereço e copiar o restante.
+ */
+public class RenderizadorEmail {
+
+  private static final byte[] PARA = "Para: ".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] FIM_LINHA = "\r\n".getBytes(StandardCharsets.UTF_8);
+  private static final byte[][] CABECALHOS_ASSUNTO = cabecalhosAssunto();
+
+  /**
+   * Renderiza uma mensagem já capturada (ex.: pelo outbox) como uma nova
+   * mensagem do buffer.
+   */
+  public void renderizar(MensagemEmail mensagem, BufferEmail destino) {
+    if (mensagem == null || destino == null) {
+      throw new IllegalArgumentException("Mensagem e buffer não podem ser nulos");
+    }
+
+    validarDestinatario(mensagem.destinatario());
+    destino.escrever(PARA);
+    destino.escreverTexto(mensagem.destinatario());
+    escreverAssuntoECorpo(mensagem.tipo(), mensagem.nomeEvento(), destino);
+    destino.concluirMensagem();
+  }
+
+  /**
+   * Renderiza uma mensagem do tipo para cada destinatário, todas sobre o
+   * mesmo evento, na ordem da lista.
+   *
+   * @param destino Buffer que recebe as mensagens; as já existentes são
+   *                mantidas
+   */
+  public void renderizarLote(TipoEmail tipo, Evento evento, List<String> destinatarios, BufferEmail destino) {
+    if (tipo == null || evento == null || destinatarios == null || destino == null) {
+      throw new IllegalArgumentException("Tipo, evento, destinatários e buffer não podem ser nulos");
+    }
+    // Valida antes de escrever para não deixar o lote pela metade no buffer
+    for (String destinatario : destinatarios) {
+      validarDestinatario(destinatario);
+    }
+
+    String nomeEvento = evento.getNome();
+    int inicioComum = -1;
+    int fimComum = -1;
+    for (String destinatario : destinatarios) {
+      destino.escrever(PARA);
+      destino.escreverTexto(destinatario);
+      if (inicioComum < 0) {
+        inicioComum = destino.posicao();
+        escreverAssuntoECorpo(tipo, nomeEvento, destino);
+        fimComum = destino.posicao();
+      } else {
+        destino.copiar(inicioComum, fimComum);
+      }
+      destino.concluirMensagem();
+    }
+  }
+
+  /**
+   * O destinatário vai para o cabeçalho {@code Para:}: CR ou LF nele
+   * encerrariam a linha e permitiriam injetar cabeçalhos ou corpo.
+   */
+  private static void validarDestinatario(String destinatario) {
+    if (destinatario == null) {
+      throw new IllegalArgumentException("Destinatário não pode ser nulo");
+    }
+    if (destinatario.indexOf('\r') >= 0 || destinatario.indexOf('\n') >= 0) {
+      throw new IllegalArgumentException("Destinatário não pode conter quebra de linha");
+    }
+  }
+
+  private static void escreverAssuntoECorpo(TipoEmail tipo, String nomeEvento, BufferEmail destino) {
+    destino.escrever(CABECALHOS_ASSUNTO[tipo.ordinal()]);
+    tipo.getModeloCompilado().renderizar(destino, nomeEvento);
+    destino.escrever(FIM_LINHA);
+  }
+
+  /**
+   * Fim da linha "Para", linha "Assunto" e a linha em branco que separa o
+   * corpo, por tipo.
+   */
+  private static byte[][] cabecalhosAssunto() {
+    TipoEmail[] tipos = TipoEmail.values();
+    byte[][] cabecalhos = new byte[tipos.length][];
+    for (TipoEmail tipo : tipos) {
+      cabecalhos[tipo.ordinal()] = ("\r\nAssunto: " + tipo.getAssunto() + "\r\n\r\n")
+          .getBytes(StandardCharsets.UTF_8);
+    }
+    return cabecalhos;
+  }
+}
@@ -6,6 +6,11 @@ import com.bootcamp.eventos.dominio.Evento;
 /**
  * Interface para serviço de envio de emails.
  * Será implementada por versões fake (testes) ou reais (produção).
+ *
+ * O domínio não guarda endereços de email: o {@code destinatario} é o nome
+ * do participante, informado por ele mesmo na resposta ao convite. Uma
+ * implementação real resolve o endereço a partir desse nome e deve tratá-lo
+ * como texto não confiável.
  */
 public interface ServicoEmail {
 
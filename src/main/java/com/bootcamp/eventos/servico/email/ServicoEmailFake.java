@@ -16,35 +16,17 @@ public class ServicoEmailFake implements ServicoEmail {
 
   @Override
   public void enviarConvite(String destinatario, Convite convite) {
-    String mensagem = String.format(
-        "[CONVITE] Você foi convidado para o evento: %s",
-        convite.getEvento().getNome());
-
-    registrarEmail(destinatario, "Convite para Evento", mensagem);
-    System.out.println("✉️  Email enviado para: " + destinatario);
-    System.out.println("    " + mensagem);
+    registrarEmail(new MensagemEmail(TipoEmail.CONVITE, destinatario, convite.getEvento().getNome()));
   }
 
   @Override
   public void enviarConfirmacao(String destinatario, Evento evento) {
-    String mensagem = String.format(
-        "[CONFIRMAÇÃO] Sua presença no evento '%s' foi confirmada!",
-        evento.getNome());
-
-    registrarEmail(destinatario, "Confirmação de Presença", mensagem);
-    System.out.println("✉️  Email enviado para: " + destinatario);
-    System.out.println("    " + mensagem);
+    registrarEmail(new MensagemEmail(TipoEmail.CONFIRMACAO, destinatario, evento.getNome()));
   }
 
   @Override
   public void enviarNotificacaoAlteracao(String destinatario, Evento evento) {
-    String mensagem = String.format(
-        "[ALTERAÇÃO] O evento '%s' foi alterado. Verifique os detalhes.",
-        evento.getNome());
-
-    registrarEmail(destinatario, "Alteração de Evento", mensagem);
-    System.out.println("✉️  Email enviado para: " + destinatario);
-    System.out.println("    " + mensagem);
+    registrarEmail(new MensagemEmail(TipoEmail.ALTERACAO, destinatario, evento.getNome()));
   }
 
   /**
@@ -68,8 +50,11 @@ public class ServicoEmailFake implements ServicoEmail {
     emailsEnviados.clear();
   }
 
-  private void registrarEmail(String destinatario, String assunto, String mensagem) {
-    emailsEnviados.add(new EmailEnviado(destinatario, assunto, mensagem));
+  private void registrarEmail(MensagemEmail email) {
+    String mensagem = email.corpo();
+    emailsEnviados.add(new EmailEnviado(email.destinatario(), email.assunto(), mensagem));
+    System.out.println("✉️  Email enviado para: " + email.destinatario());
+    System.out.println("    " + mensagem);
   }
 
   /**
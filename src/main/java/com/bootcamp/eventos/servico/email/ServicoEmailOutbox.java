@@ -0,0 +1,252 @@
+package com.bootcamp.eventos.servico.email;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementação assíncrona do ServicoEmail baseada em outbox.
+ *
+ * As chamadas apenas enfileiram a mensagem em uma fila limitada e retornam;
+ * quando a fila está cheia o chamador bloqueia até haver espaço
+ * (backpressure). Workers em virtual threads drenam a fila em lotes de até
+ * {@code tamanhoLote} mensagens e os entregam ao {@link ProvedorEmail}.
+ *
+ * Cada mensagem recebe um número de sequência ao ser enfileirada;
+ * {@link #flush(Duration)} aguarda apenas as sequências anteriores à sua
+ * chamada, então retorna mesmo com novas mensagens chegando o tempo todo.
+ */
+public class ServicoEmailOutbox implements ServicoEmail, AutoCloseable {
+
+  private static final long ESPERA_POLL_MILLIS = 50;
+
+  private final ProvedorEmail provedor;
+  private final BlockingQueue<Envio> fila;
+  private final int tamanhoLote;
+  private final List<Thread> workers;
+
+  private final AtomicLong pendentes = new AtomicLong();
+  private final AtomicLong sequencia = new AtomicLong();
+  private final ConcurrentSkipListSet<Long> emAndamento = new ConcurrentSkipListSet<>();
+  private final AtomicInteger flushesAguardando = new AtomicInteger();
+  private final LongAdder falhas = new LongAdder();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition mensagensConcluidas = lock.newCondition();
+  private volatile boolean encerrado;
+
+  /**
+   * @param provedor        Provedor que entrega os lotes
+   * @param capacidadeFila  Máximo de mensagens aguardando envio
+   * @param tamanhoLote     Máximo de mensagens por chamada ao provedor
+   * @param quantidadeWorkers Quantidade de virtual threads drenando a fila
+   */
+  public ServicoEmailOutbox(
+      ProvedorEmail provedor,
+      int capacidadeFila,
+      int tamanhoLote,
+      int quantidadeWorkers) {
+    if (capacidadeFila <= 0 || tamanhoLote <= 0 || quantidadeWorkers <= 0) {
+      throw new IllegalArgumentException("Capacidade, lote e workers devem ser positivos");
+    }
+
+    this.provedor = provedor;
+    this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+    this.tamanhoLote = tamanhoLote;
+    this.workers = new ArrayList<>(quantidadeWorkers);
+
+    for (int i = 0; i < quantidadeWorkers; i++) {
+      workers.add(Thread.ofVirtual().name("outbox-email-" + i).start(this::drenar));
+    }
+  }
+
+  @Override
+  public void enviarConvite(String destinatario, Convite convite) {
+    enfileirar(new MensagemEmail(TipoEmail.CONVITE, destinatario, convite.getEvento().getNome()));
+  }
+
+  @Override
+  public void enviarConfirmacao(String destinatario, Evento evento) {
+    enfileirar(new MensagemEmail(TipoEmail.CONFIRMACAO, destinatario, evento.getNome()));
+  }
+
+  @Override
+  public void enviarNotificacaoAlteracao(String destinatario, Evento evento) {
+    enfileirar(new MensagemEmail(TipoEmail.ALTERACAO, destinatario, evento.getNome()));
+  }
+
+  /**
+   * Bloqueia até que todas as mensagens enfileiradas até agora tenham sido
+   * entregues (ou descartadas por falha do provedor). Mensagens
+   * enfileiradas depois da chamada não são aguardadas.
+   *
+   * @return false se o tempo limite expirou antes disso
+   */
+  public boolean flush(Duration tempoLimite) throws InterruptedException {
+    long alvo = sequencia.get();
+    long restanteNanos = tempoLimite.toNanos();
+    flushesAguardando.incrementAndGet();
+    lock.lock();
+    try {
+      while (!entregueAte(alvo)) {
+        if (restanteNanos <= 0) {
+          return false;
+        }
+        restanteNanos = mensagensConcluidas.awaitNanos(restanteNanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+      flushesAguardando.decrementAndGet();
+    }
+  }
+
+  /**
+   * Para de aceitar mensagens, entrega o que já estava na fila e aguarda o
+   * término dos workers.
+   *
+   * @return false se o tempo limite expirou antes da fila esvaziar
+   */
+  public boolean shutdown(Duration tempoLimite) throws InterruptedException {
+    encerrado = true;
+    long prazo = System.nanoTime() + tempoLimite.toNanos();
+    for (Thread worker : workers) {
+      long restante = prazo - System.nanoTime();
+      if (restante <= 0 || !worker.join(Duration.ofNanos(restante))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Encerra com {@link #shutdown(Duration)} e até 30 s de espera. Se a
+   * thread for interrompida, para de esperar e mantém a interrupção.
+   */
+  @Override
+  public void close() {
+    try {
+      shutdown(Duration.ofSeconds(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Retorna a quantidade de mensagens enfileiradas ainda não entregues.
+   */
+  public long getPendentes() {
+    return pendentes.get();
+  }
+
+  /**
+   * Retorna a quantidade de mensagens perdidas por falha do provedor.
+   */
+  public long getFalhas() {
+    return falhas.sum();
+  }
+
+  private void enfileirar(MensagemEmail mensagem) {
+    if (encerrado) {
+      throw new IllegalStateException("Outbox de email encerrado");
+    }
+
+    Envio envio = new Envio(sequencia.incrementAndGet(), mensagem);
+    emAndamento.add(envio.sequencia());
+    pendentes.incrementAndGet();
+    try {
+      fila.put(envio);
+    } catch (InterruptedException e) {
+      concluir(envio);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Envio de email interrompido", e);
+    }
+
+    // Chegou depois que os workers viram a fila vazia e terminaram: não será entregue
+    if (encerrado && fila.remove(envio)) {
+      concluir(envio);
+      throw new IllegalStateException("Outbox de email encerrado");
+    }
+  }
+
+  private void drenar() {
+    List<Envio> envios = new ArrayList<>(tamanhoLote);
+    List<MensagemEmail> lote = new ArrayList<>(tamanhoLote);
+    while (true) {
+      Envio primeira;
+      try {
+        primeira = fila.poll(ESPERA_POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        return;
+      }
+
+      if (primeira == null) {
+        if (encerrado && fila.isEmpty()) {
+          return;
+        }
+        continue;
+      }
+
+      envios.add(primeira);
+      fila.drainTo(envios, tamanhoLote - 1);
+      for (Envio envio : envios) {
+        lote.add(envio.mensagem());
+      }
+      try {
+        provedor.enviarLote(lote);
+      } catch (RuntimeException e) {
+        falhas.add(lote.size());
+      } finally {
+        for (Envio envio : envios) {
+          emAndamento.remove(envio.sequencia());
+        }
+        pendentes.addAndGet(-envios.size());
+        avisarFlushes();
+        envios.clear();
+        lote.clear();
+      }
+    }
+  }
+
+  private void concluir(Envio envio) {
+    emAndamento.remove(envio.sequencia());
+    pendentes.decrementAndGet();
+    avisarFlushes();
+  }
+
+  /**
+   * Entregues todas as mensagens com sequência até {@code alvo}.
+   */
+  private boolean entregueAte(long alvo) {
+    Long primeiraEmAndamento = emAndamento.ceiling(Long.MIN_VALUE);
+    return primeiraEmAndamento == null || primeiraEmAndamento > alvo;
+  }
+
+  private void avisarFlushes() {
+    if (flushesAguardando.get() > 0) {
+      lock.lock();
+      try {
+        mensagensConcluidas.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Mensagem enfileirada com o seu número de sequência.
+   */
+  private record Envio(long sequencia, MensagemEmail mensagem) {
+  }
+}
@@ -0,0 +1,39 @@
+package com.bootcamp.eventos.servico.email;
+
+/**
+ * Enum representando os tipos de email enviados pelo sistema.
+ * Cada tipo define o assunto e o modelo da mensagem, compilado uma única
+ * vez na carga da classe.
+ */
+public enum TipoEmail {
+  /** Convite para um evento */
+  CONVITE("Convite para Evento", "[CONVITE] Você foi convidado para o evento: %s"),
+
+  /** Confirmação de presença em um evento */
+  CONFIRMACAO("Confirmação de Presença", "[CONFIRMAÇÃO] Sua presença no evento '%s' foi confirmada!"),
+
+  /** Notificação de alteração de um evento */
+  ALTERACAO("Alteração de Evento", "[ALTERAÇÃO] O evento '%s' foi alterado. Verifique os detalhes.");
+
+  private final String assunto;
+  private final String modelo;
+  private final ModeloEmail modeloCompilado;
+
+  TipoEmail(String assunto, String modelo) {
+    this.assunto = assunto;
+    this.modelo = modelo;
+    this.modeloCompilado = ModeloEmail.compilar(modelo);
+  }
+
+  public String getAssunto() {
+    return assunto;
+  }
+
+  public String getModelo() {
+    return modelo;
+  }
+
+  public ModeloEmail getModeloCompilado() {
+    return modeloCompilado;
+  }
+}
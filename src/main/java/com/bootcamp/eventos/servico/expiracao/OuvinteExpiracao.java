@@ -0,0 +1,17 @@
+package com.bootcamp.eventos.servico.expiracao;
+
+import com.bootcamp.eventos.dominio.Convite;
+
+import java.util.List;
+
+/**
+ * Interface para receber os convites que expiraram sem resposta.
+ *
+ * Os convites são entregues em lotes, na thread do varredor; a lista só é
+ * válida durante a chamada (copie se precisar guardá-la).
+ */
+@FunctionalInterface
+public interface OuvinteExpiracao {
+
+  void aoExpirar(List<Convite> expirados);
+}
@@ -0,0 +1,303 @@
+package com.bootcamp.eventos.servico.expiracao;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import com.bootcamp.eventos.tempo.FonteTempo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Varredor de expiração de convites baseado em roda de tempo hierárquica.
+ *
+ * O tempo é dividido em ticks de {@code resolucao}. A roda tem
+ * {@value #NIVEIS} níveis de {@value #SLOTS} slots: o nível 0 cobre os
+ * próximos 64 ticks, o nível 1 os próximos 64², e assim por diante. Um
+ * convite entra no nível do bloco de 6 bits mais alto em que o seu tick de
+ * expiração difere do tick atual; quando o tempo chega ao slot, as entradas
+ * descem (cascata) para níveis mais baixos até expirarem no nível 0.
+ * Expirações além do alcance da roda ficam no último nível e são
+ * reinseridas quando o slot passa, então a memória é sempre proporcional
+ * apenas à quantidade de convites agendados.
+ *
+ * Agendar é O(1) e não bloqueia: os convites entram numa fila lock-free e
+ * são inseridos na roda pela thread do varredor, única a tocar os slots.
+ * Cada tick custa O(1) mais as entradas que expiram ou descem.
+ *
+ * Ao expirar, convites ainda sem resposta são removidos do
+ * {@link RepositorioConvite} (se configurado) e entregues em lotes ao
+ * {@link OuvinteExpiracao}. Convites respondidos antes do prazo são apenas
+ * descartados. Uma exceção do ouvinte é contada ({@link #getFalhasOuvinte()})
+ * e descarta apenas aquele lote: a varredura continua.
+ */
+public class VarredorExpiracao implements AutoCloseable {
+
+  private static final int BITS_NIVEL = 6;
+  private static final int SLOTS = 1 << BITS_NIVEL; // 64
+  private static final int MASCARA_SLOT = SLOTS - 1;
+  private static final int NIVEIS = 6; // 64^6 ticks
+
+  private final FonteTempo fonteTempo;
+  private final long resolucaoMillis;
+  private final RepositorioConvite repositorio; // null = não remove
+  private final OuvinteExpiracao ouvinte;
+  private final int tamanhoLote;
+
+  private final Queue<Entrada> pendentes = new ConcurrentLinkedQueue<>();
+  private final AtomicLong agendados = new AtomicLong();
+  private final AtomicLong falhasOuvinte = new AtomicLong();
+  private final Entrada[][] slots = new Entrada[NIVEIS][SLOTS];
+  private final List<Convite> lote;
+  private long tickAtual;
+  private long naRoda;
+
+  private volatile Thread varredura;
+  private volatile boolean ativo;
+
+  /**
+   * @param fonteTempo  Fonte do instante atual
+   * @param resolucao   Duração de um tick (precisão da expiração)
+   * @param repositorio Repositório de onde remover os expirados, ou null
+   * @param ouvinte     Destino dos lotes de convites expirados
+   * @param tamanhoLote Máximo de convites por notificação
+   */
+  public VarredorExpiracao(
+      FonteTempo fonteTempo,
+      Duration resolucao,
+      RepositorioConvite repositorio,
+      OuvinteExpiracao ouvinte,
+      int tamanhoLote) {
+    if (resolucao.toMillis() <= 0) {
+      throw new IllegalArgumentException("Resolução deve ser de pelo menos 1 ms");
+    }
+    if (tamanhoLote <= 0) {
+      throw new IllegalArgumentException("Tamanho do lote deve ser positivo");
+    }
+
+    this.fonteTempo = fonteTempo;
+    this.resolucaoMillis = resolucao.toMillis();
+    this.repositorio = repositorio;
+    this.ouvinte = ouvinte;
+    this.tamanhoLote = tamanhoLote;
+    this.lote = new ArrayList<>(tamanhoLote);
+    this.tickAtual = Math.floorDiv(fonteTempo.agoraEpochMillis(), resolucaoMillis);
+  }
+
+  /**
+   * Agenda a expiração do convite para {@link Convite#getExpiracaoEpochMillis()}.
+   * Seguro para chamadas concorrentes.
+   */
+  public void agendar(Convite convite) {
+    if (convite == null) {
+      throw new IllegalArgumentException("Convite não pode ser nulo");
+    }
+
+    // Expira no primeiro tick posterior ao instante de expiração
+    long expiracao = convite.getExpiracaoEpochMillis();
+    long tick = expiracao == Long.MIN_VALUE
+        ? Long.MIN_VALUE
+        : Math.floorDiv(expiracao, resolucaoMillis) + 1;
+    pendentes.offer(new Entrada(convite, tick));
+    agendados.incrementAndGet();
+  }
+
+  /**
+   * Avança a roda até o instante atual, expirando e notificando os convites
+   * vencidos. Chamado pela thread iniciada em {@link #iniciar()} ou, sem
+   * ela, diretamente (ex.: em testes com relógio controlado). Não deve ser
+   * chamado por duas threads ao mesmo tempo.
+   *
+   * @return Quantidade de convites expirados nesta varredura
+   */
+  public int varrer() {
+    long alvo = Math.floorDiv(fonteTempo.agoraEpochMillis(), resolucaoMillis);
+    int expirados = 0;
+
+    Entrada entrada;
+    while ((entrada = pendentes.poll()) != null) {
+      expirados += inserir(entrada);
+    }
+
+    while (tickAtual < alvo) {
+      if (naRoda == 0) {
+        // Roda vazia: nada a cascatear, salta direto para o alvo
+        tickAtual = alvo;
+        break;
+      }
+      tickAtual++;
+      cascatear();
+      expirados += expirarSlot(slots[0], (int) (tickAtual & MASCARA_SLOT));
+    }
+
+    publicarLote();
+    return expirados;
+  }
+
+  /**
+   * Inicia uma thread em segundo plano que varre a roda a cada tick.
+   */
+  public synchronized void iniciar() {
+    if (varredura != null) {
+      throw new IllegalStateException("Varredor já iniciado");
+    }
+
+    ativo = true;
+    varredura = Thread.ofPlatform()
+        .name("varredor-expiracao")
+        .daemon(true)
+        .start(this::executar);
+  }
+
+  /**
+   * Retorna quantos convites aguardam expiração.
+   */
+  public long getAgendados() {
+    return agendados.get();
+  }
+
+  /**
+   * Retorna quantos lotes o ouvinte rejeitou com exceção.
+   */
+  public long getFalhasOuvinte() {
+    return falhasOuvinte.get();
+  }
+
+  /**
+   * Interrompe a thread de varredura, se iniciada, e aguarda o seu término.
+   * Se a thread que fecha for interrompida, para de esperar e mantém a
+   * interrupção.
+   */
+  @Override
+  public void close() {
+    Thread thread = varredura;
+    ativo = false;
+    if (thread != null) {
+      thread.interrupt();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void executar() {
+    while (ativo) {
+      try {
+        Thread.sleep(resolucaoMillis);
+      } catch (InterruptedException e) {
+        return;
+      }
+      varrer();
+    }
+  }
+
+  /**
+   * Coloca a entrada no slot correspondente, ou a expira se o prazo já
+   * passou.
+   *
+   * @return 1 se a entrada expirou imediatamente
+   */
+  private int inserir(Entrada entrada) {
+    if (entrada.tick <= tickAtual) {
+      return expirar(entrada);
+    }
+
+    long diferenca = entrada.tick ^ tickAtual;
+    int nivel = Math.min(NIVEIS - 1, (63 - Long.numberOfLeadingZeros(diferenca)) / BITS_NIVEL);
+    int slot = (int) ((entrada.tick >>> (nivel * BITS_NIVEL)) & MASCARA_SLOT);
+
+    entrada.proxima = slots[nivel][slot];
+    slots[nivel][slot] = entrada;
+    naRoda++;
+    return 0;
+  }
+
+  /**
+   * Quando o tick atual fecha um ciclo de um nível, redistribui o slot
+   * correspondente do nível seguinte nos níveis mais baixos. Os níveis mais
+   * altos descem primeiro.
+   */
+  private void cascatear() {
+    int nivelMaximo = 0;
+    while (nivelMaximo + 1 < NIVEIS
+        && (tickAtual & ((1L << ((nivelMaximo + 1) * BITS_NIVEL)) - 1)) == 0) {
+      nivelMaximo++;
+    }
+
+    for (int nivel = nivelMaximo; nivel >= 1; nivel--) {
+      int slot = (int) ((tickAtual >>> (nivel * BITS_NIVEL)) & MASCARA_SLOT);
+      Entrada entrada = slots[nivel][slot];
+      slots[nivel][slot] = null;
+      while (entrada != null) {
+        Entrada proxima = entrada.proxima;
+        naRoda--;
+        inserir(entrada);
+        entrada = proxima;
+      }
+    }
+  }
+
+  private int expirarSlot(Entrada[] nivelZero, int slot) {
+    Entrada entrada = nivelZero[slot];
+    nivelZero[slot] = null;
+    int expirados = 0;
+    while (entrada != null) {
+      Entrada proxima = entrada.proxima;
+      naRoda--;
+      expirados += inserir(entrada);
+      entrada = proxima;
+    }
+    return expirados;
+  }
+
+  private int expirar(Entrada entrada) {
+    agendados.decrementAndGet();
+    Convite convite = entrada.convite;
+    if (convite.foiRespondido()) {
+      return 0;
+    }
+
+    if (repositorio != null) {
+      repositorio.remover(convite);
+    }
+    lote.add(convite);
+    if (lote.size() == tamanhoLote) {
+      publicarLote();
+    }
+    return 1;
+  }
+
+  private void publicarLote() {
+    if (lote.isEmpty()) {
+      return;
+    }
+
+    try {
+      ouvinte.aoExpirar(lote);
+    } catch (RuntimeException e) {
+      // Não pode escapar: deixaria a roda pela metade e mataria a thread de varredura
+      falhasOuvinte.incrementAndGet();
+    } finally {
+      lote.clear();
+    }
+  }
+
+  /**
+   * Nó da lista encadeada de um slot.
+   */
+  private static final class Entrada {
+    final Convite convite;
+    final long tick;
+    Entrada proxima;
+
+    Entrada(Convite convite, long tick) {
+      this.convite = convite;
+      this.tick = tick;
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package com.bootcamp.eventos.servico.fluxo;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Estágio de um pipeline {@link Flow}: recebe itens da origem, aplica uma
+ * função e entrega o resultado a um único assinante, na mesma ordem.
+ *
+ * O estágio guarda no máximo {@code capacidade} itens recebidos e ainda não
+ * entregues. Pede {@code capacidade} à origem ao se inscrever e repõe em
+ * blocos de 3/4 da capacidade conforme entrega; sem demanda do assinante a
+ * origem para depois de encher o buffer, o que leva a contrapressão até o
+ * início do pipeline.
+ *
+ * A função roda em uma tarefa do {@code executor}, nunca em mais de uma
+ * thread ao mesmo tempo (contador de trabalho pendente), e a tarefa termina
+ * quando não há item ou demanda. A origem só é assinada quando o assinante
+ * chega. Uma exceção da função cancela a origem e encerra o fluxo com
+ * onError; um erro da origem é entregue depois dos itens já recebidos.
+ */
+final class EstagioFluxo<E, S> implements Flow.Processor<E, S> {
+
+  private final Flow.Publisher<? extends E> origem;
+  private final Function<? super E, ? extends S> funcao;
+  private final Executor executor;
+  private final ArrayBlockingQueue<E> buffer;
+  private final int lote;
+
+  private final AtomicInteger trabalhoPendente = new AtomicInteger();
+  private final AtomicLong demanda = new AtomicLong();
+  private volatile Flow.Subscription assinaturaOrigem;
+  private volatile Flow.Subscriber<? super S> assinante;
+  private volatile boolean concluido;
+  private volatile Throwable erro;
+  private volatile Throwable erroDemanda;
+  private volatile boolean cancelado;
+  private int consumidosDesdeReposicao; // só na tarefa de drenagem
+
+  EstagioFluxo(
+      Flow.Publisher<? extends E> origem,
+      Function<? super E, ? extends S> funcao,
+      int capacidade,
+      Executor executor) {
+    this.origem = origem;
+    this.funcao = funcao;
+    this.executor = executor;
+    this.buffer = new ArrayBlockingQueue<>(capacidade);
+    this.lote = Math.max(1, capacidade - (capacidade >> 2));
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super S> novo) {
+    Objects.requireNonNull(novo);
+    synchronized (this) {
+      if (assinante != null) {
+        novo.onSubscribe(new AssinaturaRejeitada());
+        novo.onError(new IllegalStateException("Fluxo aceita um único assinante"));
+        return;
+      }
+      assinante = novo;
+    }
+    novo.onSubscribe(new Assinatura());
+    origem.subscribe(this);
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription assinatura) {
+    if (assinaturaOrigem != null || cancelado) {
+      assinatura.cancel();
+      return;
+    }
+    assinaturaOrigem = assinatura;
+    assinatura.request(buffer.remainingCapacity());
+  }
+
+  @Override
+  public void onNext(E item) {
+    Objects.requireNonNull(item);
+    if (!buffer.offer(item)) {
+      assinaturaOrigem.cancel();
+      onError(new IllegalStateException("Origem enviou mais itens que o solicitado"));
+      return;
+    }
+    agendar();
+  }
+
+  @Override
+  public void onError(Throwable falha) {
+    erro = falha;
+    concluido = true;
+    agendar();
+  }
+
+  @Override
+  public void onComplete() {
+    concluido = true;
+    agendar();
+  }
+
+  private void agendar() {
+    if (trabalhoPendente.getAndIncrement() == 0) {
+      executor.execute(this::drenar);
+    }
+  }
+
+  private void drenar() {
+    int pendente = 1;
+    do {
+      emitir();
+      pendente = trabalhoPendente.addAndGet(-pendente);
+    } while (pendente != 0);
+  }
+
+  private void emitir() {
+    Flow.Subscriber<? super S> destino = assinante;
+    if (erroDemanda != null && !cancelado) {
+      interromper(destino, erroDemanda);
+      return;
+    }
+
+    long solicitados = demanda.get();
+    long emitidos = 0;
+
+    while (!cancelado) {
+      // Lê o fim antes do buffer: concluído com buffer vazio é mesmo o fim
+      boolean fim = concluido;
+      E item = emitidos == solicitados ? null : buffer.poll();
+      if (item == null) {
+        if (fim && buffer.isEmpty()) {
+          encerrar(destino);
+        }
+        break;
+      }
+
+      S saida;
+      try {
+        saida = funcao.apply(item);
+      } catch (RuntimeException falha) {
+        interromper(destino, falha);
+        return;
+      }
+      destino.onNext(saida);
+      emitidos++;
+
+      if (++consumidosDesdeReposicao == lote) {
+        consumidosDesdeReposicao = 0;
+        assinaturaOrigem.request(lote);
+      }
+    }
+
+    if (emitidos > 0 && solicitados != Long.MAX_VALUE) {
+      demanda.addAndGet(-emitidos);
+    }
+  }
+
+  private void interromper(Flow.Subscriber<? super S> destino, Throwable falha) {
+    cancelado = true;
+    Flow.Subscription assinatura = assinaturaOrigem;
+    if (assinatura != null) {
+      assinatura.cancel();
+    }
+    buffer.clear();
+    destino.onError(falha);
+  }
+
+  private void encerrar(Flow.Subscriber<? super S> destino) {
+    cancelado = true;
+    Throwable falha = erro;
+    if (falha != null) {
+      destino.onError(falha);
+    } else {
+      destino.onComplete();
+    }
+  }
+
+  private final class Assinatura implements Flow.Subscription {
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        // Entregue pela tarefa de drenagem, que serializa os sinais ao assinante
+        erroDemanda = new IllegalArgumentException("Demanda deve ser positiva");
+        agendar();
+        return;
+      }
+      demanda.getAndAccumulate(n, (atual, pedido) -> {
+        long soma = atual + pedido;
+        return soma < 0 ? Long.MAX_VALUE : soma;
+      });
+      agendar();
+    }
+
+    @Override
+    public void cancel() {
+      cancelado = true;
+      Flow.Subscription assinatura = assinaturaOrigem;
+      if (assinatura != null) {
+        assinatura.cancel();
+      }
+      buffer.clear();
+    }
+  }
+
+  private static final class AssinaturaRejeitada implements Flow.Subscription {
+
+    @Override
+    public void request(long n) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.bootcamp.eventos.servico.fluxo;
+
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.ResultadoValidacao;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Processa um fluxo de respostas a convites com {@link Flow}, sem acumular
+ * o fluxo em memória.
+ *
+ * Cada resposta passa por dois estágios encadeados, cada um em sua própria
+ * tarefa: validação do convite pelo {@link ValidadorConvite} e
+ * processamento pelo {@link ProcessadorResposta}. Enquanto uma resposta é
+ * processada a seguinte já está sendo validada. Os resultados saem na
+ * ordem de entrada, um por resposta.
+ *
+ * A contrapressão vem da demanda do assinante: cada estágio guarda no
+ * máximo {@code capacidadeEstagio} respostas e só pede mais ao anterior
+ * conforme entrega, então a origem nunca fica mais de
+ * 2 × {@code capacidadeEstagio} respostas à frente do assinante.
+ *
+ * Token inválido ou expirado encerra a resposta na validação, com o
+ * resultado correspondente. Lotação não encerra: a aceitação segue para o
+ * processamento, que decide entre lista de espera e recusa, e a recusa é
+ * registrada normalmente. Uma solicitação com convite ou resposta nulos
+ * encerra o fluxo com onError.
+ *
+ * O fluxo é entrada interna, como o lote do {@link ProcessadorResposta}:
+ * não passa pelo limite de taxa, que fica no ponto de entrada externo.
+ */
+public class FluxoRespostas {
+
+  private static final int CAPACIDADE_PADRAO = 256;
+  private static final ThreadFactory VIRTUAL = Thread.ofVirtual().name("fluxo-respostas").factory();
+
+  private final ValidadorConvite validador;
+  private final ProcessadorResposta processador;
+  private final int capacidadeEstagio;
+  private final Executor executor;
+
+  public FluxoRespostas(ValidadorConvite validador, ProcessadorResposta processador) {
+    this(validador, processador, CAPACIDADE_PADRAO, tarefa -> VIRTUAL.newThread(tarefa).start());
+  }
+
+  /**
+   * @param capacidadeEstagio Respostas guardadas por estágio
+   * @param executor          Executa as tarefas dos estágios (cada tarefa
+   *                          drena o estágio e termina)
+   */
+  public FluxoRespostas(
+      ValidadorConvite validador,
+      ProcessadorResposta processador,
+      int capacidadeEstagio,
+      Executor executor) {
+    if (validador == null || processador == null || executor == null) {
+      throw new IllegalArgumentException("Validador, processador e executor não podem ser nulos");
+    }
+    if (capacidadeEstagio <= 0) {
+      throw new IllegalArgumentException("Capacidade do estágio deve ser positiva");
+    }
+
+    this.validador = validador;
+    this.processador = processador;
+    this.capacidadeEstagio = capacidadeEstagio;
+    this.executor = executor;
+  }
+
+  /**
+   * Monta o pipeline sobre a origem. Nada é pedido à origem até que o
+   * publicador retornado receba um assinante; ele aceita um único
+   * assinante.
+   */
+  public Flow.Publisher<ResultadoProcessamento> processar(Flow.Publisher<SolicitacaoResposta> respostas) {
+    if (respostas == null) {
+      throw new IllegalArgumentException("Publicador de respostas não pode ser nulo");
+    }
+
+    EstagioFluxo<SolicitacaoResposta, Validada> validacao =
+        new EstagioFluxo<>(respostas, this::validar, capacidadeEstagio, executor);
+    return new EstagioFluxo<>(validacao, this::processarValidada, capacidadeEstagio, executor);
+  }
+
+  private Validada validar(SolicitacaoResposta solicitacao) {
+    if (solicitacao.convite() == null || solicitacao.resposta() == null) {
+      throw new IllegalArgumentException("Convite e resposta não podem ser nulos");
+    }
+
+    ResultadoValidacao validacao = validador.validar(solicitacao.convite());
+    if (validacao == ResultadoValidacao.TOKEN_INVALIDO) {
+      return new Validada(solicitacao, ResultadoProcessamento.TOKEN_INVALIDO);
+    }
+    if (validacao == ResultadoValidacao.TOKEN_EXPIRADO) {
+      return new Validada(solicitacao, ResultadoProcessamento.TOKEN_EXPIRADO);
+    }
+    return new Validada(solicitacao, null);
+  }
+
+  private ResultadoProcessamento processarValidada(Validada validada) {
+    if (validada.rejeicao() != null) {
+      return validada.rejeicao();
+    }
+    SolicitacaoResposta solicitacao = validada.solicitacao();
+    return processador.processarResposta(solicitacao.convite(), solicitacao.resposta());
+  }
+
+  /**
+   * Resposta que passou pela validação.
+   *
+   * @param rejeicao Resultado final se a validação rejeitou, ou null
+   */
+  private record Validada(SolicitacaoResposta solicitacao, ResultadoProcessamento rejeicao) {
+  }
+}
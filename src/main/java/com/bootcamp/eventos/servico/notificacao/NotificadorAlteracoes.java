@@ -0,0 +1,229 @@
+package com.bootcamp.eventos.servico.notificacao;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.OuvinteAlteracaoEvento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.enums.CampoEvento;
+import com.bootcamp.eventos.servico.email.ServicoEmail;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Envia a notificação de alteração aos participantes confirmados quando um
+ * evento acompanhado é editado, agrupando edições próximas.
+ *
+ * A primeira edição de um evento abre uma janela de duração fixa; edições
+ * do mesmo evento até a janela fechar não geram envios adicionais. Ao
+ * fechar, cada participante confirmado naquele momento recebe uma única
+ * notificação, enviada em lotes paralelos de virtual threads. Como a
+ * janela não é reiniciada por novas edições, um evento editado sem parar
+ * recebe no máximo uma notificação por janela.
+ *
+ * O destinatário é o nome do participante, como na ListaEspera. Falhas do
+ * ServicoEmail são contadas e não interrompem os demais envios.
+ */
+public class NotificadorAlteracoes implements AutoCloseable {
+
+  private static final int TAMANHO_LOTE_PADRAO = 500;
+
+  private final ServicoEmail servicoEmail;
+  private final long janelaNanos;
+  private final int tamanhoLote;
+  private final ScheduledThreadPoolExecutor agendador;
+  private final Map<Evento, Pendencia> pendencias = new ConcurrentHashMap<>();
+  private final OuvinteAlteracaoEvento ouvinte = this::aoAlterar;
+
+  private final LongAdder alteracoes = new LongAdder();
+  private final LongAdder distribuicoes = new LongAdder();
+  private final LongAdder emailsEnviados = new LongAdder();
+  private final LongAdder emailsEvitados = new LongAdder();
+  private final LongAdder falhas = new LongAdder();
+  private final LongAdder nanosDistribuicao = new LongAdder();
+  private volatile boolean encerrado;
+
+  public NotificadorAlteracoes(ServicoEmail servicoEmail, Duration janela) {
+    this(servicoEmail, janela, TAMANHO_LOTE_PADRAO);
+  }
+
+  /**
+   * @param servicoEmail Serviço que envia cada notificação; deve aceitar
+   *                     chamadas de várias threads
+   * @param janela       Tempo entre a primeira edição e o envio
+   * @param tamanhoLote  Máximo de participantes por virtual thread
+   */
+  public NotificadorAlteracoes(ServicoEmail servicoEmail, Duration janela, int tamanhoLote) {
+    if (servicoEmail == null || janela == null) {
+      throw new IllegalArgumentException("Serviço de email e janela não podem ser nulos");
+    }
+    if (janela.isNegative() || tamanhoLote <= 0) {
+      throw new IllegalArgumentException("Janela não pode ser negativa e lote deve ser positivo");
+    }
+
+    this.servicoEmail = servicoEmail;
+    this.janelaNanos = janela.toNanos();
+    this.tamanhoLote = tamanhoLote;
+    this.agendador = new ScheduledThreadPoolExecutor(1,
+        tarefa -> Thread.ofPlatform().name("notificador-alteracoes").daemon(true).unstarted(tarefa));
+    // No close as janelas abertas são distribuídas na hora, sem esperar
+    agendador.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+  }
+
+  /**
+   * Passa a notificar os participantes quando o evento for editado.
+   */
+  public void acompanhar(Evento evento) {
+    if (evento == null) {
+      throw new IllegalArgumentException("Evento não pode ser nulo");
+    }
+    evento.adicionarOuvinteAlteracao(ouvinte);
+  }
+
+  /**
+   * Para de acompanhar o evento. Uma janela já aberta ainda é distribuída.
+   */
+  public void deixarDeAcompanhar(Evento evento) {
+    if (evento == null) {
+      throw new IllegalArgumentException("Evento não pode ser nulo");
+    }
+    evento.removerOuvinteAlteracao(ouvinte);
+  }
+
+  /**
+   * Fecha agora todas as janelas abertas, distribuindo as notificações na
+   * thread chamadora.
+   */
+  public void distribuirPendentes() {
+    for (Map.Entry<Evento, Pendencia> entrada : pendencias.entrySet()) {
+      distribuir(entrada.getKey(), entrada.getValue());
+    }
+  }
+
+  public long getAlteracoes() {
+    return alteracoes.sum();
+  }
+
+  public long getDistribuicoes() {
+    return distribuicoes.sum();
+  }
+
+  public long getEmailsEnviados() {
+    return emailsEnviados.sum();
+  }
+
+  /**
+   * Emails que seriam enviados se cada edição notificasse os participantes
+   * separadamente.
+   */
+  public long getEmailsEvitados() {
+    return emailsEvitados.sum();
+  }
+
+  public long getFalhas() {
+    return falhas.sum();
+  }
+
+  /**
+   * Tempo total gasto enviando as notificações, somado entre distribuições.
+   */
+  public Duration getTempoDistribuicao() {
+    return Duration.ofNanos(nanosDistribuicao.sum());
+  }
+
+  /**
+   * Distribui as janelas abertas e encerra o agendador, aguardando até 30 s
+   * as distribuições em andamento. Edições feitas depois não são
+   * notificadas. Se a thread for interrompida, para de esperar e mantém a
+   * interrupção.
+   */
+  @Override
+  public void close() {
+    encerrado = true;
+    agendador.shutdown();
+    distribuirPendentes();
+    try {
+      agendador.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void aoAlterar(Evento evento, CampoEvento campo) {
+    if (encerrado) {
+      return;
+    }
+
+    alteracoes.increment();
+    pendencias.compute(evento, (e, pendencia) -> {
+      if (pendencia != null) {
+        pendencia.edicoes++;
+        return pendencia;
+      }
+
+      Pendencia nova = new Pendencia();
+      try {
+        agendador.schedule(() -> distribuir(e, nova), janelaNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException rejeitada) {
+        return null;
+      }
+      return nova;
+    });
+  }
+
+  /**
+   * Envia a notificação da pendência, se ela ainda não foi distribuída
+   * (pelo agendador ou por {@link #distribuirPendentes()}).
+   */
+  private void distribuir(Evento evento, Pendencia pendencia) {
+    if (!pendencias.remove(evento, pendencia)) {
+      return;
+    }
+
+    long inicio = System.nanoTime();
+    List<Participante> participantes = evento.getParticipantes();
+    if (participantes.size() <= tamanhoLote) {
+      enviarLote(evento, participantes);
+    } else {
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 0; i < participantes.size(); i += tamanhoLote) {
+          List<Participante> lote = participantes.subList(i, Math.min(participantes.size(), i + tamanhoLote));
+          executor.execute(() -> enviarLote(evento, lote));
+        }
+      }
+    }
+
+    distribuicoes.increment();
+    // Sem agrupamento, cada edição teria notificado todos os participantes
+    emailsEvitados.add((long) (pendencia.edicoes - 1) * participantes.size());
+    nanosDistribuicao.add(System.nanoTime() - inicio);
+  }
+
+  private void enviarLote(Evento evento, List<Participante> lote) {
+    int enviados = 0;
+    for (Participante participante : lote) {
+      try {
+        servicoEmail.enviarNotificacaoAlteracao(participante.nome(), evento);
+        enviados++;
+      } catch (RuntimeException e) {
+        falhas.increment();
+      }
+    }
+    emailsEnviados.add(enviados);
+  }
+
+  /**
+   * Janela aberta de um evento. Alterada apenas dentro do compute do mapa,
+   * e lida depois de removida dele.
+   */
+  private static final class Pendencia {
+    int edicoes = 1;
+  }
+}
@@ -0,0 +1,210 @@
+package com.bootcamp.eventos.servico.particao;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processa respostas de convite em partições com um único escritor cada.
+ *
+ * Cada evento pertence a uma partição, escolhida pelo hash do seu id. Cada
+ * partição tem uma caixa de entrada limitada e uma thread dona dos seus
+ * eventos, que drena a caixa em lotes e aplica o
+ * {@link ProcessadorResposta} a cada lote drenado de uma só vez, na própria
+ * thread; com diário, o lote inteiro aguarda uma única sincronização. Como
+ * um evento só é alterado pela thread da sua partição, as operações
+ * atômicas do Evento nunca disputam entre threads e as respostas de um
+ * mesmo chamador para um mesmo evento são processadas na ordem de envio.
+ *
+ * Quando a caixa está cheia o chamador bloqueia até haver espaço
+ * (backpressure). Para manter o escritor único, as respostas dos eventos
+ * atendidos pelo motor devem passar apenas por ele. Se um escritor é
+ * interrompido, o motor é encerrado e as respostas ainda na caixa falham
+ * com IllegalStateException.
+ */
+public class MotorRespostas implements AutoCloseable {
+
+  private static final int CAPACIDADE_CAIXA_PADRAO = 4096;
+  private static final int TAMANHO_LOTE = 256;
+  private static final long ESPERA_POLL_MILLIS = 50;
+
+  private final ProcessadorResposta processador;
+  private final List<BlockingQueue<Solicitacao>> caixas;
+  private final List<Thread> escritores;
+  private volatile boolean encerrado;
+
+  public MotorRespostas(int particoes) {
+    this(particoes, new ProcessadorResposta(), CAPACIDADE_CAIXA_PADRAO);
+  }
+
+  /**
+   * @param particoes       Quantidade de partições (uma thread escritora cada)
+   * @param processador     Processador aplicado dentro de cada partição
+   * @param capacidadeCaixa Máximo de respostas aguardando por partição
+   */
+  public MotorRespostas(int particoes, ProcessadorResposta processador, int capacidadeCaixa) {
+    if (particoes <= 0 || capacidadeCaixa <= 0) {
+      throw new IllegalArgumentException("Partições e capacidade devem ser positivas");
+    }
+
+    this.processador = processador;
+    this.caixas = new ArrayList<>(particoes);
+    this.escritores = new ArrayList<>(particoes);
+    for (int i = 0; i < particoes; i++) {
+      BlockingQueue<Solicitacao> caixa = new ArrayBlockingQueue<>(capacidadeCaixa);
+      caixas.add(caixa);
+      escritores.add(Thread.ofPlatform()
+          .name("motor-respostas-" + i)
+          .daemon(true)
+          .start(() -> escrever(caixa)));
+    }
+  }
+
+  /**
+   * Envia a resposta para a partição do evento do convite.
+   *
+   * @return Resultado do processamento, concluído pela thread da partição;
+   *         falhas do processador concluem o futuro com a exceção. Ações
+   *         dependentes não assíncronas rodam na thread da partição e
+   *         devem ser rápidas.
+   */
+  public CompletableFuture<ResultadoProcessamento> responder(Convite convite, RespostaConvite resposta) {
+    if (convite == null || resposta == null || convite.getEvento() == null) {
+      throw new IllegalArgumentException("Convite e resposta não podem ser nulos");
+    }
+    if (encerrado) {
+      throw new IllegalStateException("Motor de respostas encerrado");
+    }
+
+    Solicitacao solicitacao = new Solicitacao(convite, resposta, new CompletableFuture<>());
+    BlockingQueue<Solicitacao> caixa = caixas.get(particaoDe(convite.getEvento()));
+    try {
+      caixa.put(solicitacao);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Envio de resposta interrompido", e);
+    }
+
+    // Chegou depois da última drenagem do escritor: não será processada
+    if (encerrado && caixa.remove(solicitacao)) {
+      solicitacao.resultado().completeExceptionally(
+          new IllegalStateException("Motor de respostas encerrado"));
+    }
+    return solicitacao.resultado();
+  }
+
+  /**
+   * Partição dona do evento, estável durante toda a vida do evento.
+   */
+  public int particaoDe(Evento evento) {
+    int hash = evento.getId().hashCode();
+    return Math.floorMod(hash ^ (hash >>> 16), caixas.size());
+  }
+
+  public int getParticoes() {
+    return caixas.size();
+  }
+
+  /**
+   * Para de aceitar respostas, processa as que já estavam nas caixas e
+   * aguarda o término dos escritores.
+   *
+   * @return false se o tempo limite expirou antes das caixas esvaziarem
+   */
+  public boolean shutdown(Duration tempoLimite) throws InterruptedException {
+    encerrado = true;
+    long prazo = System.nanoTime() + tempoLimite.toNanos();
+    for (Thread escritor : escritores) {
+      long restante = prazo - System.nanoTime();
+      if (restante <= 0 || !escritor.join(Duration.ofNanos(restante))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@link #shutdown(Duration)} com até 30 s. Uma interrupção encerra a
+   * espera e fica registrada na thread.
+   */
+  @Override
+  public void close() {
+    try {
+      shutdown(Duration.ofSeconds(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void escrever(BlockingQueue<Solicitacao> caixa) {
+    List<Solicitacao> lote = new ArrayList<>(TAMANHO_LOTE);
+    while (true) {
+      Solicitacao primeira;
+      try {
+        primeira = caixa.poll(ESPERA_POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        // Sem escritor a caixa não anda: libera quem espera por ela
+        encerrado = true;
+        falharPendentes(caixa);
+        return;
+      }
+
+      if (primeira == null) {
+        if (encerrado && caixa.isEmpty()) {
+          return;
+        }
+        continue;
+      }
+
+      lote.add(primeira);
+      caixa.drainTo(lote, TAMANHO_LOTE - 1);
+      processarLote(lote);
+      lote.clear();
+    }
+  }
+
+  private void processarLote(List<Solicitacao> lote) {
+    List<SolicitacaoResposta> solicitacoes = new ArrayList<>(lote.size());
+    for (Solicitacao solicitacao : lote) {
+      solicitacoes.add(new SolicitacaoResposta(solicitacao.convite(), solicitacao.resposta()));
+    }
+
+    List<ResultadoProcessamento> resultados;
+    try {
+      resultados = processador.processarRespostasNaThread(solicitacoes);
+    } catch (RuntimeException e) {
+      for (Solicitacao solicitacao : lote) {
+        solicitacao.resultado().completeExceptionally(e);
+      }
+      return;
+    }
+    for (int i = 0; i < lote.size(); i++) {
+      lote.get(i).resultado().complete(resultados.get(i));
+    }
+  }
+
+  private static void falharPendentes(BlockingQueue<Solicitacao> caixa) {
+    Solicitacao solicitacao;
+    while ((solicitacao = caixa.poll()) != null) {
+      solicitacao.resultado().completeExceptionally(
+          new IllegalStateException("Motor de respostas encerrado"));
+    }
+  }
+
+  private record Solicitacao(
+      Convite convite,
+      RespostaConvite resposta,
+      CompletableFuture<ResultadoProcessamento> resultado) {
+  }
+}
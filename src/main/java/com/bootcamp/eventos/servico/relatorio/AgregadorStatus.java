@@ -0,0 +1,254 @@
+package com.bootcamp.eventos.servico.relatorio;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Distribuição de StatusPercentual sobre grandes volumes de eventos, para
+ * relatórios.
+ *
+ * Em vez de percorrer objetos Evento, guarda uma cópia dos números que
+ * decidem o status em colunas primitivas: {@code confirmados},
+ * {@code limites} e {@code organizadores} (índice do organizador em um
+ * dicionário). A contagem divide as colunas em faixas processadas em
+ * paralelo no {@link ForkJoinPool} comum e soma os totais parciais.
+ *
+ * O laço de contagem não desvia por linha: soma quantas linhas alcançam
+ * 1%, 50%, 80% e 100% do limite, com a mesma regra de
+ * {@code (confirmados * 100) / limite} usada pelo Evento, e o histograma
+ * sai das diferenças entre esses totais. Sem desvios imprevisíveis, o laço
+ * fica limitado pela leitura sequencial das colunas.
+ *
+ * A carga ({@link #adicionar}) não é thread-safe; depois dela, as consultas
+ * podem ser feitas de qualquer thread.
+ */
+public class AgregadorStatus {
+
+  private static final int SEM_LIMITE = Integer.MIN_VALUE;
+  private static final int LIMIAR_PARALELO = 1 << 16;
+
+  // Totais por organizador: [linhas, sem limite, >= 1%, >= 50%, >= 80%, >= 100%]
+  private static final int TOTAIS = 6;
+
+  private int[] confirmados;
+  private int[] limites;
+  private int[] organizadores;
+  private int tamanho;
+
+  private final Map<String, Integer> indicesOrganizador = new HashMap<>();
+  private String[] idsOrganizador = new String[16];
+
+  public AgregadorStatus() {
+    this(1024);
+  }
+
+  /**
+   * @param capacidadeEsperada Quantidade de eventos esperada, para evitar
+   *                           realocações durante a carga
+   */
+  public AgregadorStatus(int capacidadeEsperada) {
+    int capacidade = Math.max(16, capacidadeEsperada);
+    this.confirmados = new int[capacidade];
+    this.limites = new int[capacidade];
+    this.organizadores = new int[capacidade];
+  }
+
+  /**
+   * Copia o número de confirmados e o limite atuais do evento.
+   */
+  public void adicionar(String organizadorId, Evento evento) {
+    adicionar(organizadorId, evento.getNumeroConfirmados(), evento.getLimiteParticipantes());
+  }
+
+  /**
+   * Adiciona uma linha a partir de números já conhecidos (ex.: lidos de um
+   * snapshot ou de uma base de relatórios).
+   *
+   * @param limite Limite de participantes, ou null se sem limite
+   */
+  public void adicionar(String organizadorId, int confirmados, Integer limite) {
+    if (organizadorId == null) {
+      throw new IllegalArgumentException("Organizador não pode ser nulo");
+    }
+    if (confirmados < 0 || (limite != null && limite == SEM_LIMITE)) {
+      throw new IllegalArgumentException("Confirmados ou limite fora do intervalo suportado");
+    }
+
+    if (tamanho == this.confirmados.length) {
+      int novaCapacidade = tamanho + (tamanho >> 1);
+      this.confirmados = Arrays.copyOf(this.confirmados, novaCapacidade);
+      this.limites = Arrays.copyOf(this.limites, novaCapacidade);
+      this.organizadores = Arrays.copyOf(this.organizadores, novaCapacidade);
+    }
+    this.confirmados[tamanho] = confirmados;
+    this.limites[tamanho] = limite == null ? SEM_LIMITE : limite;
+    this.organizadores[tamanho] = indiceOrganizador(organizadorId);
+    tamanho++;
+  }
+
+  public int getTamanho() {
+    return tamanho;
+  }
+
+  /**
+   * Conta os eventos de todos os organizadores por status.
+   *
+   * @return Contagem de cada status, inclusive os de contagem zero
+   */
+  public Map<StatusPercentual, Long> distribuicao() {
+    long[] totais = new Contagem(confirmados, limites, organizadores, 0, 0, tamanho).invoke();
+    return histograma(totais, 0);
+  }
+
+  /**
+   * Conta os eventos por status separadamente para cada organizador.
+   *
+   * @return Contagens por organizador, na ordem em que apareceram na carga
+   */
+  public Map<String, Map<StatusPercentual, Long>> distribuicaoPorOrganizador() {
+    int quantidade = indicesOrganizador.size();
+    long[] totais = new Contagem(confirmados, limites, organizadores, quantidade, 0, tamanho).invoke();
+
+    Map<String, Map<StatusPercentual, Long>> resultado = new LinkedHashMap<>();
+    for (int o = 0; o < quantidade; o++) {
+      resultado.put(idsOrganizador[o], histograma(totais, o * TOTAIS));
+    }
+    return Collections.unmodifiableMap(resultado);
+  }
+
+  private int indiceOrganizador(String organizadorId) {
+    Integer indice = indicesOrganizador.get(organizadorId);
+    if (indice != null) {
+      return indice;
+    }
+
+    int novo = indicesOrganizador.size();
+    if (novo == idsOrganizador.length) {
+      idsOrganizador = Arrays.copyOf(idsOrganizador, novo * 2);
+    }
+    idsOrganizador[novo] = organizadorId;
+    indicesOrganizador.put(organizadorId, novo);
+    return novo;
+  }
+
+  /**
+   * Converte os totais por limiar no histograma. Linhas sem limite alcançam
+   * todos os limiares (limite {@link #SEM_LIMITE} é negativo), então são
+   * descontadas do total de 100%.
+   */
+  private static Map<StatusPercentual, Long> histograma(long[] totais, int base) {
+    long linhas = totais[base];
+    long semLimite = totais[base + 1];
+    long ateUm = totais[base + 2];
+    long ateCinquenta = totais[base + 3];
+    long ateOitenta = totais[base + 4];
+    long ateCem = totais[base + 5];
+
+    Map<StatusPercentual, Long> contagens = new EnumMap<>(StatusPercentual.class);
+    contagens.put(StatusPercentual.SEM_LIMITE, semLimite);
+    contagens.put(StatusPercentual.LOTADO, ateCem - semLimite);
+    contagens.put(StatusPercentual.QUASE_LOTADO, ateOitenta - ateCem);
+    contagens.put(StatusPercentual.BOA_ADESAO, ateCinquenta - ateOitenta);
+    contagens.put(StatusPercentual.ABERTO_COM_CONFIRMACOES, ateUm - ateCinquenta);
+    contagens.put(StatusPercentual.ABERTO_SEM_CONFIRMACOES, linhas - ateUm);
+    return Collections.unmodifiableMap(contagens);
+  }
+
+  /**
+   * Conta uma faixa de linhas, dividindo-a ao meio enquanto for maior que
+   * {@link #LIMIAR_PARALELO}. Com {@code quantidadeOrganizadores} zero,
+   * conta tudo em um único grupo de totais.
+   */
+  private static final class Contagem extends RecursiveTask<long[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] confirmados;
+    private final int[] limites;
+    private final int[] organizadores;
+    private final int quantidadeOrganizadores;
+    private final int inicio;
+    private final int fim;
+
+    Contagem(int[] confirmados, int[] limites, int[] organizadores,
+        int quantidadeOrganizadores, int inicio, int fim) {
+      this.confirmados = confirmados;
+      this.limites = limites;
+      this.organizadores = organizadores;
+      this.quantidadeOrganizadores = quantidadeOrganizadores;
+      this.inicio = inicio;
+      this.fim = fim;
+    }
+
+    @Override
+    protected long[] compute() {
+      if (fim - inicio <= LIMIAR_PARALELO) {
+        return quantidadeOrganizadores == 0
+            ? contarTudo(confirmados, limites, inicio, fim)
+            : contarPorOrganizador(
+                confirmados, limites, organizadores, quantidadeOrganizadores, inicio, fim);
+      }
+
+      int meio = (inicio + fim) >>> 1;
+      Contagem esquerda = new Contagem(
+          confirmados, limites, organizadores, quantidadeOrganizadores, inicio, meio);
+      esquerda.fork();
+      long[] totais = new Contagem(
+          confirmados, limites, organizadores, quantidadeOrganizadores, meio, fim).compute();
+      long[] parciais = esquerda.join();
+      for (int i = 0; i < totais.length; i++) {
+        totais[i] += parciais[i];
+      }
+      return totais;
+    }
+  }
+
+  private static long[] contarTudo(int[] confirmados, int[] limites, int inicio, int fim) {
+    long semLimite = 0;
+    long ateUm = 0;
+    long ateCinquenta = 0;
+    long ateOitenta = 0;
+    long ateCem = 0;
+    for (int i = inicio; i < fim; i++) {
+      long percentual = confirmados[i] * 100L;
+      long limite = limites[i];
+      semLimite += limite == SEM_LIMITE ? 1 : 0;
+      ateUm += percentual >= limite ? 1 : 0;
+      ateCinquenta += percentual >= 50 * limite ? 1 : 0;
+      ateOitenta += percentual >= 80 * limite ? 1 : 0;
+      ateCem += percentual >= 100 * limite ? 1 : 0;
+    }
+    return new long[] { fim - inicio, semLimite, ateUm, ateCinquenta, ateOitenta, ateCem };
+  }
+
+  private static long[] contarPorOrganizador(
+      int[] confirmados,
+      int[] limites,
+      int[] organizadores,
+      int quantidadeOrganizadores,
+      int inicio,
+      int fim) {
+    long[] totais = new long[quantidadeOrganizadores * TOTAIS];
+    for (int i = inicio; i < fim; i++) {
+      long percentual = confirmados[i] * 100L;
+      long limite = limites[i];
+      int base = organizadores[i] * TOTAIS;
+      totais[base]++;
+      totais[base + 1] += limite == SEM_LIMITE ? 1 : 0;
+      totais[base + 2] += percentual >= limite ? 1 : 0;
+      totais[base + 3] += percentual >= 50 * limite ? 1 : 0;
+      totais[base + 4] += percentual >= 80 * limite ? 1 : 0;
+      totais[base + 5] += percentual >= 100 * limite ? 1 : 0;
+    }
+    return totais;
+  }
+}
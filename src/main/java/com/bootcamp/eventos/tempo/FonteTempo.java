@@ -0,0 +1,46 @@
+package com.bootcamp.eventos.tempo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Interface para a fonte de tempo usada nas validações de data.
+ * O instante atual é exposto como epoch em milissegundos (primitivo), de
+ * modo que comparações de expiração e de data do evento não alocam objetos
+ * nem consultam o fuso horário a cada chamada.
+ */
+@FunctionalInterface
+public interface FonteTempo {
+
+  /** Relógio do sistema ({@link System#currentTimeMillis()}). */
+  FonteTempo SISTEMA = System::currentTimeMillis;
+
+  /**
+   * Retorna o instante atual em milissegundos desde a epoch.
+   */
+  long agoraEpochMillis();
+
+  /**
+   * Cria uma fonte de tempo parada no instante informado (útil em testes).
+   */
+  static FonteTempo fixa(LocalDateTime instante) {
+    long epochMillis = paraEpochMillis(instante);
+    return () -> epochMillis;
+  }
+
+  /**
+   * Converte uma data local para epoch em milissegundos no fuso padrão do
+   * sistema, o mesmo usado por {@link LocalDateTime#now()}.
+   */
+  static long paraEpochMillis(LocalDateTime data) {
+    return data.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  /**
+   * Inverso de {@link #paraEpochMillis(LocalDateTime)}.
+   */
+  static LocalDateTime deEpochMillis(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+}
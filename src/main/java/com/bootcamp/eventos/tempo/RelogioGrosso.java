@@ -0,0 +1,63 @@
+package com.bootcamp.eventos.tempo;
+
+import java.time.Duration;
+
+/**
+ * Relógio de baixa resolução atualizado por uma thread em segundo plano.
+ *
+ * A leitura é apenas um acesso a campo volatile: não há chamada ao sistema
+ * operacional nem alocação. Em troca, o valor pode estar atrasado em até
+ * uma resolução ({@code resolucao}) em relação ao relógio real, o que é
+ * aceitável para expiração de convites e datas de evento.
+ */
+public class RelogioGrosso implements FonteTempo, AutoCloseable {
+
+  private final long resolucaoMillis;
+  private final Thread tick;
+  private volatile long agoraEpochMillis;
+  private volatile boolean ativo = true;
+
+  /**
+   * Cria e inicia o relógio.
+   *
+   * @param resolucao Intervalo entre atualizações (ex.: 10 ms)
+   */
+  public RelogioGrosso(Duration resolucao) {
+    if (resolucao.toMillis() <= 0) {
+      throw new IllegalArgumentException("Resolução deve ser de pelo menos 1 ms");
+    }
+
+    this.resolucaoMillis = resolucao.toMillis();
+    this.agoraEpochMillis = System.currentTimeMillis();
+    this.tick = Thread.ofPlatform()
+        .name("relogio-grosso")
+        .daemon(true)
+        .start(this::atualizar);
+  }
+
+  @Override
+  public long agoraEpochMillis() {
+    return agoraEpochMillis;
+  }
+
+  /**
+   * Interrompe a thread de atualização. O relógio passa a retornar o último
+   * instante lido.
+   */
+  @Override
+  public void close() {
+    ativo = false;
+    tick.interrupt();
+  }
+
+  private void atualizar() {
+    while (ativo) {
+      try {
+        Thread.sleep(resolucaoMillis);
+      } catch (InterruptedException e) {
+        return;
+      }
+      agoraEpochMillis = System.currentTimeMillis();
+    }
+  }
+}
@@ -0,0 +1,302 @@
+package com.bootcamp.eventos.web;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.RespostaProcessada;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.ResultadoValidacao;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.servico.email.ServicoEmail;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Endpoint HTTP para validar convites e registrar respostas, sobre o
+ * {@link HttpServer} do JDK com uma virtual thread por requisição.
+ *
+ * <pre>
+ * GET  /convites/{token}           valida o convite
+ * POST /convites/{token}/resposta  registra a resposta (formulário
+ *                                  aceitou=true|false, nome, observacao)
+ * </pre>
+ *
+ * As respostas são JSON ({@code valido}/{@code sucesso} e
+ * {@code mensagem}). Status: 200 quando válido ou processado com sucesso,
+ * 404 para token desconhecido, 422 para convite inválido, 409 para resposta
+ * recusada pelo processamento, 429 para LIMITE_EXCEDIDO e 400 para
+ * formulário malformado (inclusive nome com quebra de linha). A resposta
+ * passa pelo {@link ValidadorConvite} antes do processamento: token
+ * inválido ou expirado recebe 422. O endereço remoto é a origem passada ao
+ * {@link ProcessadorResposta} para o limite por origem, aplicado às duas
+ * rotas antes de buscar o convite.
+ *
+ * Somente a requisição que confirmou o convite envia o email de
+ * confirmação, em uma virtual thread própria: a resposta HTTP não espera o
+ * {@link ServicoEmail}, mesmo que ele bloqueie (por exemplo, um
+ * {@code ServicoEmailOutbox} com a fila cheia).
+ */
+public class ServidorRespostas implements AutoCloseable {
+
+  private static final String PREFIXO = "/convites/";
+  private static final String SUFIXO_RESPOSTA = "/resposta";
+  private static final int TAMANHO_MAXIMO_FORMULARIO = 4096;
+
+  static {
+    // O HttpServer do JDK escreve cabeçalhos e corpo em escritas separadas;
+    // sem TCP_NODELAY, Nagle + ACK atrasado do cliente somam ~40 ms por
+    // resposta em conexões persistentes. A propriedade é lida uma única vez,
+    // na criação do primeiro HttpServer, e um valor explícito é respeitado.
+    if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+      System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+  }
+
+  private final RepositorioConvite repositorio;
+  private final ValidadorConvite validador;
+  private final ProcessadorResposta processador;
+  private final ServicoEmail servicoEmail; // null = sem email de confirmação
+  private final HttpServer servidor;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final LongAdder falhasEmail = new LongAdder();
+
+  /**
+   * Abre o socket em {@code endereco} (porta 0 escolhe uma livre); as
+   * requisições só são atendidas depois de {@link #iniciar()}.
+   */
+  public ServidorRespostas(
+      InetSocketAddress endereco,
+      RepositorioConvite repositorio,
+      ValidadorConvite validador,
+      ProcessadorResposta processador,
+      ServicoEmail servicoEmail) throws IOException {
+    if (endereco == null || repositorio == null || validador == null || processador == null) {
+      throw new IllegalArgumentException("Endereço, repositório, validador e processador não podem ser nulos");
+    }
+
+    this.repositorio = repositorio;
+    this.validador = validador;
+    this.processador = processador;
+    this.servicoEmail = servicoEmail;
+    this.servidor = HttpServer.create(endereco, 0);
+    servidor.createContext(PREFIXO, this::atender);
+    servidor.setExecutor(executor);
+  }
+
+  public void iniciar() {
+    servidor.start();
+  }
+
+  public int getPorta() {
+    return servidor.getAddress().getPort();
+  }
+
+  /**
+   * Emails de confirmação que o ServicoEmail não aceitou.
+   */
+  public long getFalhasEmail() {
+    return falhasEmail.sum();
+  }
+
+  /**
+   * Para de aceitar conexões e aguarda até 1 s as requisições em
+   * andamento.
+   */
+  @Override
+  public void close() {
+    servidor.stop(1);
+    executor.close();
+  }
+
+  private void atender(HttpExchange troca) throws IOException {
+    try (troca) {
+      try {
+        rotear(troca);
+      } catch (IllegalArgumentException e) {
+        responder(troca, 400, json("sucesso", false, e.getMessage()));
+      }
+    }
+  }
+
+  private void rotear(HttpExchange troca) throws IOException {
+    String resto = troca.getRequestURI().getRawPath().substring(PREFIXO.length());
+    boolean resposta = resto.endsWith(SUFIXO_RESPOSTA);
+    String token = decodificar(resposta ? resto.substring(0, resto.length() - SUFIXO_RESPOSTA.length()) : resto);
+
+    if (token.isEmpty() || token.indexOf('/') >= 0) {
+      responder(troca, 404, "{\"mensagem\":\"Recurso não encontrado\"}");
+    } else if (resposta) {
+      if (exigirMetodo(troca, "POST")) {
+        registrarResposta(troca, token);
+      }
+    } else if (exigirMetodo(troca, "GET")) {
+      validar(troca, token);
+    }
+  }
+
+  private void validar(HttpExchange troca, String token) throws IOException {
+    // Admissão antes da busca e da validação: um bot repetindo links
+    // esgota as fichas sem custo de validação
+    if (!processador.admitir(token, origem(troca))) {
+      responder(troca, 429, json("valido", false, ResultadoProcessamento.LIMITE_EXCEDIDO.mensagem()));
+      return;
+    }
+
+    Optional<Convite> convite = repositorio.buscarPorToken(token);
+    if (convite.isEmpty()) {
+      responder(troca, 404, json("valido", false, "Convite não encontrado"));
+      return;
+    }
+
+    ResultadoValidacao resultado = validador.validar(convite.get());
+    String mensagem = resultado.valido() ? "Convite válido" : resultado.mensagemErro();
+    responder(troca, resultado.valido() ? 200 : 422, json("valido", resultado.valido(), mensagem));
+  }
+
+  private void registrarResposta(HttpExchange troca, String token) throws IOException {
+    RespostaConvite resposta = lerResposta(troca);
+    if (!processador.admitir(token, origem(troca))) {
+      responder(troca, 429, json("sucesso", false, ResultadoProcessamento.LIMITE_EXCEDIDO.mensagem()));
+      return;
+    }
+
+    Optional<Convite> encontrado = repositorio.buscarPorToken(token);
+    if (encontrado.isEmpty()) {
+      responder(troca, 404, json("sucesso", false, "Convite não encontrado"));
+      return;
+    }
+
+    // Token inválido ou expirado encerra a resposta; lotação segue para o
+    // processamento, que decide entre lista de espera e recusa
+    Convite convite = encontrado.get();
+    ResultadoValidacao validacao = validador.validar(convite);
+    if (validacao == ResultadoValidacao.TOKEN_INVALIDO || validacao == ResultadoValidacao.TOKEN_EXPIRADO) {
+      responder(troca, 422, json("sucesso", false, validacao.mensagemErro()));
+      return;
+    }
+
+    // Só a chamada que confirmou envia o email, mesmo com repetições simultâneas
+    RespostaProcessada processada = processador.processarRespostaComTransicao(convite, resposta);
+    if (processada.confirmadaNestaChamada()) {
+      enviarConfirmacao(resposta.nome(), convite);
+    }
+
+    ResultadoProcessamento resultado = processada.resultado();
+    int status = resultado.sucesso() ? 200
+        : resultado == ResultadoProcessamento.LIMITE_EXCEDIDO ? 429
+        : 409;
+    responder(troca, status, json("sucesso", resultado.sucesso(), resultado.mensagem()));
+  }
+
+  private void enviarConfirmacao(String destinatario, Convite convite) {
+    if (servicoEmail == null) {
+      return;
+    }
+    executor.execute(() -> {
+      try {
+        servicoEmail.enviarConfirmacao(destinatario, convite.getEvento());
+      } catch (RuntimeException e) {
+        falhasEmail.increment();
+      }
+    });
+  }
+
+  private static String origem(HttpExchange troca) {
+    return troca.getRemoteAddress().getAddress().getHostAddress();
+  }
+
+  private boolean exigirMetodo(HttpExchange troca, String metodo) throws IOException {
+    if (troca.getRequestMethod().equals(metodo)) {
+      return true;
+    }
+    troca.getResponseHeaders().set("Allow", metodo);
+    responder(troca, 405, "{\"mensagem\":\"Método não permitido\"}");
+    return false;
+  }
+
+  /**
+   * Lê o formulário {@code aceitou=true|false&nome=..&observacao=..}. Na
+   * recusa, {@code observacao} é o motivo.
+   */
+  private static RespostaConvite lerResposta(HttpExchange troca) throws IOException {
+    Map<String, String> campos = lerFormulario(troca.getRequestBody());
+    String aceitou = campos.get("aceitou");
+    if (!"true".equals(aceitou) && !"false".equals(aceitou)) {
+      throw new IllegalArgumentException("Campo aceitou deve ser true ou false");
+    }
+
+    String nome = campos.get("nome");
+    if (aceitou.equals("true") && (nome == null || nome.isBlank())) {
+      throw new IllegalArgumentException("Nome é obrigatório para aceitar o convite");
+    }
+    // O nome é o destinatário do email de confirmação
+    if (nome != null && (nome.indexOf('\r') >= 0 || nome.indexOf('\n') >= 0)) {
+      throw new IllegalArgumentException("Nome não pode conter quebra de linha");
+    }
+    return new RespostaConvite(aceitou.equals("true"), nome, campos.get("observacao"));
+  }
+
+  private static Map<String, String> lerFormulario(InputStream corpo) throws IOException {
+    byte[] bytes = corpo.readNBytes(TAMANHO_MAXIMO_FORMULARIO + 1);
+    if (bytes.length > TAMANHO_MAXIMO_FORMULARIO) {
+      throw new IllegalArgumentException("Formulário excede 4096 bytes");
+    }
+
+    Map<String, String> campos = new HashMap<>();
+    for (String par : new String(bytes, StandardCharsets.UTF_8).split("&")) {
+      if (par.isEmpty()) {
+        continue;
+      }
+      int igual = par.indexOf('=');
+      String chave = decodificar(igual < 0 ? par : par.substring(0, igual));
+      campos.put(chave, igual < 0 ? "" : decodificar(par.substring(igual + 1)));
+    }
+    return campos;
+  }
+
+  /**
+   * @throws IllegalArgumentException para codificação percentual inválida
+   */
+  private static String decodificar(String valor) {
+    return URLDecoder.decode(valor, StandardCharsets.UTF_8);
+  }
+
+  private static void responder(HttpExchange troca, int status, String corpo) throws IOException {
+    byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+    troca.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    troca.sendResponseHeaders(status, bytes.length);
+    try (OutputStream saida = troca.getResponseBody()) {
+      saida.write(bytes);
+    }
+  }
+
+  private static String json(String campo, boolean valor, String mensagem) {
+    StringBuilder json = new StringBuilder(64 + mensagem.length())
+        .append("{\"").append(campo).append("\":").append(valor).append(",\"mensagem\":\"");
+    for (int i = 0; i < mensagem.length(); i++) {
+      char c = mensagem.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < 0x20) {
+        json.append(String.format("\\u%04x", (int) c));
+      } else {
+        json.append(c);
+      }
+    }
+    return json.append("\"}").toString();
+  }
+}
@@ -0,0 +1,77 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+import com.bootcamp.eventos.servico.CalculadorStatusEvento;
+import com.bootcamp.eventos.servico.relatorio.AgregadorStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribuição de StatusPercentual sobre {@value #EVENTOS} eventos de
+ * {@value #ORGANIZADORES} organizadores: CalculadorStatusEvento chamado
+ * evento a evento ({@code objetos}) contra as colunas do AgregadorStatus,
+ * no total e por organizador.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Benchmark)
+public class AgregadorStatusBenchmark {
+
+  private static final int EVENTOS = 1_000_000;
+  private static final int ORGANIZADORES = 1_000;
+
+  private final CalculadorStatusEvento calculador = new CalculadorStatusEvento();
+  private final List<Evento> eventos = new ArrayList<>(EVENTOS);
+  private final AgregadorStatus agregador = new AgregadorStatus(EVENTOS);
+
+  @Setup
+  public void preparar() {
+    SplittableRandom aleatorio = new SplittableRandom(42);
+    LocalDateTime data = LocalDateTime.now().plusDays(30);
+    for (int i = 0; i < EVENTOS; i++) {
+      Integer limite = i % 10 == 0 ? null : 10 + aleatorio.nextInt(491);
+      Evento evento = new Evento("Evento " + i, limite, data);
+      evento.reservarVagas(aleatorio.nextInt(limite == null ? 100 : limite + 1));
+      eventos.add(evento);
+      agregador.adicionar("ORG-" + (i % ORGANIZADORES), evento);
+    }
+  }
+
+  @Benchmark
+  public long[] objetos() {
+    long[] contagens = new long[StatusPercentual.values().length];
+    for (Evento evento : eventos) {
+      contagens[calculador.calcularStatusPercentualConfirmados(evento).ordinal()]++;
+    }
+    return contagens;
+  }
+
+  @Benchmark
+  public Map<StatusPercentual, Long> colunas() {
+    return agregador.distribuicao();
+  }
+
+  @Benchmark
+  public Map<String, Map<StatusPercentual, Long>> colunasPorOrganizador() {
+    return agregador.distribuicaoPorOrganizador();
+  }
+}
@@ -0,0 +1,59 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.seguranca.AssinadorToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verificações de token assinado por segundo em uma thread (um núcleo),
+ * sobre {@link Cenarios#TAMANHO_MASSA} tokens de eventos distintos. Com
+ * {@code -prof gc}, {@code verificar} deve reportar ≈ 0 B/op.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssinadorTokenBenchmark {
+
+  private final AssinadorToken assinador =
+      new AssinadorToken("segredo-do-benchmark-com-32-bytes!!".getBytes(StandardCharsets.US_ASCII));
+  private final Evento[] eventos = new Evento[Cenarios.TAMANHO_MASSA];
+  private final String[] tokens = new String[Cenarios.TAMANHO_MASSA];
+  private int proximo;
+
+  @Setup
+  public void preparar() {
+    LocalDateTime data = LocalDateTime.now().plusDays(30);
+    for (int i = 0; i < eventos.length; i++) {
+      eventos[i] = new Evento("Evento " + i, null, data);
+      tokens[i] = assinador.emitir(eventos[i], data);
+    }
+  }
+
+  @Benchmark
+  public long verificar() {
+    int i = proximo++ & (Cenarios.TAMANHO_MASSA - 1);
+    return assinador.verificar(tokens[i], eventos[i]);
+  }
+
+  @Benchmark
+  public String emitir() {
+    Evento evento = eventos[proximo++ & (Cenarios.TAMANHO_MASSA - 1)];
+    return assinador.emitir(evento, evento.getData());
+  }
+}
@@ -0,0 +1,50 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+import com.bootcamp.eventos.servico.CalculadorStatusEvento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de CalculadorStatusEvento sobre eventos com ocupações variadas,
+ * cobrindo todas as faixas de StatusPercentual.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalculadorStatusEventoBenchmark {
+
+  private final CalculadorStatusEvento calculador = new CalculadorStatusEvento();
+  private Evento[] eventos;
+  private int proximo;
+
+  @Setup
+  public void preparar() {
+    eventos = new Evento[Cenarios.TAMANHO_MASSA];
+    for (int i = 0; i < eventos.length; i++) {
+      eventos[i] = i % 11 == 0
+          ? new Evento("Sem limite", null, LocalDateTime.now().plusDays(30))
+          : Cenarios.eventoComOcupacao(100, i % 101);
+    }
+  }
+
+  @Benchmark
+  public StatusPercentual calcularStatusPercentualConfirmados() {
+    return calculador.calcularStatusPercentualConfirmados(eventos[proximo++ & (Cenarios.TAMANHO_MASSA - 1)]);
+  }
+}
@@ -0,0 +1,150 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dto.ResumoLatencia;
+import com.bootcamp.eventos.metricas.HistogramaLatencia;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.servico.email.ProvedorEmailSimulado;
+import com.bootcamp.eventos.servico.email.ServicoEmailOutbox;
+import com.bootcamp.eventos.web.ServidorRespostas;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Teste de carga local do ServidorRespostas (não é um benchmark JMH).
+ *
+ * Sobe o servidor em localhost com 100 000 convites e um
+ * ServicoEmailOutbox sobre um provedor simulado de 20 ms por lote. Em cada
+ * nível de concorrência, N clientes em virtual threads repetem GET
+ * /convites/{token} seguido de POST /convites/{token}/resposta sobre
+ * tokens distintos durante a duração configurada, e a latência de cada
+ * requisição vai para um {@link HistogramaLatencia}. Antes da medição há
+ * um aquecimento descartado com 8 clientes.
+ *
+ * Argumentos: {@code [segundos por nível] [níveis separados por vírgula]},
+ * padrão {@code 10 1,8,32,128,512}. Clientes e servidor dividem a mesma
+ * máquina: os números medem o caminho completo em um único host, não a
+ * capacidade do servidor isolado.
+ */
+public class CargaServidorRespostas {
+
+  private static final int CONVITES = 100_000;
+  private static final int POR_EVENTO = 1_000;
+  private static final Duration AQUECIMENTO = Duration.ofSeconds(5);
+
+  private final HttpClient cliente = HttpClient.newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+  private final AtomicInteger proximo = new AtomicInteger();
+  private final String base;
+
+  private CargaServidorRespostas(int porta) {
+    this.base = "http://localhost:" + porta + "/convites/";
+  }
+
+  public static void main(String[] args) throws Exception {
+    Duration duracao = Duration.ofSeconds(args.length > 0 ? Integer.parseInt(args[0]) : 10);
+    int[] niveis = Arrays.stream((args.length > 1 ? args[1] : "1,8,32,128,512").split(","))
+        .mapToInt(Integer::parseInt)
+        .toArray();
+
+    RepositorioConvite repositorio = new RepositorioConvite();
+    LocalDateTime data = LocalDateTime.now().plusDays(30);
+    LocalDateTime expiracao = LocalDateTime.now().plusDays(1);
+    Evento evento = null;
+    for (int i = 0; i < CONVITES; i++) {
+      if (i % POR_EVENTO == 0) {
+        evento = new Evento("Evento " + i, null, data);
+      }
+      repositorio.salvar(new Convite(evento, "TOKEN_VALIDO_" + i, expiracao));
+    }
+
+    ProvedorEmailSimulado provedor = new ProvedorEmailSimulado(Duration.ofMillis(20), Duration.ZERO);
+    try (ServicoEmailOutbox email = new ServicoEmailOutbox(provedor, 10_000, 100, 4);
+        ServidorRespostas servidor = new ServidorRespostas(new InetSocketAddress("localhost", 0),
+            repositorio, new ValidadorConvite(), new ProcessadorResposta(), email)) {
+      servidor.iniciar();
+      CargaServidorRespostas carga = new CargaServidorRespostas(servidor.getPorta());
+
+      carga.executar(8, AQUECIMENTO);
+      System.out.printf("%8s %10s %9s %9s %9s %9s %8s%n",
+          "clientes", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "falhas");
+      for (int clientes : niveis) {
+        carga.executar(clientes, duracao).imprimir(clientes, duracao);
+      }
+
+      email.flush(Duration.ofSeconds(30));
+      System.out.printf("emails de confirmação entregues: %d, falhas de email: %d%n",
+          provedor.getMensagensEnviadas(), servidor.getFalhasEmail() + email.getFalhas());
+    }
+  }
+
+  private Resultado executar(int clientes, Duration duracao) throws InterruptedException {
+    Resultado resultado = new Resultado();
+    long fim = System.nanoTime() + duracao.toNanos();
+    List<Thread> threads = new ArrayList<>(clientes);
+    for (int i = 0; i < clientes; i++) {
+      threads.add(Thread.ofVirtual().start(() -> {
+        while (System.nanoTime() < fim) {
+          // Tokens reaproveitados depois de CONVITES repetem a confirmação: 200, sem novo email
+          String token = "TOKEN_VALIDO_" + (proximo.getAndIncrement() % CONVITES);
+          medir(resultado, HttpRequest.newBuilder(URI.create(base + token)).GET().build());
+          medir(resultado, HttpRequest.newBuilder(URI.create(base + token + "/resposta"))
+              .header("Content-Type", "application/x-www-form-urlencoded")
+              .POST(HttpRequest.BodyPublishers.ofString("aceitou=true&nome=Convidado+" + token))
+              .build());
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return resultado;
+  }
+
+  private void medir(Resultado resultado, HttpRequest requisicao) {
+    long inicio = System.nanoTime();
+    try {
+      int status = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+      resultado.latencias.registrar(System.nanoTime() - inicio);
+      if (status != 200) {
+        resultado.falhas.increment();
+      }
+    } catch (IOException | InterruptedException e) {
+      resultado.falhas.increment();
+    }
+  }
+
+  private static final class Resultado {
+    final HistogramaLatencia latencias = new HistogramaLatencia();
+    final LongAdder falhas = new LongAdder();
+
+    void imprimir(int clientes, Duration duracao) {
+      ResumoLatencia resumo = latencias.resumir();
+      System.out.printf("%8d %10.0f %9.3f %9.3f %9.3f %9.3f %8d%n",
+          clientes,
+          resumo.amostras() / (double) duracao.toSeconds(),
+          resumo.p50Nanos() / 1e6,
+          resumo.p99Nanos() / 1e6,
+          resumo.p999Nanos() / 1e6,
+          resumo.maximoNanos() / 1e6,
+          falhas.sum());
+    }
+  }
+}
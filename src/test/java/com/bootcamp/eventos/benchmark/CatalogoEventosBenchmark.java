@@ -0,0 +1,99 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dto.PaginaEventos;
+import com.bootcamp.eventos.repositorio.CatalogoEventos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark das consultas do CatalogoEventos com milhões de eventos
+ * espalhados pelo próximo ano. Requer heap grande (ver {@link Fork}).
+ *
+ * As consultas partem de instantes aleatórios: "próximos 10", uma página de
+ * 50 eventos, a janela de uma hora e a remarcação de um evento (setData com
+ * reindexação).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms8g", "-Xmx8g" })
+@State(Scope.Benchmark)
+public class CatalogoEventosBenchmark {
+
+  private static final int MINUTOS_NO_ANO = 365 * 24 * 60;
+  private static final int CONSULTAS = 1 << 16;
+
+  @Param({ "1000000", "4000000" })
+  public int tamanho;
+
+  private CatalogoEventos catalogo;
+  private Evento[] eventos;
+  private LocalDateTime[] instantes;
+
+  @Setup
+  public void preparar() {
+    LocalDateTime base = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+    SplittableRandom aleatorio = new SplittableRandom(42);
+
+    catalogo = new CatalogoEventos();
+    eventos = new Evento[tamanho];
+    for (int i = 0; i < tamanho; i++) {
+      eventos[i] = new Evento("Evento " + i, null, base.plusMinutes(aleatorio.nextInt(MINUTOS_NO_ANO)));
+      catalogo.adicionar(eventos[i]);
+    }
+
+    instantes = new LocalDateTime[CONSULTAS];
+    for (int i = 0; i < CONSULTAS; i++) {
+      instantes[i] = base.plusMinutes(aleatorio.nextInt(MINUTOS_NO_ANO));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    int proximo;
+  }
+
+  @Benchmark
+  public List<Evento> buscarProximos10(Cursor cursor) {
+    return catalogo.buscarProximos(instante(cursor), 10);
+  }
+
+  @Benchmark
+  public PaginaEventos buscarPagina50(Cursor cursor) {
+    LocalDateTime inicio = instante(cursor);
+    return catalogo.buscarPagina(inicio, inicio.plusDays(7), null, 50);
+  }
+
+  @Benchmark
+  public List<Evento> buscarJanelaDeUmaHora(Cursor cursor) {
+    LocalDateTime inicio = instante(cursor);
+    return catalogo.buscarEntre(inicio, inicio.plusHours(1));
+  }
+
+  @Benchmark
+  public Evento remarcarEvento(Cursor cursor) {
+    Evento evento = eventos[cursor.proximo % tamanho];
+    evento.setData(instante(cursor));
+    return evento;
+  }
+
+  private LocalDateTime instante(Cursor cursor) {
+    return instantes[cursor.proximo++ & (CONSULTAS - 1)];
+  }
+}
@@ -0,0 +1,80 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+
+import java.time.LocalDateTime;
+
+/**
+ * Massa de dados compartilhada pelos benchmarks.
+ *
+ * Cenários de convite:
+ * <ul>
+ * <li>VALIDO: token válido, não expirado, evento com vagas</li>
+ * <li>EXPIRADO: token válido mas expirado</li>
+ * <li>TOKEN_INVALIDO: token sem o prefixo esperado</li>
+ * <li>LOTADO: token válido para evento sem vagas</li>
+ * <li>MISTO: 70% válidos e 10% de cada rejeição, intercalados</li>
+ * </ul>
+ */
+final class Cenarios {
+
+  static final int TAMANHO_MASSA = 1024; // potência de 2 para indexar com máscara
+
+  private Cenarios() {
+  }
+
+  static Convite[] convites(String cenario, int quantidade) {
+    Evento comVagas = eventoComVagas();
+    Evento lotado = eventoLotado();
+    Convite[] convites = new Convite[quantidade];
+    for (int i = 0; i < quantidade; i++) {
+      convites[i] = convite(cenarioDaPosicao(cenario, i), i, comVagas, lotado);
+    }
+    return convites;
+  }
+
+  static Evento eventoComVagas() {
+    return new Evento("Evento com vagas", Integer.MAX_VALUE, LocalDateTime.now().plusDays(30));
+  }
+
+  static Evento eventoLotado() {
+    Evento evento = new Evento("Evento lotado", 10, LocalDateTime.now().plusDays(30));
+    for (int i = 0; i < 10; i++) {
+      evento.confirmarParticipante(new Participante("Participante " + i, null));
+    }
+    return evento;
+  }
+
+  static Evento eventoComOcupacao(int limite, int confirmados) {
+    Evento evento = new Evento("Evento " + confirmados + "/" + limite, limite, LocalDateTime.now().plusDays(30));
+    for (int i = 0; i < confirmados; i++) {
+      evento.confirmarParticipante(new Participante("Participante " + i, null));
+    }
+    return evento;
+  }
+
+  private static String cenarioDaPosicao(String cenario, int posicao) {
+    if (!"MISTO".equals(cenario)) {
+      return cenario;
+    }
+    return switch (posicao % 10) {
+      case 7 -> "EXPIRADO";
+      case 8 -> "TOKEN_INVALIDO";
+      case 9 -> "LOTADO";
+      default -> "VALIDO";
+    };
+  }
+
+  private static Convite convite(String cenario, int indice, Evento comVagas, Evento lotado) {
+    LocalDateTime agora = LocalDateTime.now();
+    return switch (cenario) {
+      case "VALIDO" -> new Convite(comVagas, "TOKEN_VALIDO_" + indice, agora.plusDays(1));
+      case "EXPIRADO" -> new Convite(comVagas, "TOKEN_VALIDO_" + indice, agora.minusDays(1));
+      case "TOKEN_INVALIDO" -> new Convite(comVagas, "token-adulterado-" + indice, agora.plusDays(1));
+      case "LOTADO" -> new Convite(lotado, "TOKEN_VALIDO_" + indice, agora.plusDays(1));
+      default -> throw new IllegalArgumentException("Cenário desconhecido: " + cenario);
+    };
+  }
+}
@@ -0,0 +1,173 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.enums.ReservaResposta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transições de estado do Convite (referência trocada por compare-and-set)
+ * contra a mesma máquina de estados protegida pelo monitor do objeto.
+ *
+ * repeticao*: 4 threads reenviando respostas para {@value #TOKENS} convites
+ * já respondidos, o caso de muitos cliques no mesmo link.
+ * primeiraResposta*: reserva, decisão e conclusão do aceite de convites
+ * novos, em uma thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConviteBenchmark {
+
+  private static final int TOKENS = 16;
+  private static final int LOTE = 1024;
+
+  private static final Evento EVENTO = new Evento("Workshop", null, LocalDateTime.now().plusDays(30));
+  private static final LocalDateTime EXPIRACAO = LocalDateTime.now().plusDays(1);
+  private static final Participante PARTICIPANTE = new Participante("Convidado", null);
+
+  private final Convite[] respondidos = new Convite[TOKENS];
+  private final ConviteComLock[] respondidosComLock = new ConviteComLock[TOKENS];
+
+  @Setup
+  public void responder() {
+    for (int i = 0; i < TOKENS; i++) {
+      respondidos[i] = new Convite(EVENTO, "TOKEN_" + i, EXPIRACAO);
+      respondidos[i].marcarComoAceito(PARTICIPANTE);
+      respondidosComLock[i] = new ConviteComLock();
+      respondidosComLock[i].marcarComoAceito(PARTICIPANTE);
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  @OperationsPerInvocation(TOKENS)
+  public int repeticaoCas() {
+    int recusadas = 0;
+    for (Convite convite : respondidos) {
+      recusadas += convite.iniciarResposta() == ReservaResposta.OBTIDA ? 0 : 1;
+    }
+    return recusadas;
+  }
+
+  @Benchmark
+  @Threads(4)
+  @OperationsPerInvocation(TOKENS)
+  public int repeticaoLock() {
+    int recusadas = 0;
+    for (ConviteComLock convite : respondidosComLock) {
+      recusadas += convite.iniciarResposta() ? 0 : 1;
+    }
+    return recusadas;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOTE)
+  public int primeiraRespostaCas(Lote lote) {
+    int aceitos = 0;
+    for (Convite convite : lote.convites) {
+      if (convite.iniciarResposta() == ReservaResposta.OBTIDA && convite.decidirAceite(PARTICIPANTE)) {
+        convite.concluirResposta();
+        aceitos++;
+      }
+    }
+    return aceitos;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOTE)
+  public int primeiraRespostaLock(Lote lote) {
+    int aceitos = 0;
+    for (ConviteComLock convite : lote.conviteComLock) {
+      if (convite.iniciarResposta() && convite.decidirAceite(PARTICIPANTE)) {
+        convite.concluirResposta();
+        aceitos++;
+      }
+    }
+    return aceitos;
+  }
+
+  @State(Scope.Thread)
+  public static class Lote {
+    Convite[] convites = new Convite[LOTE];
+    ConviteComLock[] conviteComLock = new ConviteComLock[LOTE];
+
+    @Setup(Level.Invocation)
+    public void criar() {
+      for (int i = 0; i < LOTE; i++) {
+        convites[i] = new Convite(EVENTO, "TOKEN_" + i, EXPIRACAO);
+        conviteComLock[i] = new ConviteComLock();
+      }
+    }
+  }
+
+  /**
+   * Mesma máquina de estados com campos comuns e métodos synchronized.
+   * Sem espera por resposta em andamento: basta para comparar o custo das
+   * transições.
+   */
+  static final class ConviteComLock {
+    private static final int PENDENTE = 0;
+    private static final int EM_RESPOSTA = 1;
+    private static final int ACEITE_DECIDIDO = 2;
+    private static final int ACEITO = 4;
+
+    private int fase;
+    private Participante participante;
+
+    synchronized boolean iniciarResposta() {
+      if (fase != PENDENTE) {
+        return false;
+      }
+      fase = EM_RESPOSTA;
+      return true;
+    }
+
+    synchronized boolean marcarComoAceito(Participante participante) {
+      if (fase >= ACEITO) {
+        return false;
+      }
+      fase = ACEITO;
+      this.participante = participante;
+      return true;
+    }
+
+    synchronized boolean decidirAceite(Participante participante) {
+      if (fase != EM_RESPOSTA) {
+        return false;
+      }
+      fase = ACEITE_DECIDIDO;
+      this.participante = participante;
+      return true;
+    }
+
+    synchronized void concluirResposta() {
+      if (fase == ACEITE_DECIDIDO) {
+        fase = ACEITO;
+      }
+    }
+
+    synchronized Participante getParticipante() {
+      return participante;
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dto.EstadoRestaurado;
+import com.bootcamp.eventos.persistencia.Diario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark do Diario em um diretório temporário.
+ *
+ * {@code gravar}: respostas gravadas por segundo, sem esperar a
+ * durabilidade (cópia para o mapeamento).
+ *
+ * {@code gravarEAguardar}: respostas por segundo quando cada thread aguarda
+ * a sua resposta ficar durável, como no ProcessadorResposta; com mais
+ * threads ({@code -t}) mais respostas compartilham cada sincronização.
+ *
+ * {@code reproduzirUmMilhao}: tempo para reconstruir o estado a partir de
+ * 1 milhão de registros (1 000 eventos, convites e aceitações).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class DiarioBenchmark {
+
+  private static final LocalDateTime DATA = LocalDateTime.now().plusDays(30);
+
+  @State(Scope.Benchmark)
+  public static class Gravacao {
+    final Convite[] respondidos = new Convite[Cenarios.TAMANHO_MASSA];
+    Path diretorio;
+    Diario diario;
+
+    @Setup(Level.Trial)
+    public void criarRespostas() {
+      Evento evento = new Evento("Benchmark", null, DATA);
+      for (int i = 0; i < respondidos.length; i++) {
+        respondidos[i] = new Convite(evento, "TOKEN_VALIDO_" + i, DATA);
+        respondidos[i].marcarComoAceito(new Participante("Participante " + i, "Observação"));
+      }
+    }
+
+    @Setup(Level.Iteration)
+    public void abrir() throws IOException {
+      diretorio = Files.createTempDirectory("diario-benchmark");
+      diario = new Diario(diretorio);
+    }
+
+    @TearDown(Level.Iteration)
+    public void fechar() throws Exception {
+      diario.close();
+      apagar(diretorio);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    int proximo;
+  }
+
+  @Benchmark
+  public long gravar(Gravacao gravacao, Cursor cursor) {
+    return gravacao.diario.registrarResposta(proximo(gravacao, cursor));
+  }
+
+  @Benchmark
+  @Threads(8)
+  public long gravarEAguardar(Gravacao gravacao, Cursor cursor) {
+    long posicao = gravacao.diario.registrarResposta(proximo(gravacao, cursor));
+    gravacao.diario.aguardarDurabilidade(posicao);
+    return posicao;
+  }
+
+  @State(Scope.Benchmark)
+  public static class DiarioCheio {
+    static final int REGISTROS = 1_000_000;
+    static final int EVENTOS = 1_000;
+
+    Path diretorio;
+
+    @Setup(Level.Trial)
+    public void gravarUmMilhao() throws Exception {
+      diretorio = Files.createTempDirectory("diario-benchmark");
+      try (Diario diario = new Diario(diretorio)) {
+        Evento[] eventos = new Evento[EVENTOS];
+        for (int i = 0; i < EVENTOS; i++) {
+          eventos[i] = new Evento("Evento " + i, null, DATA);
+          diario.registrarEvento(eventos[i]);
+        }
+        for (int i = 0; i < (REGISTROS - EVENTOS) / 2; i++) {
+          Convite convite = new Convite(eventos[i % EVENTOS], "TOKEN_VALIDO_" + i, DATA);
+          diario.registrarConvite(convite);
+          convite.marcarComoAceito(new Participante("Participante " + i, null));
+          diario.registrarResposta(convite);
+        }
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void apagarDiario() throws IOException {
+      apagar(diretorio);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public EstadoRestaurado reproduzirUmMilhao(DiarioCheio diarioCheio) {
+    return Diario.reproduzir(diarioCheio.diretorio);
+  }
+
+  private static Convite proximo(Gravacao gravacao, Cursor cursor) {
+    return gravacao.respondidos[cursor.proximo++ & (Cenarios.TAMANHO_MASSA - 1)];
+  }
+
+  private static void apagar(Path diretorio) throws IOException {
+    try (Stream<Path> arquivos = Files.walk(diretorio)) {
+      for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(arquivo);
+      }
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.servico.fluxo.FluxoRespostas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fluxo de 1 milhão de respostas (3 aceitações para cada recusa, um evento
+ * novo a cada 1 000) geradas sob demanda, sem lista em memória.
+ *
+ * sequencial: validação e processamento no mesmo laço, como referência.
+ * fluxo: FluxoRespostas com estágios de 256, assinante com demanda
+ * ilimitada.
+ *
+ * O heap de 64 MB não comportaria o fluxo inteiro em memória; as duas
+ * variantes só retêm as respostas em curso.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms64m", "-Xmx64m" })
+@State(Scope.Thread)
+public class FluxoRespostasBenchmark {
+
+  private static final int RESPOSTAS = 1_000_000;
+  private static final int POR_EVENTO = 1_000;
+  private static final LocalDateTime DATA = LocalDateTime.now().plusDays(30);
+  private static final LocalDateTime EXPIRACAO = LocalDateTime.now().plusDays(1);
+
+  private final ValidadorConvite validador = new ValidadorConvite();
+  private final ProcessadorResposta processador = new ProcessadorResposta();
+  private final FluxoRespostas fluxo = new FluxoRespostas(validador, processador);
+
+  @Benchmark
+  public long sequencial() {
+    Gerador gerador = new Gerador();
+    long confirmados = 0;
+    for (int i = 0; i < RESPOSTAS; i++) {
+      SolicitacaoResposta solicitacao = gerador.gerar(i);
+      if (validador.validar(solicitacao.convite()).valido()
+          && processador.processarResposta(solicitacao.convite(), solicitacao.resposta())
+              == ResultadoProcessamento.CONFIRMADO) {
+        confirmados++;
+      }
+    }
+    return confirmados;
+  }
+
+  @Benchmark
+  public long fluxo() throws Exception {
+    Contador contador = new Contador();
+    fluxo.processar(new Origem()).subscribe(contador);
+    return contador.fim.get();
+  }
+
+  private static final class Gerador {
+    private Evento evento;
+
+    SolicitacaoResposta gerar(int i) {
+      if (i % POR_EVENTO == 0) {
+        evento = new Evento("Evento " + i, null, DATA);
+      }
+      Convite convite = new Convite(evento, "TOKEN_VALIDO_" + i, EXPIRACAO);
+      RespostaConvite resposta = i % 4 == 0
+          ? new RespostaConvite(false, null, "Sem agenda")
+          : new RespostaConvite(true, "Convidado " + i, null);
+      return new SolicitacaoResposta(convite, resposta);
+    }
+  }
+
+  /**
+   * Origem síncrona; emite dentro de request, sem reentrância.
+   */
+  private static final class Origem implements Flow.Publisher<SolicitacaoResposta> {
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SolicitacaoResposta> assinante) {
+      Gerador gerador = new Gerador();
+      AtomicLong demanda = new AtomicLong();
+      assinante.onSubscribe(new Flow.Subscription() {
+        private int proxima;
+
+        @Override
+        public void request(long n) {
+          if (demanda.getAndAdd(n) != 0) {
+            return;
+          }
+          long pedidos = n;
+          while (true) {
+            for (long i = 0; i < pedidos; i++) {
+              if (proxima == RESPOSTAS) {
+                assinante.onComplete();
+                return;
+              }
+              assinante.onNext(gerador.gerar(proxima++));
+            }
+            pedidos = demanda.addAndGet(-pedidos);
+            if (pedidos == 0) {
+              return;
+            }
+          }
+        }
+
+        @Override
+        public void cancel() {
+        }
+      });
+    }
+  }
+
+  private static final class Contador implements Flow.Subscriber<ResultadoProcessamento> {
+
+    final CompletableFuture<Long> fim = new CompletableFuture<>();
+    private long confirmados;
+
+    @Override
+    public void onSubscribe(Flow.Subscription assinatura) {
+      assinatura.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(ResultadoProcessamento resultado) {
+      if (resultado == ResultadoProcessamento.CONFIRMADO) {
+        confirmados++;
+      }
+    }
+
+    @Override
+    public void onError(Throwable erro) {
+      fim.completeExceptionally(erro);
+    }
+
+    @Override
+    public void onComplete() {
+      fim.complete(confirmados);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.seguranca.LimitadorTaxa;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da admissão por LimitadorTaxa.
+ *
+ * admitirConhecida: uma chave já acompanhada, sempre admitida.
+ * admitirDistintas: 1 milhão de chaves distintas em rodízio sobre uma
+ * tabela de 65 536 posições, o pior caso (cada chamada substitui um balde).
+ * processarSemLimite / processarComLimite: resposta repetida a um convite
+ * já aceito, com e sem os limites por token e por origem; a diferença é o
+ * custo que a admissão acrescenta a uma requisição legítima.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LimitadorTaxaBenchmark {
+
+  private static final int CHAVES_DISTINTAS = 1 << 20;
+
+  private LimitadorTaxa limitador;
+  private String[] chaves;
+  private int proxima;
+
+  private ProcessadorResposta semLimite;
+  private ProcessadorResposta comLimite;
+  private Convite convite;
+  private RespostaConvite resposta;
+
+  @Setup
+  public void preparar() {
+    // Taxa alta o bastante para nenhuma chamada ser bloqueada
+    limitador = novoLimitador(65_536);
+    limitador.admitir("TOKEN_VALIDO_1");
+    chaves = new String[CHAVES_DISTINTAS];
+    for (int i = 0; i < chaves.length; i++) {
+      chaves[i] = "TOKEN_" + i;
+    }
+
+    semLimite = new ProcessadorResposta();
+    comLimite = new ProcessadorResposta(null, null, null, novoLimitador(1024), novoLimitador(1024));
+    Evento evento = new Evento("Workshop", null, LocalDateTime.now().plusDays(30));
+    convite = new Convite(evento, "TOKEN_VALIDO_1", LocalDateTime.now().plusDays(1));
+    convite.marcarComoAceito(new Participante("Ana", null));
+    resposta = new RespostaConvite(true, "Ana", null);
+  }
+
+  @Benchmark
+  public boolean admitirConhecida() {
+    return limitador.admitir("TOKEN_VALIDO_1");
+  }
+
+  @Benchmark
+  public boolean admitirDistintas() {
+    String chave = chaves[proxima];
+    proxima = (proxima + 1) & (CHAVES_DISTINTAS - 1);
+    return limitador.admitir(chave);
+  }
+
+  @Benchmark
+  public ResultadoProcessamento processarSemLimite() {
+    return semLimite.processarResposta(convite, resposta, "10.0.0.1");
+  }
+
+  @Benchmark
+  public ResultadoProcessamento processarComLimite() {
+    return comLimite.processarResposta(convite, resposta, "10.0.0.1");
+  }
+
+  private static LimitadorTaxa novoLimitador(int maxChaves) {
+    return new LimitadorTaxa(1_000_000_000, Duration.ofSeconds(1), maxChaves);
+  }
+}
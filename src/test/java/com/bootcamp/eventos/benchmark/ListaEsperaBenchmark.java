@@ -0,0 +1,152 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.servico.ListaEspera;
+import com.bootcamp.eventos.servico.email.ServicoEmail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da promoção da ListaEspera.
+ *
+ * {@code cancelarEInscrever}: evento sempre lotado com várias threads
+ * cancelando participações e inscrevendo novos convidados; cada cancelamento
+ * agenda a promoção do primeiro da fila. Use {@code -t} para variar as
+ * threads.
+ *
+ * {@code promoverEmLote}: fila de 10 mil convites esvaziada por aumentos
+ * sucessivos do limite de {@code vagasPorAumento} vagas cada; reportado por
+ * convidado promovido.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListaEsperaBenchmark {
+
+  private static final int LIMITE = 1_000;
+  private static final int TAMANHO_LOTE = 10_000;
+  private static final LocalDateTime EXPIRACAO = LocalDateTime.now().plusDays(7);
+
+  /**
+   * Evento lotado compartilhado; os nomes confirmados circulam por
+   * {@code confirmados}, alimentada pelos emails de confirmação.
+   */
+  @State(Scope.Benchmark)
+  public static class Disputa {
+    final Queue<String> confirmados = new ConcurrentLinkedQueue<>();
+    Evento evento;
+    ListaEspera listaEspera;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+      evento = new Evento("Benchmark", LIMITE, LocalDateTime.now().plusDays(30));
+      confirmados.clear();
+      for (int i = 0; i < LIMITE; i++) {
+        String nome = "Inicial " + i;
+        evento.confirmarParticipante(new Participante(nome, null));
+        confirmados.add(nome);
+      }
+      listaEspera = new ListaEspera(servicoEmail(confirmados));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Convidados {
+    private static int proximaThread;
+    final int idThread;
+    int proximo;
+
+    public Convidados() {
+      synchronized (Convidados.class) {
+        idThread = proximaThread++;
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean cancelarEInscrever(Disputa disputa, Convidados convidados) {
+    String nome = "Convidado " + convidados.idThread + "-" + convidados.proximo++;
+    Convite convite = new Convite(disputa.evento, nome, EXPIRACAO);
+    disputa.listaEspera.inscrever(convite, new Participante(nome, null));
+
+    String cancelado = disputa.confirmados.poll();
+    return cancelado != null && disputa.evento.cancelarParticipacao(cancelado);
+  }
+
+  @State(Scope.Thread)
+  public static class FilaCheia {
+    @Param({ "100", "10000" })
+    public int vagasPorAumento;
+
+    Evento evento;
+    ListaEspera listaEspera;
+
+    @Setup(Level.Invocation)
+    public void preparar() {
+      evento = new Evento("Benchmark", 1, LocalDateTime.now().plusDays(30));
+      evento.confirmarParticipante(new Participante("Inicial", null));
+      listaEspera = new ListaEspera(servicoEmail(new ConcurrentLinkedQueue<>()));
+      for (int i = 0; i < TAMANHO_LOTE; i++) {
+        String nome = "Espera " + i;
+        listaEspera.inscrever(new Convite(evento, nome, EXPIRACAO), new Participante(nome, null));
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TAMANHO_LOTE)
+  public int promoverEmLote(FilaCheia fila) throws InterruptedException {
+    int limite = 1;
+    while (limite <= TAMANHO_LOTE) {
+      limite += fila.vagasPorAumento;
+      fila.evento.setLimiteParticipantes(limite);
+    }
+    fila.listaEspera.aguardarPromocoes(Duration.ofMinutes(1));
+    return fila.evento.getNumeroConfirmados();
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  /**
+   * Serviço de email sem I/O que apenas devolve os nomes confirmados.
+   */
+  private static ServicoEmail servicoEmail(Queue<String> confirmados) {
+    return new ServicoEmail() {
+      @Override
+      public void enviarConvite(String destinatario, Convite convite) {
+      }
+
+      @Override
+      public void enviarConfirmacao(String destinatario, Evento evento) {
+        confirmados.add(destinatario);
+      }
+
+      @Override
+      public void enviarNotificacaoAlteracao(String destinatario, Evento evento) {
+      }
+    };
+  }
+}
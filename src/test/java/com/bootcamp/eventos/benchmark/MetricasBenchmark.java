@@ -0,0 +1,93 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoValidacao;
+import com.bootcamp.eventos.metricas.MetricasResposta;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das métricas sempre ligadas: as mesmas chamadas sem métricas
+ * ({@code SEM}) e com {@link MetricasResposta} na amostragem padrão
+ * ({@code COM}). A diferença entre os dois parâmetros é o overhead.
+ *
+ * Convites no cenário MISTO (70% válidos, 10% de cada rejeição).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MetricasBenchmark {
+
+  private static final int LOTE = 1024;
+
+  @Param({ "SEM", "COM" })
+  public String metricas;
+
+  private ValidadorConvite validador;
+  private ProcessadorResposta processador;
+  private final RespostaConvite[] respostas = new RespostaConvite[LOTE];
+  private Convite[] paraValidar;
+  private int proximo;
+
+  /**
+   * Convites novos a cada chamada de {@link #processarResposta}, em um
+   * estado à parte para que o setup por invocação não alcance
+   * {@link #validar()}.
+   */
+  @State(Scope.Thread)
+  public static class Lote {
+    Convite[] convites;
+
+    @Setup(Level.Invocation)
+    public void preparar() {
+      convites = Cenarios.convites("MISTO", LOTE);
+    }
+  }
+
+  @Setup
+  public void preparar() {
+    MetricasResposta instrumentacao = "COM".equals(metricas) ? new MetricasResposta() : null;
+    validador = new ValidadorConvite(FonteTempo.SISTEMA, instrumentacao);
+    processador = new ProcessadorResposta(null, null, instrumentacao);
+    paraValidar = Cenarios.convites("MISTO", Cenarios.TAMANHO_MASSA);
+    for (int i = 0; i < LOTE; i++) {
+      respostas[i] = i % 10 == 8
+          ? new RespostaConvite(false, null, "Outro compromisso")
+          : new RespostaConvite(true, "Convidado " + i, null);
+    }
+  }
+
+  @Benchmark
+  public ResultadoValidacao validar() {
+    return validador.validar(paraValidar[proximo++ & (Cenarios.TAMANHO_MASSA - 1)]);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOTE)
+  public void processarResposta(Lote lote, Blackhole blackhole) {
+    for (int i = 0; i < LOTE; i++) {
+      blackhole.consume(processador.processarResposta(lote.convites[i], respostas[i]));
+    }
+  }
+}
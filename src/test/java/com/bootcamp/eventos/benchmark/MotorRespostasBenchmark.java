@@ -0,0 +1,95 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.servico.particao.MotorRespostas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do MotorRespostas por quantidade de partições.
+ *
+ * Cada invocação envia {@value #LOTE} aceites novos espalhados por
+ * {@value #EVENTOS} eventos e aguarda todos os resultados. A vazão só cresce
+ * com as partições se houver núcleos livres para os escritores; em uma
+ * máquina de um núcleo o resultado mostra apenas o custo da troca de
+ * mensagens.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MotorRespostasBenchmark {
+
+  private static final int LOTE = 1024;
+  private static final int EVENTOS = 64;
+
+  @Param({ "1", "2", "4", "8" })
+  public int particoes;
+
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30);
+  private final RespostaConvite[] aceites = new RespostaConvite[LOTE];
+  private final Convite[] convites = new Convite[LOTE];
+  private final List<CompletableFuture<ResultadoProcessamento>> futuros = new ArrayList<>(LOTE);
+  private MotorRespostas motor;
+
+  @Setup
+  public void iniciar() {
+    motor = new MotorRespostas(particoes);
+    for (int i = 0; i < LOTE; i++) {
+      aceites[i] = new RespostaConvite(true, "Convidado " + i, null);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void prepararLote() {
+    Evento[] eventos = new Evento[EVENTOS];
+    for (int e = 0; e < EVENTOS; e++) {
+      eventos[e] = new Evento("Evento " + e, null, data);
+    }
+    for (int i = 0; i < LOTE; i++) {
+      convites[i] = new Convite(eventos[i % EVENTOS], "TOKEN", data);
+    }
+  }
+
+  @TearDown
+  public void encerrar() throws InterruptedException {
+    motor.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOTE)
+  public ResultadoProcessamento responder() {
+    futuros.clear();
+    for (int i = 0; i < LOTE; i++) {
+      futuros.add(motor.responder(convites[i], aceites[i]));
+    }
+    ResultadoProcessamento ultimo = null;
+    for (CompletableFuture<ResultadoProcessamento> futuro : futuros) {
+      ultimo = futuro.join();
+    }
+    return ultimo;
+  }
+}
@@ -0,0 +1,116 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.servico.email.ServicoEmail;
+import com.bootcamp.eventos.servico.notificacao.NotificadorAlteracoes;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cinco edições seguidas de um evento com {@code participantes}
+ * confirmados, seguidas do fechamento da janela. O ServicoEmail simula
+ * ~20 µs de espera de rede por envio, o que permite aos lotes em virtual
+ * threads se sobreporem mesmo com um núcleo.
+ *
+ * SEQUENCIAL usa um único lote; LOTES_500 divide os participantes em lotes
+ * de 500. Os contadores auxiliares mostram emails enviados e evitados por
+ * operação.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NotificadorAlteracoesBenchmark {
+
+  private static final int EDICOES = 5;
+  private static final long LATENCIA_ENVIO_NANOS = 20_000;
+
+  @Param({ "1000", "50000" })
+  public int participantes;
+
+  @Param({ "SEQUENCIAL", "LOTES_500" })
+  public String modo;
+
+  private Evento evento;
+  private NotificadorAlteracoes notificador;
+
+  @Setup
+  public void preparar() {
+    evento = new Evento("Conferência", null, LocalDateTime.now().plusDays(30));
+    for (int i = 0; i < participantes; i++) {
+      evento.adicionarParticipante(new Participante("convidado" + i + "@example.com", null));
+    }
+    int tamanhoLote = modo.equals("SEQUENCIAL") ? Integer.MAX_VALUE : 500;
+    notificador = new NotificadorAlteracoes(new EmailComLatencia(), Duration.ofHours(1), tamanhoLote);
+    notificador.acompanhar(evento);
+  }
+
+  @TearDown
+  public void encerrar() throws InterruptedException {
+    notificador.close();
+  }
+
+  @Benchmark
+  public void editarEDistribuir(Emails emails) {
+    long enviadosAntes = notificador.getEmailsEnviados();
+    long evitadosAntes = notificador.getEmailsEvitados();
+    for (int i = 0; i < EDICOES; i++) {
+      evento.setNome("Conferência " + i);
+    }
+    notificador.distribuirPendentes();
+    emails.enviados += notificador.getEmailsEnviados() - enviadosAntes;
+    emails.evitados += notificador.getEmailsEvitados() - evitadosAntes;
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Emails {
+    public long enviados;
+    public long evitados;
+
+    @Setup(Level.Iteration)
+    public void zerar() {
+      enviados = 0;
+      evitados = 0;
+    }
+  }
+
+  private static final class EmailComLatencia implements ServicoEmail {
+
+    @Override
+    public void enviarConvite(String destinatario, Convite convite) {
+      LockSupport.parkNanos(LATENCIA_ENVIO_NANOS);
+    }
+
+    @Override
+    public void enviarConfirmacao(String destinatario, Evento evento) {
+      LockSupport.parkNanos(LATENCIA_ENVIO_NANOS);
+    }
+
+    @Override
+    public void enviarNotificacaoAlteracao(String destinatario, Evento evento) {
+      LockSupport.parkNanos(LATENCIA_ENVIO_NANOS);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ProcessadorResposta.processarResposta por cenário.
+ *
+ * Processar uma resposta altera o convite, por isso cada invocação recebe
+ * um lote novo de {@value #LOTE} convites (criado fora da medição).
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessadorRespostaBenchmark {
+
+  private static final int LOTE = 1024;
+
+  /** ACEITE, RECUSA, JA_RESPONDIDO, LOTADO ou MISTO (70/10/10/10) */
+  @Param({ "ACEITE", "RECUSA", "JA_RESPONDIDO", "LOTADO", "MISTO" })
+  public String cenario;
+
+  private final ProcessadorResposta processador = new ProcessadorResposta();
+  private final RespostaConvite[] aceites = new RespostaConvite[LOTE];
+  private final RespostaConvite recusa = new RespostaConvite(false, null, "Outro compromisso");
+  private Convite[] convites;
+  private RespostaConvite[] respostas;
+
+  @Setup
+  public void prepararRespostas() {
+    // Nomes distintos: o evento rejeita confirmações duplicadas
+    for (int i = 0; i < LOTE; i++) {
+      aceites[i] = new RespostaConvite(true, "Convidado " + i, "Levarei sobremesa");
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void prepararLote() {
+    String cenarioConvites = switch (cenario) {
+      case "LOTADO" -> "LOTADO";
+      case "MISTO" -> "MISTO";
+      default -> "VALIDO";
+    };
+    convites = Cenarios.convites(cenarioConvites, LOTE);
+    respostas = new RespostaConvite[LOTE];
+
+    for (int i = 0; i < LOTE; i++) {
+      boolean recusar = "RECUSA".equals(cenario) || ("MISTO".equals(cenario) && i % 10 == 8);
+      respostas[i] = recusar ? recusa : aceites[i];
+      if ("JA_RESPONDIDO".equals(cenario) || ("MISTO".equals(cenario) && i % 10 == 7)) {
+        convites[i].marcarComoAceito(new Participante("Convidado", null));
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOTE)
+  public void processarResposta(Blackhole blackhole) {
+    for (int i = 0; i < LOTE; i++) {
+      blackhole.consume(processador.processarResposta(convites[i], respostas[i]));
+    }
+  }
+}
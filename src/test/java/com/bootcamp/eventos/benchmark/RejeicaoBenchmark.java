@@ -0,0 +1,91 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.ResultadoValidacao;
+import com.bootcamp.eventos.exception.EventoLotadoException;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark dos caminhos de rejeição em rajada (evento esgotado, links
+ * expirados, convites já respondidos). Rodar com {@code -prof gc}: o
+ * esperado é {@code gc.alloc.rate.norm} = 0 B/op em todos os métodos.
+ *
+ * Os convites e respostas são criados no setup; a medição cobre apenas a
+ * rejeição.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RejeicaoBenchmark {
+
+  private final ValidadorConvite validador = new ValidadorConvite();
+  private final ProcessadorResposta processador = new ProcessadorResposta();
+  private final RespostaConvite aceite = new RespostaConvite(true, "Convidado", null);
+  private final Participante participante = new Participante("Convidado", null);
+  private Convite[] respondidos;
+  private Evento lotado;
+  private int proximo;
+
+  @Setup
+  public void preparar() {
+    respondidos = Cenarios.convites("VALIDO", Cenarios.TAMANHO_MASSA);
+    for (Convite convite : respondidos) {
+      convite.marcarComoRecusado("Outro compromisso");
+    }
+    lotado = Cenarios.eventoLotado();
+  }
+
+  @State(Scope.Thread)
+  public static class ConvitesRejeitados {
+    @Param({ "EXPIRADO", "TOKEN_INVALIDO", "LOTADO" })
+    public String cenario;
+
+    Convite[] convites;
+
+    @Setup
+    public void preparar() {
+      convites = Cenarios.convites(cenario, Cenarios.TAMANHO_MASSA);
+    }
+  }
+
+  @Benchmark
+  public ResultadoValidacao validarRejeitado(ConvitesRejeitados rejeitados) {
+    return validador.validar(rejeitados.convites[proximo++ & (Cenarios.TAMANHO_MASSA - 1)]);
+  }
+
+  @Benchmark
+  public ResultadoProcessamento processarJaRespondido() {
+    return processador.processarResposta(respondidos[proximo++ & (Cenarios.TAMANHO_MASSA - 1)], aceite);
+  }
+
+  @Benchmark
+  public Throwable confirmarEmEventoLotado() {
+    try {
+      lotado.confirmarParticipante(participante);
+      return null;
+    } catch (EventoLotadoException e) {
+      return e;
+    }
+  }
+}
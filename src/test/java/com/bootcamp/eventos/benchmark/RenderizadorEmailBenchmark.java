@@ -0,0 +1,72 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.servico.email.BufferEmail;
+import com.bootcamp.eventos.servico.email.MensagemEmail;
+import com.bootcamp.eventos.servico.email.RenderizadorEmail;
+import com.bootcamp.eventos.servico.email.TipoEmail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Convites de um evento para {@value #DESTINATARIOS} destinatários:
+ * mensagem a mensagem com String.format e getBytes, como o
+ * ServicoEmailFake fazia, contra renderizarLote em um BufferEmail
+ * reutilizado. Tempo por mensagem; a alocação aparece em
+ * {@code gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderizadorEmailBenchmark {
+
+  private static final int DESTINATARIOS = 1000;
+
+  private final Evento evento = new Evento("Conferência de Qualidade", 500, LocalDateTime.now().plusDays(30));
+  private final List<String> destinatarios = new ArrayList<>(DESTINATARIOS);
+  private final RenderizadorEmail renderizador = new RenderizadorEmail();
+  private final BufferEmail buffer = new BufferEmail();
+
+  public RenderizadorEmailBenchmark() {
+    for (int i = 0; i < DESTINATARIOS; i++) {
+      destinatarios.add("convidado" + i + "@example.com");
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DESTINATARIOS)
+  public void stringFormat(Blackhole blackhole) {
+    for (String destinatario : destinatarios) {
+      MensagemEmail mensagem = new MensagemEmail(TipoEmail.CONVITE, destinatario, evento.getNome());
+      String texto = "Para: " + mensagem.destinatario() + "\r\nAssunto: " + mensagem.assunto() + "\r\n\r\n"
+          + String.format(TipoEmail.CONVITE.getModelo(), mensagem.nomeEvento()) + "\r\n";
+      blackhole.consume(texto.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DESTINATARIOS)
+  public int lote() {
+    buffer.limpar();
+    renderizador.renderizarLote(TipoEmail.CONVITE, evento, destinatarios, buffer);
+    return buffer.getTamanhoBytes();
+  }
+}
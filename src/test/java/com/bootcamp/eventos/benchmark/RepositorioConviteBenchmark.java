@@ -0,0 +1,131 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da latência de busca por token do RepositorioConvite em 1M, 10M
+ * e 50M convites. Requer heap grande (ver {@link Fork}).
+ *
+ * Mede também o heap retido, como heap usado depois de GC no
+ * {@code @Setup}: {@code bytesIndicePorConvite} é só o índice (os convites
+ * já existiam antes da medição) e {@code bytesTotalPorConvite} inclui os
+ * convites e os seus tokens. Os dois saem como contadores auxiliares de
+ * cada iteração.
+ */
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms16g", "-Xmx16g" })
+@State(Scope.Benchmark)
+public class RepositorioConviteBenchmark {
+
+  private static final int CONSULTAS = 1 << 20;
+
+  @Param({ "1000000", "10000000", "50000000" })
+  public int tamanho;
+
+  private RepositorioConvite repositorio;
+  private String[] consultas;
+  private long bytesIndice;
+  private long bytesTotal;
+
+  @Setup
+  public void preparar() {
+    Evento evento = new Evento("Benchmark", null, LocalDateTime.now().plusDays(30));
+    LocalDateTime expiracao = LocalDateTime.now().plusDays(7);
+
+    long heapInicial = heapUsadoAposGc();
+    Convite[] convites = new Convite[tamanho];
+    for (int i = 0; i < tamanho; i++) {
+      convites[i] = new Convite(evento, token(i), expiracao);
+    }
+    // Sem o array auxiliar, que não faz parte do que fica retido
+    long heapConvites = heapUsadoAposGc() - (long) tamanho * referenciaBytes();
+
+    repositorio = new RepositorioConvite(tamanho);
+    for (Convite convite : convites) {
+      repositorio.salvar(convite);
+    }
+    convites = null;
+    long heapFinal = heapUsadoAposGc();
+    bytesIndice = heapFinal - heapConvites;
+    bytesTotal = heapFinal - heapInicial;
+
+    // Tokens de consulta pré-criados (hash já calculado): mede apenas a busca
+    consultas = new String[CONSULTAS];
+    ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+    for (int i = 0; i < CONSULTAS; i++) {
+      consultas[i] = token(aleatorio.nextInt(tamanho));
+      consultas[i].hashCode();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    int proximo;
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class HeapRetido {
+    public long bytesIndicePorConvite;
+    public long bytesTotalPorConvite;
+
+    @TearDown(Level.Iteration)
+    public void publicar(RepositorioConviteBenchmark benchmark) {
+      bytesIndicePorConvite = benchmark.bytesIndice / benchmark.tamanho;
+      bytesTotalPorConvite = benchmark.bytesTotal / benchmark.tamanho;
+    }
+  }
+
+  @Benchmark
+  public Optional<Convite> buscarPorToken(Cursor cursor, HeapRetido heap) {
+    return repositorio.buscarPorToken(consultas[cursor.proximo++ & (CONSULTAS - 1)]);
+  }
+
+  private static long heapUsadoAposGc() {
+    MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+    long usado = Long.MAX_VALUE;
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+      usado = Math.min(usado, memoria.getHeapMemoryUsage().getUsed());
+    }
+    return usado;
+  }
+
+  /**
+   * Tamanho de uma referência no array de convites: 4 bytes com oops
+   * comprimidos (heap de até 32 GB), 8 sem.
+   */
+  private static long referenciaBytes() {
+    return Runtime.getRuntime().maxMemory() < 32L << 30 ? 4 : 8;
+  }
+
+  private static String token(int indice) {
+    return "TOKEN_VALIDO_" + indice;
+  }
+}
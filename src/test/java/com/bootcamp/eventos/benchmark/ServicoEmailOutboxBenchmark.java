@@ -0,0 +1,67 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.servico.email.ProvedorEmailSimulado;
+import com.bootcamp.eventos.servico.email.ServicoEmailOutbox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da vazão ponta a ponta do ServicoEmailOutbox (enfileirar e
+ * aguardar a entrega) contra um provedor simulado com 5 ms por lote +
+ * 0,02 ms por mensagem, variando tamanho de lote e quantidade de workers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServicoEmailOutboxBenchmark {
+
+  private static final int MENSAGENS = 2_000;
+
+  @Param({ "1", "8", "64" })
+  public int workers;
+
+  @Param({ "1", "50", "500" })
+  public int tamanhoLote;
+
+  private final Evento evento = new Evento("Benchmark", null, LocalDateTime.now().plusDays(30));
+  private ServicoEmailOutbox outbox;
+
+  @Setup
+  public void preparar() {
+    ProvedorEmailSimulado provedor = new ProvedorEmailSimulado(Duration.ofMillis(5), Duration.ofNanos(20_000));
+    outbox = new ServicoEmailOutbox(provedor, 10_000, tamanhoLote, workers);
+  }
+
+  @TearDown
+  public void encerrar() throws InterruptedException {
+    outbox.shutdown(Duration.ofSeconds(30));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MENSAGENS)
+  public void enviarEAguardarEntrega() throws InterruptedException {
+    for (int i = 0; i < MENSAGENS; i++) {
+      outbox.enviarConfirmacao("convidado@example.com", evento);
+    }
+    outbox.flush(Duration.ofMinutes(5));
+  }
+}
@@ -0,0 +1,55 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Organizador;
+import com.bootcamp.eventos.dominio.Usuario;
+import com.bootcamp.eventos.dominio.UsuarioComum;
+import com.bootcamp.eventos.dto.PermissaoEdicao;
+import com.bootcamp.eventos.servico.ServicoEvento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ServicoEvento.verificarPermissaoEdicao por tipo de usuário e
+ * estado do evento.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ServicoEventoBenchmark {
+
+  /** COMPLETA, LIMITADA ou NEGADA */
+  @Param({ "COMPLETA", "LIMITADA", "NEGADA" })
+  public String cenario;
+
+  private final ServicoEvento servico = new ServicoEvento();
+  private Usuario usuario;
+  private Evento evento;
+
+  @Setup
+  public void preparar() {
+    usuario = "NEGADA".equals(cenario)
+        ? new UsuarioComum("USR-001", "Maria Santos", "maria@example.com")
+        : new Organizador("ORG-001", "João Silva", "joao@example.com");
+    evento = Cenarios.eventoComOcupacao(100, "LIMITADA".equals(cenario) ? 10 : 0);
+  }
+
+  @Benchmark
+  public PermissaoEdicao verificarPermissaoEdicao() {
+    return servico.verificarPermissaoEdicao(usuario, evento);
+  }
+}
@@ -0,0 +1,65 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Organizador;
+import com.bootcamp.eventos.dominio.Usuario;
+import com.bootcamp.eventos.dto.PermissaoEdicao;
+import com.bootcamp.eventos.servico.ServicoEvento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Painel de um organizador com {@value #EVENTOS} eventos (metade com
+ * confirmados): uma verificação individual por linha contra uma chamada de
+ * verificarPermissoes, que lê o relógio uma vez e reutiliza decisões do
+ * cache entre renderizações. Tempo por evento.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ServicoEventoLoteBenchmark {
+
+  private static final int EVENTOS = 1000;
+
+  private final ServicoEvento servico = new ServicoEvento();
+  private final Usuario organizador = new Organizador("ORG-001", "João Silva", "joao@example.com");
+  private final List<Evento> eventos = new ArrayList<>(EVENTOS);
+
+  @Setup
+  public void preparar() {
+    for (int i = 0; i < EVENTOS; i++) {
+      eventos.add(Cenarios.eventoComOcupacao(100, i % 2 == 0 ? 10 : 0));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTOS)
+  public void individual(Blackhole blackhole) {
+    for (Evento evento : eventos) {
+      blackhole.consume(servico.verificarPermissaoEdicao(organizador, evento));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTOS)
+  public List<PermissaoEdicao> lote() {
+    return servico.verificarPermissoes(organizador, eventos);
+  }
+}
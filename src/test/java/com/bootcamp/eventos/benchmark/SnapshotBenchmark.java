@@ -0,0 +1,101 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dto.EstadoRestaurado;
+import com.bootcamp.eventos.persistencia.Snapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do Snapshot com {@code convites} convites distribuídos em 10 mil
+ * eventos: metade aceitos (com o participante confirmado no evento), um
+ * quarto recusados e o restante pendente.
+ *
+ * {@code gravar}: tempo para gravar o estado inteiro.
+ *
+ * {@code carregar}: tempo de inicialização a frio a partir do arquivo,
+ * reconstruindo eventos, participantes e convites.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+  private static final int EVENTOS = 10_000;
+  private static final String[] MOTIVOS = { "Viagem", "Conflito de agenda", "Doente" };
+
+  @Param({ "1000000" })
+  public int convites;
+
+  private Path diretorio;
+  private Path arquivo;
+  private List<Evento> eventos;
+  private List<Convite> listaConvites;
+
+  @Setup(Level.Trial)
+  public void preparar() throws IOException {
+    LocalDateTime data = LocalDateTime.now().plusDays(30);
+    eventos = new ArrayList<>(EVENTOS);
+    for (int i = 0; i < EVENTOS; i++) {
+      eventos.add(new Evento("Evento " + i, null, data));
+    }
+
+    listaConvites = new ArrayList<>(convites);
+    for (int i = 0; i < convites; i++) {
+      Evento evento = eventos.get(i % EVENTOS);
+      Convite convite = new Convite(evento, "TOKEN_VALIDO_" + i, data);
+      if (i % 2 == 0) {
+        Participante participante = new Participante("Participante " + i, null);
+        evento.confirmarParticipante(participante);
+        convite.marcarComoAceito(participante);
+      } else if (i % 4 == 1) {
+        convite.marcarComoRecusado(MOTIVOS[i % MOTIVOS.length]);
+      }
+      listaConvites.add(convite);
+    }
+
+    diretorio = Files.createTempDirectory("snapshot-benchmark");
+    arquivo = diretorio.resolve("estado.snap");
+    Snapshot.gravar(arquivo, eventos, listaConvites);
+  }
+
+  @TearDown(Level.Trial)
+  public void apagar() throws IOException {
+    Files.deleteIfExists(arquivo);
+    Files.deleteIfExists(diretorio);
+  }
+
+  @Benchmark
+  public long gravar() {
+    return Snapshot.gravar(arquivo, eventos, listaConvites);
+  }
+
+  @Benchmark
+  public EstadoRestaurado carregar() {
+    return Snapshot.carregar(arquivo);
+  }
+}
@@ -0,0 +1,47 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dto.ResultadoValidacao;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ValidadorConvite.validar por cenário de convite.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidadorConviteBenchmark {
+
+  @Param({ "VALIDO", "EXPIRADO", "TOKEN_INVALIDO", "LOTADO", "MISTO" })
+  public String cenario;
+
+  private final ValidadorConvite validador = new ValidadorConvite();
+  private Convite[] convites;
+  private int proximo;
+
+  @Setup
+  public void preparar() {
+    convites = Cenarios.convites(cenario, Cenarios.TAMANHO_MASSA);
+  }
+
+  @Benchmark
+  public ResultadoValidacao validar() {
+    return validador.validar(convites[proximo++ & (Cenarios.TAMANHO_MASSA - 1)]);
+  }
+}
@@ -0,0 +1,118 @@
+package com.bootcamp.eventos.benchmark;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.servico.expiracao.VarredorExpiracao;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da roda de tempo do VarredorExpiracao.
+ *
+ * {@code agendar}: custo por convite agendado e inserido na roda, com prazos
+ * de 1 minuto a 1 ano (todos os níveis).
+ *
+ * {@code varrerUmaHora}: {@code agendados} convites expirando ao longo de
+ * uma hora, varridos tick a tick (1 ms); reporta o tempo total da
+ * varredura, incluindo os 3,6 milhões de ticks e as cascatas entre níveis.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class VarredorExpiracaoBenchmark {
+
+  private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 0, 0);
+  private static final int LOTE = 1024;
+
+  @State(Scope.Thread)
+  public static class Agendamento {
+    final long[] relogio = { FonteTempo.paraEpochMillis(INICIO) };
+    final Convite[] convites = new Convite[LOTE];
+    VarredorExpiracao varredor;
+
+    @Setup(Level.Trial)
+    public void criarConvites() {
+      Evento evento = new Evento("Benchmark", null, LocalDateTime.now().plusDays(30));
+      SplittableRandom aleatorio = new SplittableRandom(1);
+      for (int i = 0; i < LOTE; i++) {
+        long segundos = 60 + aleatorio.nextLong(365L * 24 * 3600);
+        convites[i] = new Convite(evento, "TOKEN_VALIDO_" + i, INICIO.plusSeconds(segundos));
+      }
+    }
+
+    @Setup(Level.Iteration)
+    public void criarRoda() {
+      varredor = new VarredorExpiracao(() -> relogio[0], Duration.ofMillis(1), null, expirados -> {
+      }, 1024);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOTE)
+  public int agendar(Agendamento estado) {
+    for (Convite convite : estado.convites) {
+      estado.varredor.agendar(convite);
+    }
+    return estado.varredor.varrer();
+  }
+
+  @State(Scope.Thread)
+  public static class RodaCheia {
+    @Param({ "1000000", "10000000" })
+    public int agendados;
+
+    final long[] relogio = { FonteTempo.paraEpochMillis(INICIO) };
+    VarredorExpiracao varredor;
+
+    @Setup(Level.Iteration)
+    public void encherRoda() {
+      relogio[0] = FonteTempo.paraEpochMillis(INICIO);
+      varredor = new VarredorExpiracao(() -> relogio[0], Duration.ofMillis(1), null, expirados -> {
+      }, 1024);
+
+      Evento evento = new Evento("Benchmark", null, LocalDateTime.now().plusDays(30));
+      Convite[] modelos = new Convite[3_600];
+      for (int segundo = 0; segundo < modelos.length; segundo++) {
+        modelos[segundo] = new Convite(evento, "TOKEN_VALIDO_" + segundo, INICIO.plusSeconds(segundo + 1));
+      }
+      for (int i = 0; i < agendados; i++) {
+        varredor.agendar(modelos[i % modelos.length]);
+      }
+      varredor.varrer();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public int varrerUmaHora(RodaCheia roda) {
+    long fim = roda.relogio[0] + 3_600_001;
+    int expirados = 0;
+    while (roda.relogio[0] < fim) {
+      roda.relogio[0]++;
+      expirados += roda.varredor.varrer();
+    }
+    return expirados;
+  }
+}
@@ -3,6 +3,7 @@ package com.bootcamp.eventos.boundary;
 import com.bootcamp.eventos.dominio.Evento;
 import com.bootcamp.eventos.dominio.Participante;
 import com.bootcamp.eventos.exception.EventoLotadoException;
+import com.bootcamp.eventos.tempo.FonteTempo;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
@@ -62,6 +63,22 @@ class EventoBoundaryTest {
         .hasMessage("Evento já atingiu o número máximo de participantes");
   }
 
+  @Test
+  void deveSinalizarLotacaoComExcecaoCompartilhadaSemStackTrace() {
+    // Arrange
+    Evento evento = new Evento("Festa de Casamento", 1, LocalDateTime.now().plusDays(30));
+    preencherParticipantes(evento, 1); // já lotado
+
+    // Act - off-point repetido: 2º e 3º participantes
+    Throwable primeira = catchThrowable(() -> evento.confirmarParticipante(new Participante("Pedro Costa", null)));
+    Throwable segunda = catchThrowable(() -> evento.confirmarParticipante(new Participante("Lucas Lima", null)));
+
+    // Assert - mesma instância, sem custo de stack trace
+    assertThat(primeira).isSameAs(EventoLotadoException.INSTANCIA).isSameAs(segunda);
+    assertThat(primeira.getStackTrace()).isEmpty();
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+  }
+
   @Test
   void deveAceitarConfirmacaoQuandoEventoIlimitado() {
     // Arrange - evento sem limite
@@ -77,6 +94,39 @@ class EventoBoundaryTest {
     assertThat(evento.getNumeroConfirmados()).isEqualTo(201);
   }
 
+  @Test
+  void deveRejeitarConfirmacaoDuplicadaSemOcuparVaga() {
+    // Arrange - on-point: última vaga disponível
+    Evento evento = new Evento("Festa de Casamento", 2, LocalDateTime.now().plusDays(30));
+    evento.confirmarParticipante(new Participante("João Silva", null));
+
+    // Act - mesmo nome novamente
+    boolean resultado = evento.confirmarParticipante(new Participante("João Silva", "De novo"));
+
+    // Assert - duplicado não consome a última vaga
+    assertThat(resultado).isFalse();
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+    assertThat(evento.confirmarParticipante(new Participante("Maria Santos", null))).isTrue();
+  }
+
+  @Test
+  void deveListarParticipantesNaFronteiraDosBlocos() {
+    // Arrange - 1023, 1024 e 1025: fronteira do bloco de armazenamento
+    for (int quantidade : new int[] { 1023, 1024, 1025 }) {
+      Evento evento = new Evento("Congresso", null, LocalDateTime.now().plusDays(30));
+      preencherParticipantes(evento, quantidade);
+
+      // Act
+      var participantes = evento.getParticipantes();
+
+      // Assert - ordem de confirmação preservada
+      assertThat(participantes).hasSize(quantidade);
+      assertThat(participantes.get(quantidade - 1).nome()).isEqualTo("Participante " + quantidade);
+      assertThat(evento.estaConfirmado("Participante " + quantidade)).isTrue();
+      assertThat(evento.estaConfirmado("Participante " + (quantidade + 1))).isFalse();
+    }
+  }
+
   // ==================== BOUNDARY: Validação de Data ====================
 
   @Test
@@ -126,6 +176,31 @@ class EventoBoundaryTest {
     assertThat(evento.getData()).isEqualTo(umAnoDepois);
   }
 
+  @Test
+  void deveAceitarEventoNoMesmoSegundoDoRelogio() {
+    // Arrange - on-point: mesmo segundo, alguns milissegundos antes do relógio
+    LocalDateTime agora = LocalDateTime.of(2030, 1, 1, 12, 0, 0, 900_000_000);
+    LocalDateTime mesmoSegundo = agora.withNano(0);
+
+    // Act
+    Evento evento = new Evento("Workshop", 30, mesmoSegundo, FonteTempo.fixa(agora));
+
+    // Assert
+    assertThat(evento.getData()).isEqualTo(mesmoSegundo);
+  }
+
+  @Test
+  void deveRejeitarEventoNoSegundoAnteriorAoRelogio() {
+    // Arrange - off-point: 1 ms antes do segundo atual
+    LocalDateTime agora = LocalDateTime.of(2030, 1, 1, 12, 0, 0);
+    LocalDateTime segundoAnterior = agora.minusNanos(1_000_000);
+
+    // Act & Assert
+    assertThatThrownBy(() -> new Evento("Workshop", 30, segundoAnterior, FonteTempo.fixa(agora)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("A data do evento não pode ser no passado");
+  }
+
   // ==================== Métodos Auxiliares ====================
 
   private void preencherParticipantes(Evento evento, int quantidade) {
@@ -0,0 +1,105 @@
+package com.bootcamp.eventos.boundary;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de Análise de Valor Limite para o StatusPercentual incremental.
+ *
+ * TÉCNICA: Boundary Testing
+ * FOCO: Transições entre faixas (1%, 50%, 80%, 100%) e notificação de ouvintes
+ * ESTRATÉGIA: on-point e off-point de cada faixa, para vários limites
+ */
+class StatusPercentualBoundaryTest {
+
+  @Test
+  void deveClassificarComoAFormulaPercentualEmTodosOsLimites() {
+    // Arrange - limites que geram arredondamentos diferentes nas faixas
+    for (int limite : new int[] { 1, 3, 7, 10, 99, 100, 101, 150, 1000 }) {
+      Evento evento = criarEvento(limite);
+
+      for (int confirmados = 0; confirmados <= limite; confirmados++) {
+        // Assert - status incremental igual à classificação por (n * 100) / limite
+        assertThat(evento.getStatusPercentual())
+            .as("limite %d com %d confirmados", limite, confirmados)
+            .isEqualTo(classificarPorFormula(confirmados, limite));
+
+        if (confirmados < limite) {
+          evento.confirmarParticipante(new Participante("Participante " + confirmados, null));
+        }
+      }
+    }
+  }
+
+  @Test
+  void deveNotificarApenasQuandoCruzaFaixa() {
+    // Arrange
+    Evento evento = criarEvento(10);
+    List<String> transicoes = new ArrayList<>();
+    evento.adicionarOuvinteStatus((e, anterior, atual) -> transicoes.add(anterior + "->" + atual));
+
+    // Act - 10 confirmações: 10%, 20%, ..., 100%
+    for (int i = 0; i < 10; i++) {
+      evento.confirmarParticipante(new Participante("Participante " + i, null));
+    }
+
+    // Assert - uma notificação por faixa cruzada, não por confirmação
+    assertThat(transicoes).containsExactly(
+        "ABERTO_SEM_CONFIRMACOES->ABERTO_COM_CONFIRMACOES",
+        "ABERTO_COM_CONFIRMACOES->BOA_ADESAO",
+        "BOA_ADESAO->QUASE_LOTADO",
+        "QUASE_LOTADO->LOTADO");
+  }
+
+  @Test
+  void deveNotificarQuandoLimiteMudaDeFaixa() {
+    // Arrange - evento lotado
+    Evento evento = criarEvento(4);
+    for (int i = 0; i < 4; i++) {
+      evento.confirmarParticipante(new Participante("Participante " + i, null));
+    }
+    List<StatusPercentual> atuais = new ArrayList<>();
+    evento.adicionarOuvinteStatus((e, anterior, atual) -> atuais.add(atual));
+
+    // Act
+    evento.setLimiteParticipantes(5); // 80%
+    evento.setLimiteParticipantes(6); // 66% - cruza para BOA_ADESAO
+    evento.setLimiteParticipantes(7); // 57% - mesma faixa, sem notificação
+    evento.setLimiteParticipantes(null);
+
+    // Assert
+    assertThat(atuais).containsExactly(
+        StatusPercentual.QUASE_LOTADO,
+        StatusPercentual.BOA_ADESAO,
+        StatusPercentual.SEM_LIMITE);
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Evento criarEvento(int limite) {
+    return new Evento("Evento Teste", limite, LocalDateTime.now().plusDays(30));
+  }
+
+  private StatusPercentual classificarPorFormula(int confirmados, int limite) {
+    int percentual = (confirmados * 100) / limite;
+    if (percentual >= 100) {
+      return StatusPercentual.LOTADO;
+    } else if (percentual >= 80) {
+      return StatusPercentual.QUASE_LOTADO;
+    } else if (percentual >= 50) {
+      return StatusPercentual.BOA_ADESAO;
+    } else if (percentual > 0) {
+      return StatusPercentual.ABERTO_COM_CONFIRMACOES;
+    } else {
+      return StatusPercentual.ABERTO_SEM_CONFIRMACOES;
+    }
+  }
+}
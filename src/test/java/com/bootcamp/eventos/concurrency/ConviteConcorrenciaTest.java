@@ -0,0 +1,221 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dominio.enums.ReservaResposta;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para as transições de estado do Convite.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Reserva do convite e transições por compare-and-set com muitas
+ * submissões simultâneas do mesmo token
+ * ESTRATÉGIA: Threads liberadas juntas por um CountDownLatch; resultados
+ * coletados e verificados depois do join
+ */
+class ConviteConcorrenciaTest {
+
+  private static final int THREADS_POR_TOKEN = 32;
+
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30);
+  private final ProcessadorResposta processador = new ProcessadorResposta();
+
+  @Test
+  void deveConfirmarUmaVezERepetirOResultadoOriginalParaCliquesSimultaneos() throws Exception {
+    // Arrange - 40 tokens, 32 submissões idênticas de cada
+    Evento evento = new Evento("Workshop", 100, data);
+    List<Convite> convites = criarConvites(evento, 40);
+
+    // Act
+    Queue<ResultadoProcessamento> resultados = submeterAoMesmoTempo(convites,
+        t -> new RespostaConvite(true, "Convidado " + t, null));
+
+    // Assert
+    assertThat(resultados).hasSize(40 * THREADS_POR_TOKEN).containsOnly(ResultadoProcessamento.CONFIRMADO);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(40);
+    assertThat(convites).allSatisfy(convite -> assertThat(convite.foiAceito()).isTrue());
+  }
+
+  @Test
+  void deveAceitarSomenteUmaDecisaoQuandoAceitesERecusasDisputamOToken() throws Exception {
+    // Arrange - metade das threads aceita, metade recusa o mesmo convite
+    Evento evento = new Evento("Palestra", 100, data);
+    List<Convite> convites = criarConvites(evento, 20);
+    List<String> violacoes = new ArrayList<>();
+
+    // Act
+    Queue<ResultadoProcessamento> resultados = submeterAoMesmoTempo(convites, t -> null);
+
+    // Assert - cada token tem exatamente uma decisão, repetida pelas threads de mesma decisão
+    for (Convite convite : convites) {
+      if (convite.foiAceito() == convite.foiRecusado()) {
+        violacoes.add(convite.getToken());
+      }
+    }
+    long aceitos = convites.stream().filter(Convite::foiAceito).count();
+    assertThat(violacoes).isEmpty();
+    assertThat(evento.getNumeroConfirmados()).isEqualTo((int) aceitos);
+    assertThat(resultados).filteredOn(r -> r == ResultadoProcessamento.CONFIRMADO)
+        .hasSize((int) aceitos * THREADS_POR_TOKEN / 2);
+    assertThat(resultados).filteredOn(r -> r == ResultadoProcessamento.RECUSA_REGISTRADA)
+        .hasSize((int) (convites.size() - aceitos) * THREADS_POR_TOKEN / 2);
+    assertThat(resultados).filteredOn(r -> r == ResultadoProcessamento.JA_RESPONDIDO)
+        .hasSize(convites.size() * THREADS_POR_TOKEN / 2);
+  }
+
+  @Test
+  void deveRepetirEventoLotadoSemTocarNoEvento() throws Exception {
+    // Arrange - evento já lotado
+    Evento evento = new Evento("Curso", 1, data);
+    evento.confirmarParticipante(new Participante("Primeiro", null));
+    List<Convite> convites = criarConvites(evento, 10);
+    int versao = evento.getVersaoEdicao();
+
+    // Act
+    Queue<ResultadoProcessamento> resultados = submeterAoMesmoTempo(convites,
+        t -> new RespostaConvite(true, "Convidado " + t, null));
+
+    // Assert
+    assertThat(resultados).hasSize(10 * THREADS_POR_TOKEN).containsOnly(ResultadoProcessamento.EVENTO_LOTADO);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+    assertThat(evento.getVersaoEdicao()).isEqualTo(versao);
+    assertThat(convites).allSatisfy(convite -> {
+      assertThat(convite.getMotivoRecusa()).isEqualTo("Evento lotado");
+      assertThat(convite.foiRecusadoPorLotacao()).isTrue();
+    });
+  }
+
+  @Test
+  void deveManterPrimeiraTransicaoELiberarReservaSemResposta() {
+    // Arrange
+    Evento evento = new Evento("Meetup", 10, data);
+    evento.confirmarParticipante(new Participante("Ana", null));
+    Convite convite = new Convite(evento, "TOKEN", data);
+
+    // Act & Assert - nome já confirmado: a reserva é liberada e o convite continua pendente
+    assertThat(processador.processarResposta(convite, new RespostaConvite(true, "Ana", null)))
+        .isSameAs(ResultadoProcessamento.PARTICIPANTE_DUPLICADO);
+    assertThat(convite.foiRespondido()).isFalse();
+    assertThat(convite.iniciarResposta()).isSameAs(ReservaResposta.OBTIDA);
+    convite.liberarResposta();
+
+    // A primeira transição vale; as seguintes não alteram nada
+    assertThat(convite.marcarComoRecusado("Viagem")).isTrue();
+    assertThat(convite.marcarComoAceito(new Participante("Bruno", null))).isFalse();
+    assertThat(convite.marcarComoRecusado("Outro motivo")).isFalse();
+    assertThat(convite.iniciarResposta()).isSameAs(ReservaResposta.JA_RESPONDIDO);
+    assertThat(convite.foiRecusado()).isTrue();
+    assertThat(convite.getMotivoRecusa()).isEqualTo("Viagem");
+    assertThat(convite.getParticipante()).isNull();
+    assertThat(processador.processarResposta(convite, new RespostaConvite(false, null, "Viagem")))
+        .isSameAs(ResultadoProcessamento.RECUSA_REGISTRADA);
+    assertThat(processador.processarResposta(convite, new RespostaConvite(true, "Bruno", null)))
+        .isSameAs(ResultadoProcessamento.JA_RESPONDIDO);
+  }
+
+  @Test
+  void deveDevolverRespostaEmAndamentoQuandoAReservaNaoTerminaDentroDaEspera() throws Exception {
+    // Arrange - a reserva do convite fica com outra resposta
+    Evento evento = new Evento("Meetup", 10, data);
+    Convite convite = new Convite(evento, "TOKEN", data);
+    assertThat(convite.iniciarResposta()).isSameAs(ReservaResposta.OBTIDA);
+
+    // Act
+    ReservaResposta reserva = convite.iniciarResposta(TimeUnit.MILLISECONDS.toNanos(5));
+    ResultadoProcessamento[] resultado = new ResultadoProcessamento[1];
+    Thread.ofVirtual().start(() ->
+        resultado[0] = processador.processarResposta(convite, new RespostaConvite(true, "Ana", null))).join();
+
+    // Assert - a espera termina sem tocar no evento nem na reserva
+    assertThat(reserva).isSameAs(ReservaResposta.EM_ANDAMENTO);
+    assertThat(resultado[0]).isSameAs(ResultadoProcessamento.RESPOSTA_EM_ANDAMENTO);
+    assertThat(evento.getNumeroConfirmados()).isZero();
+    assertThat(convite.decidirAceite(new Participante("Bruno", null))).isTrue();
+    convite.concluirResposta();
+    assertThat(convite.foiAceito()).isTrue();
+  }
+
+  @Test
+  void deveDistinguirRecusaPorLotacaoDeRecusaComOMesmoMotivo() {
+    // Arrange - o convidado recusa informando o texto usado na lotação
+    Evento evento = new Evento("Meetup", 10, data);
+    Convite convite = new Convite(evento, "TOKEN", data);
+    processador.processarResposta(convite, new RespostaConvite(false, null, Convite.MOTIVO_LOTACAO));
+
+    // Act
+    ResultadoProcessamento aceite = processador.processarResposta(convite, new RespostaConvite(true, "Ana", null));
+
+    // Assert - não é repetição de uma recusa por lotação
+    assertThat(convite.foiRecusadoPorLotacao()).isFalse();
+    assertThat(aceite).isSameAs(ResultadoProcessamento.JA_RESPONDIDO);
+    assertThat(processador.processarResposta(convite, new RespostaConvite(false, null, "Viagem")))
+        .isSameAs(ResultadoProcessamento.RECUSA_REGISTRADA);
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private List<Convite> criarConvites(Evento evento, int quantidade) {
+    List<Convite> convites = new ArrayList<>();
+    for (int i = 0; i < quantidade; i++) {
+      convites.add(new Convite(evento, "TOKEN_" + i, data));
+    }
+    return convites;
+  }
+
+  /**
+   * Submete {@value #THREADS_POR_TOKEN} respostas por convite, todas ao
+   * mesmo tempo. Com {@code resposta} retornando null, threads pares
+   * aceitam e ímpares recusam.
+   */
+  private Queue<ResultadoProcessamento> submeterAoMesmoTempo(
+      List<Convite> convites,
+      IntFunction<RespostaConvite> resposta) throws InterruptedException {
+    Queue<ResultadoProcessamento> resultados = new ConcurrentLinkedQueue<>();
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+
+    for (int t = 0; t < convites.size(); t++) {
+      Convite convite = convites.get(t);
+      RespostaConvite fixa = resposta.apply(t);
+      for (int i = 0; i < THREADS_POR_TOKEN; i++) {
+        RespostaConvite enviada = fixa != null ? fixa
+            : i % 2 == 0 ? new RespostaConvite(true, "Convidado " + t, null)
+            : new RespostaConvite(false, null, "Imprevisto");
+        threads.add(Thread.ofVirtual().start(() -> {
+          aguardar(largada);
+          resultados.add(processador.processarResposta(convite, enviada));
+        }));
+      }
+    }
+
+    largada.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return resultados;
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
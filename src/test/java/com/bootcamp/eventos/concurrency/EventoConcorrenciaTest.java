@@ -0,0 +1,139 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.enums.ResultadoConfirmacao;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de estresse concorrente para a reserva de vagas de Evento.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Nenhum overbooking sob confirmações simultâneas
+ * ESTRATÉGIA: 1 a N threads disputando as mesmas vagas
+ */
+class EventoConcorrenciaTest {
+
+  private static final int LIMITE = 10_000;
+  private static final int TENTATIVAS_POR_THREAD = 20_000;
+
+  @Test
+  void naoDeveUltrapassarLimiteComConfirmacoesSimultaneas() throws Exception {
+    int maxThreads = Runtime.getRuntime().availableProcessors();
+
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      // Arrange
+      Evento evento = new Evento("Show Esgotado", LIMITE, LocalDateTime.now().plusDays(30));
+
+      // Act
+      int confirmados = disputarVagas(evento, threads);
+
+      // Assert - zero overbooking
+      assertThat(confirmados).isEqualTo(LIMITE);
+      assertThat(evento.getNumeroConfirmados()).isEqualTo(LIMITE);
+      assertThat(evento.estaLotado()).isTrue();
+    }
+  }
+
+  @Test
+  void deveConfirmarTodosQuandoEventoIlimitado() throws Exception {
+    // Arrange
+    int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    Evento evento = new Evento("Corrida Aberta", null, LocalDateTime.now().plusDays(30));
+
+    // Act
+    int confirmados = disputarVagas(evento, threads);
+
+    // Assert
+    assertThat(confirmados).isEqualTo(threads * TENTATIVAS_POR_THREAD);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(threads * TENTATIVAS_POR_THREAD);
+  }
+
+  @Test
+  void deveConfirmarCadaNomeUmaUnicaVezComConfirmacoesDuplicadasSimultaneas() throws Exception {
+    // Arrange - todas as threads tentam confirmar os mesmos 1000 nomes
+    int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+    int nomes = 1_000;
+    Evento evento = new Evento("Festa", null, LocalDateTime.now().plusDays(30));
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Future<Integer>> resultados = new ArrayList<>();
+
+    // Act
+    try {
+      for (int t = 0; t < threads; t++) {
+        resultados.add(executor.submit(() -> {
+          largada.await();
+          int confirmados = 0;
+          for (int i = 0; i < nomes; i++) {
+            if (evento.tentarConfirmarParticipante(new Participante("Convidado " + i, null))
+                == ResultadoConfirmacao.CONFIRMADO) {
+              confirmados++;
+            }
+          }
+          return confirmados;
+        }));
+      }
+      largada.countDown();
+
+      int total = 0;
+      for (Future<Integer> resultado : resultados) {
+        total += resultado.get(60, TimeUnit.SECONDS);
+      }
+
+      // Assert - nenhum nome confirmado duas vezes
+      assertThat(total).isEqualTo(nomes);
+      assertThat(evento.getNumeroConfirmados()).isEqualTo(nomes);
+      assertThat(evento.getParticipantes()).hasSize(nomes);
+      assertThat(evento.estaConfirmado("Convidado 999")).isTrue();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private int disputarVagas(Evento evento, int threads) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Future<Integer>> resultados = new ArrayList<>();
+
+    try {
+      for (int t = 0; t < threads; t++) {
+        int idThread = t;
+        resultados.add(executor.submit(() -> {
+          largada.await();
+          int sucesso = 0;
+          for (int i = 0; i < TENTATIVAS_POR_THREAD; i++) {
+            Participante participante = new Participante("Participante " + idThread + "-" + i, null);
+            if (evento.tentarConfirmarParticipante(participante) == ResultadoConfirmacao.CONFIRMADO) {
+              sucesso++;
+            }
+          }
+          return sucesso;
+        }));
+      }
+
+      largada.countDown();
+
+      int total = 0;
+      for (Future<Integer> resultado : resultados) {
+        total += resultado.get(60, TimeUnit.SECONDS);
+      }
+      return total;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
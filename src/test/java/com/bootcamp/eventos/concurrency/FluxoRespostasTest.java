@@ -0,0 +1,314 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.servico.ListaEspera;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.servico.email.ServicoEmailFake;
+import com.bootcamp.eventos.servico.fluxo.FluxoRespostas;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para FluxoRespostas.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Estágios de validação e processamento encadeados com contrapressão
+ * pela demanda do assinante
+ * ESTRATÉGIA: Origens controladas pelo teste contam itens emitidos e
+ * cancelamentos; assinantes registram sinais e pedem demanda sob controle
+ */
+class FluxoRespostasTest {
+
+  private final LocalDateTime agora = LocalDateTime.of(2030, 1, 1, 12, 0);
+  private final ValidadorConvite validador = new ValidadorConvite(FonteTempo.fixa(agora));
+
+  @Test
+  void deveEntregarUmResultadoPorRespostaNaOrdemDeEntrada() throws Exception {
+    // Arrange - evento de 1 vaga com lista de espera
+    Evento evento = new Evento("Workshop", 1, agora.plusDays(30));
+    ListaEspera listaEspera = new ListaEspera(new ServicoEmailFake());
+    FluxoRespostas fluxo = new FluxoRespostas(validador, new ProcessadorResposta(listaEspera));
+    List<SolicitacaoResposta> respostas = List.of(
+        solicitacao(new Convite(evento, "TOKEN_VALIDO_1", agora.plusDays(1)), true, "Ana"),
+        solicitacao(new Convite(evento, "adulterado", agora.plusDays(1)), true, "Bruno"),
+        solicitacao(new Convite(evento, "TOKEN_VALIDO_2", agora.minusDays(1)), true, "Carla"),
+        solicitacao(new Convite(evento, "TOKEN_VALIDO_3", agora.plusDays(1)), true, "Davi"),
+        solicitacao(new Convite(evento, "TOKEN_VALIDO_4", agora.plusDays(1)), false, null));
+    Assinante assinante = new Assinante(Long.MAX_VALUE);
+
+    // Act
+    fluxo.processar(new Origem(respostas.size(), respostas::get)).subscribe(assinante);
+    assinante.fim.get(10, TimeUnit.SECONDS);
+
+    // Assert - lotação segue para o processamento (lista de espera); recusa é registrada
+    assertThat(assinante.resultados).containsExactly(
+        ResultadoProcessamento.CONFIRMADO,
+        ResultadoProcessamento.TOKEN_INVALIDO,
+        ResultadoProcessamento.TOKEN_EXPIRADO,
+        ResultadoProcessamento.EM_LISTA_ESPERA,
+        ResultadoProcessamento.RECUSA_REGISTRADA);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+    assertThat(listaEspera.getTamanho(evento)).isEqualTo(1);
+  }
+
+  @Test
+  void deveLimitarRespostasEmCursoAoBufferDosEstagiosComAssinanteLento() throws Exception {
+    // Arrange - estágios de 16; o assinante pede uma resposta por vez
+    Evento evento = new Evento("Conferência", null, agora.plusDays(30));
+    FluxoRespostas fluxo = new FluxoRespostas(validador, new ProcessadorResposta(), 16,
+        Executors.newVirtualThreadPerTaskExecutor());
+    Origem origem = new Origem(5_000, i ->
+        solicitacao(new Convite(evento, "TOKEN_VALIDO_" + i, agora.plusDays(1)), true, "Convidado " + i));
+    AtomicLong maiorAdiantamento = new AtomicLong();
+    Assinante assinante = new Assinante(1) {
+      @Override
+      public void onNext(ResultadoProcessamento resultado) {
+        super.onNext(resultado);
+        maiorAdiantamento.accumulateAndGet(origem.emitidos.get() - resultados.size(), Math::max);
+        assinatura.request(1);
+      }
+    };
+
+    // Act
+    fluxo.processar(origem).subscribe(assinante);
+    assinante.fim.get(30, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(assinante.resultados).hasSize(5_000).containsOnly(ResultadoProcessamento.CONFIRMADO);
+    assertThat(maiorAdiantamento.get()).isLessThanOrEqualTo(2 * 16);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(5_000);
+
+    // Sem demanda a origem para depois de encher os estágios
+    Origem parada = new Origem(1_000, i ->
+        solicitacao(new Convite(evento, "TOKEN_VALIDO_" + i, agora.plusDays(1)), false, null));
+    Assinante semDemanda = new Assinante(0);
+    fluxo.processar(parada).subscribe(semDemanda);
+    Thread.sleep(200);
+    assertThat(parada.emitidos.get()).isLessThanOrEqualTo(2 * 16);
+    assertThat(semDemanda.resultados).isEmpty();
+  }
+
+  @Test
+  void deveCancelarAOrigemEEncerrarComErroSemPerderSinais() throws Exception {
+    // Arrange
+    Evento evento = new Evento("Palestra", null, agora.plusDays(30));
+    FluxoRespostas fluxo = new FluxoRespostas(validador, new ProcessadorResposta(), 8,
+        Executors.newVirtualThreadPerTaskExecutor());
+    IntFunction<SolicitacaoResposta> recusas = i ->
+        solicitacao(new Convite(evento, "TOKEN_VALIDO_" + i, agora.plusDays(1)), false, null);
+
+    // Act & Assert - cancelamento pelo assinante chega à origem
+    Origem longa = new Origem(1_000_000, recusas);
+    Assinante cancela = new Assinante(10);
+    fluxo.processar(longa).subscribe(cancela);
+    aguardar(() -> cancela.resultados.size() == 10);
+    cancela.assinatura.cancel();
+    aguardar(longa.cancelada::get);
+    assertThat(longa.emitidos.get()).isLessThan(100);
+
+    // Convite nulo no meio do fluxo: itens anteriores entregues, depois onError
+    Origem comNulo = new Origem(100, i -> i == 5
+        ? new SolicitacaoResposta(null, new RespostaConvite(false, null, null))
+        : recusas.apply(i));
+    Assinante erro = new Assinante(Long.MAX_VALUE);
+    fluxo.processar(comNulo).subscribe(erro);
+    assertThatThrownBy(() -> erro.fim.get(10, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Convite e resposta não podem ser nulos");
+    assertThat(erro.resultados).hasSize(5);
+    aguardar(comNulo.cancelada::get);
+
+    // Demanda inválida e segundo assinante
+    Flow.Publisher<ResultadoProcessamento> publicador = fluxo.processar(new Origem(10, recusas));
+    Assinante demandaInvalida = new Assinante(0);
+    publicador.subscribe(demandaInvalida);
+    demandaInvalida.assinatura.request(0);
+    assertThatThrownBy(() -> demandaInvalida.fim.get(10, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+    Assinante segundo = new Assinante(1);
+    publicador.subscribe(segundo);
+    assertThatThrownBy(() -> segundo.fim.get(10, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(assinantesCompletos(demandaInvalida, segundo)).isZero();
+  }
+
+  @Test
+  void deveProcessarFluxoDeUmaFilaDeIngestaoComProdutorBloqueadoPelaContrapressao() throws Exception {
+    // Arrange - produtor em outra thread publica 200 mil respostas em um SubmissionPublisher de 64
+    Evento evento = new Evento("Festival", null, agora.plusDays(30));
+    FluxoRespostas fluxo = new FluxoRespostas(validador, new ProcessadorResposta());
+    AtomicInteger confirmados = new AtomicInteger();
+    Assinante assinante = new Assinante(Long.MAX_VALUE) {
+      @Override
+      public void onNext(ResultadoProcessamento resultado) {
+        if (resultado == ResultadoProcessamento.CONFIRMADO) {
+          confirmados.incrementAndGet();
+        }
+      }
+    };
+
+    try (SubmissionPublisher<SolicitacaoResposta> fila =
+        new SubmissionPublisher<>(Executors.newVirtualThreadPerTaskExecutor(), 64)) {
+      fluxo.processar(fila).subscribe(assinante);
+
+      // Act
+      Thread produtor = Thread.ofPlatform().start(() -> {
+        for (int i = 0; i < 200_000; i++) {
+          Convite convite = new Convite(evento, "TOKEN_VALIDO_" + i, agora.plusDays(1));
+          fila.submit(solicitacao(convite, i % 4 != 0, "Convidado " + i));
+        }
+      });
+      produtor.join();
+    }
+    assinante.fim.get(30, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(confirmados.get()).isEqualTo(150_000);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(150_000);
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private static SolicitacaoResposta solicitacao(Convite convite, boolean aceita, String nome) {
+    return new SolicitacaoResposta(convite, aceita
+        ? new RespostaConvite(true, nome, null)
+        : new RespostaConvite(false, null, "Sem agenda"));
+  }
+
+  private static int assinantesCompletos(Assinante... assinantes) {
+    int completos = 0;
+    for (Assinante assinante : assinantes) {
+      if (assinante.completo.get()) {
+        completos++;
+      }
+    }
+    return completos;
+  }
+
+  private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+    long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condicao.getAsBoolean() && System.nanoTime() < prazo) {
+      Thread.sleep(5);
+    }
+    assertThat(condicao.getAsBoolean()).isTrue();
+  }
+
+  /**
+   * Origem síncrona de {@code total} solicitações geradas sob demanda.
+   * Conta as emitidas e registra o cancelamento.
+   */
+  private static final class Origem implements Flow.Publisher<SolicitacaoResposta> {
+
+    final AtomicLong emitidos = new AtomicLong();
+    final AtomicBoolean cancelada = new AtomicBoolean();
+    private final int total;
+    private final IntFunction<SolicitacaoResposta> gerar;
+
+    Origem(int total, IntFunction<SolicitacaoResposta> gerar) {
+      this.total = total;
+      this.gerar = gerar;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SolicitacaoResposta> assinante) {
+      AtomicLong demanda = new AtomicLong();
+      assinante.onSubscribe(new Flow.Subscription() {
+        private int proxima;
+
+        @Override
+        public void request(long n) {
+          // Quem encontra a demanda zerada emite; chamadas reentrantes só somam
+          if (demanda.getAndAdd(n) != 0) {
+            return;
+          }
+          long pedidos = n;
+          while (true) {
+            for (long i = 0; i < pedidos; i++) {
+              if (cancelada.get()) {
+                return;
+              }
+              if (proxima == total) {
+                assinante.onComplete();
+                return;
+              }
+              emitidos.incrementAndGet();
+              assinante.onNext(gerar.apply(proxima++));
+            }
+            pedidos = demanda.addAndGet(-pedidos);
+            if (pedidos == 0) {
+              return;
+            }
+          }
+        }
+
+        @Override
+        public void cancel() {
+          cancelada.set(true);
+        }
+      });
+    }
+  }
+
+  /**
+   * Registra os sinais recebidos; pede {@code demandaInicial} ao se
+   * inscrever.
+   */
+  private static class Assinante implements Flow.Subscriber<ResultadoProcessamento> {
+
+    final Queue<ResultadoProcessamento> resultados = new ConcurrentLinkedQueue<>();
+    final CompletableFuture<Void> fim = new CompletableFuture<>();
+    final AtomicBoolean completo = new AtomicBoolean();
+    private final long demandaInicial;
+    volatile Flow.Subscription assinatura;
+
+    Assinante(long demandaInicial) {
+      this.demandaInicial = demandaInicial;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription assinatura) {
+      this.assinatura = assinatura;
+      if (demandaInicial > 0) {
+        assinatura.request(demandaInicial);
+      }
+    }
+
+    @Override
+    public void onNext(ResultadoProcessamento resultado) {
+      resultados.add(resultado);
+    }
+
+    @Override
+    public void onError(Throwable erro) {
+      fim.completeExceptionally(erro);
+    }
+
+    @Override
+    public void onComplete() {
+      completo.set(true);
+      fim.complete(null);
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.metricas.Desfecho;
+import com.bootcamp.eventos.metricas.MetricasResposta;
+import com.bootcamp.eventos.seguranca.LimitadorTaxa;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para LimitadorTaxa e a admissão no ProcessadorResposta.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Rajada e reposição das fichas, memória limitada com milhões de
+ * chaves e contagem exata sob disputa
+ * ESTRATÉGIA: Relógio monotônico controlado pelo teste; threads liberadas
+ * juntas por um CountDownLatch
+ */
+class LimitadorTaxaTest {
+
+  private final AtomicLong relogio = new AtomicLong(1_000_000);
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30);
+
+  @Test
+  void deveAdmitirARajadaEReporAsFichasComOTempo() {
+    // Arrange - 5 requisições por segundo
+    LimitadorTaxa limitador = new LimitadorTaxa(5, Duration.ofSeconds(1), 1024, relogio::get);
+
+    // Act & Assert - rajada completa, depois bloqueio
+    assertThat(admitidas(limitador, "TOKEN", 10)).isEqualTo(5);
+
+    // Uma ficha a cada 200 ms
+    relogio.addAndGet(Duration.ofMillis(199).toNanos());
+    assertThat(limitador.admitir("TOKEN")).isFalse();
+    relogio.addAndGet(Duration.ofMillis(1).toNanos());
+    assertThat(limitador.admitir("TOKEN")).isTrue();
+    assertThat(limitador.admitir("TOKEN")).isFalse();
+
+    // Ociosa por muito tempo: volta à rajada, sem acumular além da capacidade
+    relogio.addAndGet(Duration.ofMinutes(1).toNanos());
+    assertThat(admitidas(limitador, "TOKEN", 10)).isEqualTo(5);
+    assertThat(admitidas(limitador, "OUTRO", 10)).isEqualTo(5);
+  }
+
+  @Test
+  void deveManterMemoriaLimitadaESegurarChavesBloqueadasComMilhoesDeChaves() {
+    // Arrange - bot esgota as fichas do seu token
+    LimitadorTaxa limitador = new LimitadorTaxa(3, Duration.ofMinutes(1), 4096, relogio::get);
+    admitidas(limitador, "BOT", 3);
+
+    // Act - 2 milhões de chaves distintas, uma requisição cada
+    for (int i = 0; i < 2_000_000; i++) {
+      assertThat(limitador.admitir("chave-" + i)).isTrue();
+    }
+
+    // Assert - tabela cheia mas limitada; o bot, mais distante de encher, não foi despejado
+    assertThat(limitador.getChaves()).isEqualTo(4096);
+    assertThat(limitador.getDespejos()).isGreaterThan(2_000_000 - 4096);
+    assertThat(limitador.admitir("BOT")).isFalse();
+
+    // Depois da reposição as chaves ociosas dão lugar a novas sem despejo
+    relogio.addAndGet(Duration.ofMinutes(1).toNanos());
+    long despejos = limitador.getDespejos();
+    for (int i = 0; i < 100; i++) {
+      limitador.admitir("nova-" + i);
+    }
+    assertThat(limitador.getDespejos()).isEqualTo(despejos);
+    assertThat(limitador.getChaves()).isEqualTo(4096);
+  }
+
+  @Test
+  void deveAdmitirExatamenteACapacidadeComThreadsDisputandoAsMesmasChaves() throws Exception {
+    // Arrange - 16 threads, cada uma tentando 1 000 vezes cada uma das 64 chaves; relógio parado
+    LimitadorTaxa limitador = new LimitadorTaxa(50, Duration.ofHours(1), 1024, relogio::get);
+    AtomicInteger admitidas = new AtomicInteger();
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+
+    // Act
+    for (int t = 0; t < 16; t++) {
+      threads.add(Thread.ofPlatform().start(() -> {
+        aguardar(largada);
+        for (int i = 0; i < 1_000; i++) {
+          for (int chave = 0; chave < 64; chave++) {
+            if (limitador.admitir("TOKEN_" + chave)) {
+              admitidas.incrementAndGet();
+            }
+          }
+        }
+      }));
+    }
+    largada.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // Assert
+    assertThat(admitidas.get()).isEqualTo(64 * 50);
+    assertThat(limitador.getDespejos()).isZero();
+    assertThatThrownBy(() -> limitador.admitir(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Chave não pode ser nula");
+    assertThatThrownBy(() -> new LimitadorTaxa(0, Duration.ofSeconds(1), 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Capacidade, período e máximo de chaves devem ser positivos");
+    assertThatThrownBy(() -> new LimitadorTaxa(1, Duration.ofSeconds(1), (1 << 30) + 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Máximo de chaves não pode passar de 2^30");
+  }
+
+  @Test
+  void deveResponderLimiteExcedidoSemTocarNoConviteQuandoTokenOuOrigemEsgotam() {
+    // Arrange - 2 respostas por token e 3 por origem a cada minuto
+    MetricasResposta metricas = new MetricasResposta(1);
+    ProcessadorResposta processador = new ProcessadorResposta(null, null, metricas,
+        new LimitadorTaxa(2, Duration.ofMinutes(1), 1024, relogio::get),
+        new LimitadorTaxa(3, Duration.ofMinutes(1), 1024, relogio::get));
+    Evento evento = new Evento("Workshop", 10, data);
+    Convite convite = new Convite(evento, "TOKEN_1", data);
+    Convite outro = new Convite(evento, "TOKEN_2", data);
+    RespostaConvite aceite = new RespostaConvite(true, "Ana", null);
+
+    // Act & Assert - por token: o bot repete o link de várias origens
+    assertThat(processador.processarResposta(convite, aceite, "10.0.0.1"))
+        .isSameAs(ResultadoProcessamento.CONFIRMADO);
+    assertThat(processador.processarResposta(convite, aceite, "10.0.0.2"))
+        .isSameAs(ResultadoProcessamento.CONFIRMADO);
+    assertThat(processador.processarResposta(convite, aceite, "10.0.0.3"))
+        .isSameAs(ResultadoProcessamento.LIMITE_EXCEDIDO);
+
+    // Por origem: esgotada, bloqueia também tokens ainda não usados
+    assertThat(processador.processarResposta(outro, new RespostaConvite(false, null, "Viagem"), "10.0.0.1"))
+        .isSameAs(ResultadoProcessamento.RECUSA_REGISTRADA);
+    assertThat(processador.processarResposta(outro, aceite, "10.0.0.1"))
+        .isSameAs(ResultadoProcessamento.JA_RESPONDIDO);
+    Convite terceiro = new Convite(evento, "TOKEN_3", data);
+    assertThat(processador.processarResposta(terceiro, aceite, "10.0.0.1"))
+        .isSameAs(ResultadoProcessamento.LIMITE_EXCEDIDO);
+    assertThat(terceiro.foiRespondido()).isFalse();
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+    assertThat(ResultadoProcessamento.LIMITE_EXCEDIDO.sucesso()).isFalse();
+    assertThat(metricas.instantaneo().processamentos()).containsEntry(Desfecho.LIMITE_EXCEDIDO, 2L);
+
+    // A reposição libera a origem
+    relogio.addAndGet(Duration.ofMinutes(1).toNanos());
+    assertThat(processador.processarResposta(terceiro, new RespostaConvite(true, "Bruno", null), "10.0.0.1"))
+        .isSameAs(ResultadoProcessamento.CONFIRMADO);
+  }
+
+  @Test
+  void deveLimitarSomenteAEntradaExternaNaAdmissao() {
+    // Arrange - 1 requisição por token a cada minuto
+    MetricasResposta metricas = new MetricasResposta(1);
+    ProcessadorResposta processador = new ProcessadorResposta(null, null, metricas,
+        new LimitadorTaxa(1, Duration.ofMinutes(1), 1024, relogio::get), null);
+    Convite convite = new Convite(new Evento("Workshop", 10, data), "TOKEN_1", data);
+    RespostaConvite aceite = new RespostaConvite(true, "Ana", null);
+
+    // Act & Assert - ponto de entrada: a admissão vem antes de validar
+    assertThat(processador.admitir("TOKEN_1", "10.0.0.1")).isTrue();
+    assertThat(processador.admitir("TOKEN_1", "10.0.0.1")).isFalse();
+    assertThat(processador.processarResposta(convite, aceite, "10.0.0.2"))
+        .isSameAs(ResultadoProcessamento.LIMITE_EXCEDIDO);
+
+    // Entrada interna (resposta sem origem, lote, fluxo) não consome fichas
+    for (int i = 0; i < 3; i++) {
+      assertThat(processador.processarResposta(convite, aceite)).isSameAs(ResultadoProcessamento.CONFIRMADO);
+    }
+    assertThat(processador.processarRespostas(List.of(new SolicitacaoResposta(convite, aceite))))
+        .containsExactly(ResultadoProcessamento.CONFIRMADO);
+    assertThat(metricas.instantaneo().processamentos())
+        .containsEntry(Desfecho.LIMITE_EXCEDIDO, 2L)
+        .containsEntry(Desfecho.CONFIRMADO, 4L);
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private static int admitidas(LimitadorTaxa limitador, String chave, int tentativas) {
+    int admitidas = 0;
+    for (int i = 0; i < tentativas; i++) {
+      if (limitador.admitir(chave)) {
+        admitidas++;
+      }
+    }
+    return admitidas;
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,347 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.persistencia.Diario;
+import com.bootcamp.eventos.servico.ListaEspera;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.email.MensagemEmail;
+import com.bootcamp.eventos.servico.email.ServicoEmailFake;
+import com.bootcamp.eventos.servico.email.ServicoEmailOutbox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Testes concorrentes para ListaEspera.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Fila FIFO de evento lotado e promoção automática em lote
+ * ESTRATÉGIA: Cancelamentos e aumento de limite liberando vagas, com e sem
+ * disputa entre threads
+ */
+class ListaEsperaTest {
+
+  @Test
+  void deveColocarNaFilaQuandoLotadoEPromoverAoCancelar() throws Exception {
+    // Arrange - evento com 1 vaga já ocupada
+    ServicoEmailFake servicoEmail = new ServicoEmailFake();
+    ListaEspera listaEspera = new ListaEspera(servicoEmail);
+    ProcessadorResposta processador = new ProcessadorResposta(listaEspera);
+    Evento evento = criarEvento(1);
+    evento.confirmarParticipante(new Participante("Ana", null));
+    Convite convite = new Convite(evento, "TOKEN_VALIDO_1", LocalDateTime.now().plusDays(7));
+
+    // Act
+    ResultadoProcessamento resultado = processador.processarResposta(
+        convite, new RespostaConvite(true, "Bruno", null));
+
+    // Assert - aguardando vaga, sem recusa
+    assertThat(resultado.sucesso()).isTrue();
+    assertThat(resultado.mensagem()).isEqualTo("Evento lotado: convite adicionado à lista de espera");
+    assertThat(convite.foiRespondido()).isFalse();
+    assertThat(listaEspera.estaNaFila(convite)).isTrue();
+
+    // Act - vaga liberada
+    evento.cancelarParticipacao("Ana");
+    aguardarPromocoes(listaEspera);
+
+    // Assert - promovido e notificado
+    assertThat(convite.foiAceito()).isTrue();
+    assertThat(evento.estaConfirmado("Bruno")).isTrue();
+    assertThat(evento.estaLotado()).isTrue();
+    assertThat(listaEspera.getTamanho(evento)).isZero();
+    assertThat(servicoEmail.getEmailsEnviados())
+        .extracting(ServicoEmailFake.EmailEnviado::destinatario)
+        .containsExactly("Bruno");
+  }
+
+  @Test
+  void devePromoverEmOrdemFifoQuandoLimiteAumenta() throws Exception {
+    // Arrange - evento lotado com 5 convites na fila
+    ServicoEmailFake servicoEmail = new ServicoEmailFake();
+    ListaEspera listaEspera = new ListaEspera(servicoEmail);
+    Evento evento = criarEvento(2);
+    evento.confirmarParticipante(new Participante("Ana", null));
+    evento.confirmarParticipante(new Participante("Bruno", null));
+    List<Convite> convites = inscreverNaFila(listaEspera, evento, 5);
+
+    // Act - 3 novas vagas
+    evento.setLimiteParticipantes(5);
+    aguardarPromocoes(listaEspera);
+
+    // Assert - os 3 primeiros da fila promovidos, na ordem de chegada
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(5);
+    assertThat(convites).extracting(Convite::foiAceito)
+        .containsExactly(true, true, true, false, false);
+    assertThat(evento.getParticipantes()).extracting(Participante::nome)
+        .containsExactly("Ana", "Bruno", "Espera 0", "Espera 1", "Espera 2");
+    assertThat(listaEspera.getTamanho(evento)).isEqualTo(2);
+    assertThat(servicoEmail.getQuantidadeEmailsEnviados()).isEqualTo(3);
+
+    // Act - sem limite: o restante da fila é promovido
+    evento.setLimiteParticipantes(null);
+    aguardarPromocoes(listaEspera);
+
+    // Assert
+    assertThat(convites).allMatch(Convite::foiAceito);
+    assertThat(listaEspera.getTamanho(evento)).isZero();
+  }
+
+  @Test
+  void deveRejeitarConviteJaNaListaDeEspera() {
+    // Arrange
+    ProcessadorResposta processador = new ProcessadorResposta(new ListaEspera(new ServicoEmailFake()));
+    Evento evento = criarEvento(1);
+    evento.confirmarParticipante(new Participante("Ana", null));
+    Convite convite = new Convite(evento, "TOKEN_VALIDO_1", LocalDateTime.now().plusDays(7));
+    RespostaConvite resposta = new RespostaConvite(true, "Bruno", null);
+    processador.processarResposta(convite, resposta);
+
+    // Act
+    ResultadoProcessamento resultado = processador.processarResposta(convite, resposta);
+
+    // Assert
+    assertThat(resultado.sucesso()).isFalse();
+    assertThat(resultado.mensagem()).isEqualTo("Convite já está na lista de espera");
+  }
+
+  @Test
+  void deveDescartarFilaEOuvinteQuandoNinguemMaisAguarda() throws Exception {
+    // Arrange - dois eventos lotados, cada um com 2 convites na fila
+    ListaEspera listaEspera = new ListaEspera(new ServicoEmailFake());
+    Evento promovido = criarEvento(1);
+    promovido.confirmarParticipante(new Participante("Ana", null));
+    inscreverNaFila(listaEspera, promovido, 2);
+    Evento removido = criarEvento(1);
+    removido.confirmarParticipante(new Participante("Ana", null));
+    List<Convite> aguardando = inscreverNaFila(listaEspera, removido, 2);
+    assertThat(listaEspera.getQuantidadeFilas()).isEqualTo(2);
+
+    // Act - a fila do primeiro esvazia na promoção; a do segundo é descartada
+    promovido.setLimiteParticipantes(3);
+    aguardarPromocoes(listaEspera);
+    int descartados = listaEspera.descartar(removido);
+
+    // Assert - sem fila nem ouvinte: a vaga liberada não promove ninguém
+    assertThat(listaEspera.getQuantidadeFilas()).isZero();
+    assertThat(descartados).isEqualTo(2);
+    removido.cancelarParticipacao("Ana");
+    assertThat(aguardando).noneMatch(Convite::foiRespondido);
+
+    // Nova inscrição recria a fila e a promoção volta a funcionar
+    promovido.cancelarParticipacao("Ana");
+    Convite novo = new Convite(promovido, "TOKEN_VALIDO_9", LocalDateTime.now().plusDays(7));
+    listaEspera.inscrever(novo, new Participante("Caio", null));
+    aguardarPromocoes(listaEspera);
+    assertThat(novo.foiAceito()).isTrue();
+    assertThat(listaEspera.getQuantidadeFilas()).isZero();
+  }
+
+  @Test
+  void naoDeveUltrapassarLimiteNemPerderConvitesSobDisputa() throws Exception {
+    // Arrange - threads aceitando convites e cancelando participações ao mesmo tempo
+    int limite = 50;
+    int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+    int convitesPorThread = 2_000;
+    Queue<MensagemEmail> entregues = new ConcurrentLinkedQueue<>();
+    AtomicInteger maiorOcupacao = new AtomicInteger();
+    Evento evento = criarEvento(limite);
+    evento.adicionarOuvinteStatus((e, anterior, atual) ->
+        maiorOcupacao.accumulateAndGet(e.getNumeroConfirmados(), Math::max));
+
+    try (ServicoEmailOutbox outbox = new ServicoEmailOutbox(entregues::addAll, 10_000, 100, 2)) {
+      ListaEspera listaEspera = new ListaEspera(outbox);
+      ProcessadorResposta processador = new ProcessadorResposta(listaEspera);
+      Queue<Convite> todos = new ConcurrentLinkedQueue<>();
+      AtomicInteger cancelados = new AtomicInteger();
+
+      // Act
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      CountDownLatch largada = new CountDownLatch(1);
+      List<Future<?>> tarefas = new ArrayList<>();
+      try {
+        for (int t = 0; t < threads; t++) {
+          int idThread = t;
+          tarefas.add(executor.submit(() -> {
+            largada.await();
+            for (int i = 0; i < convitesPorThread; i++) {
+              String nome = "Convidado " + idThread + "-" + i;
+              Convite convite = new Convite(evento, "TOKEN_VALIDO_" + nome, LocalDateTime.now().plusDays(7));
+              todos.add(convite);
+              processador.processarResposta(convite, new RespostaConvite(true, nome, null));
+              if (i % 2 == 1 && evento.cancelarParticipacao("Convidado " + idThread + "-" + (i - 1))) {
+                cancelados.incrementAndGet();
+              }
+            }
+            return null;
+          }));
+        }
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) {
+          tarefa.get(60, TimeUnit.SECONDS);
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+      aguardarPromocoes(listaEspera);
+
+      // Assert - lotado, sem overbooking, e cada convite aceito ou aguardando
+      assertThat(evento.getNumeroConfirmados()).isEqualTo(limite);
+      assertThat(maiorOcupacao.get()).isLessThanOrEqualTo(limite);
+      long aceitos = todos.stream().filter(Convite::foiAceito).count();
+      assertThat(aceitos - cancelados.get()).isEqualTo(limite);
+      assertThat(todos).allMatch(c -> c.foiAceito() ^ listaEspera.estaNaFila(c));
+      assertThat(listaEspera.getTamanho(evento)).isEqualTo((int) (todos.size() - aceitos));
+
+      // Confirmações enviadas apenas a promovidos, uma por convidado
+      assertThat(outbox.flush(Duration.ofSeconds(10))).isTrue();
+      Set<String> nomesAceitos = todos.stream()
+          .filter(Convite::foiAceito)
+          .map(c -> c.getParticipante().nome())
+          .collect(Collectors.toSet());
+      assertThat(entregues).extracting(MensagemEmail::destinatario)
+          .doesNotHaveDuplicates()
+          .allMatch(nomesAceitos::contains);
+    }
+  }
+
+  @Test
+  void devePromoverForaDaThreadQueLiberouAVaga() throws Exception {
+    // Arrange - o email de confirmação só retorna quando o teste libera
+    CountDownLatch liberarEmail = new CountDownLatch(1);
+    Queue<String> threadsPromocao = new ConcurrentLinkedQueue<>();
+    ListaEspera listaEspera = new ListaEspera(new ServicoEmailFake() {
+      @Override
+      public void enviarConfirmacao(String destinatario, Evento evento) {
+        threadsPromocao.add(Thread.currentThread().getName());
+        aguardar(liberarEmail);
+        super.enviarConfirmacao(destinatario, evento);
+      }
+    });
+    Evento evento = criarEvento(1);
+    evento.confirmarParticipante(new Participante("Ana", null));
+    List<Convite> convites = inscreverNaFila(listaEspera, evento, 1);
+
+    // Act - o cancelamento retorna com o email ainda bloqueado
+    evento.cancelarParticipacao("Ana");
+    boolean concluidaAntesDoEmail = listaEspera.aguardarPromocoes(Duration.ofMillis(50));
+    liberarEmail.countDown();
+    aguardarPromocoes(listaEspera);
+
+    // Assert
+    assertThat(concluidaAntesDoEmail).isFalse();
+    assertThat(convites.get(0).foiAceito()).isTrue();
+    assertThat(threadsPromocao).containsExactly("lista-espera");
+  }
+
+  @Test
+  void deveTornarAPromocaoDefinitivaSomenteDepoisDeDuravel(@TempDir Path diretorio) throws Exception {
+    // Arrange - diário que segura a espera pela durabilidade
+    CountDownLatch gravado = new CountDownLatch(1);
+    CountDownLatch liberar = new CountDownLatch(1);
+    ServicoEmailFake servicoEmail = new ServicoEmailFake();
+    Evento evento = criarEvento(1);
+    evento.confirmarParticipante(new Participante("Ana", null));
+
+    try (Diario diario = new Diario(diretorio) {
+      @Override
+      public void aguardarDurabilidade(long posicao) {
+        gravado.countDown();
+        aguardar(liberar);
+        super.aguardarDurabilidade(posicao);
+      }
+    }) {
+      ListaEspera listaEspera = new ListaEspera(servicoEmail, diario);
+      Convite convite = inscreverNaFila(listaEspera, evento, 1).get(0);
+
+      // Act
+      evento.cancelarParticipacao("Ana");
+      gravado.await();
+      boolean aceitoAntesDaDurabilidade = convite.foiAceito();
+      boolean emailAntesDaDurabilidade = servicoEmail.getQuantidadeEmailsEnviados() > 0;
+      liberar.countDown();
+      aguardarPromocoes(listaEspera);
+
+      // Assert - a vaga fica reservada, mas o aceite só vale depois de durável
+      assertThat(aceitoAntesDaDurabilidade).isFalse();
+      assertThat(emailAntesDaDurabilidade).isFalse();
+      assertThat(convite.foiAceito()).isTrue();
+      assertThat(servicoEmail.getQuantidadeEmailsEnviados()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void deveDesfazerAPromocaoQuandoAGravacaoFalha(@TempDir Path diretorio) throws Exception {
+    // Arrange - diário já fechado e promoção automática descartada: a gravação falha no Act
+    Diario diario = new Diario(diretorio);
+    diario.close();
+    ServicoEmailFake servicoEmail = new ServicoEmailFake();
+    ListaEspera listaEspera = new ListaEspera(servicoEmail, diario, tarefa -> { });
+    Evento evento = criarEvento(1);
+    evento.confirmarParticipante(new Participante("Ana", null));
+    Convite convite = inscreverNaFila(listaEspera, evento, 1).get(0);
+    evento.cancelarParticipacao("Ana");
+    assertThat(evento.getNumeroConfirmados()).isZero();
+
+    // Act
+    Throwable falha = catchThrowable(() -> listaEspera.promover(evento));
+
+    // Assert - vaga devolvida, convite pendente e nenhum email
+    assertThat(falha).isInstanceOf(IllegalStateException.class).hasMessage("Diário fechado");
+    assertThat(convite.foiRespondido()).isFalse();
+    assertThat(convite.temRespostaDecidida()).isFalse();
+    assertThat(evento.estaConfirmado("Espera 0")).isFalse();
+    assertThat(evento.getNumeroConfirmados()).isZero();
+    assertThat(servicoEmail.getQuantidadeEmailsEnviados()).isZero();
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private static void aguardarPromocoes(ListaEspera listaEspera) throws InterruptedException {
+    assertThat(listaEspera.aguardarPromocoes(Duration.ofSeconds(10))).isTrue();
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Evento criarEvento(Integer limite) {
+    return new Evento("Workshop", limite, LocalDateTime.now().plusDays(30));
+  }
+
+  private List<Convite> inscreverNaFila(ListaEspera listaEspera, Evento evento, int quantidade) {
+    List<Convite> convites = new ArrayList<>();
+    for (int i = 0; i < quantidade; i++) {
+      Convite convite = new Convite(evento, "TOKEN_VALIDO_" + i, LocalDateTime.now().plusDays(7));
+      listaEspera.inscrever(convite, new Participante("Espera " + i, null));
+      convites.add(convite);
+    }
+    return convites;
+  }
+}
@@ -0,0 +1,160 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.InstantaneoMetricas;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.ResumoLatencia;
+import com.bootcamp.eventos.metricas.Desfecho;
+import com.bootcamp.eventos.metricas.HistogramaLatencia;
+import com.bootcamp.eventos.metricas.MetricasResposta;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para MetricasResposta.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Contadores por desfecho, percentis do histograma e exportação
+ * ESTRATÉGIA: Contagens exatas (validações estimadas pela amostra) com
+ * várias threads registrando ao mesmo tempo
+ */
+class MetricasRespostaTest {
+
+  private final LocalDateTime agora = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+  @Test
+  void deveContarCadaDesfechoDeValidacaoEProcessamento() {
+    // Arrange - intervalo 1 mede a latência de todas as chamadas
+    MetricasResposta metricas = new MetricasResposta(1);
+    ValidadorConvite validador = new ValidadorConvite(FonteTempo.fixa(agora), metricas);
+    ProcessadorResposta processador = new ProcessadorResposta(null, null, metricas);
+    Evento evento = new Evento("Workshop", 1, agora.plusDays(30));
+
+    Convite valido = new Convite(evento, "TOKEN_VALIDO_1", agora.plusDays(1));
+    Convite expirado = new Convite(evento, "TOKEN_VALIDO_2", agora.minusDays(1));
+    Convite invalido = new Convite(evento, "token-adulterado", agora.plusDays(1));
+    Convite semVaga = new Convite(evento, "TOKEN_VALIDO_3", agora.plusDays(1));
+
+    // Act
+    validador.validar(valido);
+    validador.validar(expirado);
+    validador.validar(invalido);
+    processador.processarResposta(valido, new RespostaConvite(true, "Ana", null));
+    processador.processarResposta(valido, new RespostaConvite(true, "Beatriz", null));
+    processador.processarResposta(semVaga, new RespostaConvite(true, "Bruno", null));
+    processador.processarResposta(expirado, new RespostaConvite(false, null, "Viagem"));
+    validador.validar(semVaga);
+    InstantaneoMetricas instantaneo = metricas.instantaneo();
+
+    // Assert
+    assertThat(instantaneo.validacoes()).isEqualTo(Map.of(
+        Desfecho.VALIDO, 1L,
+        Desfecho.TOKEN_EXPIRADO, 1L,
+        Desfecho.TOKEN_INVALIDO, 1L,
+        Desfecho.EVENTO_LOTADO, 1L));
+    assertThat(instantaneo.processamentos()).isEqualTo(Map.of(
+        Desfecho.CONFIRMADO, 1L,
+        Desfecho.JA_RESPONDIDO, 1L,
+        Desfecho.EVENTO_LOTADO, 1L,
+        Desfecho.RECUSADO, 1L));
+    assertThat(instantaneo.latenciaValidacao().amostras()).isEqualTo(4);
+    assertThat(instantaneo.latenciaProcessamento().amostras()).isEqualTo(4);
+  }
+
+  @Test
+  void deveReportarPercentisComErroRelativoLimitado() {
+    // Arrange - 1..100 000 ns, um valor de cada
+    HistogramaLatencia histograma = new HistogramaLatencia();
+    for (long nanos = 1; nanos <= 100_000; nanos++) {
+      histograma.registrar(nanos);
+    }
+
+    // Act
+    ResumoLatencia resumo = histograma.resumir();
+
+    // Assert - limite superior do intervalo fica até 12,5% acima do real
+    assertThat(resumo.amostras()).isEqualTo(100_000);
+    assertThat(resumo.p50Nanos()).isBetween(50_000L, 56_250L);
+    assertThat(resumo.p99Nanos()).isBetween(99_000L, 100_000L);
+    assertThat(resumo.p999Nanos()).isBetween(99_900L, 100_000L);
+    assertThat(resumo.maximoNanos()).isEqualTo(100_000);
+  }
+
+  @Test
+  void deveEstimarValidacoesEContarProcessamentosComRegistrosConcorrentes() throws Exception {
+    // Arrange
+    int threads = 16;
+    int porThread = 10_000;
+    MetricasResposta metricas = new MetricasResposta(8);
+    ValidadorConvite validador = new ValidadorConvite(FonteTempo.fixa(agora), metricas);
+    Evento evento = new Evento("Conferência", null, agora.plusDays(30));
+    Convite valido = new Convite(evento, "TOKEN_VALIDO_1", agora.plusDays(1));
+    Convite invalido = new Convite(evento, "token-adulterado", agora.plusDays(1));
+
+    // Act - metade das threads valida convites válidos, metade inválidos
+    List<Thread> validadores = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      Convite convite = t % 2 == 0 ? valido : invalido;
+      validadores.add(Thread.ofPlatform().start(() -> {
+        for (int i = 0; i < porThread; i++) {
+          validador.validar(convite);
+          metricas.registrarProcessamento(ResultadoProcessamento.CONFIRMADO, MetricasResposta.NAO_AMOSTRADO);
+        }
+      }));
+    }
+    for (Thread thread : validadores) {
+      thread.join();
+    }
+    InstantaneoMetricas instantaneo = metricas.instantaneo();
+
+    // Assert - validações só na amostra (~1 em 8, cada uma valendo 8);
+    // processamentos exatos
+    long total = (long) threads * porThread;
+    Map<Desfecho, Long> validacoes = instantaneo.validacoes();
+    assertThat(validacoes).containsOnlyKeys(Desfecho.VALIDO, Desfecho.TOKEN_INVALIDO);
+    assertThat(validacoes.get(Desfecho.VALIDO)).isCloseTo(total / 2, withinPercentage(10));
+    assertThat(validacoes.get(Desfecho.TOKEN_INVALIDO)).isCloseTo(total / 2, withinPercentage(10));
+    assertThat(validacoes.get(Desfecho.VALIDO) + validacoes.get(Desfecho.TOKEN_INVALIDO))
+        .isEqualTo(instantaneo.latenciaValidacao().amostras() * 8);
+    assertThat(instantaneo.processamentos()).isEqualTo(Map.of(Desfecho.CONFIRMADO, total));
+  }
+
+  @Test
+  void deveExportarTextoERejeitarIntervaloInvalido() {
+    // Arrange
+    MetricasResposta metricas = new MetricasResposta(1);
+    metricas.registrarProcessamento(
+        new ProcessadorResposta().processarResposta(
+            new Convite(new Evento("Workshop", null, agora.plusDays(30)), "TOKEN_VALIDO_1", null),
+            new RespostaConvite(true, "Ana", null)),
+        System.nanoTime());
+
+    // Act
+    String texto = metricas.exportarTexto();
+
+    // Assert
+    assertThat(texto)
+        .contains("# TYPE convite_respostas_total counter\n"
+            + "convite_respostas_total{desfecho=\"CONFIRMADO\"} 1\n")
+        .contains("convite_resposta_latencia_nanos_amostras 1\n")
+        .contains("# TYPE convite_validacao_latencia_nanos summary\n"
+            + "convite_validacao_latencia_nanos{quantile=\"0.5\"} 0\n")
+        .contains("convite_validacao_latencia_nanos{quantile=\"0.99\"} 0\n")
+        .contains("# TYPE convite_validacao_latencia_nanos_max gauge\n")
+        .doesNotContain("convite_validacoes_total");
+    assertThatThrownBy(() -> new MetricasResposta(48))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Intervalo de amostragem deve ser potência de 2");
+  }
+}
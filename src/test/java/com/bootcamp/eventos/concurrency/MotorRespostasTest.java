@@ -0,0 +1,298 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.EstadoRestaurado;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.persistencia.Diario;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.particao.MotorRespostas;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.time.Duration;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para MotorRespostas.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Partição por evento, escritor único, sincronização por lote,
+ * isolamento de falhas e shutdown
+ * ESTRATÉGIA: Vários produtores disputando os mesmos eventos; ouvintes
+ * registram a thread que alterou cada evento
+ */
+class MotorRespostasTest {
+
+  @TempDir
+  Path diretorio;
+
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30);
+
+  @Test
+  void deveRespeitarCapacidadeComProdutoresConcorrentes() throws Exception {
+    // Arrange - 4 eventos com limite 50 e 200 aceites para cada um
+    List<Evento> eventos = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      eventos.add(new Evento("Evento " + i, 50, data));
+    }
+    Queue<CompletableFuture<ResultadoProcessamento>> futuros = new ConcurrentLinkedQueue<>();
+    CountDownLatch largada = new CountDownLatch(1);
+
+    try (MotorRespostas motor = new MotorRespostas(3)) {
+      // Act - 8 produtores, cada um envia 25 aceites para cada evento
+      List<Thread> produtores = new ArrayList<>();
+      for (int p = 0; p < 8; p++) {
+        int produtor = p;
+        produtores.add(Thread.ofPlatform().start(() -> {
+          aguardar(largada);
+          for (int i = 0; i < 25; i++) {
+            for (Evento evento : eventos) {
+              RespostaConvite aceite = new RespostaConvite(true, "Convidado " + produtor + "-" + i, null);
+              futuros.add(motor.responder(new Convite(evento, "TOKEN", data), aceite));
+            }
+          }
+        }));
+      }
+      largada.countDown();
+      for (Thread produtor : produtores) {
+        produtor.join();
+      }
+      List<ResultadoProcessamento> resultados = futuros.stream().map(CompletableFuture::join).toList();
+
+      // Assert
+      assertThat(resultados).hasSize(800);
+      assertThat(resultados).filteredOn(r -> r == ResultadoProcessamento.CONFIRMADO).hasSize(200);
+      assertThat(resultados).filteredOn(r -> r == ResultadoProcessamento.EVENTO_LOTADO).hasSize(600);
+      assertThat(eventos).allSatisfy(evento -> assertThat(evento.getNumeroConfirmados()).isEqualTo(50));
+    }
+  }
+
+  @Test
+  void deveAlterarCadaEventoSomenteNaThreadDaSuaParticao() throws Exception {
+    // Arrange - o ouvinte de status registra a thread de cada mudança
+    Queue<String> violacoes = new ConcurrentLinkedQueue<>();
+    List<Evento> eventos = new ArrayList<>();
+
+    try (MotorRespostas motor = new MotorRespostas(4)) {
+      for (int i = 0; i < 32; i++) {
+        Evento evento = new Evento("Evento " + i, 10, data);
+        String esperada = "motor-respostas-" + motor.particaoDe(evento);
+        evento.adicionarOuvinteStatus((e, anterior, atual) -> {
+          if (!Thread.currentThread().getName().equals(esperada)) {
+            violacoes.add(e.getNome() + " alterado em " + Thread.currentThread().getName());
+          }
+        });
+        eventos.add(evento);
+      }
+
+      // Act - respostas na ordem de envio: as 10 primeiras confirmam
+      List<CompletableFuture<ResultadoProcessamento>> futuros = new ArrayList<>();
+      for (int i = 0; i < 12; i++) {
+        for (Evento evento : eventos) {
+          RespostaConvite aceite = new RespostaConvite(true, "Convidado " + i, null);
+          futuros.add(motor.responder(new Convite(evento, "TOKEN", data), aceite));
+        }
+      }
+      CompletableFuture.allOf(futuros.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+      // Assert
+      assertThat(violacoes).isEmpty();
+      for (int i = 0; i < futuros.size(); i++) {
+        assertThat(futuros.get(i).join()).as("resposta %d", i).isSameAs(i < 10 * eventos.size()
+            ? ResultadoProcessamento.CONFIRMADO
+            : ResultadoProcessamento.EVENTO_LOTADO);
+      }
+      assertThat(eventos).extracting(motor::particaoDe).containsOnly(0, 1, 2, 3);
+    }
+  }
+
+  @Test
+  void deveFalharSomenteOLoteDaRespostaQueLancouExcecao() throws Exception {
+    // Arrange - processador que falha para lotes com um nome específico
+    ProcessadorResposta processador = new ProcessadorResposta() {
+      @Override
+      public List<ResultadoProcessamento> processarRespostasNaThread(List<SolicitacaoResposta> solicitacoes) {
+        if (solicitacoes.stream().anyMatch(s -> "Falha".equals(s.resposta().nome()))) {
+          throw new IllegalStateException("Falha simulada");
+        }
+        return super.processarRespostasNaThread(solicitacoes);
+      }
+    };
+    Evento evento = new Evento("Workshop", 10, data);
+
+    try (MotorRespostas motor = new MotorRespostas(1, processador, 16)) {
+      // Act - cada resposta aguarda a anterior, para cair em um lote próprio
+      CompletableFuture<ResultadoProcessamento> antes =
+          motor.responder(new Convite(evento, "TOKEN", data), new RespostaConvite(true, "Ana", null));
+      antes.join();
+      CompletableFuture<ResultadoProcessamento> falha =
+          motor.responder(new Convite(evento, "TOKEN", data), new RespostaConvite(true, "Falha", null));
+      falha.exceptionally(e -> null).join();
+      CompletableFuture<ResultadoProcessamento> depois =
+          motor.responder(new Convite(evento, "TOKEN", data), new RespostaConvite(true, "Bia", null));
+
+      // Assert - a partição continua processando depois da falha
+      assertThatThrownBy(falha::join)
+          .isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(IllegalStateException.class)
+          .hasRootCauseMessage("Falha simulada");
+      assertThat(antes.join()).isSameAs(ResultadoProcessamento.CONFIRMADO);
+      assertThat(depois.join()).isSameAs(ResultadoProcessamento.CONFIRMADO);
+      assertThat(evento.getNumeroConfirmados()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void deveProcessarPendentesNoShutdownERecusarNovasRespostas() throws Exception {
+    // Arrange
+    Evento evento = new Evento("Palestra", null, data);
+    MotorRespostas motor = new MotorRespostas(2);
+    List<CompletableFuture<ResultadoProcessamento>> futuros = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      futuros.add(motor.responder(new Convite(evento, "TOKEN", data),
+          new RespostaConvite(true, "Convidado " + i, null)));
+    }
+
+    // Act
+    boolean encerrado = motor.shutdown(Duration.ofSeconds(10));
+
+    // Assert
+    assertThat(encerrado).isTrue();
+    assertThat(futuros).allSatisfy(futuro ->
+        assertThat(futuro).isCompletedWithValue(ResultadoProcessamento.CONFIRMADO));
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(500);
+    assertThatThrownBy(() -> motor.responder(new Convite(evento, "TOKEN", data),
+        new RespostaConvite(true, "Tarde", null)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Motor de respostas encerrado");
+    assertThatThrownBy(() -> motor.responder(null, new RespostaConvite(true, "Ana", null)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Convite e resposta não podem ser nulos");
+    assertThatThrownBy(() -> new MotorRespostas(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Partições e capacidade devem ser positivas");
+  }
+
+  @Test
+  void deveAguardarUmaUnicaSincronizacaoPorLoteDrenado() throws Exception {
+    // Arrange - diário que conta as esperas e segura a primeira
+    AtomicInteger esperas = new AtomicInteger();
+    CountDownLatch primeiraEspera = new CountDownLatch(1);
+    CountDownLatch liberar = new CountDownLatch(1);
+    List<Evento> eventos = List.of(
+        new Evento("Evento 0", 100, data), new Evento("Evento 1", 100, data), new Evento("Evento 2", 100, data));
+
+    try (Diario diario = new Diario(diretorio) {
+      @Override
+      public void aguardarDurabilidade(long posicao) {
+        if (esperas.incrementAndGet() == 1) {
+          primeiraEspera.countDown();
+          aguardar(liberar);
+        }
+        super.aguardarDurabilidade(posicao);
+      }
+    }) {
+      eventos.forEach(diario::acompanhar);
+      try (MotorRespostas motor = new MotorRespostas(1, new ProcessadorResposta(null, diario), 256)) {
+        // Act - a primeira resposta ocupa o escritor; as outras 60 formam um só lote
+        List<CompletableFuture<ResultadoProcessamento>> futuros = new ArrayList<>();
+        futuros.add(motor.responder(conviteGravado(diario, eventos.get(0), 0),
+            new RespostaConvite(true, "Primeiro", null)));
+        primeiraEspera.await();
+        for (int i = 1; i <= 60; i++) {
+          futuros.add(motor.responder(conviteGravado(diario, eventos.get(i % 3), i),
+              new RespostaConvite(true, "Convidado " + i, null)));
+        }
+        liberar.countDown();
+        CompletableFuture.allOf(futuros.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(futuros).allSatisfy(futuro ->
+            assertThat(futuro).isCompletedWithValue(ResultadoProcessamento.CONFIRMADO));
+        assertThat(esperas.get()).isEqualTo(2);
+      }
+    }
+    EstadoRestaurado estado = Diario.reproduzir(diretorio);
+    assertThat(estado.convites().values()).hasSize(61).allSatisfy(convite ->
+        assertThat(convite.foiAceito()).isTrue());
+  }
+
+  @Test
+  void deveFalharRespostasNaCaixaQuandoOEscritorEInterrompido() throws Exception {
+    // Arrange - processador que segura o escritor até ser interrompido
+    AtomicReference<Thread> escritor = new AtomicReference<>();
+    CountDownLatch processando = new CountDownLatch(1);
+    CountDownLatch nuncaLiberado = new CountDownLatch(1);
+    ProcessadorResposta processador = new ProcessadorResposta() {
+      @Override
+      public List<ResultadoProcessamento> processarRespostasNaThread(List<SolicitacaoResposta> solicitacoes) {
+        escritor.set(Thread.currentThread());
+        processando.countDown();
+        aguardar(nuncaLiberado);
+        return super.processarRespostasNaThread(solicitacoes);
+      }
+    };
+    Evento evento = new Evento("Workshop", null, data);
+    MotorRespostas motor = new MotorRespostas(1, processador, 2);
+
+    CompletableFuture<ResultadoProcessamento> emProcessamento =
+        motor.responder(new Convite(evento, "TOKEN", data), new RespostaConvite(true, "Ana", null));
+    processando.await();
+    List<CompletableFuture<ResultadoProcessamento>> naCaixa = List.of(
+        motor.responder(new Convite(evento, "TOKEN", data), new RespostaConvite(true, "Bia", null)),
+        motor.responder(new Convite(evento, "TOKEN", data), new RespostaConvite(true, "Caio", null)));
+    AtomicReference<CompletableFuture<ResultadoProcessamento>> bloqueado = new AtomicReference<>();
+    Thread produtor = Thread.ofPlatform().start(() -> bloqueado.set(
+        motor.responder(new Convite(evento, "TOKEN", data), new RespostaConvite(true, "Davi", null))));
+    while (produtor.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+
+    // Act
+    escritor.get().interrupt();
+    produtor.join(Duration.ofSeconds(10));
+
+    // Assert - o lote em curso termina; o resto da caixa e o envio bloqueado falham
+    assertThat(produtor.isAlive()).isFalse();
+    assertThat(emProcessamento.get(10, TimeUnit.SECONDS)).isSameAs(ResultadoProcessamento.CONFIRMADO);
+    List<CompletableFuture<ResultadoProcessamento>> falhos = new ArrayList<>(naCaixa);
+    falhos.add(bloqueado.get());
+    assertThat(falhos).allSatisfy(futuro -> assertThatThrownBy(futuro::join)
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("Motor de respostas encerrado"));
+    assertThat(motor.shutdown(Duration.ofSeconds(10))).isTrue();
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Convite conviteGravado(Diario diario, Evento evento, int indice) {
+    Convite convite = new Convite(evento, "TOKEN_VALIDO_" + indice, data);
+    diario.registrarConvite(convite);
+    return convite;
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
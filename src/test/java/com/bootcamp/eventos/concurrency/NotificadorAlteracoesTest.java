@@ -0,0 +1,207 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.servico.email.ServicoEmail;
+import com.bootcamp.eventos.servico.notificacao.NotificadorAlteracoes;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para NotificadorAlteracoes.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Agrupamento de edições por janela e envio em lotes paralelos
+ * ESTRATÉGIA: ServicoEmail thread-safe controlado pelo teste registra
+ * destinatários e threads de envio
+ */
+class NotificadorAlteracoesTest {
+
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30);
+
+  @Test
+  void deveAgruparEdicoesDoMesmoEventoEmUmaNotificacaoPorParticipante() throws Exception {
+    // Arrange - janela longa: a distribuição é disparada pelo teste
+    EmailRegistrado email = new EmailRegistrado();
+    Evento evento = eventoComParticipantes("Workshop", 300);
+
+    try (NotificadorAlteracoes notificador = new NotificadorAlteracoes(email, Duration.ofHours(1))) {
+      notificador.acompanhar(evento);
+
+      // Act - cinco edições rápidas
+      evento.setNome("Workshop de Testes");
+      evento.setData(data.plusDays(1));
+      evento.setLimiteParticipantes(500);
+      evento.setNome("Workshop de Testes Avançado");
+      evento.setData(data.plusDays(2));
+      notificador.distribuirPendentes();
+
+      // Assert
+      assertThat(email.destinatarios).hasSize(300).doesNotHaveDuplicates();
+      assertThat(notificador.getAlteracoes()).isEqualTo(5);
+      assertThat(notificador.getDistribuicoes()).isEqualTo(1);
+      assertThat(notificador.getEmailsEnviados()).isEqualTo(300);
+      assertThat(notificador.getEmailsEvitados()).isEqualTo(4 * 300);
+    }
+  }
+
+  @Test
+  void deveDistribuirQuandoAJanelaFechaSeparandoEventos() throws Exception {
+    // Arrange
+    EmailRegistrado email = new EmailRegistrado();
+    Evento palestra = eventoComParticipantes("Palestra", 20);
+    Evento curso = eventoComParticipantes("Curso", 30);
+
+    try (NotificadorAlteracoes notificador = new NotificadorAlteracoes(email, Duration.ofMillis(100))) {
+      notificador.acompanhar(palestra);
+      notificador.acompanhar(curso);
+
+      // Act
+      palestra.setNome("Palestra Aberta");
+      palestra.setLimiteParticipantes(100);
+      curso.setNome("Curso Intensivo");
+      aguardarEnvios(email, 50);
+
+      // Assert - nada além de uma notificação por participante de cada evento
+      Thread.sleep(300);
+      assertThat(email.destinatarios).hasSize(50).doesNotHaveDuplicates();
+      assertThat(email.eventos).containsOnly(palestra.getId(), curso.getId());
+      assertThat(notificador.getDistribuicoes()).isEqualTo(2);
+      assertThat(notificador.getEmailsEvitados()).isEqualTo(20);
+
+      // Uma edição depois do fechamento abre uma nova janela
+      curso.setData(data.plusDays(3));
+      aguardarEnvios(email, 80);
+      assertThat(notificador.getDistribuicoes()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void deveEnviarEmLotesParalelosContandoFalhasSemInterromperOsDemais() throws Exception {
+    // Arrange - 20 mil participantes em lotes de 1 000; um destinatário falha
+    EmailRegistrado email = new EmailRegistrado("Conferência 7777");
+    Evento evento = eventoComParticipantes("Conferência", 20_000);
+
+    try (NotificadorAlteracoes notificador = new NotificadorAlteracoes(email, Duration.ofHours(1), 1_000)) {
+      notificador.acompanhar(evento);
+
+      // Act - edições concorrentes de várias threads
+      Thread[] editores = new Thread[8];
+      for (int t = 0; t < editores.length; t++) {
+        int indice = t;
+        editores[t] = Thread.ofPlatform().start(() -> evento.setNome("Conferência " + indice));
+      }
+      for (Thread editor : editores) {
+        editor.join();
+      }
+      notificador.distribuirPendentes();
+
+      // Assert
+      assertThat(email.destinatarios).hasSize(19_999).doesNotHaveDuplicates()
+          .doesNotContain("Conferência 7777");
+      assertThat(email.threads).hasSizeGreaterThan(1).doesNotContain(Thread.currentThread().threadId());
+      assertThat(notificador.getFalhas()).isEqualTo(1);
+      assertThat(notificador.getEmailsEnviados()).isEqualTo(19_999);
+      assertThat(notificador.getEmailsEvitados()).isEqualTo(7 * 20_000);
+      assertThat(notificador.getTempoDistribuicao()).isPositive();
+    }
+  }
+
+  @Test
+  void deveDistribuirJanelasAbertasNoCloseEIgnorarEdicoesPosteriores() throws Exception {
+    // Arrange
+    EmailRegistrado email = new EmailRegistrado();
+    Evento evento = eventoComParticipantes("Meetup", 10);
+    Evento naoAcompanhado = eventoComParticipantes("Outro", 10);
+    NotificadorAlteracoes notificador = new NotificadorAlteracoes(email, Duration.ofHours(1));
+    notificador.acompanhar(evento);
+    notificador.acompanhar(naoAcompanhado);
+    notificador.deixarDeAcompanhar(naoAcompanhado);
+    evento.setNome("Meetup Mensal");
+    naoAcompanhado.setNome("Outro Nome");
+
+    // Act
+    notificador.close();
+    evento.setNome("Meetup Trimestral");
+
+    // Assert
+    assertThat(email.destinatarios).hasSize(10);
+    assertThat(email.eventos).containsOnly(evento.getId());
+    assertThat(notificador.getAlteracoes()).isEqualTo(1);
+    assertThatThrownBy(() -> new NotificadorAlteracoes(null, Duration.ofSeconds(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Serviço de email e janela não podem ser nulos");
+    assertThatThrownBy(() -> new NotificadorAlteracoes(email, Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Janela não pode ser negativa e lote deve ser positivo");
+    assertThatThrownBy(() -> notificador.acompanhar(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Evento não pode ser nulo");
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Evento eventoComParticipantes(String nome, int quantidade) {
+    Evento evento = new Evento(nome, null, data);
+    for (int i = 0; i < quantidade; i++) {
+      evento.adicionarParticipante(new Participante(nome + " " + i, null));
+    }
+    return evento;
+  }
+
+  private static void aguardarEnvios(EmailRegistrado email, int quantidade) throws InterruptedException {
+    long prazo = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while (email.destinatarios.size() < quantidade && System.nanoTime() < prazo) {
+      Thread.sleep(10);
+    }
+    assertThat(email.destinatarios).hasSizeGreaterThanOrEqualTo(quantidade);
+  }
+
+  /**
+   * ServicoEmail thread-safe que registra as notificações de alteração.
+   */
+  private static final class EmailRegistrado implements ServicoEmail {
+
+    final Queue<String> destinatarios = new ConcurrentLinkedQueue<>();
+    final Set<String> eventos = ConcurrentHashMap.newKeySet();
+    final Set<Long> threads = ConcurrentHashMap.newKeySet();
+    private final String destinatarioComFalha;
+
+    EmailRegistrado() {
+      this(null);
+    }
+
+    EmailRegistrado(String destinatarioComFalha) {
+      this.destinatarioComFalha = destinatarioComFalha;
+    }
+
+    @Override
+    public void enviarConvite(String destinatario, Convite convite) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void enviarConfirmacao(String destinatario, Evento evento) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void enviarNotificacaoAlteracao(String destinatario, Evento evento) {
+      if (destinatario.equals(destinatarioComFalha)) {
+        throw new IllegalStateException("Caixa postal inexistente");
+      }
+      threads.add(Thread.currentThread().threadId());
+      eventos.add(evento.getId());
+      destinatarios.add(destinatario);
+    }
+  }
+}
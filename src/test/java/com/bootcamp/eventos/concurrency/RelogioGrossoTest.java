@@ -0,0 +1,107 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.tempo.RelogioGrosso;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para RelogioGrosso.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Atualização em segundo plano, atraso limitado à resolução e parada
+ * no fechamento
+ * ESTRATÉGIA: Leituras comparadas com o relógio do sistema; a thread de
+ * atualização é localizada pelo nome
+ */
+class RelogioGrossoTest {
+
+  private static final long RESOLUCAO_MILLIS = 10;
+  // Folga para escalonamento e pausas de GC na máquina de testes
+  private static final long FOLGA_MILLIS = 200;
+
+  @Test
+  void deveAvancarACadaTick() throws Exception {
+    // Arrange
+    try (RelogioGrosso relogio = new RelogioGrosso(Duration.ofMillis(RESOLUCAO_MILLIS))) {
+      long inicial = relogio.agoraEpochMillis();
+
+      // Act
+      long atual = aguardarAvanco(relogio, inicial);
+
+      // Assert
+      assertThat(atual).isGreaterThan(inicial);
+    }
+  }
+
+  @Test
+  void deveFicarAtrasadoNoMaximoUmaResolucaoSemNuncaSeAdiantar() throws Exception {
+    // Arrange
+    try (RelogioGrosso relogio = new RelogioGrosso(Duration.ofMillis(RESOLUCAO_MILLIS))) {
+      long fim = System.currentTimeMillis() + 200;
+      long maiorAtraso = 0;
+
+      // Act - compara leituras durante 200 ms
+      while (System.currentTimeMillis() < fim) {
+        long grosso = relogio.agoraEpochMillis();
+        long sistema = System.currentTimeMillis();
+
+        // Assert
+        assertThat(grosso).isLessThanOrEqualTo(sistema);
+        maiorAtraso = Math.max(maiorAtraso, sistema - grosso);
+        Thread.sleep(1);
+      }
+      assertThat(maiorAtraso).isLessThan(RESOLUCAO_MILLIS + FOLGA_MILLIS);
+    }
+  }
+
+  @Test
+  void devePararAThreadDeAtualizacaoAoFechar() throws Exception {
+    // Arrange
+    Set<Thread> existentes = threadsDoRelogio();
+    RelogioGrosso relogio = new RelogioGrosso(Duration.ofMillis(RESOLUCAO_MILLIS));
+    Set<Thread> criadas = threadsDoRelogio();
+    criadas.removeAll(existentes);
+    assertThat(criadas).hasSize(1);
+    Thread tick = criadas.iterator().next();
+
+    // Act
+    relogio.close();
+    tick.join(Duration.ofSeconds(5));
+    long congelado = relogio.agoraEpochMillis();
+    Thread.sleep(5 * RESOLUCAO_MILLIS);
+
+    // Assert - sem thread, o relógio fica no último instante lido
+    assertThat(tick.isAlive()).isFalse();
+    assertThat(tick.isDaemon()).isTrue();
+    assertThat(relogio.agoraEpochMillis()).isEqualTo(congelado);
+  }
+
+  @Test
+  void deveRejeitarResolucaoMenorQueUmMilissegundo() {
+    assertThatThrownBy(() -> new RelogioGrosso(Duration.ofNanos(500_000)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Resolução deve ser de pelo menos 1 ms");
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private static long aguardarAvanco(RelogioGrosso relogio, long inicial) throws InterruptedException {
+    long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    long atual;
+    while ((atual = relogio.agoraEpochMillis()) == inicial && System.nanoTime() < limite) {
+      Thread.sleep(1);
+    }
+    return atual;
+  }
+
+  private static Set<Thread> threadsDoRelogio() {
+    return Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> thread.getName().equals("relogio-grosso"))
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,193 @@
+package com.bootcamp.eventos.concurrency;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.servico.email.MensagemEmail;
+import com.bootcamp.eventos.servico.email.ProvedorEmail;
+import com.bootcamp.eventos.servico.email.ServicoEmailOutbox;
+import com.bootcamp.eventos.servico.email.TipoEmail;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes concorrentes para ServicoEmailOutbox.
+ *
+ * TÉCNICA: Stress Testing (concorrência)
+ * FOCO: Entrega em lotes, backpressure, flush e shutdown
+ * ESTRATÉGIA: Provedor controlado pelo teste para observar a fila
+ */
+class ServicoEmailOutboxTest {
+
+  private final Evento evento = new Evento("Conferência", null, LocalDateTime.now().plusDays(30));
+
+  @Test
+  void deveEntregarTodasAsMensagensEmLotesLimitados() throws Exception {
+    // Arrange
+    List<List<MensagemEmail>> lotes = new CopyOnWriteArrayList<>();
+    ProvedorEmail provedor = lote -> lotes.add(List.copyOf(lote));
+
+    try (ServicoEmailOutbox outbox = new ServicoEmailOutbox(provedor, 1_000, 50, 2)) {
+      // Act
+      for (int i = 0; i < 500; i++) {
+        outbox.enviarConfirmacao("convidado" + i + "@example.com", evento);
+      }
+      boolean concluido = outbox.flush(Duration.ofSeconds(10));
+
+      // Assert
+      assertThat(concluido).isTrue();
+      assertThat(outbox.getPendentes()).isZero();
+      assertThat(lotes).allSatisfy(lote -> assertThat(lote).hasSizeBetween(1, 50));
+      assertThat(lotes.stream().mapToInt(List::size).sum()).isEqualTo(500);
+      assertThat(lotes.get(0).get(0).tipo()).isEqualTo(TipoEmail.CONFIRMACAO);
+    }
+  }
+
+  @Test
+  void deveBloquearRemetenteQuandoFilaCheia() throws Exception {
+    // Arrange - provedor travado até o teste liberar
+    CountDownLatch liberarProvedor = new CountDownLatch(1);
+    ProvedorEmail provedor = lote -> aguardar(liberarProvedor);
+    ServicoEmailOutbox outbox = new ServicoEmailOutbox(provedor, 2, 1, 1);
+
+    // Act - 1 mensagem no worker + 2 na fila; a 4ª deve bloquear
+    CountDownLatch quartaEnviada = new CountDownLatch(1);
+    Thread remetente = Thread.ofVirtual().start(() -> {
+      for (int i = 0; i < 4; i++) {
+        outbox.enviarNotificacaoAlteracao("organizador@example.com", evento);
+      }
+      quartaEnviada.countDown();
+    });
+
+    // Assert
+    assertThat(quartaEnviada.await(300, TimeUnit.MILLISECONDS)).isFalse();
+    liberarProvedor.countDown();
+    assertThat(quartaEnviada.await(5, TimeUnit.SECONDS)).isTrue();
+    remetente.join();
+    assertThat(outbox.shutdown(Duration.ofSeconds(5))).isTrue();
+  }
+
+  @Test
+  void deveEntregarFilaERecusarNovasMensagensAposShutdown() throws Exception {
+    // Arrange
+    List<MensagemEmail> entregues = new CopyOnWriteArrayList<>();
+    ServicoEmailOutbox outbox = new ServicoEmailOutbox(entregues::addAll, 100, 10, 1);
+    for (int i = 0; i < 30; i++) {
+      outbox.enviarConfirmacao("convidado" + i + "@example.com", evento);
+    }
+
+    // Act
+    boolean encerrado = outbox.shutdown(Duration.ofSeconds(5));
+
+    // Assert
+    assertThat(encerrado).isTrue();
+    assertThat(entregues).hasSize(30);
+    assertThatThrownBy(() -> outbox.enviarConfirmacao("tarde@example.com", evento))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Outbox de email encerrado");
+  }
+
+  @Test
+  void deveContabilizarFalhasDoProvedorSemTravarFlush() throws Exception {
+    // Arrange
+    ProvedorEmail provedorComFalha = lote -> {
+      throw new IllegalStateException("Provedor indisponível");
+    };
+
+    try (ServicoEmailOutbox outbox = new ServicoEmailOutbox(provedorComFalha, 100, 10, 1)) {
+      // Act
+      for (int i = 0; i < 5; i++) {
+        outbox.enviarConfirmacao("convidado" + i + "@example.com", evento);
+      }
+
+      // Assert
+      assertThat(outbox.flush(Duration.ofSeconds(5))).isTrue();
+      assertThat(outbox.getFalhas()).isEqualTo(5);
+    }
+  }
+
+  @Test
+  void deveConcluirFlushComMensagensChegandoContinuamente() throws Exception {
+    // Arrange - remetente enfileira sem parar durante todo o teste
+    ProvedorEmail provedorLento = lote -> dormir(1);
+    ServicoEmailOutbox outbox = new ServicoEmailOutbox(provedorLento, 1_000, 10, 1);
+    AtomicBoolean enviando = new AtomicBoolean(true);
+    Thread remetente = Thread.ofVirtual().start(() -> {
+      while (enviando.get()) {
+        outbox.enviarConfirmacao("convidado@example.com", evento);
+      }
+    });
+    dormir(20);
+
+    // Act
+    boolean concluido = outbox.flush(Duration.ofSeconds(10));
+
+    // Assert - flush aguarda só o que foi enfileirado antes dele
+    enviando.set(false);
+    remetente.join();
+    assertThat(concluido).isTrue();
+    assertThat(outbox.getPendentes()).isPositive();
+    outbox.close();
+  }
+
+  @Test
+  void naoDeveDeixarMensagensPresasQuandoEnvioConcorreComShutdown() throws Exception {
+    for (int rodada = 0; rodada < 20; rodada++) {
+      // Arrange
+      AtomicInteger entregues = new AtomicInteger();
+      ServicoEmailOutbox outbox = new ServicoEmailOutbox(lote -> entregues.addAndGet(lote.size()), 1_000, 10, 2);
+      AtomicInteger aceitas = new AtomicInteger();
+      List<Thread> remetentes = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        remetentes.add(Thread.ofVirtual().start(() -> {
+          for (int j = 0; j < 200; j++) {
+            try {
+              outbox.enviarConfirmacao("convidado@example.com", evento);
+              aceitas.incrementAndGet();
+            } catch (IllegalStateException e) {
+              return;
+            }
+          }
+        }));
+      }
+
+      // Act
+      boolean encerrado = outbox.shutdown(Duration.ofSeconds(5));
+      for (Thread remetente : remetentes) {
+        remetente.join();
+      }
+
+      // Assert - cada mensagem aceita foi entregue; as recusadas não ficaram pendentes
+      assertThat(encerrado).isTrue();
+      assertThat(outbox.getPendentes()).isZero();
+      assertThat(entregues.get()).isEqualTo(aceitas.get());
+    }
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private static void dormir(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+import com.bootcamp.eventos.servico.CalculadorStatusEvento;
+import com.bootcamp.eventos.servico.relatorio.AgregadorStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para AgregadorStatus.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Contagem por limiares em colunas primitivas, divisão paralela e
+ * agrupamento por organizador
+ * OBJETIVO: Produzir exatamente a distribuição obtida evento a evento
+ */
+class AgregadorStatusTest {
+
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30);
+  private final CalculadorStatusEvento calculador = new CalculadorStatusEvento();
+
+  @Test
+  void deveClassificarComoOEventoEmTodasAsFronteirasDePercentual() {
+    // Arrange - limites de 1 a 120, cada ocupação possível, sem limite e limite reduzido
+    AgregadorStatus agregador = new AgregadorStatus();
+    Map<StatusPercentual, Long> esperado = new EnumMap<>(StatusPercentual.class);
+    for (int limite = 1; limite <= 120; limite++) {
+      for (int confirmados = 0; confirmados <= limite; confirmados++) {
+        adicionarEContar(agregador, esperado, evento(limite, confirmados));
+      }
+    }
+    adicionarEContar(agregador, esperado, evento(null, 7));
+    Evento reduzido = evento(10, 10);
+    reduzido.setLimiteParticipantes(4);
+    adicionarEContar(agregador, esperado, reduzido);
+
+    // Act
+    Map<StatusPercentual, Long> distribuicao = agregador.distribuicao();
+
+    // Assert
+    assertThat(distribuicao).containsOnlyKeys(StatusPercentual.values());
+    assertThat(distribuicao).allSatisfy((status, total) ->
+        assertThat(total).as(status.name()).isEqualTo(esperado.getOrDefault(status, 0L)));
+  }
+
+  @Test
+  void deveSomarFaixasParalelasSemPerderLinhas() {
+    // Arrange - 1 milhão de linhas, bem acima do limiar de divisão
+    AgregadorStatus agregador = new AgregadorStatus(16);
+    for (int i = 0; i < 1_000_000; i++) {
+      switch (i % 4) {
+        case 0 -> agregador.adicionar("ORG", 100, 100);
+        case 1 -> agregador.adicionar("ORG", 80, 100);
+        case 2 -> agregador.adicionar("ORG", 0, 100);
+        default -> agregador.adicionar("ORG", 5, null);
+      }
+    }
+
+    // Act
+    Map<StatusPercentual, Long> distribuicao = agregador.distribuicao();
+
+    // Assert
+    assertThat(agregador.getTamanho()).isEqualTo(1_000_000);
+    assertThat(distribuicao).containsEntry(StatusPercentual.LOTADO, 250_000L)
+        .containsEntry(StatusPercentual.QUASE_LOTADO, 250_000L)
+        .containsEntry(StatusPercentual.ABERTO_SEM_CONFIRMACOES, 250_000L)
+        .containsEntry(StatusPercentual.SEM_LIMITE, 250_000L)
+        .containsEntry(StatusPercentual.BOA_ADESAO, 0L)
+        .containsEntry(StatusPercentual.ABERTO_COM_CONFIRMACOES, 0L);
+  }
+
+  @Test
+  void deveSepararDistribuicaoPorOrganizadorNaOrdemDeCarga() {
+    // Arrange
+    AgregadorStatus agregador = new AgregadorStatus();
+    agregador.adicionar("ORG-002", evento(10, 5));
+    agregador.adicionar("ORG-001", evento(10, 10));
+    agregador.adicionar("ORG-002", evento(10, 1));
+    agregador.adicionar("ORG-002", evento(null, 0));
+
+    // Act
+    Map<String, Map<StatusPercentual, Long>> porOrganizador = agregador.distribuicaoPorOrganizador();
+
+    // Assert
+    assertThat(porOrganizador).containsOnlyKeys("ORG-002", "ORG-001");
+    assertThat(porOrganizador.keySet()).containsExactly("ORG-002", "ORG-001");
+    assertThat(porOrganizador.get("ORG-002"))
+        .containsEntry(StatusPercentual.BOA_ADESAO, 1L)
+        .containsEntry(StatusPercentual.ABERTO_COM_CONFIRMACOES, 1L)
+        .containsEntry(StatusPercentual.SEM_LIMITE, 1L)
+        .containsEntry(StatusPercentual.LOTADO, 0L);
+    assertThat(porOrganizador.get("ORG-001")).containsEntry(StatusPercentual.LOTADO, 1L)
+        .containsEntry(StatusPercentual.SEM_LIMITE, 0L);
+  }
+
+  @Test
+  void deveRetornarZerosQuandoVazioERejeitarLinhasInvalidas() {
+    // Arrange
+    AgregadorStatus agregador = new AgregadorStatus();
+
+    // Act & Assert
+    assertThat(agregador.distribuicao()).containsOnlyKeys(StatusPercentual.values())
+        .allSatisfy((status, total) -> assertThat(total).isZero());
+    assertThat(agregador.distribuicaoPorOrganizador()).isEmpty();
+    assertThatThrownBy(() -> agregador.adicionar(null, 1, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Organizador não pode ser nulo");
+    assertThatThrownBy(() -> agregador.adicionar("ORG", -1, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Confirmados ou limite fora do intervalo suportado");
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Evento evento(Integer limite, int confirmados) {
+    Evento evento = new Evento("Evento", limite, data);
+    evento.reservarVagas(confirmados);
+    return evento;
+  }
+
+  private void adicionarEContar(AgregadorStatus agregador, Map<StatusPercentual, Long> esperado, Evento evento) {
+    agregador.adicionar("ORG-001", evento);
+    esperado.merge(calculador.calcularStatusPercentualConfirmados(evento), 1L, Long::sum);
+  }
+}
@@ -0,0 +1,179 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dto.PaginaEventos;
+import com.bootcamp.eventos.repositorio.CatalogoEventos;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para CatalogoEventos.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Buscas por intervalo, paginação por cursor e reindexação por data
+ * OBJETIVO: Cobrir os caminhos do índice ordenado por data
+ */
+class CatalogoEventosTest {
+
+  private final LocalDate dia = LocalDate.now().plusDays(10);
+  private final CatalogoEventos catalogo = new CatalogoEventos();
+
+  @Test
+  void deveBuscarEventosDoIntervaloEDoDiaEmOrdemDeData() {
+    // Arrange - inserção fora de ordem, incluindo dois eventos no mesmo horário
+    Evento tarde = criarEvento("Tarde", dia.atTime(15, 0));
+    Evento manha = criarEvento("Manhã", dia.atTime(9, 0));
+    Evento manha2 = criarEvento("Manhã 2", dia.atTime(9, 0));
+    Evento amanha = criarEvento("Amanhã", dia.plusDays(1).atTime(0, 0));
+
+    // Act & Assert - intervalo semiaberto [inicio, fim)
+    assertThat(catalogo.buscarDoDia(dia)).containsExactly(manha, manha2, tarde);
+    assertThat(catalogo.buscarEntre(dia.atTime(9, 0), dia.atTime(15, 0))).containsExactly(manha, manha2);
+    assertThat(catalogo.buscarEntre(dia.atTime(16, 0), dia.plusDays(2).atStartOfDay())).containsExactly(amanha);
+    assertThat(catalogo.buscarEntre(dia.atTime(15, 0), dia.atTime(9, 0))).isEmpty();
+  }
+
+  @Test
+  void deveRetornarProximosNEventos() {
+    // Arrange
+    List<Evento> eventos = criarEventosPorHora(10);
+
+    // Act
+    List<Evento> proximos = catalogo.buscarProximos(dia.atTime(2, 30), 3);
+
+    // Assert
+    assertThat(proximos).containsExactly(eventos.get(3), eventos.get(4), eventos.get(5));
+    assertThat(catalogo.buscarProximos(dia.atTime(8, 0), 5)).containsExactly(eventos.get(8), eventos.get(9));
+  }
+
+  @Test
+  void devePaginarPorCursorSemRepetirNemPularEventos() {
+    // Arrange
+    List<Evento> eventos = criarEventosPorHora(10);
+    LocalDateTime inicio = dia.atStartOfDay();
+    LocalDateTime fim = dia.plusDays(1).atStartOfDay();
+
+    // Act
+    List<Evento> percorridos = new ArrayList<>();
+    List<Integer> tamanhos = new ArrayList<>();
+    PaginaEventos pagina = catalogo.buscarPagina(inicio, fim, null, 4);
+    while (true) {
+      percorridos.addAll(pagina.eventos());
+      tamanhos.add(pagina.eventos().size());
+      if (pagina.proxima() == null) {
+        break;
+      }
+      pagina = catalogo.buscarPagina(inicio, fim, pagina.proxima(), 4);
+    }
+
+    // Assert
+    assertThat(tamanhos).containsExactly(4, 4, 2);
+    assertThat(percorridos).containsExactlyElementsOf(eventos);
+  }
+
+  @Test
+  void deveReposicionarEventoQuandoDataMuda() {
+    // Arrange
+    Evento evento = criarEvento("Palestra", dia.atTime(10, 0));
+    Evento outro = criarEvento("Oficina", dia.atTime(12, 0));
+
+    // Act - move para o dia seguinte
+    evento.setData(dia.plusDays(1).atTime(10, 0));
+
+    // Assert - sai do dia antigo e aparece no novo, uma única vez
+    assertThat(catalogo.buscarDoDia(dia)).containsExactly(outro);
+    assertThat(catalogo.buscarDoDia(dia.plusDays(1))).containsExactly(evento);
+    assertThat(catalogo.buscarProximos(dia.atStartOfDay(), 10)).containsExactly(outro, evento);
+    assertThat(catalogo.tamanho()).isEqualTo(2);
+
+    // Act - outras edições não mexem no índice
+    evento.setNome("Palestra Remarcada");
+    assertThat(catalogo.buscarDoDia(dia.plusDays(1))).containsExactly(evento);
+  }
+
+  @Test
+  void deveDeixarDeAcompanharEventoRemovido() {
+    // Arrange
+    Evento evento = criarEvento("Palestra", dia.atTime(10, 0));
+
+    // Act
+    boolean removido = catalogo.remover(evento);
+    evento.setData(dia.atTime(11, 0));
+
+    // Assert
+    assertThat(removido).isTrue();
+    assertThat(catalogo.remover(evento)).isFalse();
+    assertThat(catalogo.contem(evento)).isFalse();
+    assertThat(catalogo.buscarDoDia(dia)).isEmpty();
+    assertThat(catalogo.adicionar(evento)).isTrue();
+    assertThat(catalogo.adicionar(evento)).isFalse();
+    assertThat(catalogo.buscarDoDia(dia)).containsExactly(evento);
+  }
+
+  @Test
+  void deveRetornarCadaEventoUmaUnicaVezDuranteMudancasDeData() throws Exception {
+    // Arrange - 1 000 eventos no dia e um que alterna entre o início e o fim dele
+    for (int i = 0; i < 1_000; i++) {
+      criarEvento("Evento " + i, dia.atTime(12, 0));
+    }
+    Evento movel = criarEvento("Móvel", dia.atTime(0, 1));
+    AtomicBoolean parar = new AtomicBoolean();
+    Thread mudancas = Thread.ofPlatform().start(() -> {
+      for (int i = 0; !parar.get(); i++) {
+        movel.setData(dia.atTime(i % 2 == 0 ? 23 : 0, 1));
+      }
+    });
+
+    // Act - buscas concorrentes com as mudanças
+    List<Integer> repetidos = new ArrayList<>();
+    try {
+      for (int i = 0; i < 2_000; i++) {
+        List<Evento> eventos = catalogo.buscarDoDia(dia);
+        repetidos.add(eventos.size() - (int) eventos.stream().distinct().count());
+      }
+    } finally {
+      parar.set(true);
+      mudancas.join();
+    }
+
+    // Assert
+    assertThat(repetidos).containsOnly(0);
+    assertThat(catalogo.buscarDoDia(dia)).hasSize(1_001).containsOnlyOnce(movel);
+  }
+
+  @Test
+  void deveRejeitarParametrosInvalidos() {
+    assertThatThrownBy(() -> catalogo.adicionar(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Evento não pode ser nulo");
+    assertThatThrownBy(() -> catalogo.buscarEntre(null, dia.atStartOfDay()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Início e fim do intervalo não podem ser nulos");
+    assertThatThrownBy(() -> catalogo.buscarProximos(dia.atStartOfDay(), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Quantidade deve ser positiva");
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Evento criarEvento(String nome, LocalDateTime data) {
+    Evento evento = new Evento(nome, null, data);
+    catalogo.adicionar(evento);
+    return evento;
+  }
+
+  private List<Evento> criarEventosPorHora(int quantidade) {
+    List<Evento> eventos = new ArrayList<>();
+    for (int hora = quantidade - 1; hora >= 0; hora--) {
+      eventos.add(0, criarEvento("Evento " + hora, dia.atTime(hora, 0)));
+    }
+    return eventos;
+  }
+}
@@ -0,0 +1,393 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dto.EstadoRestaurado;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.persistencia.Diario;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para Diario.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Gravação em segmentos, commit em grupo e reprodução após reinício
+ * OBJETIVO: Reconstruir exatamente as respostas gravadas, descartando
+ * apenas registros incompletos
+ */
+class DiarioTest {
+
+  @TempDir
+  Path diretorio;
+
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30).withNano(0);
+
+  @Test
+  void deveReconstruirEventosEConvitesAposReabertura() throws Exception {
+    // Arrange
+    Evento evento = new Evento("Workshop", 10, data);
+    Convite aceito = new Convite(evento, "TOKEN_VALIDO_1", data.minusDays(1));
+    Convite recusado = new Convite(evento, "TOKEN_VALIDO_2", data.minusDays(1));
+    Convite pendente = new Convite(evento, "TOKEN_VALIDO_3", null);
+
+    // Act
+    try (Diario diario = new Diario(diretorio)) {
+      diario.acompanhar(evento);
+      diario.registrarConvite(aceito);
+      diario.registrarConvite(recusado);
+      diario.registrarConvite(pendente);
+
+      ProcessadorResposta processador = new ProcessadorResposta(null, diario);
+      processador.processarResposta(aceito, new RespostaConvite(true, "Ana", "Levarei sobremesa"));
+      processador.processarResposta(recusado, new RespostaConvite(false, null, "Viagem"));
+      evento.setNome("Workshop Avançado");
+    }
+    EstadoRestaurado estado = Diario.reproduzir(diretorio);
+
+    // Assert
+    Evento restaurado = estado.eventos().get(evento.getId());
+    assertThat(estado.registros()).isEqualTo(7);
+    assertThat(restaurado.getNome()).isEqualTo("Workshop Avançado");
+    assertThat(restaurado.getLimiteParticipantes()).isEqualTo(10);
+    assertThat(restaurado.getData()).isEqualTo(data);
+    assertThat(restaurado.getParticipantes()).containsExactly(new Participante("Ana", "Levarei sobremesa"));
+
+    Convite aceitoRestaurado = estado.convites().get("TOKEN_VALIDO_1");
+    assertThat(aceitoRestaurado.getEvento()).isSameAs(restaurado);
+    assertThat(aceitoRestaurado.foiAceito()).isTrue();
+    assertThat(aceitoRestaurado.getDataExpiracao()).isEqualTo(data.minusDays(1));
+    assertThat(estado.convites().get("TOKEN_VALIDO_2").getMotivoRecusa()).isEqualTo("Viagem");
+    assertThat(estado.convites().get("TOKEN_VALIDO_3").foiRespondido()).isFalse();
+    assertThat(estado.convites().get("TOKEN_VALIDO_3").getDataExpiracao()).isNull();
+  }
+
+  @Test
+  void deveAbrirNovosSegmentosQuandoOAtualEncheEAoReabrir() throws Exception {
+    // Arrange - segmentos de 1 KB comportam poucos registros
+    List<Evento> eventos = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      eventos.add(new Evento("Evento " + i, null, data));
+    }
+
+    // Act
+    try (Diario diario = new Diario(diretorio, 1024)) {
+      eventos.subList(0, 50).forEach(diario::registrarEvento);
+    }
+    int segmentosPrimeiraAbertura = contarSegmentos();
+    try (Diario diario = new Diario(diretorio, 1024)) {
+      eventos.subList(50, 100).forEach(diario::registrarEvento);
+    }
+    EstadoRestaurado estado = Diario.reproduzir(diretorio);
+
+    // Assert - reabertura nunca escreve em segmento antigo
+    assertThat(segmentosPrimeiraAbertura).isGreaterThan(1);
+    assertThat(contarSegmentos()).isGreaterThan(segmentosPrimeiraAbertura);
+    assertThat(estado.registros()).isEqualTo(100);
+    assertThat(estado.eventos().keySet())
+        .containsExactlyInAnyOrderElementsOf(eventos.stream().map(Evento::getId).toList());
+  }
+
+  @Test
+  void deveDescartarRegistroIncompletoNoFimDoSegmento() throws Exception {
+    // Arrange
+    Evento primeiro = new Evento("Primeiro", null, data);
+    Evento segundo = new Evento("Segundo", null, data);
+    long fimDoSegundo;
+    try (Diario diario = new Diario(diretorio)) {
+      diario.registrarEvento(primeiro);
+      fimDoSegundo = diario.registrarEvento(segundo);
+    }
+
+    // Act - simula queda no meio da gravação do segundo registro
+    try (RandomAccessFile arquivo = new RandomAccessFile(diretorio.resolve("diario-00000000.log").toFile(), "rw")) {
+      arquivo.seek(fimDoSegundo - 1);
+      int ultimoByte = arquivo.read();
+      arquivo.seek(fimDoSegundo - 1);
+      arquivo.write(ultimoByte ^ 0xFF);
+    }
+    EstadoRestaurado estado = Diario.reproduzir(diretorio);
+
+    // Assert
+    assertThat(estado.registros()).isEqualTo(1);
+    assertThat(estado.eventos()).containsOnlyKeys(primeiro.getId());
+  }
+
+  @Test
+  void deveCompartilharSincronizacoesEntreRespostasConcorrentes() throws Exception {
+    // Arrange
+    int threads = 16;
+    int porThread = 50;
+    Evento evento = new Evento("Conferência", null, data);
+    List<Convite> convites = new ArrayList<>();
+    Queue<ResultadoProcessamento> resultados = new ConcurrentLinkedQueue<>();
+    EstadoRestaurado estado;
+    long registros;
+    long sincronizacoes;
+
+    try (Diario diario = new Diario(diretorio)) {
+      diario.registrarEvento(evento);
+      for (int i = 0; i < threads * porThread; i++) {
+        convites.add(new Convite(evento, "TOKEN_VALIDO_" + i, data));
+        diario.registrarConvite(convites.get(i));
+      }
+      ProcessadorResposta processador = new ProcessadorResposta(null, diario);
+
+      // Act - cada resposta só retorna depois de durável
+      List<Thread> respondentes = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int inicio = t * porThread;
+        respondentes.add(Thread.ofVirtual().start(() -> {
+          for (int i = inicio; i < inicio + porThread; i++) {
+            resultados.add(processador.processarResposta(
+                convites.get(i), new RespostaConvite(true, "Participante " + i, null)));
+          }
+        }));
+      }
+      for (Thread respondente : respondentes) {
+        respondente.join();
+      }
+      registros = diario.getRegistros();
+      sincronizacoes = diario.getSincronizacoes();
+    }
+    estado = Diario.reproduzir(diretorio);
+
+    // Assert - menos sincronizações do que respostas e nenhuma resposta perdida
+    assertThat(resultados).hasSize(threads * porThread).containsOnly(ResultadoProcessamento.CONFIRMADO);
+    assertThat(registros).isEqualTo(1 + 2L * threads * porThread);
+    assertThat(sincronizacoes).isLessThan(threads * porThread);
+    assertThat(estado.eventos().get(evento.getId()).getNumeroConfirmados()).isEqualTo(threads * porThread);
+    assertThat(estado.convites().values()).allMatch(Convite::foiAceito);
+  }
+
+  @Test
+  void deveRejeitarGravacaoAposFechamentoEParametrosInvalidos() throws Exception {
+    // Arrange
+    Diario diario = new Diario(diretorio);
+    diario.close();
+
+    // Act & Assert
+    assertThatThrownBy(() -> diario.registrarEvento(new Evento("Workshop", null, data)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Diário fechado");
+    assertThatThrownBy(() -> diario.registrarResposta(new Convite(null, "TOKEN_VALIDO_1", data)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Convite ainda não foi respondido");
+    assertThatThrownBy(() -> new Diario(diretorio, 512))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Tamanho do segmento deve ser de pelo menos 1024 bytes");
+  }
+
+  @Test
+  void deveReproduzirConfirmacoesSemChecarCapacidadeNemOrdemDosCancelamentos() throws Exception {
+    // Arrange
+    Evento evento = new Evento("Workshop", 2, data);
+    Participante ana = new Participante("Ana", null);
+    Participante bia = new Participante("Bia", null);
+    Participante caio = new Participante("Caio", null);
+
+    // Act - evento não acompanhado, gravado à mão: o cancelamento de Bia é
+    // gravado depois da confirmação que ocupou a sua vaga, e o limite é
+    // reduzido com o evento já lotado
+    try (Diario diario = new Diario(diretorio)) {
+      diario.registrarEvento(evento);
+      for (Participante participante : List.of(ana, bia)) {
+        evento.confirmarParticipante(participante);
+        diario.registrarConfirmacao(evento, participante);
+      }
+      evento.cancelarParticipacao("Bia");
+      evento.confirmarParticipante(caio);
+      diario.registrarConfirmacao(evento, caio);
+      diario.registrarCancelamento(evento, "Bia");
+      evento.setLimiteParticipantes(1);
+      diario.registrarEvento(evento);
+    }
+    Evento restaurado = Diario.reproduzir(diretorio).eventos().get(evento.getId());
+
+    // Assert
+    assertThat(restaurado.getParticipantes()).containsExactly(ana, caio);
+    assertThat(restaurado.getNumeroConfirmados()).isEqualTo(2);
+    assertThat(restaurado.getLimiteParticipantes()).isEqualTo(1);
+    assertThat(restaurado.estaLotado()).isTrue();
+  }
+
+  @Test
+  void deveSincronizarAoFecharMesmoComThreadInterrompida() {
+    // Arrange
+    Evento evento = new Evento("Workshop", null, data);
+    Diario diario = new Diario(diretorio);
+    diario.registrarEvento(evento);
+
+    // Act
+    Thread.currentThread().interrupt();
+    diario.close();
+
+    // Assert - a interrupção é preservada para quem chamou
+    assertThat(Thread.interrupted()).isTrue();
+    assertThat(Diario.reproduzir(diretorio).eventos()).containsKey(evento.getId());
+  }
+
+  @Test
+  void deveTornarARespostaDefinitivaSomenteDepoisDeDuravel() throws Exception {
+    // Arrange - diário que segura a espera pela durabilidade
+    Evento evento = new Evento("Workshop", 1, data);
+    Convite aceito = new Convite(evento, "TOKEN_VALIDO_1", data);
+    Convite lotado = new Convite(evento, "TOKEN_VALIDO_2", data);
+    CountDownLatch gravado = new CountDownLatch(1);
+    CountDownLatch liberar = new CountDownLatch(1);
+
+    try (Diario diario = new Diario(diretorio) {
+      @Override
+      public void aguardarDurabilidade(long posicao) {
+        gravado.countDown();
+        aguardar(liberar);
+        super.aguardarDurabilidade(posicao);
+      }
+    }) {
+      diario.acompanhar(evento);
+      diario.registrarConvite(aceito);
+      diario.registrarConvite(lotado);
+      ProcessadorResposta processador = new ProcessadorResposta(null, diario);
+
+      // Act
+      Thread respondente = Thread.ofVirtual().start(() ->
+          processador.processarResposta(aceito, new RespostaConvite(true, "Ana", null)));
+      gravado.await();
+      boolean aceitoAntesDaDurabilidade = aceito.foiAceito() || aceito.foiRespondido();
+      boolean decididoAntesDaDurabilidade = aceito.temRespostaDecidida();
+      liberar.countDown();
+      respondente.join();
+      processador.processarResposta(lotado, new RespostaConvite(true, "Bruno", null));
+
+      // Assert
+      assertThat(aceitoAntesDaDurabilidade).isFalse();
+      assertThat(decididoAntesDaDurabilidade).isTrue();
+      assertThat(aceito.foiAceito()).isTrue();
+    }
+    EstadoRestaurado estado = Diario.reproduzir(diretorio);
+    Convite lotadoRestaurado = estado.convites().get("TOKEN_VALIDO_2");
+    assertThat(lotadoRestaurado.foiRecusadoPorLotacao()).isTrue();
+    assertThat(lotadoRestaurado.getMotivoRecusa()).isEqualTo(Convite.MOTIVO_LOTACAO);
+    assertThat(estado.convites().get("TOKEN_VALIDO_1").foiAceito()).isTrue();
+  }
+
+  @Test
+  void deveManterARespostaGravadaQuandoASincronizacaoFalha() throws Exception {
+    // Arrange - diário que grava, mas falha ao confirmar a durabilidade
+    Evento evento = new Evento("Workshop", 1, data);
+    Convite individual = new Convite(evento, "TOKEN_VALIDO_1", data);
+    Convite emLote = new Convite(evento, "TOKEN_VALIDO_2", data);
+
+    try (Diario diario = new Diario(diretorio) {
+      @Override
+      public void aguardarDurabilidade(long posicao) {
+        throw new IllegalStateException("Falha de sincronização");
+      }
+    }) {
+      diario.acompanhar(evento);
+      diario.registrarConvite(individual);
+      diario.registrarConvite(emLote);
+      ProcessadorResposta processador = new ProcessadorResposta(null, diario);
+
+      // Act
+      Throwable falhaIndividual = catchThrowable(() ->
+          processador.processarResposta(individual, new RespostaConvite(true, "Ana", null)));
+      Throwable falhaEmLote = catchThrowable(() -> processador.processarRespostas(List.of(
+          new SolicitacaoResposta(emLote, new RespostaConvite(false, null, "Viagem")))));
+
+      // Assert - gravadas, as respostas não são desfeitas: o resultado é incerto
+      assertThat(falhaIndividual).isInstanceOf(IllegalStateException.class)
+          .hasMessage(Diario.RESULTADO_INCERTO);
+      assertThat(falhaEmLote).isInstanceOf(IllegalStateException.class)
+          .hasMessage(Diario.RESULTADO_INCERTO);
+      assertThat(individual.foiAceito()).isTrue();
+      assertThat(evento.estaConfirmado("Ana")).isTrue();
+      assertThat(emLote.foiRespondido()).isTrue();
+    }
+    EstadoRestaurado estado = Diario.reproduzir(diretorio);
+    assertThat(estado.convites().get("TOKEN_VALIDO_1").foiAceito()).isTrue();
+    assertThat(estado.convites().get("TOKEN_VALIDO_2").getMotivoRecusa()).isEqualTo("Viagem");
+  }
+
+  @Test
+  void deveDesfazerARespostaQuandoAGravacaoFalha() {
+    // Arrange - diário fechado: nada chega a ser gravado
+    Evento evento = new Evento("Workshop", 1, data);
+    Convite convite = new Convite(evento, "TOKEN_VALIDO_1", data);
+    Diario diario = new Diario(diretorio);
+    diario.close();
+    ProcessadorResposta processador = new ProcessadorResposta(null, diario);
+
+    // Act
+    Throwable falha = catchThrowable(() ->
+        processador.processarResposta(convite, new RespostaConvite(true, "Ana", null)));
+
+    // Assert - vaga devolvida e convite de volta a pendente
+    assertThat(falha).isInstanceOf(IllegalStateException.class).hasMessage("Diário fechado");
+    assertThat(convite.foiRespondido()).isFalse();
+    assertThat(convite.temRespostaDecidida()).isFalse();
+    assertThat(evento.getNumeroConfirmados()).isZero();
+  }
+
+  @Test
+  void deveGravarConfirmacoesDiretasECancelamentosDeEventoAcompanhado() throws Exception {
+    // Arrange
+    Evento evento = new Evento("Workshop", 2, data);
+    Convite convite = new Convite(evento, "TOKEN_VALIDO_1", data);
+    Participante ana = new Participante("Ana", null);
+
+    // Act - Ana confirmada direto no evento, Bia por convite e cancelada;
+    // a vaga de Caio é ocupada como por um convite e desfeita sem gravar
+    try (Diario diario = new Diario(diretorio)) {
+      diario.acompanhar(evento);
+      diario.registrarConvite(convite);
+      evento.confirmarParticipante(ana);
+      new ProcessadorResposta(null, diario)
+          .processarResposta(convite, new RespostaConvite(true, "Bia", null));
+      evento.cancelarParticipacao("Bia");
+      evento.tentarConfirmarParticipante(new Participante("Caio", null));
+      evento.desfazerConfirmacao("Caio");
+      evento.confirmarParticipante(new Participante("Caio", "Reconfirmado"));
+    }
+    EstadoRestaurado estado = Diario.reproduzir(diretorio);
+    Evento restaurado = estado.eventos().get(evento.getId());
+
+    // Assert - o desfazer não grava cancelamento: a nova confirmação de Caio vale
+    assertThat(restaurado.getParticipantes()).extracting(Participante::nome)
+        .containsExactly("Ana", "Caio");
+    assertThat(estado.convites().get("TOKEN_VALIDO_1").foiAceito()).isTrue();
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private int contarSegmentos() throws Exception {
+    try (Stream<Path> arquivos = Files.list(diretorio)) {
+      return (int) arquivos.count();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.RespostaConvite;
+import com.bootcamp.eventos.dominio.enums.StatusPercentual;
+import com.bootcamp.eventos.dto.ResultadoProcessamento;
+import com.bootcamp.eventos.dto.SolicitacaoResposta;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para o processamento em lote de
+ * ProcessadorResposta.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Caminhos do processamento por grupo de evento
+ * OBJETIVO: Garantir ordem dos resultados e reserva única de capacidade
+ */
+class ProcessadorRespostaLoteTest {
+
+  @Test
+  void deveLancarExcecaoQuandoLoteNulo() {
+    ProcessadorResposta processador = new ProcessadorResposta();
+
+    assertThatThrownBy(() -> processador.processarRespostas(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Lista de respostas não pode ser nula");
+  }
+
+  @Test
+  void deveLancarExcecaoQuandoItemDoLoteNulo() {
+    ProcessadorResposta processador = new ProcessadorResposta();
+    List<SolicitacaoResposta> lote = List.of(
+        new SolicitacaoResposta(criarConvite(criarEvento(10)), null));
+
+    assertThatThrownBy(() -> processador.processarRespostas(lote))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Convite e resposta não podem ser nulos");
+  }
+
+  @Test
+  void deveRetornarResultadosNaOrdemDeEntradaComEventosIntercalados() {
+    // Arrange - dois eventos intercalados no lote
+    ProcessadorResposta processador = new ProcessadorResposta();
+    Evento festa = criarEvento(10);
+    Evento palestra = criarEvento(10);
+    List<SolicitacaoResposta> lote = List.of(
+        new SolicitacaoResposta(criarConvite(festa), aceitar("Ana")),
+        new SolicitacaoResposta(criarConvite(palestra), recusar("Viagem")),
+        new SolicitacaoResposta(criarConvite(festa), recusar("Doente")),
+        new SolicitacaoResposta(criarConvite(palestra), aceitar("Bruno")));
+
+    // Act
+    List<ResultadoProcessamento> resultados = processador.processarRespostas(lote);
+
+    // Assert
+    assertThat(resultados).extracting(ResultadoProcessamento::mensagem).containsExactly(
+        "Participação confirmada com sucesso",
+        "Recusa registrada",
+        "Recusa registrada",
+        "Participação confirmada com sucesso");
+    assertThat(festa.getNumeroConfirmados()).isEqualTo(1);
+    assertThat(palestra.getNumeroConfirmados()).isEqualTo(1);
+  }
+
+  @Test
+  void deveRecusarAceitacoesExcedentesQuandoGrupoUltrapassaVagas() {
+    // Arrange - 3 aceitações para 2 vagas
+    ProcessadorResposta processador = new ProcessadorResposta();
+    Evento evento = criarEvento(2);
+    List<SolicitacaoResposta> lote = new ArrayList<>();
+    for (String nome : List.of("Carla", "Diego", "Elisa")) {
+      lote.add(new SolicitacaoResposta(criarConvite(evento), aceitar(nome)));
+    }
+
+    // Act
+    List<ResultadoProcessamento> resultados = processador.processarRespostas(lote);
+
+    // Assert - os primeiros da fila ocupam as vagas
+    assertThat(resultados).extracting(ResultadoProcessamento::sucesso).containsExactly(true, true, false);
+    assertThat(resultados.get(2).mensagem()).isEqualTo("Evento já está lotado");
+    assertThat(lote.get(2).convite().foiRecusado()).isTrue();
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(2);
+  }
+
+  @Test
+  void deveDevolverVagaQuandoConviteRepetidoNoLote() {
+    // Arrange - mesmo convite submetido duas vezes
+    ProcessadorResposta processador = new ProcessadorResposta();
+    Evento evento = criarEvento(5);
+    Convite convite = criarConvite(evento);
+    List<SolicitacaoResposta> lote = List.of(
+        new SolicitacaoResposta(convite, aceitar("Fábio")),
+        new SolicitacaoResposta(convite, aceitar("Fábio")));
+
+    // Act
+    List<ResultadoProcessamento> resultados = processador.processarRespostas(lote);
+
+    // Assert - segunda submissão recebe o resultado original e reserva excedente devolvida
+    assertThat(resultados.get(1)).isSameAs(ResultadoProcessamento.CONFIRMADO);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+  }
+
+  @Test
+  void naoDeveReservarVagasParaRepeticoesNemLotarEventoFalsamente() {
+    // Arrange - 2 vagas; o lote repete o convite e o nome de Gabi
+    ProcessadorResposta processador = new ProcessadorResposta();
+    Evento evento = criarEvento(2);
+    List<StatusPercentual> status = new ArrayList<>();
+    evento.adicionarOuvinteStatus((e, anterior, atual) -> status.add(atual));
+    Convite convite = criarConvite(evento);
+    List<SolicitacaoResposta> lote = List.of(
+        new SolicitacaoResposta(convite, aceitar("Gabi")),
+        new SolicitacaoResposta(convite, aceitar("Gabi")),
+        new SolicitacaoResposta(criarConvite(evento), aceitar("Gabi")));
+
+    // Act
+    List<ResultadoProcessamento> resultados = processador.processarRespostas(lote);
+
+    // Assert - uma única vaga reservada: o evento nunca aparece lotado
+    assertThat(resultados).containsExactly(
+        ResultadoProcessamento.CONFIRMADO,
+        ResultadoProcessamento.CONFIRMADO,
+        ResultadoProcessamento.PARTICIPANTE_DUPLICADO);
+    assertThat(status).doesNotContain(StatusPercentual.LOTADO);
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+    assertThat(processador.processarResposta(criarConvite(evento), aceitar("Hugo")))
+        .isSameAs(ResultadoProcessamento.CONFIRMADO);
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Evento criarEvento(int limite) {
+    return new Evento("Evento Lote", limite, LocalDateTime.now().plusDays(30));
+  }
+
+  private Convite criarConvite(Evento evento) {
+    return new Convite(evento, "TOKEN_VALIDO", LocalDateTime.now().plusHours(24));
+  }
+
+  private RespostaConvite aceitar(String nome) {
+    return new RespostaConvite(true, nome, null);
+  }
+
+  private RespostaConvite recusar(String motivo) {
+    return new RespostaConvite(false, null, motivo);
+  }
+}
@@ -91,6 +91,25 @@ class ProcessadorRespostaTest {
     assertThat(convite.foiRecusado()).isTrue();
   }
 
+  @Test
+  void deveRejeitarQuandoParticipanteJaConfirmadoNoEvento() {
+    // Branch 3 (true): resposta aceita
+    // Branch 4 (false): evento não está lotado
+    // Branch 5 (true): confirmação DUPLICADO (mesmo nome já confirmado)
+    ProcessadorResposta processador = new ProcessadorResposta();
+    Convite primeiro = criarConviteNaoRespondido();
+    Convite segundo = new Convite(primeiro.getEvento(), "TOKEN_VALIDO", LocalDateTime.now().plusHours(24));
+    processador.processarResposta(primeiro, new RespostaConvite(true, "Carlos", null));
+
+    ResultadoProcessamento resultado = processador.processarResposta(
+        segundo, new RespostaConvite(true, "Carlos", null));
+
+    assertThat(resultado.sucesso()).isFalse();
+    assertThat(resultado.mensagem()).isEqualTo("Participante já confirmado neste evento");
+    assertThat(segundo.foiRespondido()).isFalse();
+    assertThat(primeiro.getEvento().getNumeroConfirmados()).isEqualTo(1);
+  }
+
   @Test
   void deveRegistrarRecusaDoParticipante() {
     // Branch 1 (false): entradas válidas
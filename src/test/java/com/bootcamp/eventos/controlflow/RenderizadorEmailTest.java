@@ -0,0 +1,166 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.servico.email.BufferEmail;
+import com.bootcamp.eventos.servico.email.MensagemEmail;
+import com.bootcamp.eventos.servico.email.ModeloEmail;
+import com.bootcamp.eventos.servico.email.RenderizadorEmail;
+import com.bootcamp.eventos.servico.email.TipoEmail;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para ModeloEmail e RenderizadorEmail.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Compilação do modelo, codificação UTF-8 direta no buffer e cópia do
+ * trecho comum no lote
+ * OBJETIVO: Produzir exatamente os bytes de String.format + getBytes
+ */
+class RenderizadorEmailTest {
+
+  private final RenderizadorEmail renderizador = new RenderizadorEmail();
+
+  @Test
+  void deveRenderizarOsMesmosBytesDeStringFormatEmCadaFaixaDeCodificacao() {
+    // Arrange - ASCII, 2 bytes, 3 bytes, par de surrogates, surrogate sozinho e nulo
+    List<String> nomes = new ArrayList<>(List.of(
+        "Workshop", "Conferência Ágil", "Evento €", "Festa 🎉", "Quebrado \uD83D", ""));
+    nomes.add(null);
+    BufferEmail buffer = new BufferEmail(64);
+
+    for (TipoEmail tipo : TipoEmail.values()) {
+      for (String nome : nomes) {
+        MensagemEmail mensagem = new MensagemEmail(tipo, "ação@example.com", nome);
+
+        // Act
+        buffer.limpar();
+        renderizador.renderizar(mensagem, buffer);
+
+        // Assert
+        String esperado = "Para: ação@example.com\r\nAssunto: " + tipo.getAssunto() + "\r\n\r\n"
+            + String.format(tipo.getModelo(), nome) + "\r\n";
+        assertThat(bytes(buffer.mensagem(0))).as("%s / %s", tipo, nome)
+            .isEqualTo(esperado.getBytes(StandardCharsets.UTF_8));
+        assertThat(mensagem.corpo()).isEqualTo(String.format(tipo.getModelo(), nome));
+      }
+    }
+  }
+
+  @Test
+  void deveRenderizarLoteIgualAMensagensIndividuaisReutilizandoBuffer() {
+    // Arrange
+    Evento evento = new Evento("Conferência de Qualidade", 100, LocalDateTime.now().plusDays(30));
+    List<String> destinatarios = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      destinatarios.add("convidado" + i + "@example.com");
+    }
+    BufferEmail lote = new BufferEmail(64);
+    BufferEmail individual = new BufferEmail();
+
+    // Act - dois lotes no mesmo buffer
+    renderizador.renderizarLote(TipoEmail.CONVITE, evento, destinatarios, lote);
+    int capacidade = lote.getCapacidadeBytes();
+    lote.limpar();
+    renderizador.renderizarLote(TipoEmail.CONVITE, evento, destinatarios, lote);
+
+    // Assert - o segundo lote cabe na capacidade do primeiro
+    assertThat(lote.getCapacidadeBytes()).isEqualTo(capacidade);
+    assertThat(lote.getQuantidade()).isEqualTo(2_000);
+    int bytesIndividuais = 0;
+    for (int i = 0; i < destinatarios.size(); i++) {
+      individual.limpar();
+      renderizador.renderizar(
+          new MensagemEmail(TipoEmail.CONVITE, destinatarios.get(i), evento.getNome()), individual);
+      assertThat(lote.textoMensagem(i)).isEqualTo(individual.textoMensagem(0));
+      bytesIndividuais += individual.getTamanhoBytes();
+    }
+    assertThat(lote.getTamanhoBytes()).isEqualTo(bytesIndividuais);
+  }
+
+  @Test
+  void deveCompilarModeloComVariosArgumentosEPorcentagemLiteral() {
+    // Arrange
+    ModeloEmail modelo = ModeloEmail.compilar("%s confirmou 100%% das vagas de '%s'%s");
+    BufferEmail buffer = new BufferEmail();
+
+    // Act
+    modelo.renderizar(buffer, "Ana", "Workshop", "!");
+
+    // Assert
+    assertThat(modelo.getQuantidadeArgumentos()).isEqualTo(3);
+    assertThat(modelo.formatar("Ana", "Workshop", "!"))
+        .isEqualTo(String.format("%s confirmou 100%% das vagas de '%s'%s", "Ana", "Workshop", "!"));
+    assertThat(buffer.getTamanhoBytes()).isEqualTo("Ana confirmou 100% das vagas de 'Workshop'!".length());
+    assertThat(ModeloEmail.compilar("Sem argumentos").formatar()).isEqualTo("Sem argumentos");
+    assertThatThrownBy(() -> modelo.formatar("Ana"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Modelo espera 3 argumentos, recebeu 1");
+    assertThatThrownBy(() -> modelo.renderizar(buffer, "Ana"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Modelo espera 3 argumentos, recebeu 1");
+  }
+
+  @Test
+  void deveRejeitarModelosEParametrosInvalidosSemEscreverNoBuffer() {
+    // Arrange
+    Evento evento = new Evento("Workshop", 10, LocalDateTime.now().plusDays(30));
+    BufferEmail buffer = new BufferEmail();
+    List<String> comNulo = new ArrayList<>(List.of("a@example.com"));
+    comNulo.add(null);
+
+    // Act & Assert
+    assertThatThrownBy(() -> ModeloEmail.compilar("Total: %d"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Especificador não suportado no modelo: Total: %d");
+    assertThatThrownBy(() -> ModeloEmail.compilar("Termina em %"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> renderizador.renderizarLote(TipoEmail.CONVITE, evento, comNulo, buffer))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Destinatário não pode ser nulo");
+    assertThatThrownBy(() -> renderizador.renderizarLote(TipoEmail.CONVITE, null, List.of(), buffer))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Tipo, evento, destinatários e buffer não podem ser nulos");
+    assertThat(buffer.getQuantidade()).isZero();
+    assertThat(buffer.getTamanhoBytes()).isZero();
+    assertThatThrownBy(() -> buffer.mensagem(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void deveRejeitarDestinatarioComQuebraDeLinhaSemEscreverNoBuffer() {
+    // Arrange - CRLF encerraria o cabeçalho Para: e injetaria outro
+    Evento evento = new Evento("Workshop", 10, LocalDateTime.now().plusDays(30));
+    BufferEmail buffer = new BufferEmail();
+    String injetado = "Ana\r\nBcc: todos@example.com";
+
+    // Act & Assert
+    assertThatThrownBy(() -> renderizador.renderizar(
+        new MensagemEmail(TipoEmail.CONFIRMACAO, injetado, "Workshop"), buffer))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Destinatário não pode conter quebra de linha");
+    assertThatThrownBy(() -> renderizador.renderizarLote(
+        TipoEmail.CONVITE, evento, List.of("Bruno", "Caio\nBcc: todos@example.com"), buffer))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Destinatário não pode conter quebra de linha");
+    assertThatThrownBy(() -> renderizador.renderizarLote(
+        TipoEmail.CONVITE, evento, List.of("Dora\r"), buffer))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(buffer.getQuantidade()).isZero();
+    assertThat(buffer.getTamanhoBytes()).isZero();
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private static byte[] bytes(ByteBuffer mensagem) {
+    byte[] copia = new byte[mensagem.remaining()];
+    mensagem.get(copia);
+    return copia;
+  }
+}
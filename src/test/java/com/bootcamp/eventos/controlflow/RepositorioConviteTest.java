@@ -0,0 +1,115 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para RepositorioConvite.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Caminhos do índice de endereçamento aberto
+ * OBJETIVO: Cobrir inserção, substituição, remoção e reconstrução da tabela
+ */
+class RepositorioConviteTest {
+
+  private final Evento evento = new Evento("Workshop", null, LocalDateTime.now().plusDays(30));
+
+  @Test
+  void deveEncontrarConvitePeloToken() {
+    RepositorioConvite repositorio = new RepositorioConvite();
+    Convite convite = criarConvite("TOKEN_VALIDO_1");
+
+    repositorio.salvar(convite);
+
+    assertThat(repositorio.buscarPorToken("TOKEN_VALIDO_1")).containsSame(convite);
+    assertThat(repositorio.tamanho()).isEqualTo(1);
+  }
+
+  @Test
+  void deveRetornarVazioQuandoTokenDesconhecidoOuNulo() {
+    RepositorioConvite repositorio = new RepositorioConvite();
+    repositorio.salvar(criarConvite("TOKEN_VALIDO_1"));
+
+    assertThat(repositorio.buscarPorToken("TOKEN_VALIDO_2")).isEmpty();
+    assertThat(repositorio.buscarPorToken(null)).isEmpty();
+  }
+
+  @Test
+  void deveSubstituirConviteComMesmoToken() {
+    RepositorioConvite repositorio = new RepositorioConvite();
+    Convite original = criarConvite("TOKEN_VALIDO_1");
+    Convite substituto = criarConvite("TOKEN_VALIDO_1");
+
+    repositorio.salvar(original);
+    repositorio.salvar(substituto);
+
+    assertThat(repositorio.buscarPorToken("TOKEN_VALIDO_1")).containsSame(substituto);
+    assertThat(repositorio.tamanho()).isEqualTo(1);
+  }
+
+  @Test
+  void deveRemoverConviteSemAfetarColisoesNaSondagem() {
+    // "Aa" e "BB" têm o mesmo String.hashCode e caem na mesma sequência de sondagem
+    RepositorioConvite repositorio = new RepositorioConvite();
+    repositorio.salvar(criarConvite("Aa"));
+    Convite segundo = criarConvite("BB");
+    repositorio.salvar(segundo);
+
+    boolean removido = repositorio.remover("Aa");
+
+    assertThat(removido).isTrue();
+    assertThat(repositorio.remover("Aa")).isFalse();
+    assertThat(repositorio.buscarPorToken("Aa")).isEmpty();
+    assertThat(repositorio.buscarPorToken("BB")).containsSame(segundo);
+  }
+
+  @Test
+  void deveManterTodosOsConvitesAposReconstrucoes() {
+    // Capacidade inicial pequena força várias reconstruções e compactações
+    RepositorioConvite repositorio = new RepositorioConvite(16);
+    for (int i = 0; i < 50_000; i++) {
+      repositorio.salvar(criarConvite("TOKEN_VALIDO_" + i));
+    }
+    for (int i = 0; i < 50_000; i += 2) {
+      repositorio.remover("TOKEN_VALIDO_" + i);
+    }
+    for (int i = 50_000; i < 60_000; i++) {
+      repositorio.salvar(criarConvite("TOKEN_VALIDO_" + i));
+    }
+
+    assertThat(repositorio.tamanho()).isEqualTo(35_000);
+    for (int i = 0; i < 60_000; i++) {
+      boolean deveExistir = i >= 50_000 || i % 2 == 1;
+      assertThat(repositorio.buscarPorToken("TOKEN_VALIDO_" + i).isPresent()).isEqualTo(deveExistir);
+    }
+  }
+
+  @Test
+  void deveCompararPeloTokenDoConviteSemCopiaLo() {
+    // Arrange - o índice guarda só o hash e a referência ao convite
+    RepositorioConvite repositorio = new RepositorioConvite();
+    Convite convite = criarConvite("TOKEN_€");
+
+    // Act
+    repositorio.salvar(convite);
+
+    // Assert - busca por outra instância igual do token; nulo rejeitado
+    assertThat(repositorio.buscarPorToken(new String("TOKEN_€".toCharArray()))).containsSame(convite);
+    assertThat(repositorio.buscarPorToken("TOKEN_")).isEmpty();
+    assertThatThrownBy(() -> repositorio.salvar(criarConvite(null)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Convite e token não podem ser nulos");
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Convite criarConvite(String token) {
+    return new Convite(evento, token, LocalDateTime.now().plusHours(24));
+  }
+}
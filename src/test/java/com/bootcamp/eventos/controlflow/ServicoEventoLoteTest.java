@@ -0,0 +1,160 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Organizador;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dominio.Usuario;
+import com.bootcamp.eventos.dominio.UsuarioComum;
+import com.bootcamp.eventos.dominio.enums.TipoPermissao;
+import com.bootcamp.eventos.dto.PermissaoEdicao;
+import com.bootcamp.eventos.servico.ServicoEvento;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para a verificação de permissões em lote de
+ * ServicoEvento.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Acerto, invalidação e substituição de decisões no cache
+ * OBJETIVO: Garantir que o lote nunca devolve uma decisão diferente da
+ * verificação individual
+ */
+class ServicoEventoLoteTest {
+
+  private static final LocalDateTime AGORA = LocalDateTime.of(2030, 6, 15, 10, 0);
+
+  // Relógio compartilhado por eventos e serviço, avançado pelos testes
+  private final AtomicLong agora = new AtomicLong(FonteTempo.paraEpochMillis(AGORA));
+  private final FonteTempo relogio = agora::get;
+  private final Usuario organizador = new Organizador("ORG-001", "João Silva", "joao@example.com");
+
+  @Test
+  void deveRetornarMesmaDecisaoDaVerificacaoIndividualNaOrdemDosEventos() {
+    // Arrange
+    ServicoEvento servico = new ServicoEvento(relogio);
+    Evento semConfirmados = criarEvento(30);
+    Evento comConfirmados = criarEvento(30);
+    comConfirmados.confirmarParticipante(new Participante("Ana", null));
+    Evento proximo = criarEvento(1);
+    agora.addAndGet(Duration.ofDays(2).toMillis()); // "proximo" já ocorreu
+    List<Evento> eventos = List.of(comConfirmados, proximo, semConfirmados);
+    Usuario comum = new UsuarioComum("USR-001", "Maria Santos", "maria@example.com");
+
+    // Act - segunda chamada atendida pelo cache
+    List<PermissaoEdicao> primeira = servico.verificarPermissoes(organizador, eventos);
+    List<PermissaoEdicao> segunda = servico.verificarPermissoes(organizador, eventos);
+
+    // Assert
+    assertThat(primeira).extracting(PermissaoEdicao::tipo)
+        .containsExactly(TipoPermissao.LIMITADA, TipoPermissao.BLOQUEADA, TipoPermissao.COMPLETA);
+    assertThat(segunda).isEqualTo(primeira)
+        .isEqualTo(eventos.stream().map(e -> servico.verificarPermissaoEdicao(organizador, e)).toList());
+    assertThat(servico.verificarPermissoes(comum, eventos)).containsOnly(PermissaoEdicao.NEGADA).hasSize(3);
+  }
+
+  @Test
+  void deveInvalidarApenasNaPrimeiraConfirmacaoENaSaidaDoUltimoConfirmado() {
+    // Arrange
+    ServicoEvento servico = new ServicoEvento(relogio);
+    Evento evento = criarEvento(30);
+    List<TipoPermissao> tipos = new ArrayList<>();
+    tipos.add(verificar(servico, evento));
+
+    // Act
+    int versaoInicial = evento.getVersaoEdicao();
+    evento.confirmarParticipante(new Participante("Ana", null));
+    tipos.add(verificar(servico, evento));
+    int versaoAposPrimeira = evento.getVersaoEdicao();
+    evento.confirmarParticipante(new Participante("Bruno", null));
+    evento.setNome("Workshop Avançado");
+    evento.setLimiteParticipantes(50);
+    tipos.add(verificar(servico, evento));
+    int versaoSemMudancaDeDecisao = evento.getVersaoEdicao();
+    evento.cancelarParticipacao("Ana");
+    evento.cancelarParticipacao("Bruno");
+    tipos.add(verificar(servico, evento));
+
+    // Assert - nome, limite e segunda confirmação não mudam a versão
+    assertThat(tipos).containsExactly(
+        TipoPermissao.COMPLETA, TipoPermissao.LIMITADA, TipoPermissao.LIMITADA, TipoPermissao.COMPLETA);
+    assertThat(versaoAposPrimeira).isEqualTo(versaoInicial + 1);
+    assertThat(versaoSemMudancaDeDecisao).isEqualTo(versaoAposPrimeira);
+    assertThat(evento.getVersaoEdicao()).isEqualTo(versaoAposPrimeira + 1);
+  }
+
+  @Test
+  void deveBloquearQuandoDataPassaELiberarAoEditarData() {
+    // Arrange
+    ServicoEvento servico = new ServicoEvento(relogio);
+    Evento evento = criarEvento(1);
+    TipoPermissao antes = verificar(servico, evento);
+
+    // Act - sem nenhuma alteração no evento, apenas o relógio avança
+    agora.addAndGet(Duration.ofDays(1).toMillis());
+    TipoPermissao naData = verificar(servico, evento);
+    agora.addAndGet(Duration.ofDays(1).toMillis());
+    TipoPermissao depois = verificar(servico, evento);
+    evento.setData(AGORA.plusDays(10));
+    TipoPermissao reagendado = verificar(servico, evento);
+
+    // Assert
+    assertThat(antes).isEqualTo(TipoPermissao.COMPLETA);
+    assertThat(naData).isEqualTo(TipoPermissao.BLOQUEADA);
+    assertThat(depois).isEqualTo(TipoPermissao.BLOQUEADA);
+    assertThat(reagendado).isEqualTo(TipoPermissao.COMPLETA);
+  }
+
+  @Test
+  void deveManterDecisoesCorretasComCacheMenorQueOsEventos() {
+    // Arrange - 2 entradas para 200 eventos e 2 organizadores
+    ServicoEvento servico = new ServicoEvento(relogio, 2);
+    Usuario outroOrganizador = new Organizador("ORG-002", "Carla Souza", "carla@example.com");
+    List<Evento> eventos = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      eventos.add(criarEvento(30));
+      if (i % 2 == 0) {
+        eventos.get(i).confirmarParticipante(new Participante("Participante " + i, null));
+      }
+    }
+
+    // Act
+    List<PermissaoEdicao> primeiro = servico.verificarPermissoes(organizador, eventos);
+    List<PermissaoEdicao> segundo = servico.verificarPermissoes(outroOrganizador, eventos);
+    eventos.get(1).confirmarParticipante(new Participante("Atrasado", null));
+    List<PermissaoEdicao> novamente = servico.verificarPermissoes(organizador, eventos);
+
+    // Assert
+    for (int i = 0; i < 200; i++) {
+      TipoPermissao esperado = i % 2 == 0 ? TipoPermissao.LIMITADA : TipoPermissao.COMPLETA;
+      assertThat(primeiro.get(i).tipo()).isEqualTo(esperado);
+      assertThat(segundo.get(i).tipo()).isEqualTo(esperado);
+      assertThat(novamente.get(i).tipo()).isEqualTo(i == 1 ? TipoPermissao.LIMITADA : esperado);
+    }
+    assertThatThrownBy(() -> new ServicoEvento(relogio, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Capacidade do cache deve ser positiva");
+    assertThatThrownBy(() -> servico.verificarPermissoes(organizador, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Usuário e eventos não podem ser nulos");
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Evento criarEvento(int diasNoFuturo) {
+    LocalDateTime data = FonteTempo.deEpochMillis(agora.get()).plusDays(diasNoFuturo);
+    return new Evento("Workshop", 100, data, relogio);
+  }
+
+  private TipoPermissao verificar(ServicoEvento servico, Evento evento) {
+    return servico.verificarPermissoes(organizador, List.of(evento)).get(0).tipo();
+  }
+}
@@ -0,0 +1,298 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import com.bootcamp.eventos.seguranca.LimitadorTaxa;
+import com.bootcamp.eventos.servico.ProcessadorResposta;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.servico.email.ServicoEmail;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import com.bootcamp.eventos.web.ServidorRespostas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de fluxo de controle para ServidorRespostas.
+ *
+ * TÉCNICA: Control Flow Testing (caixa branca)
+ * FOCO: Rotas, métodos, formulário e mapeamento de cada resultado para o
+ * status HTTP
+ * ESTRATÉGIA: Servidor em porta livre de localhost e HttpClient do JDK
+ */
+class ServidorRespostasTest {
+
+  private final LocalDateTime agora = LocalDateTime.of(2030, 1, 1, 12, 0);
+  private final HttpClient cliente = HttpClient.newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+  private final RepositorioConvite repositorio = new RepositorioConvite();
+  private final Evento evento = new Evento("Workshop", 2, agora.plusDays(30));
+  private ServidorRespostas servidor;
+
+  @AfterEach
+  void encerrar() {
+    servidor.close();
+  }
+
+  @Test
+  void deveValidarConvitePorTokenComStatusPorResultado() throws Exception {
+    // Arrange
+    iniciar(new ProcessadorResposta(), null);
+    salvar("TOKEN_VALIDO_1", agora.plusDays(1));
+    salvar("TOKEN_VALIDO_2", agora.minusDays(1));
+    salvar("adulterado", agora.plusDays(1));
+
+    // Act & Assert
+    assertResposta(get("/convites/TOKEN_VALIDO_1"), 200, "{\"valido\":true,\"mensagem\":\"Convite válido\"}");
+    assertResposta(get("/convites/TOKEN_VALIDO_2"), 422,
+        "{\"valido\":false,\"mensagem\":\"O token do convite expirou\"}");
+    assertResposta(get("/convites/adulterado"), 422,
+        "{\"valido\":false,\"mensagem\":\"Token de convite inválido\"}");
+    assertResposta(get("/convites/desconhecido"), 404,
+        "{\"valido\":false,\"mensagem\":\"Convite não encontrado\"}");
+    assertResposta(get("/convites/"), 404, "{\"mensagem\":\"Recurso não encontrado\"}");
+    assertResposta(get("/convites/a/b"), 404, "{\"mensagem\":\"Recurso não encontrado\"}");
+
+    HttpResponse<String> metodoErrado = post("/convites/TOKEN_VALIDO_1", "aceitou=true&nome=Ana");
+    assertResposta(metodoErrado, 405, "{\"mensagem\":\"Método não permitido\"}");
+    assertThat(metodoErrado.headers().firstValue("Allow")).contains("GET");
+    assertThat(get("/convites/TOKEN_VALIDO_1/resposta").statusCode()).isEqualTo(405);
+  }
+
+  @Test
+  void deveRegistrarRespostasEEnviarConfirmacaoUmaVez() throws Exception {
+    // Arrange
+    EmailBloqueado email = new EmailBloqueado(new CountDownLatch(0));
+    iniciar(new ProcessadorResposta(), email);
+    salvar("TOKEN_VALIDO_1", agora.plusDays(1));
+    salvar("TOKEN_VALIDO_2", agora.plusDays(1));
+    salvar("TOKEN_VALIDO_3", agora.plusDays(1));
+    salvar("TOKEN_VALIDO_4", agora.plusDays(1));
+
+    // Act & Assert - nome com acento codificado no formulário
+    assertResposta(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Jo%C3%A3o+Silva"), 200,
+        "{\"sucesso\":true,\"mensagem\":\"Participação confirmada com sucesso\"}");
+    assertResposta(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Jo%C3%A3o+Silva"), 200,
+        "{\"sucesso\":true,\"mensagem\":\"Participação confirmada com sucesso\"}");
+    assertResposta(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=false&observacao=Viagem"), 409,
+        "{\"sucesso\":false,\"mensagem\":\"Convite já foi respondido anteriormente\"}");
+    assertResposta(post("/convites/TOKEN_VALIDO_2/resposta", "aceitou=false&observacao=Viagem"), 200,
+        "{\"sucesso\":true,\"mensagem\":\"Recusa registrada\"}");
+    assertThat(post("/convites/TOKEN_VALIDO_3/resposta", "aceitou=true&nome=Bia").statusCode()).isEqualTo(200);
+    assertResposta(post("/convites/TOKEN_VALIDO_4/resposta", "aceitou=true&nome=Caio"), 409,
+        "{\"sucesso\":false,\"mensagem\":\"Evento já está lotado\"}");
+    assertResposta(post("/convites/TOKEN_X/resposta", "aceitou=false"), 404,
+        "{\"sucesso\":false,\"mensagem\":\"Convite não encontrado\"}");
+
+    // Email enviado fora da requisição, uma vez por confirmação
+    servidor.close();
+    assertThat(email.confirmacoes).containsExactlyInAnyOrder("João Silva", "Bia");
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(2);
+  }
+
+  @Test
+  void deveRejeitarFormularioMalformadoELimitarPorOrigem() throws Exception {
+    // Arrange - 3 respostas por origem a cada minuto
+    LimitadorTaxa porOrigem = new LimitadorTaxa(3, Duration.ofMinutes(1), 1024);
+    iniciar(new ProcessadorResposta(null, null, null, null, porOrigem), null);
+    salvar("TOKEN_VALIDO_1", agora.plusDays(1));
+
+    // Act & Assert - formulário inválido não chega ao processador
+    assertResposta(post("/convites/TOKEN_VALIDO_1/resposta", "nome=Ana"), 400,
+        "{\"sucesso\":false,\"mensagem\":\"Campo aceitou deve ser true ou false\"}");
+    assertResposta(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=+"), 400,
+        "{\"sucesso\":false,\"mensagem\":\"Nome é obrigatório para aceitar o convite\"}");
+    assertThat(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=%ZZ").statusCode()).isEqualTo(400);
+    assertThat(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=false&observacao=" + "x".repeat(5000))
+        .statusCode()).isEqualTo(400);
+
+    // Endereço remoto como origem: a quarta resposta de localhost é limitada
+    assertThat(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Ana").statusCode()).isEqualTo(200);
+    assertThat(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Ana").statusCode()).isEqualTo(200);
+    assertThat(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Ana").statusCode()).isEqualTo(200);
+    assertResposta(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Ana"), 429,
+        "{\"sucesso\":false,\"mensagem\":\"Muitas tentativas: aguarde antes de responder novamente\"}");
+
+    // A validação passa pela mesma admissão, antes de buscar o convite
+    assertResposta(get("/convites/TOKEN_DESCONHECIDO"), 429,
+        "{\"valido\":false,\"mensagem\":\"Muitas tentativas: aguarde antes de responder novamente\"}");
+  }
+
+  @Test
+  void deveValidarAntesDeProcessarEEnviarUmEmailPorConfirmacao() throws Exception {
+    // Arrange
+    EmailBloqueado email = new EmailBloqueado(new CountDownLatch(0));
+    iniciar(new ProcessadorResposta(), email);
+    salvar("TOKEN_VALIDO_1", agora.plusDays(1));
+    salvar("TOKEN_VALIDO_2", agora.minusDays(1));
+    salvar("adulterado", agora.plusDays(1));
+
+    // Act & Assert - convite expirado ou inválido não é processado
+    assertResposta(post("/convites/TOKEN_VALIDO_2/resposta", "aceitou=true&nome=Ana"), 422,
+        "{\"sucesso\":false,\"mensagem\":\"O token do convite expirou\"}");
+    assertResposta(post("/convites/adulterado/resposta", "aceitou=true&nome=Ana"), 422,
+        "{\"sucesso\":false,\"mensagem\":\"Token de convite inválido\"}");
+    assertResposta(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Ana%0D%0ABcc:+x"), 400,
+        "{\"sucesso\":false,\"mensagem\":\"Nome não pode conter quebra de linha\"}");
+
+    // 20 envios simultâneos da mesma confirmação
+    Queue<Integer> status = new ConcurrentLinkedQueue<>();
+    CountDownLatch largada = new CountDownLatch(1);
+    List<Thread> clientes = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      clientes.add(Thread.ofVirtual().start(() -> {
+        try {
+          largada.await();
+          status.add(post("/convites/TOKEN_VALIDO_1/resposta", "aceitou=true&nome=Bia").statusCode());
+        } catch (IOException | InterruptedException e) {
+          status.add(-1);
+        }
+      }));
+    }
+    largada.countDown();
+    for (Thread cliente : clientes) {
+      assertThat(cliente.join(Duration.ofSeconds(30))).isTrue();
+    }
+
+    // Todos recebem 200, mas só a requisição que confirmou envia o email
+    servidor.close();
+    assertThat(status).hasSize(20).containsOnly(200);
+    assertThat(email.confirmacoes).containsExactly("Bia");
+    assertThat(repositorio.buscarPorToken("TOKEN_VALIDO_2").orElseThrow().foiRespondido()).isFalse();
+    assertThat(evento.getNumeroConfirmados()).isEqualTo(1);
+  }
+
+  @Test
+  void deveAtenderEmVirtualThreadsSemEsperarOServicoDeEmail() throws Exception {
+    // Arrange - ServicoEmail bloqueado até o fim do teste; validação registra a thread
+    Evento conferencia = new Evento("Conferência", null, agora.plusDays(30));
+    CountDownLatch liberarEmails = new CountDownLatch(1);
+    Queue<Boolean> threadsVirtuais = new ConcurrentLinkedQueue<>();
+    ValidadorConvite validador = new ValidadorConvite(() -> {
+      threadsVirtuais.add(Thread.currentThread().isVirtual());
+      return FonteTempo.paraEpochMillis(agora);
+    });
+    servidor = new ServidorRespostas(new InetSocketAddress("localhost", 0), repositorio, validador,
+        new ProcessadorResposta(), new EmailBloqueado(liberarEmails));
+    servidor.iniciar();
+    for (int i = 0; i < 200; i++) {
+      repositorio.salvar(new Convite(conferencia, "TOKEN_VALIDO_" + i, agora.plusDays(1)));
+    }
+
+    // Act - 200 clientes simultâneos validam e confirmam
+    Queue<Integer> status = new ConcurrentLinkedQueue<>();
+    List<Thread> clientes = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      String token = "TOKEN_VALIDO_" + i;
+      clientes.add(Thread.ofVirtual().start(() -> {
+        try {
+          status.add(get("/convites/" + token).statusCode());
+          status.add(post("/convites/" + token + "/resposta", "aceitou=true&nome=" + token).statusCode());
+        } catch (IOException | InterruptedException e) {
+          status.add(-1);
+        }
+      }));
+    }
+    for (Thread cliente : clientes) {
+      assertThat(cliente.join(Duration.ofSeconds(30))).isTrue();
+    }
+
+    // Assert - todas as respostas HTTP saíram com os emails ainda bloqueados
+    assertThat(status).hasSize(400).containsOnly(200);
+    assertThat(conferencia.getNumeroConfirmados()).isEqualTo(200);
+    assertThat(threadsVirtuais).isNotEmpty().containsOnly(true);
+    liberarEmails.countDown();
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private void iniciar(ProcessadorResposta processador, ServicoEmail email) throws IOException {
+    ValidadorConvite validador = new ValidadorConvite(FonteTempo.fixa(agora));
+    servidor = new ServidorRespostas(new InetSocketAddress("localhost", 0), repositorio, validador,
+        processador, email);
+    servidor.iniciar();
+  }
+
+  private void salvar(String token, LocalDateTime expiracao) {
+    repositorio.salvar(new Convite(evento, token, expiracao));
+  }
+
+  private HttpResponse<String> get(String caminho) throws IOException, InterruptedException {
+    return cliente.send(HttpRequest.newBuilder(uri(caminho)).GET().build(),
+        HttpResponse.BodyHandlers.ofString());
+  }
+
+  private HttpResponse<String> post(String caminho, String formulario) throws IOException, InterruptedException {
+    return cliente.send(HttpRequest.newBuilder(uri(caminho))
+        .header("Content-Type", "application/x-www-form-urlencoded")
+        .POST(HttpRequest.BodyPublishers.ofString(formulario))
+        .build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private URI uri(String caminho) {
+    return URI.create("http://localhost:" + servidor.getPorta() + caminho);
+  }
+
+  private static void assertResposta(HttpResponse<String> resposta, int status, String corpo) {
+    assertThat(resposta.statusCode()).isEqualTo(status);
+    assertThat(resposta.body()).isEqualTo(corpo);
+    assertThat(resposta.headers().firstValue("Content-Type")).contains("application/json; charset=utf-8");
+  }
+
+  /**
+   * ServicoEmail que só retorna quando o latch é liberado; registra os
+   * destinatários das confirmações.
+   */
+  private static final class EmailBloqueado implements ServicoEmail {
+
+    private final CountDownLatch liberar;
+    private final Queue<String> confirmacoes = new ConcurrentLinkedQueue<>();
+
+    EmailBloqueado(CountDownLatch liberar) {
+      this.liberar = liberar;
+    }
+
+    @Override
+    public void enviarConvite(String destinatario, Convite convite) {
+      aguardar();
+    }
+
+    @Override
+    public void enviarConfirmacao(String destinatario, Evento evento) {
+      aguardar();
+      confirmacoes.add(destinatario);
+    }
+
+    @Override
+    public void enviarNotificacaoAlteracao(String destinatario, Evento evento) {
+      aguardar();
+    }
+
+    private void aguardar() {
+      try {
+        liberar.await(30, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
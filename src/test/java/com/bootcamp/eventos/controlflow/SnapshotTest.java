@@ -0,0 +1,194 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.dto.EstadoRestaurado;
+import com.bootcamp.eventos.persistencia.Snapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para Snapshot.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Codificação com dicionário de textos, leitura bufferizada e CRC
+ * OBJETIVO: Carregar exatamente o estado gravado e rejeitar arquivos
+ * truncados ou corrompidos
+ */
+class SnapshotTest {
+
+  @TempDir
+  Path diretorio;
+
+  private final LocalDateTime data = LocalDateTime.now().plusDays(30).withNano(0);
+
+  @Test
+  void deveCarregarEventosParticipantesEConvitesGravados() {
+    // Arrange
+    Evento comLimite = new Evento("Workshop", 3, data);
+    Evento semLimite = new Evento("Meetup", null, data.plusDays(1));
+    comLimite.confirmarParticipante(new Participante("Ana", "Levarei sobremesa"));
+    comLimite.confirmarParticipante(new Participante("Bruno", null));
+    Convite aceito = new Convite(comLimite, "TOKEN_VALIDO_1", data.minusDays(1));
+    aceito.marcarComoAceito(new Participante("Ana", "Levarei sobremesa"));
+    Convite recusado = new Convite(semLimite, "TOKEN_VALIDO_2", data.minusDays(1));
+    recusado.marcarComoRecusado("Viagem");
+    Convite pendente = new Convite(semLimite, "TOKEN_VALIDO_3", null);
+    Convite lotado = new Convite(comLimite, "TOKEN_VALIDO_4", data.minusDays(1));
+    lotado.marcarComoRecusadoPorLotacao();
+
+    // Act
+    Path arquivo = diretorio.resolve("estado.snap");
+    Snapshot.gravar(arquivo, List.of(comLimite, semLimite), List.of(aceito, recusado, pendente, lotado));
+    EstadoRestaurado estado = Snapshot.carregar(arquivo);
+
+    // Assert
+    Evento workshop = estado.eventos().get(comLimite.getId());
+    assertThat(estado.registros()).isEqualTo(6);
+    assertThat(workshop.getNome()).isEqualTo("Workshop");
+    assertThat(workshop.getLimiteParticipantes()).isEqualTo(3);
+    assertThat(workshop.getData()).isEqualTo(data);
+    assertThat(workshop.getParticipantes()).containsExactly(
+        new Participante("Ana", "Levarei sobremesa"), new Participante("Bruno", null));
+    assertThat(estado.eventos().get(semLimite.getId()).getLimiteParticipantes()).isNull();
+
+    assertThat(estado.convites().get("TOKEN_VALIDO_1").getEvento()).isSameAs(workshop);
+    assertThat(estado.convites().get("TOKEN_VALIDO_1").getParticipante())
+        .isEqualTo(new Participante("Ana", "Levarei sobremesa"));
+    assertThat(estado.convites().get("TOKEN_VALIDO_2").getMotivoRecusa()).isEqualTo("Viagem");
+    assertThat(estado.convites().get("TOKEN_VALIDO_2").foiRecusadoPorLotacao()).isFalse();
+    assertThat(estado.convites().get("TOKEN_VALIDO_4").foiRecusadoPorLotacao()).isTrue();
+    assertThat(estado.convites().get("TOKEN_VALIDO_4").getMotivoRecusa()).isEqualTo(Convite.MOTIVO_LOTACAO);
+    assertThat(estado.convites().get("TOKEN_VALIDO_3").foiRespondido()).isFalse();
+    assertThat(estado.convites().get("TOKEN_VALIDO_3").getDataExpiracao()).isNull();
+  }
+
+  @Test
+  void deveManterParticipantesConfirmadosAntesDeReduzirOLimite() {
+    // Arrange - três confirmados e o limite reduzido para 1 depois
+    Evento evento = new Evento("Workshop", 3, data);
+    List<Participante> participantes = List.of(
+        new Participante("Ana", null), new Participante("Bruno", null), new Participante("Caio", null));
+    participantes.forEach(evento::confirmarParticipante);
+    evento.setLimiteParticipantes(1);
+
+    // Act
+    Path arquivo = diretorio.resolve("estado.snap");
+    Snapshot.gravar(arquivo, List.of(evento), List.of());
+    Evento restaurado = Snapshot.carregar(arquivo).eventos().get(evento.getId());
+
+    // Assert
+    assertThat(restaurado.getParticipantes()).containsExactlyElementsOf(participantes);
+    assertThat(restaurado.getNumeroConfirmados()).isEqualTo(3);
+    assertThat(restaurado.getLimiteParticipantes()).isEqualTo(1);
+    assertThat(restaurado.estaLotado()).isTrue();
+  }
+
+  @Test
+  void deveCodificarTextosRepetidosPorReferenciaEAtravessarOBuffer() throws Exception {
+    // Arrange - 50 mil convites recusados com o mesmo motivo (> 1 MB de dados)
+    Evento evento = new Evento("Conferência", null, data);
+    String motivo = "Conflito de agenda com outro compromisso profissional";
+    List<Convite> convites = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      Convite convite = new Convite(evento, "TOKEN_VALIDO_" + i, data);
+      convite.marcarComoRecusado(motivo);
+      convites.add(convite);
+    }
+
+    // Act
+    Path arquivo = diretorio.resolve("estado.snap");
+    long tamanho = Snapshot.gravar(arquivo, List.of(evento), convites);
+    EstadoRestaurado estado = Snapshot.carregar(arquivo);
+
+    // Assert - o motivo é gravado uma única vez
+    assertThat(tamanho).isEqualTo(Files.size(arquivo)).isGreaterThan(1 << 20).isLessThan(50_000L * motivo.length());
+    assertThat(estado.convites()).hasSize(50_000);
+    assertThat(estado.convites().values()).allMatch(c -> motivo.equals(c.getMotivoRecusa()));
+    assertThat(estado.convites().get("TOKEN_VALIDO_49999").getMotivoRecusa())
+        .isSameAs(estado.convites().get("TOKEN_VALIDO_0").getMotivoRecusa());
+  }
+
+  @Test
+  void deveRejeitarArquivoTruncadoOuCorrompido() throws Exception {
+    // Arrange
+    Evento evento = new Evento("Workshop", null, data);
+    evento.confirmarParticipante(new Participante("Ana", null));
+    Path arquivo = diretorio.resolve("estado.snap");
+    Snapshot.gravar(arquivo, List.of(evento), List.of(new Convite(evento, "TOKEN_VALIDO_1", data)));
+    byte[] bytes = Files.readAllBytes(arquivo);
+
+    Path truncado = diretorio.resolve("truncado.snap");
+    Files.write(truncado, Arrays.copyOf(bytes, bytes.length - 6));
+    Path corrompido = diretorio.resolve("corrompido.snap");
+    bytes[bytes.length - 10] ^= 0x01; // byte da data de expiração
+    Files.write(corrompido, bytes);
+
+    // Act & Assert
+    assertThatThrownBy(() -> Snapshot.carregar(truncado))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Snapshot truncado");
+    assertThatThrownBy(() -> Snapshot.carregar(corrompido))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Snapshot corrompido: CRC não confere");
+  }
+
+  @Test
+  void deveRejeitarConviteDeEventoForaDoSnapshotEParametrosNulos() {
+    // Arrange
+    Evento incluido = new Evento("Workshop", null, data);
+    Evento excluido = new Evento("Meetup", null, data);
+    Path arquivo = diretorio.resolve("estado.snap");
+
+    // Act & Assert
+    assertThatThrownBy(() -> Snapshot.gravar(arquivo, List.of(incluido),
+        List.of(new Convite(excluido, "TOKEN_VALIDO_1", data))))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Convite TOKEN_VALIDO_1 referencia evento fora do snapshot");
+    assertThat(arquivo).doesNotExist();
+    assertThat(diretorio.resolve("estado.snap.tmp")).doesNotExist();
+    assertThatThrownBy(() -> Snapshot.gravar(arquivo, null, List.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Arquivo, eventos e convites não podem ser nulos");
+  }
+
+  @Test
+  void deveGravarARespostaDecididaAindaNaoDefinitiva() {
+    // Arrange - aceite e recusa decididos, aguardando a durabilidade no diário
+    Evento evento = new Evento("Workshop", 2, data);
+    Participante ana = new Participante("Ana", null);
+    Convite aceito = new Convite(evento, "TOKEN_VALIDO_1", data);
+    aceito.iniciarResposta();
+    evento.tentarConfirmarParticipante(ana);
+    aceito.decidirAceite(ana);
+    Convite recusado = new Convite(evento, "TOKEN_VALIDO_2", data);
+    recusado.iniciarResposta();
+    recusado.decidirRecusa("Viagem");
+    Convite emResposta = new Convite(evento, "TOKEN_VALIDO_3", data);
+    emResposta.iniciarResposta();
+
+    // Act
+    Path arquivo = diretorio.resolve("estado.snap");
+    Snapshot.gravar(arquivo, List.of(evento), List.of(aceito, recusado, emResposta));
+    EstadoRestaurado estado = Snapshot.carregar(arquivo);
+
+    // Assert - participante no evento e convite aceito, nunca pendente
+    assertThat(estado.eventos().get(evento.getId()).getParticipantes()).containsExactly(ana);
+    assertThat(estado.convites().get("TOKEN_VALIDO_1").foiAceito()).isTrue();
+    assertThat(estado.convites().get("TOKEN_VALIDO_1").getParticipante()).isEqualTo(ana);
+    assertThat(estado.convites().get("TOKEN_VALIDO_2").foiRecusado()).isTrue();
+    assertThat(estado.convites().get("TOKEN_VALIDO_2").getMotivoRecusa()).isEqualTo("Viagem");
+    assertThat(estado.convites().get("TOKEN_VALIDO_3").foiRespondido()).isFalse();
+    assertThat(diretorio.resolve("estado.snap.tmp")).doesNotExist();
+  }
+}
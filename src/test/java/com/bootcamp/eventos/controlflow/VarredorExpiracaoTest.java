@@ -0,0 +1,205 @@
+package com.bootcamp.eventos.controlflow;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dominio.Participante;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import com.bootcamp.eventos.servico.expiracao.VarredorExpiracao;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Fluxo de Controle para VarredorExpiracao.
+ *
+ * TÉCNICA: Control Flow Testing (White Box)
+ * FOCO: Inserção por nível, cascata entre níveis e publicação em lotes
+ * OBJETIVO: Cada convite expira no primeiro tick após o prazo, nunca antes
+ */
+class VarredorExpiracaoTest {
+
+  private static final LocalDateTime INICIO = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+  private final Evento evento = new Evento("Workshop", null, LocalDateTime.now().plusDays(30));
+  private final AtomicLong agora = new AtomicLong(FonteTempo.paraEpochMillis(INICIO));
+  private final FonteTempo relogio = agora::get;
+
+  @Test
+  void deveExpirarRemoverEPublicarApenasConvitesVencidos() {
+    // Arrange - resolução de 1 s
+    RepositorioConvite repositorio = new RepositorioConvite();
+    List<List<Convite>> lotes = new ArrayList<>();
+    VarredorExpiracao varredor = new VarredorExpiracao(
+        relogio, Duration.ofSeconds(1), repositorio, expirados -> lotes.add(List.copyOf(expirados)), 2);
+    Convite em10s = salvarEAgendar(varredor, repositorio, "TOKEN_VALIDO_1", INICIO.plusSeconds(10));
+    Convite em10sB = salvarEAgendar(varredor, repositorio, "TOKEN_VALIDO_2", INICIO.plusSeconds(10));
+    Convite em10sC = salvarEAgendar(varredor, repositorio, "TOKEN_VALIDO_3", INICIO.plusSeconds(10));
+    Convite emUmAno = salvarEAgendar(varredor, repositorio, "TOKEN_VALIDO_4", INICIO.plusYears(1));
+
+    // Act & Assert - no prazo exato ainda não expirou (expiração < agora)
+    avancarPara(INICIO.plusSeconds(10));
+    assertThat(varredor.varrer()).isZero();
+
+    avancarPara(INICIO.plusSeconds(11));
+    assertThat(varredor.varrer()).isEqualTo(3);
+
+    // Assert - lotes de no máximo 2, removidos do repositório
+    assertThat(lotes).extracting(List::size).containsExactly(2, 1);
+    assertThat(lotes.stream().flatMap(List::stream)).containsExactlyInAnyOrder(em10s, em10sB, em10sC);
+    assertThat(repositorio.buscarPorToken("TOKEN_VALIDO_1")).isEmpty();
+    assertThat(repositorio.buscarPorToken("TOKEN_VALIDO_4")).containsSame(emUmAno);
+    assertThat(varredor.getAgendados()).isEqualTo(1);
+  }
+
+  @Test
+  void deveExpirarCadaConviteNoPrimeiroTickAposOPrazoEmTodosOsNiveis() {
+    // Arrange - prazos aleatórios cobrindo os níveis 0 a 3 (até 64^4 ticks de 1 ms)
+    Map<Convite, Long> tickEsperado = new HashMap<>();
+    Map<Convite, Long> tickObservado = new HashMap<>();
+    long tickInicial = agora.get();
+    VarredorExpiracao varredor = new VarredorExpiracao(
+        relogio, Duration.ofMillis(1), null,
+        expirados -> expirados.forEach(c -> tickObservado.put(c, agora.get())), 1024);
+    SplittableRandom aleatorio = new SplittableRandom(7);
+
+    for (int i = 0; i < 5_000; i++) {
+      long atraso = 1 + aleatorio.nextLong(1L << (6 * (1 + i % 4)));
+      Convite convite = new Convite(evento, "TOKEN_VALIDO_" + i, INICIO.plusNanos(atraso * 1_000_000));
+      varredor.agendar(convite);
+      tickEsperado.put(convite, tickInicial + atraso + 1);
+    }
+
+    // Act - avança 1 ms por vez até o último prazo
+    long ultimo = tickEsperado.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+    while (agora.get() < ultimo) {
+      agora.incrementAndGet();
+      varredor.varrer();
+    }
+
+    // Assert
+    assertThat(tickObservado).isEqualTo(tickEsperado);
+    assertThat(varredor.getAgendados()).isZero();
+  }
+
+  @Test
+  void deveDescartarRespondidosEExpirarSemDataImediatamente() {
+    // Arrange
+    List<Convite> expirados = new ArrayList<>();
+    VarredorExpiracao varredor = new VarredorExpiracao(
+        relogio, Duration.ofSeconds(1), null, expirados::addAll, 100);
+    Convite respondido = new Convite(evento, "TOKEN_VALIDO_1", INICIO.plusSeconds(5));
+    Convite semData = new Convite(evento, "TOKEN_VALIDO_2", null);
+    Convite jaVencido = new Convite(evento, "TOKEN_VALIDO_3", INICIO.minusDays(1));
+    varredor.agendar(respondido);
+    varredor.agendar(semData);
+    varredor.agendar(jaVencido);
+    respondido.marcarComoAceito(new Participante("Ana", null));
+
+    // Act
+    int imediatos = varredor.varrer();
+    avancarPara(INICIO.plusMinutes(1));
+    int depois = varredor.varrer();
+
+    // Assert
+    assertThat(imediatos).isEqualTo(2);
+    assertThat(depois).isZero();
+    assertThat(expirados).containsExactly(semData, jaVencido);
+    assertThat(varredor.getAgendados()).isZero();
+  }
+
+  @Test
+  void deveExpirarConvitesAgendadosPorVariasThreadsComVarreduraEmSegundoPlano() throws Exception {
+    // Arrange - relógio real, resolução de 5 ms
+    int threads = 4;
+    int porThread = 2_500;
+    ConcurrentLinkedQueue<Convite> expirados = new ConcurrentLinkedQueue<>();
+    CountDownLatch todosExpirados = new CountDownLatch(threads * porThread);
+    VarredorExpiracao varredor = new VarredorExpiracao(FonteTempo.SISTEMA, Duration.ofMillis(5), null,
+        lote -> lote.forEach(c -> {
+          expirados.add(c);
+          todosExpirados.countDown();
+        }), 256);
+
+    try (varredor) {
+      varredor.iniciar();
+
+      // Act
+      List<Thread> produtores = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int idThread = t;
+        produtores.add(Thread.ofVirtual().start(() -> {
+          for (int i = 0; i < porThread; i++) {
+            LocalDateTime prazo = LocalDateTime.now().plusNanos((i % 200) * 1_000_000L);
+            varredor.agendar(new Convite(evento, "TOKEN_VALIDO_" + idThread + "_" + i, prazo));
+          }
+        }));
+      }
+      for (Thread produtor : produtores) {
+        produtor.join();
+      }
+
+      // Assert
+      assertThat(todosExpirados.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(expirados).hasSize(threads * porThread).doesNotHaveDuplicates();
+      assertThat(varredor.getAgendados()).isZero();
+    }
+  }
+
+  @Test
+  void deveContarFalhaDoOuvinteEContinuarExpirando() {
+    // Arrange - ouvinte falha no lote de TOKEN_VALIDO_1; lotes de 1 convite
+    List<Convite> publicados = new ArrayList<>();
+    VarredorExpiracao varredor = new VarredorExpiracao(relogio, Duration.ofSeconds(1), null, lote -> {
+      if (lote.get(0).getToken().equals("TOKEN_VALIDO_1")) {
+        throw new IllegalStateException("Ouvinte indisponível");
+      }
+      publicados.addAll(lote);
+    }, 1);
+    Convite primeiro = new Convite(evento, "TOKEN_VALIDO_1", INICIO.plusSeconds(5));
+    Convite segundo = new Convite(evento, "TOKEN_VALIDO_2", INICIO.plusSeconds(5));
+    Convite depois = new Convite(evento, "TOKEN_VALIDO_3", INICIO.plusSeconds(20));
+    varredor.agendar(primeiro);
+    varredor.agendar(segundo);
+    varredor.agendar(depois);
+
+    // Act - a exceção não escapa da varredura
+    avancarPara(INICIO.plusSeconds(6));
+    int expiradosAgora = varredor.varrer();
+    avancarPara(INICIO.plusSeconds(21));
+    int expiradosDepois = varredor.varrer();
+
+    // Assert - só o lote rejeitado se perde; a roda segue consistente
+    assertThat(expiradosAgora).isEqualTo(2);
+    assertThat(expiradosDepois).isEqualTo(1);
+    assertThat(varredor.getFalhasOuvinte()).isEqualTo(1);
+    assertThat(publicados).containsExactly(segundo, depois);
+    assertThat(varredor.getAgendados()).isZero();
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Convite salvarEAgendar(
+      VarredorExpiracao varredor, RepositorioConvite repositorio, String token, LocalDateTime expiracao) {
+    Convite convite = new Convite(evento, token, expiracao);
+    repositorio.salvar(convite);
+    varredor.agendar(convite);
+    return convite;
+  }
+
+  private void avancarPara(LocalDateTime instante) {
+    agora.set(FonteTempo.paraEpochMillis(instante));
+  }
+}
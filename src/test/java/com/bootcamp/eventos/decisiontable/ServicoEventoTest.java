@@ -8,6 +8,7 @@ import com.bootcamp.eventos.dominio.UsuarioComum;
 import com.bootcamp.eventos.dominio.enums.TipoPermissao;
 import com.bootcamp.eventos.dto.PermissaoEdicao;
 import com.bootcamp.eventos.servico.ServicoEvento;
+import com.bootcamp.eventos.tempo.FonteTempo;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -26,6 +27,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 class ServicoEventoTest {
 
+  private static final LocalDateTime AGORA = LocalDateTime.of(2030, 6, 15, 10, 0);
+
   @ParameterizedTest
   @MethodSource("cenariosDeEdicaoEvento")
   void devePermitirEdicaoConformeRegras(
@@ -36,12 +39,14 @@ class ServicoEventoTest {
     // Arrange
     Usuario usuario = ehOrganizador ? criarOrganizador() : criarUsuarioComum();
 
-    Evento evento = criarEvento(eventoFuturo);
+    Evento evento = criarEvento();
     if (temConfirmados) {
       evento.confirmarParticipante(new Participante("Teste", null));
     }
 
-    ServicoEvento servico = new ServicoEvento();
+    // Relógio do serviço: antes do evento (futuro) ou depois dele (passado)
+    ServicoEvento servico = new ServicoEvento(
+        FonteTempo.fixa(eventoFuturo ? AGORA : AGORA.plusDays(31)));
 
     // Act
     PermissaoEdicao permissao = servico.verificarPermissaoEdicao(usuario, evento);
@@ -58,9 +63,14 @@ class ServicoEventoTest {
         // R2: Organizador, futuro, com confirmados - edição limitada
         Arguments.of(true, true, true, TipoPermissao.LIMITADA),
 
+        // R3-R4: Organizador, evento passado - edição bloqueada
+        Arguments.of(true, false, false, TipoPermissao.BLOQUEADA),
+        Arguments.of(true, false, true, TipoPermissao.BLOQUEADA),
+
         // R5-R8: Não organizador - sem permissão (independente de outras condições)
         Arguments.of(false, true, false, TipoPermissao.NEGADA),
-        Arguments.of(false, true, true, TipoPermissao.NEGADA));
+        Arguments.of(false, true, true, TipoPermissao.NEGADA),
+        Arguments.of(false, false, false, TipoPermissao.NEGADA));
   }
 
   // ==================== Métodos Auxiliares ====================
@@ -73,17 +83,8 @@ class ServicoEventoTest {
     return new UsuarioComum("USR-001", "Maria Santos", "maria@example.com");
   }
 
-  private Evento criarEvento(boolean eventoFuturo) {
-    // Sempre cria evento com data futura primeiro
-    Evento evento = new Evento("Evento Teste", 100, LocalDateTime.now().plusDays(30));
-
-    // Se precisa ser passado, usa reflexão ou workaround
-    // Por simplicidade, vamos considerar que verificação será baseada no tempo de
-    // execução
-    // Para teste real de passado, precisaríamos injetar clock ou usar biblioteca de
-    // mock de tempo
-    // Por ora, vamos usar um campo adicional ou aceitar limitação do teste
-
-    return evento;
+  private Evento criarEvento() {
+    // Evento criado 30 dias no futuro em relação ao relógio fixo
+    return new Evento("Evento Teste", 100, AGORA.plusDays(30), FonteTempo.fixa(AGORA));
   }
 }
@@ -0,0 +1,195 @@
+package com.bootcamp.eventos.decisiontable;
+
+import com.bootcamp.eventos.dominio.Convite;
+import com.bootcamp.eventos.dominio.Evento;
+import com.bootcamp.eventos.dto.ResultadoValidacao;
+import com.bootcamp.eventos.repositorio.RepositorioConvite;
+import com.bootcamp.eventos.seguranca.AssinadorToken;
+import com.bootcamp.eventos.servico.ValidadorConvite;
+import com.bootcamp.eventos.tempo.FonteTempo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de Tabela de Decisão para ValidadorConvite com tokens assinados.
+ *
+ * TÉCNICA: Decision Table Testing
+ * FOCO: Validação sem consulta a repositório, pelo HMAC do token
+ * CONDIÇÕES: Assinatura confere, Emitido para o evento, Token expirado
+ */
+class ValidadorConviteAssinadoTest {
+
+  private static final LocalDateTime AGORA = LocalDateTime.of(2030, 6, 15, 10, 0);
+  private static final byte[] CHAVE = "chave-de-teste-com-pelo-menos-32-bytes".getBytes(StandardCharsets.US_ASCII);
+
+  private final AssinadorToken assinador = new AssinadorToken(CHAVE);
+  private final ValidadorConvite validador = new ValidadorConvite(FonteTempo.fixa(AGORA), null, assinador);
+
+  @ParameterizedTest
+  @MethodSource("cenariosDeTokenAssinado")
+  void deveValidarTokenAssinadoSegundoRegrasDefinidas(
+      boolean assinaturaConfere,
+      boolean emitidoParaOEvento,
+      boolean tokenExpirado,
+      ResultadoValidacao esperado) {
+    // Arrange
+    Evento evento = criarEvento();
+    AssinadorToken emissor = assinaturaConfere ? assinador : new AssinadorToken(outraChave());
+    LocalDateTime expiracao = tokenExpirado ? AGORA.minusHours(1) : AGORA.plusHours(24);
+    String token = emissor.emitir(emitidoParaOEvento ? evento : criarEvento(), expiracao);
+
+    // A data do convite não é usada: vale a expiração gravada no token
+    Convite convite = new Convite(evento, token, AGORA.plusYears(1));
+
+    // Act
+    ResultadoValidacao resultado = validador.validar(convite);
+
+    // Assert
+    assertThat(resultado).isSameAs(esperado);
+  }
+
+  static Stream<Arguments> cenariosDeTokenAssinado() {
+    return Stream.of(
+        // R1: Assinatura confere, evento do convite, não expirado - válido
+        Arguments.of(true, true, false, ResultadoValidacao.VALIDO),
+
+        // R2: Assinatura confere, evento do convite, expirado
+        Arguments.of(true, true, true, ResultadoValidacao.TOKEN_EXPIRADO),
+
+        // R3-R4: Token de outro evento - inválido mesmo com assinatura correta
+        Arguments.of(true, false, false, ResultadoValidacao.TOKEN_INVALIDO),
+        Arguments.of(true, false, true, ResultadoValidacao.TOKEN_INVALIDO),
+
+        // R5-R6: Assinado com outra chave - inválido
+        Arguments.of(false, true, false, ResultadoValidacao.TOKEN_INVALIDO),
+        Arguments.of(false, true, true, ResultadoValidacao.TOKEN_INVALIDO));
+  }
+
+  @Test
+  void deveAssinarComHmacSha256Padrao() throws Exception {
+    // Arrange - chave curta e chave maior que o bloco do SHA-256
+    byte[] chaveLonga = new byte[100];
+    Arrays.fill(chaveLonga, (byte) 7);
+    Evento evento = criarEvento();
+
+    for (byte[] chave : List.of(CHAVE, chaveLonga)) {
+      // Act
+      byte[] token = Base64.getUrlDecoder().decode(new AssinadorToken(chave).emitir(evento, AGORA));
+
+      // Assert - primeiros 16 bytes do HMAC calculado pelo JCE
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(new SecretKeySpec(chave, "HmacSHA256"));
+      mac.update(token, 0, token.length - 16);
+      assertThat(Arrays.copyOfRange(token, token.length - 16, token.length))
+          .isEqualTo(Arrays.copyOf(mac.doFinal(), 16));
+      assertThat(new AssinadorToken(chave).verificar(Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(token), evento)).isEqualTo(FonteTempo.paraEpochMillis(AGORA));
+    }
+  }
+
+  @Test
+  void deveRejeitarTokenComQualquerCaractereAlterado() {
+    // Arrange
+    Evento evento = criarEvento();
+    String token = assinador.emitir(evento, AGORA.plusDays(1));
+
+    // Act & Assert - cada posição trocada por outro caractere do alfabeto
+    for (int i = 0; i < token.length(); i++) {
+      char trocado = token.charAt(i) == 'A' ? 'B' : 'A';
+      String adulterado = token.substring(0, i) + trocado + token.substring(i + 1);
+      assertThat(assinador.verificar(adulterado, evento)).as("posição %d", i)
+          .isEqualTo(AssinadorToken.INVALIDO);
+    }
+    assertThat(assinador.verificar(token + "A", evento)).isEqualTo(AssinadorToken.INVALIDO);
+    assertThat(assinador.verificar(token.substring(1), evento)).isEqualTo(AssinadorToken.INVALIDO);
+    assertThat(validador.validar(new Convite(evento, "TOKEN_VALIDO_1", AGORA.plusDays(1))))
+        .isSameAs(ResultadoValidacao.TOKEN_INVALIDO);
+  }
+
+  @Test
+  void deveVerificarConcorrentementeERejeitarParametrosInvalidos() throws Exception {
+    // Arrange
+    List<Evento> eventos = new ArrayList<>();
+    List<String> tokens = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      eventos.add(criarEvento());
+      tokens.add(assinador.emitir(eventos.get(i), AGORA.plusDays(1)));
+    }
+    Queue<ResultadoValidacao> resultados = new ConcurrentLinkedQueue<>();
+
+    // Act - mais virtual threads do que estados no pool
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 64; t++) {
+      int indice = t;
+      threads.add(Thread.ofVirtual().start(() -> {
+        for (int i = 0; i < 250; i++) {
+          Evento evento = eventos.get((indice + i) % eventos.size());
+          String token = tokens.get((indice + i) % tokens.size());
+          resultados.add(validador.validar(new Convite(evento, token, null)));
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // Assert
+    assertThat(resultados).hasSize(16_000).containsOnly(ResultadoValidacao.VALIDO);
+    assertThatThrownBy(() -> new AssinadorToken(new byte[16]))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Chave deve ter pelo menos 32 bytes");
+    assertThatThrownBy(() -> assinador.emitir(eventos.get(0), null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Evento e expiração não podem ser nulos");
+  }
+
+  @Test
+  void deveEmitirTokensDistintosParaConvitesDoMesmoEventoEExpiracao() {
+    // Arrange
+    Evento evento = criarEvento();
+    RepositorioConvite repositorio = new RepositorioConvite();
+    List<Convite> convites = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      Convite convite = new Convite(evento, assinador.emitir(evento, AGORA.plusDays(1)), null);
+      repositorio.salvar(convite);
+      convites.add(convite);
+    }
+
+    // Assert - nenhum convite sobrescreve outro no repositório
+    assertThat(repositorio.tamanho()).isEqualTo(100);
+    assertThat(convites).allSatisfy(convite -> {
+      assertThat(repositorio.buscarPorToken(convite.getToken())).containsSame(convite);
+      assertThat(validador.validar(convite)).isSameAs(ResultadoValidacao.VALIDO);
+    });
+  }
+
+  // ==================== Métodos Auxiliares ====================
+
+  private Evento criarEvento() {
+    return new Evento("Workshop", 100, AGORA.plusDays(30), FonteTempo.fixa(AGORA));
+  }
+
+  private static byte[] outraChave() {
+    byte[] chave = CHAVE.clone();
+    chave[0] ^= 1;
+    return chave;
+  }
+}